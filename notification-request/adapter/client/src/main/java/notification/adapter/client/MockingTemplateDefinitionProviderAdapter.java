@@ -1,74 +1,118 @@
 package notification.adapter.client;
 
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import notification.application.template.port.outbound.TemplateDefinitionProviderPort;
 import notification.definition.vo.TemplateDefinition;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 
+/**
+ * 메모리 기반 템플릿 저장소
+ * 
+ * (템플릿ID, 채널, 언어) 단위로 템플릿 정의를 보관하며, 채널이 null인 정의는 모든 채널에 공통 적용됩니다.
+ * 정의를 등록/삭제하면 변경 알림을 발행합니다.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.template.provider", havingValue = "mock", matchIfMissing = true)
 public class MockingTemplateDefinitionProviderAdapter implements TemplateDefinitionProviderPort {
 
-    private ConcurrentHashMap<String, TemplateDefinition> templateDefinitions = new ConcurrentHashMap<>() {
-        {
-            put("NEW_PRODUCT_LAUNCH", new TemplateDefinition(
-                    "NEW_PRODUCT_LAUNCH",
-                    "ko",
-                    "[신제품 출시] ${{productName}}",
-                    "📣 ${{productName}}가 ${{launchDate}}에 출시됩니다. 많은 관심 부탁드립니다!"));
-
-            put("ORDER_SHIPPED", new TemplateDefinition(
-                    "ORDER_SHIPPED",
-                    "ko",
-                    "주문이 발송되었습니다: ${{productName}}",
-                    "주문하신 ${{productName}} 상품이 ${{shippingCompany}}를 통해 발송되었습니다. 운송장 번호는 ${{trackingNumber}}입니다."));
-
-            put("VIP_DISCOUNT_EMAIL", new TemplateDefinition(
-                    "VIP_DISCOUNT_EMAIL",
-                    "ko",
-                    "[VIP 전용 혜택]",
-                    "VIP 고객님께 드리는 ${{discountRate}} 할인 혜택! 지금 ${{couponCode}} 쿠폰을 사용해보세요."));
-
-            put("NEW_PRODUCT_LAUNCH_EN", new TemplateDefinition(
-                    "NEW_PRODUCT_LAUNCH",
-                    "en",
-                    "[New Product Launch] ${{productName}}",
-                    "📣 ${{productName}} will launch on ${{launchDate}}. Stay tuned!"));
-
-            put("ORDER_SHIPPED_EN", new TemplateDefinition(
-                    "ORDER_SHIPPED",
-                    "en",
-                    "Your Order Has Shipped: ${{productName}}",
-                    "Your order for ${{productName}} has been shipped via ${{shippingCompany}}. Your tracking number is ${{trackingNumber}}."));
-
-            put("VIP_DISCOUNT_EMAIL_EN", new TemplateDefinition(
-                    "VIP_DISCOUNT_EMAIL",
-                    "en",
-                    "[Exclusive VIP Offer]",
-                    "Enjoy a special ${{discountRate}} discount, just for VIPs! Use the coupon code ${{couponCode}} now."));
-        }
-    };
+    private final ConcurrentHashMap<TemplateKey, TemplateDefinition> templateDefinitions = new ConcurrentHashMap<>();
+
+    private final Sinks.Many<String> changes = Sinks.many().multicast().directBestEffort();
+
+    public MockingTemplateDefinitionProviderAdapter() {
+        List.of(
+                new TemplateDefinition(
+                        "NEW_PRODUCT_LAUNCH",
+                        "ko",
+                        "[신제품 출시] ${{productName}}",
+                        "📣 ${{productName}}가 ${{launchDate}}에 출시됩니다. 많은 관심 부탁드립니다!"),
+                new TemplateDefinition(
+                        "ORDER_SHIPPED",
+                        "ko",
+                        "주문이 발송되었습니다: ${{productName}}",
+                        "주문하신 ${{productName}} 상품이 ${{shippingCompany}}를 통해 발송되었습니다. 운송장 번호는 ${{trackingNumber}}입니다."),
+                new TemplateDefinition(
+                        "VIP_DISCOUNT_EMAIL",
+                        "ko",
+                        "[VIP 전용 혜택]",
+                        "VIP 고객님께 드리는 ${{discountRate}} 할인 혜택! 지금 ${{couponCode}} 쿠폰을 사용해보세요."),
+                new TemplateDefinition(
+                        "NEW_PRODUCT_LAUNCH",
+                        "en",
+                        "[New Product Launch] ${{productName}}",
+                        "📣 ${{productName}} will launch on ${{launchDate}}. Stay tuned!"),
+                new TemplateDefinition(
+                        "ORDER_SHIPPED",
+                        "en",
+                        "Your Order Has Shipped: ${{productName}}",
+                        "Your order for ${{productName}} has been shipped via ${{shippingCompany}}. Your tracking number is ${{trackingNumber}}."),
+                new TemplateDefinition(
+                        "VIP_DISCOUNT_EMAIL",
+                        "en",
+                        "[Exclusive VIP Offer]",
+                        "Enjoy a special ${{discountRate}} discount, just for VIPs! Use the coupon code ${{couponCode}} now."))
+                .forEach(definition -> templateDefinitions.put(TemplateKey.of(definition), definition));
+    }
 
     @Override
     public Mono<TemplateDefinition> getTemplateDefinition(String id, String type, String language) {
-        if (id == null || !templateDefinitions.containsKey(id)) {
-            log.warn("Template definition not found for id: {}, type: {}, language: {}", id, type, language);
+        if (id == null || language == null) {
             return Mono.empty();
         }
 
-        TemplateDefinition templateDefinition = templateDefinitions.get(id);
-        if (templateDefinition == null || !templateDefinition.language().equals(language)) {
-            log.warn("Template definition not found for id: {}, type: {}, language: {}", id, type, language);
+        // 채널 전용 정의 -> 채널 공통 정의 순으로 조회
+        TemplateDefinition definition = templateDefinitions.get(new TemplateKey(id, type, language));
+        if (definition == null) {
+            definition = templateDefinitions.get(new TemplateKey(id, null, language));
+        }
+
+        if (definition == null) {
+            log.debug("Template definition not found for id: {}, type: {}, language: {}", id, type, language);
             return Mono.empty();
         }
 
-        return Mono.just(templateDefinition);
+        return Mono.just(definition);
+    }
+
+    @Override
+    public Flux<TemplateDefinition> getActiveTemplateDefinitions() {
+        return Flux.fromIterable(List.copyOf(templateDefinitions.values()));
+    }
+
+    @Override
+    public Flux<String> templateChanges() {
+        return changes.asFlux();
+    }
+
+    /**
+     * 템플릿 정의를 등록(또는 교체)하고 변경 알림을 발행합니다.
+     */
+    public void register(TemplateDefinition definition) {
+        templateDefinitions.put(TemplateKey.of(definition), definition);
+        changes.tryEmitNext(definition.templateId());
+    }
+
+    /**
+     * 템플릿의 모든 정의를 삭제하고 변경 알림을 발행합니다.
+     */
+    public void remove(String templateId) {
+        templateDefinitions.keySet().removeIf(key -> key.templateId().equals(templateId));
+        changes.tryEmitNext(templateId);
+    }
+
+    private record TemplateKey(String templateId, String channel, String language) {
+        static TemplateKey of(TemplateDefinition definition) {
+            return new TemplateKey(definition.templateId(), definition.channel(), definition.language());
+        }
     }
 
 }
@@ -1,20 +1,31 @@
 package notification.adapter.client;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import lombok.extern.slf4j.Slf4j;
 import notification.application.user.port.outbound.UserConfigProviderPort;
 import notification.definition.vo.UserConfig;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Slf4j
 @Component
+@ConditionalOnProperty(name = "app.user.provider", havingValue = "mock", matchIfMissing = true)
 public class MockingUserConfigProviderAdapter implements UserConfigProviderPort {
 
     private final ConcurrentHashMap<String, UserConfig> users;
 
+    private final Map<String, Set<String>> segments = Map.of(
+            "ko-users", Set.of("user-001", "user-002", "user-101", "user-555"),
+            "en-users", Set.of("user-100", "user-102"));
+
     public MockingUserConfigProviderAdapter() {
         users = new ConcurrentHashMap<>() {
             {
@@ -87,4 +98,22 @@ public class MockingUserConfigProviderAdapter implements UserConfigProviderPort
         return Mono.just(userConfig);
     }
 
+    @Override
+    public Flux<UserConfig> getUserConfigsByIds(Collection<String> userIds) {
+        return Flux.fromStream(userIds.stream()
+                .map(users::get)
+                .filter(Objects::nonNull));
+    }
+
+    @Override
+    public Flux<UserConfig> getUserConfigsAfter(String segmentName, String afterUserId, int limit) {
+        Set<String> members = segmentName == null ? users.keySet() : segments.getOrDefault(segmentName, Set.of());
+
+        return Flux.fromStream(members.stream()
+                .filter(userId -> afterUserId == null || userId.compareTo(afterUserId) > 0)
+                .sorted()
+                .limit(limit)
+                .map(users::get));
+    }
+
 }
@@ -0,0 +1,122 @@
+package notification.adapter.client;
+
+import java.util.Collection;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import notification.application.user.port.outbound.UserConfigProviderPort;
+import notification.definition.vo.UserConfig;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 대량 발송 테스트를 위한 가상 사용자 제공 Adapter
+ *
+ * 사용자를 메모리에 보관하지 않고, 인덱스로부터 결정적으로 UserConfig를 생성합니다.
+ * 사용자 ID는 synthetic-user-0000000000 형식이며, 인덱스를 세그먼트 수로 나눈 나머지로
+ * segment-{n} 세그먼트에 배정됩니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.user.provider", havingValue = "synthetic")
+public class SyntheticUserConfigProviderAdapter implements UserConfigProviderPort {
+
+    private static final String USER_ID_PREFIX = "synthetic-user-";
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String[] LANGUAGES = { "ko", "en" };
+
+    private final long userCount;
+    private final int segmentCount;
+
+    public SyntheticUserConfigProviderAdapter(
+            @Value("${app.user.synthetic.user-count:1000000}") long userCount,
+            @Value("${app.user.synthetic.segment-count:10}") int segmentCount) {
+        if (userCount < 0 || segmentCount <= 0) {
+            throw new IllegalArgumentException("userCount must be >= 0 and segmentCount must be > 0");
+        }
+        this.userCount = userCount;
+        this.segmentCount = segmentCount;
+        log.info("Synthetic user provider enabled: {} users in {} segments", userCount, segmentCount);
+    }
+
+    @Override
+    public Mono<UserConfig> getUserConfigById(String userId) {
+        long index = parseIndex(userId);
+        return index < 0 || index >= userCount ? Mono.empty() : Mono.just(create(index));
+    }
+
+    @Override
+    public Flux<UserConfig> getUserConfigsByIds(Collection<String> userIds) {
+        return Flux.fromIterable(userIds)
+                .flatMap(this::getUserConfigById);
+    }
+
+    @Override
+    public Flux<UserConfig> getUserConfigsAfter(String segmentName, String afterUserId, int limit) {
+        long start = afterUserId == null ? 0 : parseIndex(afterUserId) + 1;
+        if (start < 0) {
+            return Flux.empty();
+        }
+
+        if (segmentName == null) {
+            return Flux.range(0, limit)
+                    .map(offset -> start + offset)
+                    .takeWhile(index -> index < userCount)
+                    .map(this::create);
+        }
+
+        int segment = parseSegment(segmentName);
+        if (segment < 0) {
+            return Flux.empty();
+        }
+
+        // start 이상이면서 해당 세그먼트에 속하는 첫 번째 인덱스
+        long first = start + Math.floorMod(segment - start, (long) segmentCount);
+        return Flux.range(0, limit)
+                .map(offset -> first + (long) offset * segmentCount)
+                .takeWhile(index -> index < userCount)
+                .map(this::create);
+    }
+
+    //
+    private UserConfig create(long index) {
+        String suffix = String.format("%010d", index);
+        return new UserConfig(
+                USER_ID_PREFIX + suffix,
+                "User " + index,
+                "push-token-" + suffix,
+                "user" + index + "@example.com",
+                "010-" + suffix.substring(2, 6) + "-" + suffix.substring(6),
+                LANGUAGES[(int) (index % LANGUAGES.length)],
+                "Asia/Seoul");
+    }
+
+    //
+    private long parseIndex(String userId) {
+        if (userId == null || !userId.startsWith(USER_ID_PREFIX)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(userId.substring(USER_ID_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    //
+    private int parseSegment(String segmentName) {
+        if (!segmentName.startsWith(SEGMENT_PREFIX)) {
+            return -1;
+        }
+        try {
+            int segment = Integer.parseInt(segmentName.substring(SEGMENT_PREFIX.length()));
+            return segment < segmentCount ? segment : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+}
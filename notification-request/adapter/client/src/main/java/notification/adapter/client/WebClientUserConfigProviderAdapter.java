@@ -0,0 +1,94 @@
+package notification.adapter.client;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import lombok.extern.slf4j.Slf4j;
+import notification.application.user.port.outbound.UserConfigProviderPort;
+import notification.definition.vo.UserConfig;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 외부 사용자 서비스에서 UserConfig를 조회하는 WebClient 기반 Adapter
+ *
+ * GET  /users/{userId}                          단건 조회 (404는 empty)
+ * POST /users/batch {"userIds": [...]}          일괄 조회
+ * GET  /users?segment=&after=&limit=            키셋 페이지 조회
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.user.provider", havingValue = "http")
+public class WebClientUserConfigProviderAdapter implements UserConfigProviderPort {
+
+    private final WebClient webClient;
+    private final Duration timeout;
+
+    public WebClientUserConfigProviderAdapter(
+            WebClient.Builder webClientBuilder,
+            @Value("${app.user.http.base-url:http://localhost:8081}") String baseUrl,
+            @Value("${app.user.http.timeout-ms:3000}") long timeoutMs) {
+        this.webClient = webClientBuilder.clone().baseUrl(baseUrl).build();
+        this.timeout = Duration.ofMillis(timeoutMs);
+    }
+
+    @Override
+    public Mono<UserConfig> getUserConfigById(String userId) {
+        return webClient.get()
+                .uri("/users/{userId}", userId)
+                .accept(MediaType.APPLICATION_JSON)
+                .retrieve()
+                .bodyToMono(UserConfig.class)
+                .timeout(timeout)
+                .onErrorResume(WebClientResponseException.NotFound.class, e -> {
+                    log.warn("User config not found for userId: {}", userId);
+                    return Mono.empty();
+                });
+    }
+
+    @Override
+    public Flux<UserConfig> getUserConfigsByIds(Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return Flux.empty();
+        }
+
+        return webClient.post()
+                .uri("/users/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .bodyValue(new BatchRequest(List.copyOf(userIds)))
+                .retrieve()
+                .bodyToFlux(UserConfig.class)
+                .timeout(timeout);
+    }
+
+    @Override
+    public Flux<UserConfig> getUserConfigsAfter(String segmentName, String afterUserId, int limit) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/users")
+                        .queryParamIfPresent("segment", Optional.ofNullable(segmentName))
+                        .queryParamIfPresent("after", Optional.ofNullable(afterUserId))
+                        .queryParam("limit", limit)
+                        .build())
+                .accept(MediaType.APPLICATION_JSON)
+                .retrieve()
+                .bodyToFlux(UserConfig.class)
+                .timeout(timeout);
+    }
+
+    /**
+     * 일괄 조회 요청 본문
+     */
+    record BatchRequest(List<String> userIds) {
+    }
+
+}
@@ -0,0 +1,58 @@
+package notification.adapter.client;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import notification.definition.vo.TemplateDefinition;
+import reactor.test.StepVerifier;
+
+class MockingTemplateDefinitionProviderAdapterTest {
+
+    private final MockingTemplateDefinitionProviderAdapter provider = new MockingTemplateDefinitionProviderAdapter();
+
+    @Test
+    @DisplayName("같은 템플릿 ID의 언어별 정의를 각각 조회한다")
+    void getTemplateDefinition_shouldFindEachLanguage() {
+        StepVerifier.create(provider.getTemplateDefinition("ORDER_SHIPPED", "EMAIL", "en"))
+                .assertNext(definition -> assertThat(definition.titleTemplate()).startsWith("Your Order"))
+                .verifyComplete();
+
+        StepVerifier.create(provider.getTemplateDefinition("ORDER_SHIPPED", "EMAIL", "ko"))
+                .assertNext(definition -> assertThat(definition.language()).isEqualTo("ko"))
+                .verifyComplete();
+
+        StepVerifier.create(provider.getTemplateDefinition("ORDER_SHIPPED", "EMAIL", "ja"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("채널 전용 정의가 채널 공통 정의보다 우선한다")
+    void getTemplateDefinition_shouldPreferChannelSpecificDefinition() {
+        provider.register(new TemplateDefinition("ORDER_SHIPPED", "SMS", "ko", null, "SMS 발송 안내"));
+
+        StepVerifier.create(provider.getTemplateDefinition("ORDER_SHIPPED", "SMS", "ko"))
+                .assertNext(definition -> assertThat(definition.bodyTemplate()).isEqualTo("SMS 발송 안내"))
+                .verifyComplete();
+
+        StepVerifier.create(provider.getTemplateDefinition("ORDER_SHIPPED", "PUSH", "ko"))
+                .assertNext(definition -> assertThat(definition.channel()).isNull())
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("정의를 등록하거나 삭제하면 변경 알림을 발행한다")
+    void register_shouldEmitTemplateChange() {
+        StepVerifier.create(provider.templateChanges().take(2))
+                .then(() -> provider.register(new TemplateDefinition("WELCOME", "ko", "환영합니다", "본문")))
+                .expectNext("WELCOME")
+                .then(() -> provider.remove("WELCOME"))
+                .expectNext("WELCOME")
+                .verifyComplete();
+
+        StepVerifier.create(provider.getTemplateDefinitions("WELCOME"))
+                .verifyComplete();
+    }
+
+}
@@ -0,0 +1,78 @@
+package notification.adapter.client;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import notification.definition.vo.UserConfig;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+class SyntheticUserConfigProviderAdapterTest {
+
+    private final SyntheticUserConfigProviderAdapter provider = new SyntheticUserConfigProviderAdapter(10_000, 4);
+
+    @Test
+    @DisplayName("전체 사용자를 페이지 단위로 끝까지 스트리밍한다")
+    void streamUserConfigs_shouldStreamAllUsersPageByPage() {
+        AtomicInteger pages = new AtomicInteger();
+        SyntheticUserConfigProviderAdapter countingProvider = new SyntheticUserConfigProviderAdapter(10_000, 4) {
+            @Override
+            public Flux<UserConfig> getUserConfigsAfter(String segmentName,
+                    String afterUserId, int limit) {
+                pages.incrementAndGet();
+                return super.getUserConfigsAfter(segmentName, afterUserId, limit);
+            }
+        };
+
+        StepVerifier.create(countingProvider.streamUserConfigs(null, 1_000).map(UserConfig::userId).distinct())
+                .expectNextCount(10_000)
+                .verifyComplete();
+
+        // 가득 찬 10페이지 + 종료를 확인하는 빈 페이지
+        assertThat(pages.get()).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("세그먼트 사용자만 userId 오름차순으로 스트리밍한다")
+    void streamUserConfigs_shouldStreamSegmentUsersInOrder() {
+        StepVerifier.create(provider.streamUserConfigs("segment-1", 300).collectList())
+                .assertNext(users -> {
+                    assertThat(users).hasSize(2_500);
+                    assertThat(users.get(0).userId()).isEqualTo("synthetic-user-0000000001");
+                    assertThat(users.get(1).userId()).isEqualTo("synthetic-user-0000000005");
+                    assertThat(users).extracting(UserConfig::userId).isSorted();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("주어진 사용자 ID 이후의 세그먼트 사용자부터 이어서 스트리밍한다")
+    void streamUserConfigs_shouldResumeAfterUserId() {
+        StepVerifier.create(provider.streamUserConfigs("segment-1", "synthetic-user-0000000005", 300).collectList())
+                .assertNext(users -> {
+                    assertThat(users).hasSize(2_498);
+                    assertThat(users.get(0).userId()).isEqualTo("synthetic-user-0000000009");
+                    assertThat(users).extracting(UserConfig::userId).isSorted();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 세그먼트나 범위를 벗어난 사용자는 비어 있다")
+    void shouldReturnEmptyForUnknownSegmentOrUser() {
+        StepVerifier.create(provider.streamUserConfigs("segment-9", 100))
+                .verifyComplete();
+
+        StepVerifier.create(provider.getUserConfigById("synthetic-user-0000010000"))
+                .verifyComplete();
+
+        StepVerifier.create(provider.getUserConfigById("synthetic-user-0000000042"))
+                .assertNext(user -> assertThat(user.language()).isEqualTo("ko"))
+                .verifyComplete();
+    }
+
+}
@@ -0,0 +1,130 @@
+package notification.adapter.client;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import notification.definition.vo.UserConfig;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerResponse;
+import reactor.test.StepVerifier;
+
+/**
+ * 로컬 Mock 사용자 서버(reactor-netty)를 띄워 WebClient Adapter의 요청/응답 처리를 검증합니다.
+ */
+class WebClientUserConfigProviderAdapterTest {
+
+    private static final String USER_001 = """
+            {"userId":"user-001","userName":"Alice","pushToken":"push-001","email":"alice@example.com",
+             "phoneNumber":"010-1234-5678","language":"ko","timeZone":"Asia/Seoul"}""";
+    private static final String USER_002 = """
+            {"userId":"user-002","userName":"Bob","pushToken":"push-002","email":"bob@example.com",
+             "phoneNumber":"010-2345-6789","language":"en","timeZone":"America/New_York"}""";
+
+    private final List<String> receivedRequests = new CopyOnWriteArrayList<>();
+    private DisposableServer server;
+    private WebClientUserConfigProviderAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes
+                        .post("/users/batch", (request, response) -> request.receive().aggregate().asString()
+                                .flatMap(body -> {
+                                    receivedRequests.add("POST /users/batch " + body);
+                                    return json(response, "[" + USER_001 + "," + USER_002 + "]");
+                                }))
+                        .get("/users/{userId}", (request, response) -> {
+                            receivedRequests.add("GET " + request.uri());
+                            if ("user-001".equals(request.param("userId"))) {
+                                return json(response, USER_001);
+                            }
+                            if ("broken".equals(request.param("userId"))) {
+                                return response.status(HttpResponseStatus.INTERNAL_SERVER_ERROR).send();
+                            }
+                            return response.status(HttpResponseStatus.NOT_FOUND).send();
+                        })
+                        .get("/users", (request, response) -> {
+                            receivedRequests.add("GET " + request.uri());
+                            return json(response, "[" + USER_002 + "]");
+                        }))
+                .bindNow();
+
+        adapter = new WebClientUserConfigProviderAdapter(
+                WebClient.builder(), "http://localhost:" + server.port(), 3_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.disposeNow();
+    }
+
+    @Test
+    @DisplayName("여러 사용자를 한 번의 batch 요청으로 조회한다")
+    void getUserConfigsByIds_shouldSendSingleBatchRequest() {
+        StepVerifier.create(adapter.getUserConfigsByIds(List.of("user-001", "user-002")).collectList())
+                .assertNext(users -> assertThat(users)
+                        .extracting(UserConfig::userId)
+                        .containsExactly("user-001", "user-002"))
+                .verifyComplete();
+
+        assertThat(receivedRequests).hasSize(1);
+        assertThat(receivedRequests.get(0))
+                .startsWith("POST /users/batch")
+                .contains("\"userIds\":[\"user-001\",\"user-002\"]");
+    }
+
+    @Test
+    @DisplayName("빈 사용자 목록은 요청을 보내지 않는다")
+    void getUserConfigsByIds_shouldSkipRequestWhenEmpty() {
+        StepVerifier.create(adapter.getUserConfigsByIds(List.of()))
+                .verifyComplete();
+
+        assertThat(receivedRequests).isEmpty();
+    }
+
+    @Test
+    @DisplayName("단건 조회 시 404는 empty로, 그 외 오류는 에러로 전달한다")
+    void getUserConfigById_shouldMapNotFoundToEmpty() {
+        StepVerifier.create(adapter.getUserConfigById("user-001"))
+                .assertNext(user -> assertThat(user.userName()).isEqualTo("Alice"))
+                .verifyComplete();
+
+        StepVerifier.create(adapter.getUserConfigById("unknown"))
+                .verifyComplete();
+
+        StepVerifier.create(adapter.getUserConfigById("broken"))
+                .expectError(WebClientResponseException.InternalServerError.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("키셋 페이지 조회 시 segment, after, limit 파라미터를 전달한다")
+    void getUserConfigsAfter_shouldSendKeysetParameters() {
+        StepVerifier.create(adapter.getUserConfigsAfter("vip", "user-001", 500))
+                .assertNext(user -> assertThat(user.userId()).isEqualTo("user-002"))
+                .verifyComplete();
+
+        assertThat(receivedRequests).containsExactly("GET /users?segment=vip&after=user-001&limit=500");
+    }
+
+    private static Mono<Void> json(HttpServerResponse response, String body) {
+        return response.header(HttpHeaderNames.CONTENT_TYPE, "application/json")
+                .sendString(Mono.just(body))
+                .then();
+    }
+
+}
@@ -0,0 +1,87 @@
+package notification.adapter.db;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryFactory;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.testcontainers.containers.MariaDBContainer;
+
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+
+/**
+ * 벤치마크용 MariaDB 연결입니다.
+ *
+ * -Dmariadb.address=host:port/database 를 지정하면 해당 DB를(-Dmariadb.username, -Dmariadb.password),
+ * 지정하지 않으면 Testcontainers MariaDB를 사용하며, 시작할 때 Flyway 마이그레이션을 적용합니다.
+ */
+public class MariadbBenchmarkDatabase implements AutoCloseable {
+
+    private final MariaDBContainer<?> container;
+    private final ConnectionFactory connectionFactory;
+    private final DatabaseClient databaseClient;
+    private final R2dbcRepositoryFactory repositoryFactory;
+    private final TransactionalOperator transactionalOperator;
+
+    @SuppressWarnings("resource")
+    public MariadbBenchmarkDatabase() {
+        String address = System.getProperty("mariadb.address");
+        String username = System.getProperty("mariadb.username", "test");
+        String password = System.getProperty("mariadb.password", "test");
+
+        if (address == null) {
+            container = new MariaDBContainer<>("mariadb:10.5")
+                    .withDatabaseName("benchmark-db")
+                    .withUsername(username)
+                    .withPassword(password);
+            container.start();
+            address = container.getHost() + ":" + container.getMappedPort(3306) + "/" + container.getDatabaseName();
+        } else {
+            container = null;
+        }
+
+        Flyway.configure()
+                .dataSource("jdbc:mariadb://" + address, username, password)
+                .load()
+                .migrate();
+
+        connectionFactory = ConnectionFactories.get(ConnectionFactoryOptions.parse("r2dbc:mariadb://" + address)
+                .mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build());
+        databaseClient = DatabaseClient.create(connectionFactory);
+        repositoryFactory = new R2dbcRepositoryFactory(new R2dbcEntityTemplate(connectionFactory));
+        transactionalOperator = TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+    }
+
+    public DatabaseClient databaseClient() {
+        return databaseClient;
+    }
+
+    public TransactionalOperator transactionalOperator() {
+        return transactionalOperator;
+    }
+
+    public <T> T repository(Class<T> repositoryInterface) {
+        return repositoryFactory.getRepository(repositoryInterface);
+    }
+
+    /**
+     * 벤치마크가 쌓은 행을 비웁니다.
+     */
+    public void truncate(String table) {
+        databaseClient.sql("DELETE FROM " + table).fetch().rowsUpdated().block();
+    }
+
+    @Override
+    public void close() {
+        if (container != null) {
+            container.stop();
+        }
+    }
+
+}
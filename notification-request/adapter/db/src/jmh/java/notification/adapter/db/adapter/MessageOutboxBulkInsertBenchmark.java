@@ -0,0 +1,103 @@
+package notification.adapter.db.adapter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import notification.adapter.db.MariadbBenchmarkDatabase;
+import notification.adapter.db.config.OutboxInstanceId;
+import notification.adapter.db.config.OutboxPartitioner;
+import notification.adapter.db.repository.R2dbcMessageOutboxRepository;
+import notification.definition.enums.OutboxStatus;
+import notification.definition.utils.TimeOrderedIdGenerator;
+import notification.definition.vo.JsonPayload;
+import notification.definition.vo.outbox.MessageOutbox;
+import notification.definition.vo.outbox.OutboxId;
+import reactor.core.publisher.Flux;
+
+/**
+ * MessageOutbox 저장 처리량(rows/sec)을 비교합니다. app.notification.fan-out.chunk-size 값을 정할 때 참고합니다.
+ *
+ * - chunkSize : 1이면 행마다 save, 그 외에는 chunk 단위 다중 행 INSERT(insertAll)
+ * - idStrategy : 랜덤 UUIDv4와 시간 순 UUIDv7 PK
+ *
+ * 테이블은 Trial 단위로만 비우므로 반복할수록 인덱스가 커진 상태의 처리량을 측정합니다.
+ * PK 전략 간 차이는 테이블이 버퍼 풀보다 커질수록 벌어집니다.
+ * DB 연결은 MariadbBenchmarkDatabase를 참고합니다.
+ *
+ * 실행: ./gradlew :adapter:db:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MessageOutboxBulkInsertBenchmark {
+
+    private static final int BATCH = 5_000;
+    private static final String PAYLOAD = "{\"message\":\"" + "x".repeat(300) + "\"}";
+
+    @Param({ "1", "100", "250", "500", "1000" })
+    private int chunkSize;
+
+    @Param({ "uuidv7", "uuidv4" })
+    private String idStrategy;
+
+    private MariadbBenchmarkDatabase database;
+    private MessageOutboxRepositoryAdapter adapter;
+
+    @Setup
+    public void setUp() {
+        database = new MariadbBenchmarkDatabase();
+        database.truncate("message_outbox");
+        adapter = new MessageOutboxRepositoryAdapter(
+                database.repository(R2dbcMessageOutboxRepository.class),
+                database.transactionalOperator(),
+                database.databaseClient(),
+                new OutboxInstanceId("benchmark"),
+                new OutboxPartitioner(16));
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.truncate("message_outbox");
+        database.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long insert() {
+        Flux<MessageOutbox> outboxes = Flux.fromIterable(createOutboxes());
+        Flux<MessageOutbox> saved = chunkSize == 1
+                ? outboxes.concatMap(adapter::save)
+                : outboxes.buffer(chunkSize).concatMap(adapter::insertAll);
+        return saved.count().block(Duration.ofMinutes(5));
+    }
+
+    //
+    private List<MessageOutbox> createOutboxes() {
+        Instant now = Instant.now();
+        return IntStream.range(0, BATCH)
+                .mapToObj(i -> new MessageOutbox(
+                        new OutboxId(nextId()), "aggregate-" + i, JsonPayload.of(PAYLOAD),
+                        0, now, OutboxStatus.PENDING, null, null))
+                .toList();
+    }
+
+    private String nextId() {
+        return "uuidv4".equals(idStrategy) ? UUID.randomUUID().toString() : TimeOrderedIdGenerator.generate();
+    }
+
+}
@@ -0,0 +1,119 @@
+package notification.adapter.db.adapter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import notification.adapter.db.MariadbBenchmarkDatabase;
+import notification.adapter.db.mapper.NotificationMessageEntityMapper;
+import notification.adapter.db.repository.R2dbcNotificationMessageRepository;
+import notification.definition.utils.TimeOrderedIdGenerator;
+import notification.domain.NotificationMessage;
+import notification.domain.enums.DeliveryStatus;
+import notification.domain.enums.NotificationType;
+import notification.domain.vo.NotificationContent;
+import notification.domain.vo.NotificationMessageId;
+import notification.domain.vo.NotificationRequestId;
+import notification.domain.vo.recipient.Recipient;
+import notification.domain.vo.sender.EmailSender;
+import reactor.core.publisher.Flux;
+
+/**
+ * NotificationMessage 저장 처리량(rows/sec)을 비교합니다.
+ * Fan-out은 알림 메시지와 MessageOutbox를 함께 저장하므로 MessageOutboxBulkInsertBenchmark와 함께 참고합니다.
+ *
+ * - chunkSize : 1이면 행마다 save, 그 외에는 chunk 단위 다중 행 INSERT(insertAll)
+ * - idStrategy : 랜덤 UUIDv4와 시간 순 UUIDv7 PK (message_id)
+ *
+ * 테이블은 Trial 단위로만 비우므로 반복할수록 인덱스가 커진 상태의 처리량을 측정합니다.
+ * DB 연결은 MariadbBenchmarkDatabase를 참고합니다.
+ *
+ * 실행: ./gradlew :adapter:db:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class NotificationMessageBulkInsertBenchmark {
+
+    private static final int BATCH = 5_000;
+    private static final String REQUEST_ID = "benchmark-request";
+    private static final String BODY = "x".repeat(300);
+
+    @Param({ "1", "100", "250", "500", "1000" })
+    private int chunkSize;
+
+    @Param({ "uuidv7", "uuidv4" })
+    private String idStrategy;
+
+    private MariadbBenchmarkDatabase database;
+    private NotificationMessageRepositoryAdapter adapter;
+
+    @Setup
+    public void setUp() {
+        database = new MariadbBenchmarkDatabase();
+        database.truncate("notification_request"); // 알림 메시지는 ON DELETE CASCADE로 함께 삭제
+        database.databaseClient().sql("""
+                INSERT INTO notification_request (request_id, requester_type, requester_id, notification_types)
+                VALUES (:requestId, 'SERVICE', 'benchmark', 'EMAIL')
+                """)
+                .bind("requestId", REQUEST_ID)
+                .fetch().rowsUpdated().block();
+
+        adapter = new NotificationMessageRepositoryAdapter(
+                new NotificationMessageEntityMapper(),
+                database.repository(R2dbcNotificationMessageRepository.class),
+                database.databaseClient());
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.truncate("notification_request");
+        database.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long insert() {
+        Flux<NotificationMessage> messages = Flux.fromIterable(createMessages());
+        Flux<NotificationMessage> saved = chunkSize == 1
+                ? messages.concatMap(adapter::save)
+                : messages.buffer(chunkSize).concatMap(adapter::insertAll);
+        return saved.count().block(Duration.ofMinutes(5));
+    }
+
+    //
+    private List<NotificationMessage> createMessages() {
+        return IntStream.range(0, BATCH)
+                .mapToObj(i -> new NotificationMessage(
+                        new NotificationMessageId(nextId()),
+                        new NotificationRequestId(REQUEST_ID),
+                        NotificationType.EMAIL,
+                        new Recipient("user-" + i, "user" + i + "@example.com", null, null, "ko"),
+                        new NotificationContent("Benchmark Title", BODY, null, null),
+                        new EmailSender("sender-1", "sender@example.com", "Benchmark Sender"),
+                        DeliveryStatus.PENDING,
+                        null,
+                        null,
+                        null,
+                        null))
+                .toList();
+    }
+
+    private String nextId() {
+        return "uuidv4".equals(idStrategy) ? UUID.randomUUID().toString() : TimeOrderedIdGenerator.generate();
+    }
+
+}
@@ -19,7 +19,7 @@ import notification.definition.vo.JsonPayload;
 @Table("idempotency_key")
 public class IdempotencyEntity implements Persistable<String> {
 
-    @Id
+    @Id // 테이블 PK는 (idempotency_key, operation_type)이며, 저장(INSERT)에만 사용하므로 키만 매핑
     @Column("idempotency_key")
     private String idempotencyKey;
 
@@ -50,7 +50,7 @@ public class IdempotencyEntity implements Persistable<String> {
         return new Idempotency(
                 idempotencyKey,
                 operationType,
-                new JsonPayload(data),
+                data != null ? new JsonPayload(data) : null,
                 InstantDateTimeBridge.toInstant(createdAt));
     }
 
@@ -64,7 +64,7 @@ public class IdempotencyEntity implements Persistable<String> {
         return IdempotencyEntity.builder()
                 .idempotencyKey(idempotency.idempotencyKey())
                 .operationType(idempotency.operationType())
-                .data(idempotency.data().value())
+                .data(idempotency.data() != null ? idempotency.data().value() : null)
                 .createdAt(InstantDateTimeBridge.toLocalDateTime(idempotency.createdAt()))
                 .build();
     }
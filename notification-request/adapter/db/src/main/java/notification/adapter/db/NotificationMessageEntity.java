@@ -86,7 +86,7 @@ public class NotificationMessageEntity implements Persistable<String> {
     @Column("created_at")
     private LocalDateTime createdAt;
 
-    @Builder
+    @Builder(toBuilder = true)
     public NotificationMessageEntity(String messageId, String requestId, String notificationType,
             String userId, String phoneNumber, String email,
             String deviceToken, String language,
@@ -1,7 +1,5 @@
 package notification.adapter.db;
 
-import java.util.UUID;
-
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Transient;
 import org.springframework.data.domain.Persistable;
@@ -14,6 +12,7 @@ import lombok.Builder;
 import lombok.Builder.Default;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import notification.definition.utils.TimeOrderedIdGenerator;
 import notification.domain.vo.NotificationContent;
 
 @Getter
@@ -47,7 +46,7 @@ public class NotificationRequestContentEntity implements Persistable<String> {
     private boolean isNewEntity = false;
 
     public void markAsNew() {
-        this.contentId = UUID.randomUUID().toString();
+        this.contentId = TimeOrderedIdGenerator.generate();
         this.isNewEntity = true;
     }
 
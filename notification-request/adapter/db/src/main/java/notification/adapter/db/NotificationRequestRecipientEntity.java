@@ -1,7 +1,5 @@
 package notification.adapter.db;
 
-import java.util.UUID;
-
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Transient;
 import org.springframework.data.domain.Persistable;
@@ -14,6 +12,7 @@ import lombok.Builder;
 import lombok.Builder.Default;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import notification.definition.utils.TimeOrderedIdGenerator;
 import notification.domain.vo.recipient.AllUserRecipient;
 import notification.domain.vo.recipient.DirectRecipient;
 import notification.domain.vo.recipient.RecipientReference;
@@ -55,13 +54,16 @@ public class NotificationRequestRecipientEntity implements Persistable<String> {
     @Column("segment_name")
     private String segmentName;
 
+    @Column("parameters")
+    private String parameters; // 수신자별 템플릿 파라미터 (JSON)
+
     // 새 엔티티 여부를 판단하기 위한 필드
     @Transient
     @Default
     private boolean isNewEntity = false;
 
     public void markAsNew() {
-        this.recipientId = UUID.randomUUID().toString();
+        this.recipientId = TimeOrderedIdGenerator.generate();
         this.isNewEntity = true;
     }
 
@@ -70,16 +72,31 @@ public class NotificationRequestRecipientEntity implements Persistable<String> {
      *
      * @param recipient   수신자 정보
      * @param requestId   요청 ID
-     * @param recipientId 선택적 수신자 ID (null일 경우 UUID 생성)
+     * @param recipientId 선택적 수신자 ID (null일 경우 UUIDv7 생성)
      * @return 변환된 Entity
      */
     public static NotificationRequestRecipientEntity fromDomain(
             RecipientReference recipient, String requestId, String recipientId) {
+        return fromDomain(recipient, requestId, recipientId, null);
+    }
+
+    /**
+     * RecipientReference 도메인 객체를 NotificationRequestRecipientEntity로 변환
+     *
+     * @param recipient   수신자 정보
+     * @param requestId   요청 ID
+     * @param recipientId 선택적 수신자 ID (null일 경우 UUIDv7 생성)
+     * @param parameters  JSON으로 직렬화된 수신자별 템플릿 파라미터 (없으면 null)
+     * @return 변환된 Entity
+     */
+    public static NotificationRequestRecipientEntity fromDomain(
+            RecipientReference recipient, String requestId, String recipientId, String parameters) {
 
         NotificationRequestRecipientEntityBuilder entity = NotificationRequestRecipientEntity.builder()
                 .requestId(requestId)
                 .recipientId(recipient.getId())
-                .recipientType(recipient.getType().name());
+                .recipientType(recipient.getType().name())
+                .parameters(parameters);
 
         if (recipient instanceof UserRecipient userRecipient) {
             return entity.userId(userRecipient.userId().value())
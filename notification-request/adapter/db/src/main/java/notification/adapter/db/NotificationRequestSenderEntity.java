@@ -1,7 +1,5 @@
 package notification.adapter.db;
 
-import java.util.UUID;
-
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Transient;
 import org.springframework.data.domain.Persistable;
@@ -14,6 +12,7 @@ import lombok.Builder;
 import lombok.Builder.Default;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import notification.definition.utils.TimeOrderedIdGenerator;
 import notification.domain.vo.sender.EmailSender;
 import notification.domain.vo.sender.PushSender;
 import notification.domain.vo.sender.SenderInfo;
@@ -53,7 +52,7 @@ public class NotificationRequestSenderEntity implements Persistable<String> {
     private boolean isNewEntity = false;
 
     public void markAsNew() {
-        this.senderId = UUID.randomUUID().toString();
+        this.senderId = TimeOrderedIdGenerator.generate();
         this.isNewEntity = true;
     }
 
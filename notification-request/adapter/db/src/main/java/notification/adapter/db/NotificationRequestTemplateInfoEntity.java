@@ -1,7 +1,5 @@
 package notification.adapter.db;
 
-import java.util.UUID;
-
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Transient;
 import org.springframework.data.domain.Persistable;
@@ -14,6 +12,7 @@ import lombok.Builder;
 import lombok.Builder.Default;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import notification.definition.utils.TimeOrderedIdGenerator;
 
 @Getter
 @Builder
@@ -40,7 +39,7 @@ public class NotificationRequestTemplateInfoEntity implements Persistable<String
     private boolean isNewEntity = false;
 
     public void markAsNew() {
-        this.templateInfoId = UUID.randomUUID().toString();
+        this.templateInfoId = TimeOrderedIdGenerator.generate();
         this.isNewEntity = true;
     }
 
@@ -0,0 +1,42 @@
+package notification.adapter.db;
+
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+import lombok.Getter;
+import notification.definition.vo.TemplateDefinition;
+
+/**
+ * notification_template 테이블의 한 행
+ * 
+ * 복합 키(template_id, channel, language)를 사용하므로 Repository 대신 DatabaseClient로 조회합니다.
+ */
+@Getter
+@Builder
+public class NotificationTemplateEntity {
+
+    public static final String ANY_CHANNEL = "*"; // 모든 채널에 공통 적용되는 정의
+
+    private String templateId;
+    private String channel;
+    private String language;
+    private String titleTemplate;
+    private String bodyTemplate;
+    private boolean active;
+    private LocalDateTime updatedAt;
+
+    /**
+     * NotificationTemplateEntity to Domain Object
+     * 
+     * @return TemplateDefinition
+     */
+    public TemplateDefinition toDomain() {
+        return new TemplateDefinition(
+                templateId,
+                ANY_CHANNEL.equals(channel) ? null : channel,
+                language,
+                titleTemplate,
+                bodyTemplate);
+    }
+
+}
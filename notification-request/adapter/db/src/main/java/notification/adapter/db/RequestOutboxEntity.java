@@ -44,15 +44,18 @@ public class RequestOutboxEntity implements Persistable<String> {
     private LocalDateTime nextRetryAt; // 다음 재시도 예정 시각 == 알림 발송 시각
 
     @Column("instance_id")
-    private String instanceId; // Lock을 위한 ID, UUID 형식
+    private String instanceId; // 할당(Claim)한 인스턴스 ID
+
+    @Column("partition_key")
+    private int partitionKey; // aggregate_id 해시 파티션, 파티션 할당 사용 시 인스턴스별 조회 범위
 
     @Column("created_at")
     private LocalDateTime createdAt;
 
-    @Builder
+    @Builder(toBuilder = true)
     public RequestOutboxEntity(String outboxId, String aggregateId, String payload, String status,
             LocalDateTime processedAt, int retryAttempts, LocalDateTime nextRetryAt,
-            String instanceId, LocalDateTime createdAt) {
+            String instanceId, int partitionKey, LocalDateTime createdAt) {
         this.outboxId = outboxId;
         this.aggregateId = aggregateId;
         this.payload = payload;
@@ -61,6 +64,7 @@ public class RequestOutboxEntity implements Persistable<String> {
         this.retryAttempts = retryAttempts;
         this.nextRetryAt = nextRetryAt;
         this.instanceId = instanceId; // Lock을 위한 ID, Domain으로 전달되지 않음
+        this.partitionKey = partitionKey; // Adapter에서 aggregate_id로 계산, Domain으로 전달되지 않음
         this.createdAt = createdAt;
     }
 
@@ -1,17 +1,23 @@
 package notification.adapter.db.adapter;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
 import org.springframework.stereotype.Repository;
 
 import lombok.RequiredArgsConstructor;
 import notification.adapter.db.IdempotencyEntity;
 import notification.adapter.db.repository.R2dbcIdempotencyRepository;
 import notification.application.idempotency.Idempotency;
+import notification.application.idempotency.IdempotencyPurgeBatch;
 import notification.application.idempotency.port.outbound.IdempotentRepositoryPort;
 import notification.definition.exceptions.DuplicateRequestException;
+import notification.definition.utils.InstantDateTimeBridge;
 import reactor.core.publisher.Mono;
 
 @Repository
@@ -57,4 +63,161 @@ public class IdempotentRepositoryAdapter implements IdempotentRepositoryPort {
                 .switchIfEmpty(Mono.empty());
     }
 
+    /**
+     * INSERT 한 번으로 예약합니다.
+     * PK(idempotency_key, operation_type)가 이미 존재하면 DuplicateKeyException이 발생하므로 예약하지 못한 것(false)으로 봅니다.
+     * 영향받은 행 수에 의존하지 않으므로 드라이버 설정(CLIENT_FOUND_ROWS 등)과 무관하며,
+     * 데이터 오류(컬럼 길이 초과 등)는 경고로 바뀌지 않고 그대로 전파됩니다.
+     */
+    @Override
+    public Mono<Boolean> reserve(Idempotency reservation) {
+        String sql = """
+                INSERT INTO idempotency_key (idempotency_key, operation_type, data, created_at)
+                VALUES (:idempotencyKey, :operationType, NULL, :createdAt)
+                """;
+
+        return databaseClient.sql(sql)
+                .bind("idempotencyKey", reservation.idempotencyKey())
+                .bind("operationType", reservation.operationType())
+                .bind("createdAt", InstantDateTimeBridge.toLocalDateTime(reservation.createdAt()))
+                .fetch()
+                .rowsUpdated()
+                .map(count -> count > 0)
+                .onErrorResume(DuplicateKeyException.class, e -> Mono.just(false));
+    }
+
+    @Override
+    public Mono<Boolean> takeOver(Idempotency reservation, Instant staleBefore) {
+        String sql = """
+                UPDATE idempotency_key
+                SET created_at = :createdAt
+                WHERE idempotency_key = :idempotencyKey
+                    AND operation_type = :operationType
+                    AND data IS NULL
+                    AND created_at < :staleBefore
+                """;
+
+        return databaseClient.sql(sql)
+                .bind("createdAt", InstantDateTimeBridge.toLocalDateTime(reservation.createdAt()))
+                .bind("idempotencyKey", reservation.idempotencyKey())
+                .bind("operationType", reservation.operationType())
+                .bind("staleBefore", InstantDateTimeBridge.toLocalDateTime(staleBefore))
+                .fetch()
+                .rowsUpdated()
+                .map(count -> count > 0);
+    }
+
+    @Override
+    public Mono<Boolean> complete(Idempotency completed) {
+        String sql = """
+                UPDATE idempotency_key
+                SET data = :data
+                WHERE idempotency_key = :idempotencyKey
+                    AND operation_type = :operationType
+                    AND data IS NULL
+                    AND created_at = :createdAt
+                """;
+
+        return databaseClient.sql(sql)
+                .bind("data", completed.data().value())
+                .bind("idempotencyKey", completed.idempotencyKey())
+                .bind("operationType", completed.operationType())
+                .bind("createdAt", InstantDateTimeBridge.toLocalDateTime(completed.createdAt()))
+                .fetch()
+                .rowsUpdated()
+                .map(count -> count > 0);
+    }
+
+    @Override
+    public Mono<Void> release(Idempotency reservation) {
+        String sql = """
+                DELETE FROM idempotency_key
+                WHERE idempotency_key = :idempotencyKey
+                    AND operation_type = :operationType
+                    AND data IS NULL
+                    AND created_at = :createdAt
+                """;
+
+        return databaseClient.sql(sql)
+                .bind("idempotencyKey", reservation.idempotencyKey())
+                .bind("operationType", reservation.operationType())
+                .bind("createdAt", InstantDateTimeBridge.toLocalDateTime(reservation.createdAt()))
+                .fetch()
+                .rowsUpdated()
+                .then();
+    }
+
+    /**
+     * (created_at, idempotency_key, operation_type) 키셋으로 삭제 대상을 한 페이지 조회한 뒤, PK로 삭제합니다.
+     * 조회는 created_at 인덱스 범위 스캔으로 이전 배치가 끝난 지점부터 시작하고,
+     * 삭제는 조회한 행만 PK로 잠그므로 배치마다 짧은 트랜잭션으로 끝납니다.
+     * 같은 키라도 작업 유형마다 보관 기간이 다를 수 있으므로 (키, 작업 유형) 쌍으로 삭제합니다.
+     */
+    @Override
+    public Mono<IdempotencyPurgeBatch> deleteExpiredBatch(String operationType,
+            Collection<String> excludedOperationTypes, Instant before, IdempotencyPurgeBatch after, int batchSize) {
+        StringBuilder sql = new StringBuilder("""
+                SELECT idempotency_key, operation_type, created_at FROM idempotency_key
+                WHERE created_at < :before
+                """);
+        if (operationType != null) {
+            sql.append(" AND operation_type = :operationType");
+        } else if (excludedOperationTypes != null && !excludedOperationTypes.isEmpty()) {
+            sql.append(" AND operation_type NOT IN (:excludedOperationTypes)");
+        }
+
+        boolean hasCursor = after != null && after.lastCreatedAt() != null;
+        if (hasCursor) {
+            sql.append(" AND (created_at > :afterCreatedAt"
+                    + " OR (created_at = :afterCreatedAt AND (idempotency_key > :afterKey"
+                    + " OR (idempotency_key = :afterKey AND operation_type > :afterOperationType))))");
+        }
+        sql.append(String.format(" ORDER BY created_at, idempotency_key, operation_type LIMIT %d", batchSize));
+
+        GenericExecuteSpec select = databaseClient.sql(sql.toString())
+                .bind("before", InstantDateTimeBridge.toLocalDateTime(before));
+        if (operationType != null) {
+            select = select.bind("operationType", operationType);
+        } else if (excludedOperationTypes != null && !excludedOperationTypes.isEmpty()) {
+            select = select.bind("excludedOperationTypes", List.copyOf(excludedOperationTypes));
+        }
+        if (hasCursor) {
+            select = select
+                    .bind("afterCreatedAt", InstantDateTimeBridge.toLocalDateTime(after.lastCreatedAt()))
+                    .bind("afterKey", after.lastKey())
+                    .bind("afterOperationType", after.lastOperationType() != null ? after.lastOperationType() : "");
+        }
+
+        return select.map((row, metadata) -> new ExpiredKey(
+                row.get("idempotency_key", String.class),
+                row.get("operation_type", String.class),
+                row.get("created_at", LocalDateTime.class)))
+                .all()
+                .collectList()
+                .flatMap(expiredKeys -> {
+                    if (expiredKeys.isEmpty()) {
+                        return Mono.just(IdempotencyPurgeBatch.empty());
+                    }
+
+                    ExpiredKey last = expiredKeys.get(expiredKeys.size() - 1);
+                    return databaseClient.sql("""
+                            DELETE FROM idempotency_key
+                            WHERE (idempotency_key, operation_type) IN (:keys)
+                                AND created_at < :before
+                            """)
+                            .bind("keys", expiredKeys.stream()
+                                    .map(key -> new Object[] { key.idempotencyKey(), key.operationType() })
+                                    .toList())
+                            .bind("before", InstantDateTimeBridge.toLocalDateTime(before))
+                            .fetch()
+                            .rowsUpdated()
+                            .map(deleted -> new IdempotencyPurgeBatch(deleted,
+                                    InstantDateTimeBridge.toInstant(last.createdAt()), last.idempotencyKey(),
+                                    last.operationType()));
+                });
+    }
+
+    private record ExpiredKey(String idempotencyKey, String operationType, LocalDateTime createdAt) {
+    }
+
 }
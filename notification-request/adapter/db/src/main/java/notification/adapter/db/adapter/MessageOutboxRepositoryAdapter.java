@@ -1,16 +1,28 @@
 package notification.adapter.db.adapter;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.reactive.TransactionalOperator;
 
+import io.r2dbc.spi.Row;
 import lombok.RequiredArgsConstructor;
 import notification.adapter.db.MessageOutboxEntity;
+import notification.adapter.db.config.OutboxClaimStrategy;
+import notification.adapter.db.config.OutboxInstanceId;
+import notification.adapter.db.config.OutboxPartitioner;
 import notification.adapter.db.repository.R2dbcMessageOutboxRepository;
+import notification.adapter.db.support.BulkInsertQuery;
+import notification.adapter.db.support.BulkInsertQuery.Column;
+import notification.adapter.db.support.OutboxClaimQuery;
 import notification.application.outbox.port.outbound.MessageOutboxRepositoryPort;
 import notification.definition.enums.OutboxStatus;
 import notification.definition.utils.InstantDateTimeBridge;
@@ -23,13 +35,53 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class MessageOutboxRepositoryAdapter implements MessageOutboxRepositoryPort {
 
+    private static final OutboxClaimQuery<MessageOutboxEntity> CLAIM_QUERY = new OutboxClaimQuery<>(
+            "message_outbox", MessageOutboxRepositoryAdapter::toEntity);
+
+    private static final BulkInsertQuery<MessageOutboxEntity> BULK_INSERT = new BulkInsertQuery<>(
+            "message_outbox",
+            List.of(
+                    new Column<>("outbox_id", String.class, MessageOutboxEntity::getOutboxId),
+                    new Column<>("aggregate_id", String.class, MessageOutboxEntity::getAggregateId),
+                    new Column<>("payload", String.class, MessageOutboxEntity::getPayload),
+                    new Column<>("status", String.class, MessageOutboxEntity::getStatus),
+                    new Column<>("processed_at", LocalDateTime.class, MessageOutboxEntity::getProcessedAt),
+                    new Column<>("retry_attempts", Integer.class, MessageOutboxEntity::getRetryAttempts),
+                    new Column<>("next_retry_at", LocalDateTime.class, MessageOutboxEntity::getNextRetryAt),
+                    new Column<>("partition_key", Integer.class, MessageOutboxEntity::getPartitionKey),
+                    new Column<>("created_at", LocalDateTime.class, MessageOutboxEntity::getCreatedAt)));
+
     private final R2dbcMessageOutboxRepository r2dbcMessageOutboxRepository;
     private final TransactionalOperator transactionalOperator;
     private final DatabaseClient databaseClient;
+    private final OutboxInstanceId outboxInstanceId;
+    private final OutboxPartitioner outboxPartitioner;
+
+    @Value("${app.outbox.claim-strategy:UPDATE_THEN_SELECT}")
+    private OutboxClaimStrategy claimStrategy = OutboxClaimStrategy.UPDATE_THEN_SELECT;
 
     @Override
     public Mono<MessageOutbox> save(MessageOutbox domain) {
-        return r2dbcMessageOutboxRepository.save(MessageOutboxEntity.fromDomain(domain))
+        return r2dbcMessageOutboxRepository.save(withPartitionKey(MessageOutboxEntity.fromDomain(domain)))
+                .map(MessageOutboxEntity::toDomain);
+    }
+
+    @Override
+    public Flux<MessageOutbox> insertAll(List<MessageOutbox> domains) {
+        if (domains == null || domains.isEmpty()) {
+            return Flux.empty();
+        }
+
+        return Mono.fromCallable(() -> {
+            LocalDateTime now = InstantDateTimeBridge.toLocalDateTime(Instant.now());
+            return domains.stream()
+                    .map(MessageOutboxEntity::fromDomain)
+                    .map(this::withPartitionKey)
+                    .map(entity -> entity.getCreatedAt() != null ? entity
+                            : entity.toBuilder().createdAt(now).build())
+                    .toList();
+        }).flatMapMany(entities -> BULK_INSERT.execute(databaseClient, entities)
+                .thenMany(Flux.fromIterable(entities)))
                 .map(MessageOutboxEntity::toDomain);
     }
 
@@ -49,6 +101,15 @@ public class MessageOutboxRepositoryAdapter implements MessageOutboxRepositoryPo
         return r2dbcMessageOutboxRepository.deleteById(id.value());
     }
 
+    @Override
+    public Mono<Void> deleteAllByIds(Collection<OutboxId> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Mono.empty();
+        }
+
+        return r2dbcMessageOutboxRepository.deleteAllById(ids.stream().map(OutboxId::value).toList());
+    }
+
     @Override
     public Flux<MessageOutbox> findByAggregateId(String aggregateId) {
         return r2dbcMessageOutboxRepository.findByAggregateId(aggregateId)
@@ -57,80 +118,103 @@ public class MessageOutboxRepositoryAdapter implements MessageOutboxRepositoryPo
     }
 
     @Override
-    public Flux<MessageOutbox> fetchOutboxToProcess(Instant now, int limit) {
-        String instanceId = UUID.randomUUID().toString(); // 현재 인스턴스 ID로 설정
+    public Flux<MessageOutbox> fetchOutboxToProcess(Instant now, int limit, Set<Integer> partitions) {
+        String claimId = UUID.randomUUID().toString(); // 이번 할당 요청 ID (instance_id는 인스턴스 고정 ID)
 
-        return transactionalOperator.transactional(updateOutboxForLock(now, limit, instanceId))
-                .thenMany(Flux.defer(() -> selectLockedOutbox(instanceId, limit)));
+        if (claimStrategy == OutboxClaimStrategy.SKIP_LOCKED) {
+            return claimWithSkipLocked(now, limit, partitions, claimId);
+        }
+
+        return transactionalOperator.transactional(CLAIM_QUERY.claim(databaseClient, outboxInstanceId.value(),
+                claimId, now, limit, partitions))
+                .thenMany(Flux.defer(() -> CLAIM_QUERY.selectClaimed(databaseClient, claimId, limit)))
+                .map(MessageOutboxEntity::toDomain);
+    }
+
+    /**
+     * SELECT ... FOR UPDATE SKIP LOCKED로 처리 대상 행을 잠그고,
+     * 같은 트랜잭션에서 잠근 행만 IN_PROGRESS로 변경합니다.
+     * 다른 인스턴스가 잠근 행은 대기 없이 건너뛰며, 재조회 없이 잠근 결과를 그대로 반환합니다.
+     */
+    private Flux<MessageOutbox> claimWithSkipLocked(Instant now, int limit, Set<Integer> partitions,
+            String claimId) {
+        Flux<MessageOutbox> claimed = CLAIM_QUERY.lockForClaim(databaseClient, now, limit, partitions)
+                .collectList()
+                .flatMapMany(lockedRows -> {
+                    if (lockedRows.isEmpty()) {
+                        return Flux.empty();
+                    }
+
+                    LocalDateTime claimedAt = lockedRows.get(0).claimedAt(); // DB 시계로 읽은 할당 시각
+                    List<String> outboxIds = lockedRows.stream()
+                            .map(lockedRow -> lockedRow.entity().getOutboxId())
+                            .toList();
+                    return CLAIM_QUERY.markClaimed(databaseClient, outboxInstanceId.value(), claimId, outboxIds,
+                            claimedAt)
+                            .thenMany(Flux.fromIterable(lockedRows))
+                            .map(lockedRow -> toClaimedEntity(lockedRow.entity(), claimedAt));
+                })
+                .map(MessageOutboxEntity::toDomain);
+
+        return transactionalOperator.transactional(claimed);
     }
 
     //
-    private Flux<MessageOutbox> selectLockedOutbox(String instanceId, int limit) {
-        String query = """
-                SELECT * FROM message_outbox
-                WHERE instance_id = ?
-                ORDER BY created_at ASC
-                LIMIT %d
-                """.formatted(limit);
-
-        return databaseClient.sql(query)
-                .bind(0, instanceId)
-                .map((row, metadata) -> MessageOutboxEntity.builder()
-                        .outboxId(row.get("outbox_id", String.class))
-                        .aggregateId(row.get("aggregate_id", String.class))
-                        .payload(row.get("payload", String.class))
-                        .status(row.get("status", String.class))
-                        .processedAt(row.get("processed_at", LocalDateTime.class))
-                        .retryAttempts(row.get("retry_attempts", Integer.class))
-                        .nextRetryAt(row.get("next_retry_at", LocalDateTime.class))
-                        .createdAt(row.get("created_at", LocalDateTime.class))
-                        .build())
-                .all()
-                .map(MessageOutboxEntity::toDomain)
-                .switchIfEmpty(Flux.empty());
+    private MessageOutboxEntity toClaimedEntity(MessageOutboxEntity entity, LocalDateTime processedAt) {
+        return MessageOutboxEntity.builder()
+                .outboxId(entity.getOutboxId())
+                .aggregateId(entity.getAggregateId())
+                .payload(entity.getPayload())
+                .status(OutboxStatus.IN_PROGRESS.name())
+                .processedAt(processedAt)
+                .retryAttempts(entity.getRetryAttempts())
+                .nextRetryAt(entity.getNextRetryAt())
+                .instanceId(outboxInstanceId.value())
+                .partitionKey(entity.getPartitionKey())
+                .createdAt(entity.getCreatedAt())
+                .build();
     }
 
     //
-    private Mono<Long> updateOutboxForLock(Instant now, int limit, String instanceId) {
-        String updateQuery = """
-                UPDATE message_outbox
-                SET instance_id = ?, status = ?, processed_at = ?
-                WHERE instance_id IS NULL
-                  AND outbox_id IN (
-                    SELECT outbox_id FROM (
-                      SELECT outbox_id FROM message_outbox
-                      WHERE status IN ('PENDING', 'FAILED')
-                        AND (next_retry_at IS NULL OR next_retry_at <= ?)
-                        AND instance_id IS NULL
-                      ORDER BY created_at ASC
-                      LIMIT %d
-                    ) AS subquery
-                );
-                """.formatted(limit);
-
-        return databaseClient.sql(updateQuery)
-                .bind(0, instanceId)
-                .bind(1, OutboxStatus.IN_PROGRESS.name())
-                .bind(2, InstantDateTimeBridge.toLocalDateTime(now))
-                .bind(3, InstantDateTimeBridge.toLocalDateTime(now))
-                .fetch()
-                .rowsUpdated();
+    private MessageOutboxEntity withPartitionKey(MessageOutboxEntity entity) {
+        return entity.toBuilder()
+                .partitionKey(outboxPartitioner.partitionOf(entity.getAggregateId()))
+                .build();
+    }
+
+    //
+    private static MessageOutboxEntity toEntity(Row row) {
+        return MessageOutboxEntity.builder()
+                .outboxId(row.get("outbox_id", String.class))
+                .aggregateId(row.get("aggregate_id", String.class))
+                .payload(row.get("payload", String.class))
+                .status(row.get("status", String.class))
+                .processedAt(row.get("processed_at", LocalDateTime.class))
+                .retryAttempts(row.get("retry_attempts", Integer.class))
+                .nextRetryAt(row.get("next_retry_at", LocalDateTime.class))
+                .partitionKey(row.get("partition_key", Integer.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .build();
+    }
+
+    @Override
+    public Mono<Long> releaseClaimed(Collection<OutboxId> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Mono.just(0L);
+        }
+
+        return CLAIM_QUERY.release(databaseClient, outboxInstanceId.value(),
+                ids.stream().map(OutboxId::value).toList());
     }
 
     @Override
-    public Mono<Long> cleanUpInProgressOutboxs(Instant before) {
-        String updateQuery = """
-                UPDATE message_outbox
-                SET status = ?, instance_id = NULL
-                WHERE status = 'IN_PROGRESS'
-                    AND instance_id IS NOT NULL
-                    AND processed_at < ?;
-                """;
-
-        return databaseClient.sql(updateQuery)
-                .bind(0, OutboxStatus.PENDING.name())
-                .bind(1, InstantDateTimeBridge.toLocalDateTime(before))
-                .fetch()
-                .rowsUpdated();
+    public Mono<Long> releaseAllClaimed() {
+        return CLAIM_QUERY.releaseAll(databaseClient, outboxInstanceId.value());
     }
+
+    @Override
+    public Mono<Long> releaseClaimsOfExpiredInstances(Duration leaseTimeout, Duration maxClaimAge) {
+        return CLAIM_QUERY.releaseExpired(databaseClient, leaseTimeout, maxClaimAge);
+    }
+
 }
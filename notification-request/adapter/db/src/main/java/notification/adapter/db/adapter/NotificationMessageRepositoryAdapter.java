@@ -1,21 +1,61 @@
 package notification.adapter.db.adapter;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
 import org.springframework.stereotype.Repository;
 
 import lombok.RequiredArgsConstructor;
+import notification.adapter.db.NotificationMessageEntity;
 import notification.adapter.db.mapper.NotificationMessageEntityMapper;
 import notification.adapter.db.repository.R2dbcNotificationMessageRepository;
+import notification.adapter.db.support.BulkInsertQuery;
+import notification.adapter.db.support.BulkInsertQuery.Column;
 import notification.application.notifiation.port.outbound.persistence.NotificationMessageRepositoryPort;
+import notification.definition.utils.InstantDateTimeBridge;
 import notification.domain.NotificationMessage;
+import notification.domain.enums.DeliveryStatus;
 import notification.domain.vo.NotificationMessageId;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Repository
 @RequiredArgsConstructor
 public class NotificationMessageRepositoryAdapter implements NotificationMessageRepositoryPort {
 
+    private static final BulkInsertQuery<NotificationMessageEntity> BULK_INSERT = new BulkInsertQuery<>(
+            "notification_message",
+            List.of(
+                    new Column<>("message_id", String.class, NotificationMessageEntity::getMessageId),
+                    new Column<>("request_id", String.class, NotificationMessageEntity::getRequestId),
+                    new Column<>("notification_type", String.class, NotificationMessageEntity::getNotificationType),
+                    new Column<>("user_id", String.class, NotificationMessageEntity::getUserId),
+                    new Column<>("phone_number", String.class, NotificationMessageEntity::getPhoneNumber),
+                    new Column<>("email", String.class, NotificationMessageEntity::getEmail),
+                    new Column<>("device_token", String.class, NotificationMessageEntity::getDeviceToken),
+                    new Column<>("language", String.class, NotificationMessageEntity::getLanguage),
+                    new Column<>("sender_id", String.class, NotificationMessageEntity::getSenderId),
+                    new Column<>("sender_phone_number", String.class, NotificationMessageEntity::getSenderPhoneNumber),
+                    new Column<>("sender_email_address", String.class, NotificationMessageEntity::getSenderEmailAddress),
+                    new Column<>("sender_name", String.class, NotificationMessageEntity::getSenderName),
+                    new Column<>("title", String.class, NotificationMessageEntity::getTitle),
+                    new Column<>("body", String.class, NotificationMessageEntity::getBody),
+                    new Column<>("redirect_url", String.class, NotificationMessageEntity::getRedirectUrl),
+                    new Column<>("image_url", String.class, NotificationMessageEntity::getImageUrl),
+                    new Column<>("delivery_status", String.class, NotificationMessageEntity::getDeliveryStatus),
+                    new Column<>("scheduled_at", LocalDateTime.class, NotificationMessageEntity::getScheduledAt),
+                    new Column<>("dispatched_at", LocalDateTime.class, NotificationMessageEntity::getDispatchedAt),
+                    new Column<>("failure_reason", String.class, NotificationMessageEntity::getFailureReason),
+                    new Column<>("created_at", LocalDateTime.class, NotificationMessageEntity::getCreatedAt)));
+
     private final NotificationMessageEntityMapper mapper;
     private final R2dbcNotificationMessageRepository messageRepository;
+    private final DatabaseClient databaseClient;
 
     @Override
     public Mono<NotificationMessage> save(NotificationMessage domain) {
@@ -24,6 +64,75 @@ public class NotificationMessageRepositoryAdapter implements NotificationMessage
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public Flux<NotificationMessage> insertAll(List<NotificationMessage> domains) {
+        if (domains == null || domains.isEmpty()) {
+            return Flux.empty();
+        }
+
+        return Mono.fromCallable(() -> {
+            LocalDateTime now = InstantDateTimeBridge.toLocalDateTime(Instant.now());
+            return domains.stream()
+                    .map(mapper::toEntity)
+                    .map(entity -> entity.getCreatedAt() != null ? entity
+                            : entity.toBuilder().createdAt(now).build())
+                    .toList();
+        }).flatMapMany(entities -> BULK_INSERT.execute(databaseClient, entities)
+                .thenMany(Flux.fromIterable(entities)))
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public Mono<Boolean> updateStatus(NotificationMessageId id, DeliveryStatus expectedStatus,
+            DeliveryStatus newStatus, Instant dispatchedAt, String failureReason) {
+        GenericExecuteSpec spec = databaseClient.sql("""
+                UPDATE notification_message
+                SET delivery_status = :newStatus, dispatched_at = :dispatchedAt, failure_reason = :failureReason
+                WHERE message_id = :messageId AND delivery_status = :expectedStatus
+                """)
+                .bind("newStatus", newStatus.name())
+                .bind("messageId", id.value())
+                .bind("expectedStatus", expectedStatus.name());
+        spec = dispatchedAt == null ? spec.bindNull("dispatchedAt", LocalDateTime.class)
+                : spec.bind("dispatchedAt", InstantDateTimeBridge.toLocalDateTime(dispatchedAt));
+        spec = failureReason == null ? spec.bindNull("failureReason", String.class)
+                : spec.bind("failureReason", failureReason);
+
+        return spec.fetch().rowsUpdated().map(updated -> updated > 0);
+    }
+
+    @Override
+    public Mono<Long> updateStatusAll(Map<NotificationMessageId, Instant> dispatchedAtById,
+            DeliveryStatus expectedStatus, DeliveryStatus newStatus) {
+        if (dispatchedAtById == null || dispatchedAtById.isEmpty()) {
+            return Mono.just(0L);
+        }
+
+        // 메시지별 발행 시각은 CASE 식으로 한 번의 UPDATE에 담음
+        List<Map.Entry<NotificationMessageId, Instant>> entries = List.copyOf(dispatchedAtById.entrySet());
+        StringJoiner whens = new StringJoiner(" ");
+        for (int i = 0; i < entries.size(); i++) {
+            whens.add("WHEN :messageId" + i + " THEN :dispatchedAt" + i);
+        }
+
+        GenericExecuteSpec spec = databaseClient.sql("""
+                UPDATE notification_message
+                SET delivery_status = :newStatus, dispatched_at = CASE message_id %s END
+                WHERE message_id IN (:messageIds) AND delivery_status = :expectedStatus
+                """.formatted(whens))
+                .bind("newStatus", newStatus.name())
+                .bind("messageIds", entries.stream().map(entry -> entry.getKey().value()).toList())
+                .bind("expectedStatus", expectedStatus.name());
+        for (int i = 0; i < entries.size(); i++) {
+            Instant dispatchedAt = entries.get(i).getValue();
+            spec = spec.bind("messageId" + i, entries.get(i).getKey().value());
+            spec = dispatchedAt == null ? spec.bindNull("dispatchedAt" + i, LocalDateTime.class)
+                    : spec.bind("dispatchedAt" + i, InstantDateTimeBridge.toLocalDateTime(dispatchedAt));
+        }
+
+        return spec.fetch().rowsUpdated();
+    }
+
     @Override
     public Mono<NotificationMessage> findById(NotificationMessageId id) {
         return messageRepository.findById(id.value())
@@ -1,13 +1,25 @@
 package notification.adapter.db.adapter;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Persistable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
 import org.springframework.stereotype.Repository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import notification.adapter.db.NotificationRequestContentEntity;
 import notification.adapter.db.NotificationRequestEntity;
+import notification.adapter.db.NotificationRequestRecipientEntity;
+import notification.adapter.db.NotificationRequestSenderEntity;
 import notification.adapter.db.NotificationRequestTemplateInfoEntity;
 import notification.adapter.db.mapper.NotificationRequestEntityMapper;
 import notification.adapter.db.repository.R2dbcNotificationRequestContentRepository;
@@ -15,10 +27,16 @@ import notification.adapter.db.repository.R2dbcNotificationRequestRecipientRepos
 import notification.adapter.db.repository.R2dbcNotificationRequestRepository;
 import notification.adapter.db.repository.R2dbcNotificationRequestSenderRepository;
 import notification.adapter.db.repository.R2dbcNotificationRequestTemplateInfoRepository;
+import notification.adapter.db.support.BulkInsertQuery;
+import notification.adapter.db.support.BulkInsertQuery.Column;
+import notification.application.notifiation.dto.FanOutCursor;
 import notification.application.notifiation.port.outbound.persistence.NotificationRequestRepositoryPort;
 import notification.definition.exceptions.DataNotFoundException;
+import notification.definition.utils.InstantDateTimeBridge;
 import notification.domain.NotificationRequest;
+import notification.domain.enums.RequestStatus;
 import notification.domain.vo.NotificationRequestId;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Slf4j
@@ -26,6 +44,29 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class NotificationRequestRepositoryAdapter implements NotificationRequestRepositoryPort {
 
+    private static final BulkInsertQuery<NotificationRequestRecipientEntity> RECIPIENT_BULK_INSERT = new BulkInsertQuery<>(
+            "notification_request_recipient",
+            List.of(
+                    new Column<>("recipient_id", String.class, NotificationRequestRecipientEntity::getRecipientId),
+                    new Column<>("request_id", String.class, NotificationRequestRecipientEntity::getRequestId),
+                    new Column<>("recipient_type", String.class, NotificationRequestRecipientEntity::getRecipientType),
+                    new Column<>("user_id", String.class, NotificationRequestRecipientEntity::getUserId),
+                    new Column<>("email_address", String.class, NotificationRequestRecipientEntity::getEmailAddress),
+                    new Column<>("phone_number", String.class, NotificationRequestRecipientEntity::getPhoneNumber),
+                    new Column<>("segment_name", String.class, NotificationRequestRecipientEntity::getSegmentName),
+                    new Column<>("device_token", String.class, NotificationRequestRecipientEntity::getDeviceToken),
+                    new Column<>("parameters", String.class, NotificationRequestRecipientEntity::getParameters)));
+
+    private static final BulkInsertQuery<NotificationRequestSenderEntity> SENDER_BULK_INSERT = new BulkInsertQuery<>(
+            "notification_request_sender",
+            List.of(
+                    new Column<>("sender_id", String.class, NotificationRequestSenderEntity::getSenderId),
+                    new Column<>("request_id", String.class, NotificationRequestSenderEntity::getRequestId),
+                    new Column<>("notification_type", String.class, NotificationRequestSenderEntity::getNotificationType),
+                    new Column<>("sender_name", String.class, NotificationRequestSenderEntity::getSenderName),
+                    new Column<>("sender_email", String.class, NotificationRequestSenderEntity::getSenderEmail),
+                    new Column<>("sender_phone", String.class, NotificationRequestSenderEntity::getSenderPhone)));
+
     private final NotificationRequestEntityMapper mapper;
 
     private final R2dbcNotificationRequestRepository requestRepository;
@@ -33,9 +74,17 @@ public class NotificationRequestRepositoryAdapter implements NotificationRequest
     private final R2dbcNotificationRequestSenderRepository senderRepository;
     private final R2dbcNotificationRequestContentRepository contentRepository;
     private final R2dbcNotificationRequestTemplateInfoRepository templateInfoRepository;
+    private final DatabaseClient databaseClient;
+
+    @Value("${app.notification.request.insert-chunk-size:1000}")
+    private int insertChunkSize = 1000;
 
     /**
      * NotificationRequest를 저장합니다.
+     * 요청 행을 먼저 저장한 뒤, 서로 독립적인 하위 행(컨텐츠, 템플릿 정보, 수신자, 발신자)을
+     * 같은 트랜잭션 안에서 동시에 저장합니다 (MariaDB R2DBC 드라이버가 한 커넥션의 명령을 파이프라이닝).
+     * 하위 행은 불변이므로 이미 저장된 행(ID가 있는 행)은 다시 쓰지 않고, 새 행만 다중 행 INSERT로 저장합니다.
+     * 따라서 상태 전이(markAsProcessing / markAsDispatched) 저장은 요청 행 UPDATE 한 번으로 끝납니다.
      * 
      * @param domain 저장할 NotificationRequest 도메인 객체
      * @return 저장된 NotificationRequest 도메인 객체
@@ -44,15 +93,12 @@ public class NotificationRequestRepositoryAdapter implements NotificationRequest
     public Mono<NotificationRequest> save(NotificationRequest domain) {
         return Mono.fromCallable(() -> mapper.toEntity(domain))
                 .flatMap(requestRepository::save)
-                .flatMap(savedEntity -> {
-
-                    // 모든 Mono들을 flatMap으로 연결하여 savedEntity를 계속 전달
-                    return saveContent(domain, savedEntity)
-                            .flatMap(entity -> saveTemplateInfo(domain, entity))
-                            .flatMap(entity -> saveRecipients(domain, entity))
-                            .flatMap(entity -> saveSenders(domain, entity))
-                            .map(mapper::toDomain);
-                });
+                .flatMap(savedEntity -> Mono.when(
+                        saveContent(domain, savedEntity),
+                        saveTemplateInfo(domain, savedEntity),
+                        saveRecipients(domain, savedEntity),
+                        saveSenders(domain, savedEntity))
+                        .then(Mono.fromCallable(() -> mapper.toDomain(savedEntity))));
     }
 
     /**
@@ -68,7 +114,9 @@ public class NotificationRequestRepositoryAdapter implements NotificationRequest
             return Mono.just(entity);
 
         return Mono.fromCallable(() -> mapper.toContentEntity(domain, entity.getRequestId()))
-                .flatMap(contentRepository::save)
+                .flatMap(contentEntity -> contentEntity.isNew()
+                        ? contentRepository.save(contentEntity)
+                        : Mono.just(contentEntity)) // 이미 저장된 컨텐츠는 다시 쓰지 않음
                 .map(contentEntity -> {
                     entity.setContent(contentEntity);
                     return entity;
@@ -88,7 +136,9 @@ public class NotificationRequestRepositoryAdapter implements NotificationRequest
             return Mono.just(savedEntity);
 
         return Mono.fromCallable(() -> mapper.toTemplateInfoEntity(domain, savedEntity.getRequestId()))
-                .flatMap(templateInfoRepository::save)
+                .flatMap(templateInfoEntity -> templateInfoEntity.isNew()
+                        ? templateInfoRepository.save(templateInfoEntity)
+                        : Mono.just(templateInfoEntity)) // 이미 저장된 템플릿 정보는 다시 쓰지 않음
                 .map(templateInfoEntity -> {
                     savedEntity.setTemplateInfo(templateInfoEntity);
                     return savedEntity;
@@ -96,7 +146,7 @@ public class NotificationRequestRepositoryAdapter implements NotificationRequest
     }
 
     /**
-     * 수신자 저장
+     * 수신자 저장 (새 수신자만 다중 행 INSERT)
      * 
      * @param domain
      * @param savedEntity
@@ -106,16 +156,15 @@ public class NotificationRequestRepositoryAdapter implements NotificationRequest
             NotificationRequest domain, NotificationRequestEntity savedEntity) {
 
         return Mono.fromCallable(() -> mapper.toRecipientEntities(domain, savedEntity.getRequestId()))
-                .flatMapMany(recipientRepository::saveAll)
-                .collectList()
-                .flatMap(recipients -> {
+                .flatMap(recipients -> insertNew(RECIPIENT_BULK_INSERT, recipients).thenReturn(recipients))
+                .map(recipients -> {
                     savedEntity.setRecipients(recipients);
-                    return Mono.just(savedEntity);
+                    return savedEntity;
                 });
     }
 
     /**
-     * 발신자 저장
+     * 발신자 저장 (새 발신자만 다중 행 INSERT)
      * 
      * @param domain
      * @param savedEntity
@@ -125,14 +174,90 @@ public class NotificationRequestRepositoryAdapter implements NotificationRequest
             NotificationRequest domain, NotificationRequestEntity savedEntity) {
 
         return Mono.fromCallable(() -> mapper.toSenderEntities(domain, savedEntity.getRequestId()))
-                .flatMapMany(senderRepository::saveAll)
-                .collectList()
-                .flatMap(senders -> {
+                .flatMap(senders -> insertNew(SENDER_BULK_INSERT, senders).thenReturn(senders))
+                .map(senders -> {
                     savedEntity.setSenders(senders);
-                    return Mono.just(savedEntity);
+                    return savedEntity;
                 });
     }
 
+    /**
+     * 새 엔티티만 골라 chunk 단위 다중 행 INSERT로 저장합니다.
+     *
+     * @return 저장된 행 수
+     */
+    private <T extends Persistable<String>> Mono<Long> insertNew(BulkInsertQuery<T> query, List<T> entities) {
+        List<T> newEntities = entities.stream().filter(Persistable::isNew).toList();
+
+        return Flux.fromIterable(newEntities)
+                .buffer(insertChunkSize)
+                .concatMap(chunk -> query.execute(databaseClient, chunk))
+                .reduce(0L, Long::sum);
+    }
+
+    /**
+     * 상태 컬럼만 조건부 UPDATE 한 번으로 변경합니다.
+     * 현재 상태가 expectedStatus일 때만 변경되므로, 동시에 다른 처리가 상태를 바꾼 경우 false를 반환합니다.
+     */
+    @Override
+    public Mono<Boolean> updateStatus(NotificationRequestId id, RequestStatus expectedStatus,
+            RequestStatus newStatus, Instant processedAt, String failureReason) {
+        GenericExecuteSpec spec = databaseClient.sql("""
+                UPDATE notification_request
+                SET status = :newStatus, processed_at = :processedAt, failure_reason = :failureReason
+                WHERE request_id = :requestId AND status = :expectedStatus
+                """)
+                .bind("newStatus", newStatus.name())
+                .bind("requestId", id.value())
+                .bind("expectedStatus", expectedStatus.name());
+        spec = processedAt == null ? spec.bindNull("processedAt", LocalDateTime.class)
+                : spec.bind("processedAt", InstantDateTimeBridge.toLocalDateTime(processedAt));
+        spec = failureReason == null ? spec.bindNull("failureReason", String.class)
+                : spec.bind("failureReason", failureReason);
+
+        return spec.fetch().rowsUpdated().map(updated -> updated > 0);
+    }
+
+    @Override
+    public Mono<FanOutCursor> findFanOutCursor(NotificationRequestId id) {
+        return databaseClient.sql("""
+                SELECT fan_out_recipient_id, fan_out_user_id FROM notification_request WHERE request_id = :requestId
+                """)
+                .bind("requestId", id.value())
+                .map(row -> new FanOutCursor(
+                        row.get("fan_out_recipient_id", String.class),
+                        row.get("fan_out_user_id", String.class)))
+                .one()
+                .defaultIfEmpty(FanOutCursor.start());
+    }
+
+    /**
+     * 커서 컬럼은 NULL일 수 있으므로 NULL-safe 비교(<=>)로 현재 커서를 확인합니다.
+     */
+    @Override
+    public Mono<Boolean> advanceFanOutCursor(NotificationRequestId id, FanOutCursor expectedCursor,
+            FanOutCursor newCursor) {
+        GenericExecuteSpec spec = databaseClient.sql("""
+                UPDATE notification_request
+                SET fan_out_recipient_id = :newRecipientId, fan_out_user_id = :newUserId
+                WHERE request_id = :requestId AND status = :status
+                    AND fan_out_recipient_id <=> :expectedRecipientId AND fan_out_user_id <=> :expectedUserId
+                """)
+                .bind("requestId", id.value())
+                .bind("status", RequestStatus.PROCESSING.name());
+        spec = bindNullable(spec, "newRecipientId", newCursor.recipientId());
+        spec = bindNullable(spec, "newUserId", newCursor.userId());
+        spec = bindNullable(spec, "expectedRecipientId", expectedCursor.recipientId());
+        spec = bindNullable(spec, "expectedUserId", expectedCursor.userId());
+
+        return spec.fetch().rowsUpdated().map(updated -> updated > 0);
+    }
+
+    //
+    private GenericExecuteSpec bindNullable(GenericExecuteSpec spec, String name, String value) {
+        return value == null ? spec.bindNull(name, String.class) : spec.bind(name, value);
+    }
+
     @Override
     public Mono<NotificationRequest> findById(NotificationRequestId id) {
         var recipientsMono = recipientRepository.findByRequestId(id.value()).collectList()
@@ -167,4 +292,62 @@ public class NotificationRequestRepositoryAdapter implements NotificationRequest
         });
     }
 
+    /**
+     * 여러 NotificationRequest를 한 번에 조회합니다.
+     * 요청 N건에 대해 5×N번 왕복하는 대신, 테이블마다 IN 쿼리 한 번씩(총 5번)으로 조회한 뒤
+     * 메모리에서 애그리거트를 조립합니다.
+     * 컨텐츠와 템플릿 정보가 모두 없는 요청은 findById와 달리 예외 대신 건너뜁니다.
+     *
+     * @param ids 조회할 요청 ID 목록
+     * @return 조회된 NotificationRequest Flux (순서 보장 안 함)
+     */
+    @Override
+    public Flux<NotificationRequest> findAllByIds(Collection<NotificationRequestId> ids) {
+        List<String> requestIds = ids.stream().map(NotificationRequestId::value).distinct().toList();
+        if (requestIds.isEmpty()) {
+            return Flux.empty();
+        }
+
+        var requestsMono = requestRepository.findAllById(requestIds).collectList();
+        var recipientsMono = recipientRepository.findByRequestIdIn(requestIds)
+                .collect(Collectors.groupingBy(NotificationRequestRecipientEntity::getRequestId));
+        var sendersMono = senderRepository.findByRequestIdIn(requestIds)
+                .collect(Collectors.groupingBy(NotificationRequestSenderEntity::getRequestId));
+        var contentsMono = contentRepository.findByRequestIdIn(requestIds)
+                .collectMap(NotificationRequestContentEntity::getRequestId, Function.identity());
+        var templatesMono = templateInfoRepository.findByRequestIdIn(requestIds)
+                .collectMap(NotificationRequestTemplateInfoEntity::getRequestId, Function.identity());
+
+        return Mono.zip(requestsMono, recipientsMono, sendersMono, contentsMono, templatesMono)
+                .flatMapMany(tuple -> Flux.fromIterable(tuple.getT1())
+                        .filter(entity -> assemble(entity, tuple.getT2(), tuple.getT3(), tuple.getT4(),
+                                tuple.getT5()))
+                        .map(mapper::toDomain));
+    }
+
+    /**
+     * 일괄 조회한 하위 엔티티를 요청 엔티티에 연결합니다.
+     *
+     * @return 애그리거트를 조립할 수 있으면 true
+     */
+    private boolean assemble(NotificationRequestEntity entity,
+            Map<String, List<NotificationRequestRecipientEntity>> recipients,
+            Map<String, List<NotificationRequestSenderEntity>> senders,
+            Map<String, NotificationRequestContentEntity> contents,
+            Map<String, NotificationRequestTemplateInfoEntity> templates) {
+        String requestId = entity.getRequestId();
+        NotificationRequestContentEntity content = contents.get(requestId);
+        NotificationRequestTemplateInfoEntity templateInfo = templates.get(requestId);
+        if (content == null && templateInfo == null) {
+            log.error("Content or TemplateInfo not found for NotificationRequest with ID: {}", requestId);
+            return false;
+        }
+
+        entity.setRecipients(recipients.getOrDefault(requestId, List.of()));
+        entity.setSenders(senders.getOrDefault(requestId, List.of()));
+        entity.setContent(content != null ? content : new NotificationRequestContentEntity());
+        entity.setTemplateInfo(templateInfo != null ? templateInfo : new NotificationRequestTemplateInfoEntity());
+        return true;
+    }
+
 }
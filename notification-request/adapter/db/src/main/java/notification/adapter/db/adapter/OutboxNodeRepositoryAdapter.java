@@ -0,0 +1,80 @@
+package notification.adapter.db.adapter;
+
+import java.time.Duration;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import notification.adapter.db.config.OutboxInstanceId;
+import notification.application.outbox.port.outbound.OutboxNodeRepositoryPort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+@RequiredArgsConstructor
+public class OutboxNodeRepositoryAdapter implements OutboxNodeRepositoryPort {
+
+    private final DatabaseClient databaseClient;
+    private final OutboxInstanceId outboxInstanceId;
+
+    /**
+     * 인스턴스마다 시계가 다를 수 있으므로 Heartbeat 시각은 DB 시계(UTC)로 기록하고,
+     * 만료 판단도 같은 DB 시계 기준으로 합니다.
+     */
+    @Override
+    public Mono<Void> heartbeat() {
+        String upsertQuery = """
+                INSERT INTO outbox_node (instance_id, started_at, heartbeat_at)
+                VALUES (?, UTC_TIMESTAMP(3), UTC_TIMESTAMP(3))
+                ON DUPLICATE KEY UPDATE heartbeat_at = VALUES(heartbeat_at)
+                """;
+
+        return databaseClient.sql(upsertQuery)
+                .bind(0, outboxInstanceId.value())
+                .fetch()
+                .rowsUpdated()
+                .then();
+    }
+
+    @Override
+    public Mono<Void> deregister() {
+        return databaseClient.sql("DELETE FROM outbox_node WHERE instance_id = ?")
+                .bind(0, outboxInstanceId.value())
+                .fetch()
+                .rowsUpdated()
+                .then();
+    }
+
+    @Override
+    public Mono<Long> deleteExpired(Duration leaseTimeout) {
+        String deleteQuery = """
+                DELETE FROM outbox_node
+                WHERE heartbeat_at < UTC_TIMESTAMP(3) - INTERVAL ? MICROSECOND
+                """;
+
+        return databaseClient.sql(deleteQuery)
+                .bind(0, leaseTimeout.toNanos() / 1_000)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    @Override
+    public Flux<String> findLiveInstanceIds(Duration leaseTimeout) {
+        String selectQuery = """
+                SELECT instance_id FROM outbox_node
+                WHERE heartbeat_at >= UTC_TIMESTAMP(3) - INTERVAL ? MICROSECOND
+                """;
+
+        return databaseClient.sql(selectQuery)
+                .bind(0, leaseTimeout.toNanos() / 1_000)
+                .map((row, metadata) -> row.get("instance_id", String.class))
+                .all();
+    }
+
+    @Override
+    public String instanceId() {
+        return outboxInstanceId.value();
+    }
+
+}
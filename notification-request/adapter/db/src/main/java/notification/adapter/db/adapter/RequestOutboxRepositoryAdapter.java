@@ -1,19 +1,28 @@
 package notification.adapter.db.adapter;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.reactive.TransactionalOperator;
 
+import io.r2dbc.spi.Row;
 import lombok.RequiredArgsConstructor;
 import notification.adapter.db.RequestOutboxEntity;
+import notification.adapter.db.config.OutboxClaimStrategy;
+import notification.adapter.db.config.OutboxInstanceId;
+import notification.adapter.db.config.OutboxPartitioner;
 import notification.adapter.db.repository.R2dbcRequestOutboxRepository;
+import notification.adapter.db.support.OutboxClaimQuery;
 import notification.application.outbox.port.outbound.RequestOutboxRepositoryPort;
 import notification.definition.enums.OutboxStatus;
-import notification.definition.utils.InstantDateTimeBridge;
 import notification.definition.vo.outbox.OutboxId;
 import notification.definition.vo.outbox.RequestOutbox;
 import reactor.core.publisher.Flux;
@@ -23,13 +32,21 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class RequestOutboxRepositoryAdapter implements RequestOutboxRepositoryPort {
 
+    private static final OutboxClaimQuery<RequestOutboxEntity> CLAIM_QUERY = new OutboxClaimQuery<>(
+            "request_outbox", RequestOutboxRepositoryAdapter::toEntity);
+
     private final R2dbcRequestOutboxRepository r2dbcRequestOutboxRepository;
     private final TransactionalOperator transactionalOperator;
     private final DatabaseClient databaseClient;
+    private final OutboxInstanceId outboxInstanceId;
+    private final OutboxPartitioner outboxPartitioner;
+
+    @Value("${app.outbox.claim-strategy:UPDATE_THEN_SELECT}")
+    private OutboxClaimStrategy claimStrategy = OutboxClaimStrategy.UPDATE_THEN_SELECT;
 
     @Override
     public Mono<RequestOutbox> save(RequestOutbox domain) {
-        return r2dbcRequestOutboxRepository.save(RequestOutboxEntity.fromDomain(domain))
+        return r2dbcRequestOutboxRepository.save(withPartitionKey(RequestOutboxEntity.fromDomain(domain)))
                 .map(RequestOutboxEntity::toDomain);
     }
 
@@ -50,83 +67,103 @@ public class RequestOutboxRepositoryAdapter implements RequestOutboxRepositoryPo
     }
 
     @Override
-    public Flux<RequestOutbox> fetchOutboxToProcess(Instant now, int limit) {
-        String instanceId = UUID.randomUUID().toString(); // 현재 인스턴스 ID로 설정
+    public Flux<RequestOutbox> fetchOutboxToProcess(Instant now, int limit, Set<Integer> partitions) {
+        String claimId = UUID.randomUUID().toString(); // 이번 할당 요청 ID (instance_id는 인스턴스 고정 ID)
+
+        if (claimStrategy == OutboxClaimStrategy.SKIP_LOCKED) {
+            return claimWithSkipLocked(now, limit, partitions, claimId);
+        }
 
-        return transactionalOperator.transactional(updateOutboxForLock(now, limit, instanceId))
-                .thenMany(Flux.defer(() -> selectLockedOutbox(instanceId, limit)));
+        return transactionalOperator.transactional(CLAIM_QUERY.claim(databaseClient, outboxInstanceId.value(),
+                claimId, now, limit, partitions))
+                .thenMany(Flux.defer(() -> CLAIM_QUERY.selectClaimed(databaseClient, claimId, limit)))
+                .map(RequestOutboxEntity::toDomain);
     }
 
-    //
-    private Flux<RequestOutbox> selectLockedOutbox(String instanceId, int limit) {
-        String query = """
-                SELECT * FROM request_outbox
-                WHERE instance_id = ?
-                ORDER BY created_at ASC
-                LIMIT %d
-                """.formatted(limit);
-
-        return databaseClient.sql(query)
-                .bind(0, instanceId)
-                .map((row, metadata) -> {
-                    return RequestOutboxEntity.builder()
-                            .outboxId(row.get("outbox_id", String.class))
-                            .aggregateId(row.get("aggregate_id", String.class))
-                            .payload(row.get("payload", String.class))
-                            .status(row.get("status", String.class))
-                            .processedAt(row.get("processed_at", LocalDateTime.class))
-                            .retryAttempts(row.get("retry_attempts", Integer.class))
-                            .nextRetryAt(row.get("next_retry_at", LocalDateTime.class))
-                            .createdAt(row.get("created_at", LocalDateTime.class))
-                            .build();
+    /**
+     * SELECT ... FOR UPDATE SKIP LOCKED로 처리 대상 행을 잠그고,
+     * 같은 트랜잭션에서 잠근 행만 IN_PROGRESS로 변경합니다.
+     * 다른 인스턴스가 잠근 행은 대기 없이 건너뛰며, 재조회 없이 잠근 결과를 그대로 반환합니다.
+     */
+    private Flux<RequestOutbox> claimWithSkipLocked(Instant now, int limit, Set<Integer> partitions,
+            String claimId) {
+        Flux<RequestOutbox> claimed = CLAIM_QUERY.lockForClaim(databaseClient, now, limit, partitions)
+                .collectList()
+                .flatMapMany(lockedRows -> {
+                    if (lockedRows.isEmpty()) {
+                        return Flux.empty();
+                    }
+
+                    LocalDateTime claimedAt = lockedRows.get(0).claimedAt(); // DB 시계로 읽은 할당 시각
+                    List<String> outboxIds = lockedRows.stream()
+                            .map(lockedRow -> lockedRow.entity().getOutboxId())
+                            .toList();
+                    return CLAIM_QUERY.markClaimed(databaseClient, outboxInstanceId.value(), claimId, outboxIds,
+                            claimedAt)
+                            .thenMany(Flux.fromIterable(lockedRows))
+                            .map(lockedRow -> toClaimedEntity(lockedRow.entity(), claimedAt));
                 })
-                .all()
-                .map(RequestOutboxEntity::toDomain)
-                .switchIfEmpty(Flux.empty());
+                .map(RequestOutboxEntity::toDomain);
+
+        return transactionalOperator.transactional(claimed);
+    }
+
+    //
+    private RequestOutboxEntity toClaimedEntity(RequestOutboxEntity entity, LocalDateTime processedAt) {
+        return RequestOutboxEntity.builder()
+                .outboxId(entity.getOutboxId())
+                .aggregateId(entity.getAggregateId())
+                .payload(entity.getPayload())
+                .status(OutboxStatus.IN_PROGRESS.name())
+                .processedAt(processedAt)
+                .retryAttempts(entity.getRetryAttempts())
+                .nextRetryAt(entity.getNextRetryAt())
+                .instanceId(outboxInstanceId.value())
+                .partitionKey(entity.getPartitionKey())
+                .createdAt(entity.getCreatedAt())
+                .build();
     }
 
     //
-    private Mono<Long> updateOutboxForLock(Instant now, int limit, String instanceId) {
-        String updateQuery = """
-                UPDATE request_outbox
-                SET instance_id = ?, status = ?, processed_at = ?
-                WHERE instance_id IS NULL
-                    AND outbox_id IN (
-                        SELECT outbox_id FROM (
-                        SELECT outbox_id FROM request_outbox
-                        WHERE status IN ('PENDING', 'FAILED')
-                            AND (next_retry_at IS NULL OR next_retry_at <= ?)
-                            AND instance_id IS NULL
-                        ORDER BY created_at ASC
-                        LIMIT %d
-                        ) AS subquery
-                    );
-                    """.formatted(limit);
-
-        return databaseClient.sql(updateQuery)
-                .bind(0, instanceId)
-                .bind(1, OutboxStatus.IN_PROGRESS.name())
-                .bind(2, InstantDateTimeBridge.toLocalDateTime(now))
-                .bind(3, InstantDateTimeBridge.toLocalDateTime(now))
-                .fetch()
-                .rowsUpdated();
+    private RequestOutboxEntity withPartitionKey(RequestOutboxEntity entity) {
+        return entity.toBuilder()
+                .partitionKey(outboxPartitioner.partitionOf(entity.getAggregateId()))
+                .build();
+    }
+
+    //
+    private static RequestOutboxEntity toEntity(Row row) {
+        return RequestOutboxEntity.builder()
+                .outboxId(row.get("outbox_id", String.class))
+                .aggregateId(row.get("aggregate_id", String.class))
+                .payload(row.get("payload", String.class))
+                .status(row.get("status", String.class))
+                .processedAt(row.get("processed_at", LocalDateTime.class))
+                .retryAttempts(row.get("retry_attempts", Integer.class))
+                .nextRetryAt(row.get("next_retry_at", LocalDateTime.class))
+                .partitionKey(row.get("partition_key", Integer.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .build();
+    }
+
+    @Override
+    public Mono<Long> releaseClaimed(Collection<OutboxId> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Mono.just(0L);
+        }
+
+        return CLAIM_QUERY.release(databaseClient, outboxInstanceId.value(),
+                ids.stream().map(OutboxId::value).toList());
+    }
+
+    @Override
+    public Mono<Long> releaseAllClaimed() {
+        return CLAIM_QUERY.releaseAll(databaseClient, outboxInstanceId.value());
     }
 
     @Override
-    public Mono<Long> cleanUpInProgressOutboxs(Instant before) {
-        String updateQuery = """
-                UPDATE request_outbox
-                SET status = ?, instance_id = NULL
-                WHERE status = 'IN_PROGRESS'
-                    AND instance_id IS NOT NULL
-                    AND processed_at < ?;
-                """;
-
-        return databaseClient.sql(updateQuery)
-                .bind(0, OutboxStatus.PENDING.name())
-                .bind(1, InstantDateTimeBridge.toLocalDateTime(before))
-                .fetch()
-                .rowsUpdated();
+    public Mono<Long> releaseClaimsOfExpiredInstances(Duration leaseTimeout, Duration maxClaimAge) {
+        return CLAIM_QUERY.releaseExpired(databaseClient, leaseTimeout, maxClaimAge);
     }
 
 }
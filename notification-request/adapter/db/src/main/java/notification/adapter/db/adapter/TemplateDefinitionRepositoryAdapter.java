@@ -0,0 +1,136 @@
+package notification.adapter.db.adapter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import notification.adapter.db.NotificationTemplateEntity;
+import notification.application.template.port.outbound.TemplateDefinitionProviderPort;
+import notification.definition.vo.TemplateDefinition;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * notification_template 테이블 기반 템플릿 저장소
+ * 
+ * 변경 알림은 updated_at 컬럼을 주기적으로 폴링하여 발행합니다.
+ * (비활성화도 updated_at을 갱신하므로 변경으로 감지됩니다.)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.template.provider", havingValue = "db")
+public class TemplateDefinitionRepositoryAdapter implements TemplateDefinitionProviderPort {
+
+    private static final String SELECT_COLUMNS = """
+            SELECT template_id, channel, language, title_template, body_template, active, updated_at
+            FROM notification_template
+            """;
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final DatabaseClient databaseClient;
+
+    @Value("${app.template.change-poll-interval-ms:5000}")
+    private long changePollIntervalMs = 5000;
+
+    @Override
+    public Mono<TemplateDefinition> getTemplateDefinition(String id, String type, String language) {
+        // 채널 전용 정의가 채널 공통('*') 정의보다 우선
+        String query = SELECT_COLUMNS + """
+                WHERE template_id = ? AND language = ? AND channel IN (?, ?) AND active = TRUE
+                ORDER BY CASE WHEN channel = ? THEN 0 ELSE 1 END
+                LIMIT 1
+                """;
+
+        return databaseClient.sql(query)
+                .bind(0, id)
+                .bind(1, language)
+                .bind(2, type)
+                .bind(3, NotificationTemplateEntity.ANY_CHANNEL)
+                .bind(4, type)
+                .map((row, metadata) -> toEntity(row))
+                .one()
+                .map(NotificationTemplateEntity::toDomain);
+    }
+
+    @Override
+    public Flux<TemplateDefinition> getActiveTemplateDefinitions() {
+        return databaseClient.sql(SELECT_COLUMNS + "WHERE active = TRUE")
+                .map((row, metadata) -> toEntity(row))
+                .all()
+                .map(NotificationTemplateEntity::toDomain);
+    }
+
+    @Override
+    public Flux<TemplateDefinition> getTemplateDefinitions(String id) {
+        return databaseClient.sql(SELECT_COLUMNS + "WHERE template_id = ? AND active = TRUE")
+                .bind(0, id)
+                .map((row, metadata) -> toEntity(row))
+                .all()
+                .map(NotificationTemplateEntity::toDomain);
+    }
+
+    /**
+     * 마지막으로 확인한 updated_at 이후 변경된 템플릿 ID를 주기적으로 조회합니다.
+     * 기준 시각은 DB 시각(MAX(updated_at))을 사용하여 애플리케이션과 DB 간 시계 차이의 영향을 받지 않습니다.
+     */
+    @Override
+    public Flux<String> templateChanges() {
+        return findLatestUpdatedAt()
+                .defaultIfEmpty(EPOCH)
+                .map(AtomicReference::new)
+                .flatMapMany(lastSeen -> Flux.interval(Duration.ofMillis(changePollIntervalMs))
+                        .onBackpressureDrop()
+                        .concatMap(tick -> findChangedSince(lastSeen)
+                                .onErrorResume(e -> {
+                                    log.warn("Failed to poll template changes: {}", e.getMessage());
+                                    return Flux.empty();
+                                })));
+    }
+
+    private Mono<LocalDateTime> findLatestUpdatedAt() {
+        return databaseClient.sql("SELECT MAX(updated_at) AS updated_at FROM notification_template")
+                .map((row, metadata) -> row.get("updated_at", LocalDateTime.class))
+                .one();
+    }
+
+    private Flux<String> findChangedSince(AtomicReference<LocalDateTime> lastSeen) {
+        String query = """
+                SELECT template_id, MAX(updated_at) AS updated_at
+                FROM notification_template
+                WHERE updated_at > ?
+                GROUP BY template_id
+                """;
+
+        return databaseClient.sql(query)
+                .bind(0, lastSeen.get())
+                .map((row, metadata) -> {
+                    LocalDateTime updatedAt = row.get("updated_at", LocalDateTime.class);
+                    lastSeen.accumulateAndGet(updatedAt, (a, b) -> a.isAfter(b) ? a : b);
+                    return row.get("template_id", String.class);
+                })
+                .all();
+    }
+
+    private NotificationTemplateEntity toEntity(Row row) {
+        return NotificationTemplateEntity.builder()
+                .templateId(row.get("template_id", String.class))
+                .channel(row.get("channel", String.class))
+                .language(row.get("language", String.class))
+                .titleTemplate(row.get("title_template", String.class))
+                .bodyTemplate(row.get("body_template", String.class))
+                .active(Boolean.TRUE.equals(row.get("active", Boolean.class)))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .build();
+    }
+
+}
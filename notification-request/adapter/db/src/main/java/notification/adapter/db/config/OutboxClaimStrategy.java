@@ -0,0 +1,20 @@
+package notification.adapter.db.config;
+
+/**
+ * Outbox 레코드를 인스턴스에 할당(Claim)하는 방식을 정의합니다.
+ * `app.outbox.claim-strategy` 설정으로 선택합니다.
+ */
+public enum OutboxClaimStrategy {
+
+    /**
+     * UPDATE ... LIMIT 서브쿼리로 instance_id를 마킹하고 커밋한 뒤,
+     * instance_id로 다시 SELECT 합니다. (기존 방식, MariaDB 10.5 이하 호환)
+     */
+    UPDATE_THEN_SELECT,
+
+    /**
+     * 하나의 트랜잭션에서 SELECT ... FOR UPDATE SKIP LOCKED로 행을 잠그고,
+     * 잠근 행만 UPDATE 합니다. 다른 인스턴스가 잠근 행은 건너뜁니다. (MariaDB 10.6+)
+     */
+    SKIP_LOCKED
+}
@@ -0,0 +1,33 @@
+package notification.adapter.db.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import notification.definition.utils.TimeOrderedIdGenerator;
+
+/**
+ * 이 인스턴스(프로세스)의 고정 식별자입니다.
+ *
+ * Outbox를 할당(Claim)할 때 instance_id로 기록되며, 종료 시 이 인스턴스가 할당했지만
+ * 처리하지 못한 Outbox를 일괄 해제하는 기준이 됩니다.
+ * `app.outbox.instance-id`로 지정하지 않으면 기동할 때마다 새로 생성합니다.
+ */
+@Component
+public class OutboxInstanceId {
+
+    private static final int MAX_LENGTH = 36; // instance_id 컬럼 길이
+
+    private final String value;
+
+    public OutboxInstanceId(@Value("${app.outbox.instance-id:}") String configured) {
+        this.value = configured == null || configured.isBlank() ? TimeOrderedIdGenerator.generate() : configured;
+        if (value.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException("app.outbox.instance-id must be at most " + MAX_LENGTH + " characters");
+        }
+    }
+
+    public String value() {
+        return value;
+    }
+
+}
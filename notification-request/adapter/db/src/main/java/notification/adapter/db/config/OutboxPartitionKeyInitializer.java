@@ -0,0 +1,86 @@
+package notification.adapter.db.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 기동 시 파티션 수 범위를 벗어난 Outbox의 partition_key를 다시 계산합니다.
+ *
+ * 기존 행의 partition_key는 V8 마이그레이션에서 파티션 수 16 기준으로 계산되었으므로,
+ * `app.outbox.partition.count`를 줄이면 partition_key >= count인 행은 어느 인스턴스의 담당 파티션에도 속하지 않아
+ * 영원히 조회되지 않습니다. 이런 행만 현재 파티션 수 기준(CRC32(aggregate_id) % count)으로 다시 계산합니다.
+ * 범위 안의 행은 그대로 두며, 이전 파티션 수로 계산되었더라도 담당 인스턴스가 있으므로 처리에는 문제가 없습니다.
+ */
+@Slf4j
+@Component
+public class OutboxPartitionKeyInitializer {
+
+    private static final List<String> OUTBOX_TABLES = List.of("request_outbox", "message_outbox");
+
+    private final DatabaseClient databaseClient;
+    private final int partitionCount;
+
+    @Value("${app.outbox.partition.repair-timeout-ms:30000}")
+    private long repairTimeoutMs = 30000;
+
+    public OutboxPartitionKeyInitializer(DatabaseClient databaseClient,
+            @Value("${app.outbox.partition.count:16}") int partitionCount) {
+        this.databaseClient = databaseClient;
+        this.partitionCount = partitionCount;
+    }
+
+    /**
+     * 애플리케이션 기동 시 범위를 벗어난 partition_key를 다시 계산합니다.
+     * 실패해도 기동은 계속하며, 해당 행은 다음 기동 시 다시 계산됩니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void repairOnStartup() {
+        try {
+            Long repaired = repairOutOfRangeKeys().block(Duration.ofMillis(repairTimeoutMs));
+            if (repaired != null && repaired > 0) {
+                log.warn("Recomputed partition_key of {} outboxes outside partition count {}.",
+                        repaired, partitionCount);
+            }
+        } catch (RuntimeException e) {
+            log.error("Error recomputing outbox partition keys for partition count {}: {}",
+                    partitionCount, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * partition_key >= 파티션 수인 요청 / 메시지 Outbox의 partition_key를 다시 계산합니다.
+     *
+     * @return 다시 계산된 Outbox 수
+     */
+    public Mono<Long> repairOutOfRangeKeys() {
+        return Flux.fromIterable(OUTBOX_TABLES)
+                .concatMap(this::repairOutOfRangeKeys)
+                .reduce(0L, Long::sum);
+    }
+
+    //
+    private Mono<Long> repairOutOfRangeKeys(String table) {
+        String updateQuery = """
+                UPDATE %s
+                SET partition_key = CRC32(aggregate_id) %% ?
+                WHERE partition_key >= ?
+                """.formatted(table);
+
+        return databaseClient.sql(updateQuery)
+                .bind(0, partitionCount)
+                .bind(1, partitionCount)
+                .fetch()
+                .rowsUpdated();
+    }
+
+}
@@ -0,0 +1,36 @@
+package notification.adapter.db.config;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Outbox의 partition_key를 계산합니다.
+ *
+ * partition_key = CRC32(aggregate_id) % `app.outbox.partition.count` 이며,
+ * MariaDB의 CRC32 함수와 같은 값이므로 파티션 수를 바꿀 때는
+ * `UPDATE ... SET partition_key = CRC32(aggregate_id) % N`으로 기존 행을 다시 계산할 수 있습니다.
+ * 범위를 벗어난 기존 행은 기동 시 {@link OutboxPartitionKeyInitializer}가 다시 계산합니다.
+ * 같은 집계의 Outbox는 항상 같은 파티션에 속합니다.
+ */
+@Component
+public class OutboxPartitioner {
+
+    private final int partitionCount;
+
+    public OutboxPartitioner(@Value("${app.outbox.partition.count:16}") int partitionCount) {
+        if (partitionCount <= 0) {
+            throw new IllegalArgumentException("app.outbox.partition.count must be positive");
+        }
+        this.partitionCount = partitionCount;
+    }
+
+    public int partitionOf(String aggregateId) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(aggregateId.getBytes(StandardCharsets.UTF_8));
+        return (int) (crc32.getValue() % partitionCount);
+    }
+
+}
@@ -80,13 +80,15 @@ public class NotificationRequestEntityMapper {
         return entities.stream().map(entity -> {
             switch (RecipientType.valueOf(entity.getRecipientType())) {
                 case USER:
-                    return new UserRecipient(entity.getRecipientId(), new UserId(entity.getUserId()));
+                    return new UserRecipient(entity.getRecipientId(), new UserId(entity.getUserId()),
+                            deserializeTemplateParameters(entity.getParameters()));
                 case DIRECT:
                     return new DirectRecipient(
                             entity.getRecipientId(),
                             entity.getPhoneNumber(),
                             entity.getEmailAddress(),
-                            entity.getDeviceToken());
+                            entity.getDeviceToken(),
+                            deserializeTemplateParameters(entity.getParameters()));
                 case ALL_USER:
                     return new AllUserRecipient(entity.getRecipientId());
                 case SEGMENT:
@@ -183,7 +185,7 @@ public class NotificationRequestEntityMapper {
 
         return domain.getRecipients().stream().map(recipient -> {
             var entity = NotificationRequestRecipientEntity.fromDomain(
-                    recipient, requestId, recipient.getId());
+                    recipient, requestId, recipient.getId(), serializeRecipientParameters(recipient));
 
             if (entity.getId() == null) {
                 entity.markAsNew();
@@ -307,6 +309,20 @@ public class NotificationRequestEntityMapper {
         }
     }
 
+    /**
+     * 수신자별 템플릿 파라미터를 JSON으로 직렬화 (파라미터가 없으면 null)
+     */
+    private String serializeRecipientParameters(RecipientReference recipient) {
+        Map<String, String> parameters = null;
+        if (recipient instanceof UserRecipient userRecipient) {
+            parameters = userRecipient.parameters();
+        } else if (recipient instanceof DirectRecipient directRecipient) {
+            parameters = directRecipient.parameters();
+        }
+
+        return parameters == null || parameters.isEmpty() ? null : serializeTemplateParameters(parameters);
+    }
+
     /**
      * JSON을 템플릿 매개변수 맵으로 역직렬화
      */
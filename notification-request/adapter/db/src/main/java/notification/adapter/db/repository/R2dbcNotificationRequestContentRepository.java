@@ -1,8 +1,11 @@
 package notification.adapter.db.repository;
 
+import java.util.Collection;
+
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 
 import notification.adapter.db.NotificationRequestContentEntity;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface R2dbcNotificationRequestContentRepository
@@ -16,4 +19,12 @@ public interface R2dbcNotificationRequestContentRepository
      */
     Mono<NotificationRequestContentEntity> findByRequestId(String requestId);
 
+    /**
+     * 여러 요청 ID의 NotificationRequestContent 일괄 조회
+     *
+     * @param requestIds 요청 ID 목록
+     * @return NotificationRequestContentEntity Flux
+     */
+    Flux<NotificationRequestContentEntity> findByRequestIdIn(Collection<String> requestIds);
+
 }
@@ -1,5 +1,7 @@
 package notification.adapter.db.repository;
 
+import java.util.Collection;
+
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 
 import notification.adapter.db.NotificationRequestRecipientEntity;
@@ -17,6 +19,11 @@ public interface R2dbcNotificationRequestRecipientRepository
      */
     Flux<NotificationRequestRecipientEntity> findByRequestId(String requestId);
 
+    /**
+     * 여러 요청 ID의 수신자 일괄 조회
+     */
+    Flux<NotificationRequestRecipientEntity> findByRequestIdIn(Collection<String> requestIds);
+
     /**
      * 요청 ID로 수신자 삭제
      */
@@ -1,5 +1,7 @@
 package notification.adapter.db.repository;
 
+import java.util.Collection;
+
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 
 import notification.adapter.db.NotificationRequestSenderEntity;
@@ -17,6 +19,11 @@ public interface R2dbcNotificationRequestSenderRepository
      */
     Flux<NotificationRequestSenderEntity> findByRequestId(String requestId);
 
+    /**
+     * 여러 요청 ID의 발신자 정보 일괄 조회
+     */
+    Flux<NotificationRequestSenderEntity> findByRequestIdIn(Collection<String> requestIds);
+
     /**
      * 요청 ID로 발신자 정보 삭제
      */
@@ -1,8 +1,11 @@
 package notification.adapter.db.repository;
 
+import java.util.Collection;
+
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 
 import notification.adapter.db.NotificationRequestTemplateInfoEntity;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface R2dbcNotificationRequestTemplateInfoRepository
@@ -13,4 +16,9 @@ public interface R2dbcNotificationRequestTemplateInfoRepository
      */
     Mono<NotificationRequestTemplateInfoEntity> findByRequestId(String requestId);
 
+    /**
+     * 여러 요청 ID의 NotificationRequestTemplateInfo 일괄 조회
+     */
+    Flux<NotificationRequestTemplateInfoEntity> findByRequestIdIn(Collection<String> requestIds);
+
 }
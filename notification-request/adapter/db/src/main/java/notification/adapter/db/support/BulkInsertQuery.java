@@ -0,0 +1,124 @@
+package notification.adapter.db.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 여러 행을 하나의 INSERT ... VALUES (...), (...) 문으로 저장하기 위한 쿼리 빌더입니다.
+ * 행마다 왕복하는 단건 save 대신, 한 번의 왕복으로 chunk 전체를 저장합니다.
+ *
+ * MariaDB는 한 문장에 바인딩할 수 있는 파라미터를 65,535개로 제한하므로,
+ * 행 수 × 컬럼 수가 이를 넘으면 여러 INSERT 문으로 나누어 순서대로 실행합니다.
+ *
+ * @param <T> 저장할 엔티티 타입
+ */
+public final class BulkInsertQuery<T> {
+
+    /**
+     * INSERT 대상 컬럼 정의입니다. null 값 바인딩 시 type이 사용됩니다.
+     */
+    public record Column<T>(String name, Class<?> type, Function<T, Object> extractor) {
+    }
+
+    /**
+     * MariaDB Prepared Statement 한 문장의 최대 파라미터 수입니다.
+     */
+    public static final int MAX_PLACEHOLDERS = 65_535;
+
+    private final String table;
+    private final List<Column<T>> columns;
+    private final int maxRowsPerStatement;
+
+    public BulkInsertQuery(String table, List<Column<T>> columns) {
+        if (columns == null || columns.isEmpty()) {
+            throw new IllegalArgumentException("columns must not be empty");
+        }
+        this.table = table;
+        this.columns = List.copyOf(columns);
+        this.maxRowsPerStatement = MAX_PLACEHOLDERS / this.columns.size();
+    }
+
+    /**
+     * 한 INSERT 문에 담을 수 있는 최대 행 수입니다.
+     */
+    public int maxRowsPerStatement() {
+        return maxRowsPerStatement;
+    }
+
+    /**
+     * 주어진 행들을 다중 행 INSERT 문으로 실행합니다.
+     * 파라미터 수 제한을 넘으면 maxRowsPerStatement 단위로 나누어 순서대로 실행합니다.
+     *
+     * @param databaseClient DatabaseClient
+     * @param rows           저장할 엔티티 목록
+     * @return 저장된 행 수
+     */
+    public Mono<Long> execute(DatabaseClient databaseClient, List<T> rows) {
+        if (rows == null || rows.isEmpty()) {
+            return Mono.just(0L);
+        }
+        if (rows.size() <= maxRowsPerStatement) {
+            return executeStatement(databaseClient, rows);
+        }
+
+        List<List<T>> statements = new ArrayList<>();
+        for (int from = 0; from < rows.size(); from += maxRowsPerStatement) {
+            statements.add(rows.subList(from, Math.min(from + maxRowsPerStatement, rows.size())));
+        }
+        return Flux.fromIterable(statements)
+                .concatMap(statementRows -> executeStatement(databaseClient, statementRows))
+                .reduce(0L, Long::sum);
+    }
+
+    //
+    private Mono<Long> executeStatement(DatabaseClient databaseClient, List<T> rows) {
+        return Mono.defer(() -> {
+            GenericExecuteSpec spec = databaseClient.sql(toSql(rows.size()));
+
+            for (int r = 0; r < rows.size(); r++) {
+                T row = rows.get(r);
+                for (int c = 0; c < columns.size(); c++) {
+                    Column<T> column = columns.get(c);
+                    Object value = column.extractor().apply(row);
+                    String name = parameterName(r, c);
+                    spec = value == null ? spec.bindNull(name, column.type()) : spec.bind(name, value);
+                }
+            }
+
+            return spec.fetch().rowsUpdated();
+        });
+    }
+
+    /**
+     * rowCount 개의 VALUES 절을 가진 INSERT 문을 생성합니다.
+     */
+    String toSql(int rowCount) {
+        StringBuilder sql = new StringBuilder("INSERT INTO ").append(table).append(" (");
+        for (int c = 0; c < columns.size(); c++) {
+            sql.append(c == 0 ? "" : ", ").append(columns.get(c).name());
+        }
+        sql.append(") VALUES ");
+
+        for (int r = 0; r < rowCount; r++) {
+            sql.append(r == 0 ? "(" : ", (");
+            for (int c = 0; c < columns.size(); c++) {
+                sql.append(c == 0 ? ":" : ", :").append(parameterName(r, c));
+            }
+            sql.append(')');
+        }
+        return sql.toString();
+    }
+
+    //
+    private static String parameterName(int row, int column) {
+        return "p" + row + "_" + column;
+    }
+
+}
@@ -0,0 +1,236 @@
+package notification.adapter.db.support;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import io.r2dbc.spi.Row;
+import notification.definition.enums.OutboxStatus;
+import notification.definition.utils.InstantDateTimeBridge;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Outbox 테이블의 할당(Claim) / 해제 / 임대(Lease) 만료 쿼리입니다.
+ * request_outbox와 message_outbox는 같은 할당 컬럼을 가지므로 테이블 이름만 바꿔 같은 SQL을 사용합니다.
+ *
+ * 임대 만료는 DB 시계(UTC_TIMESTAMP)로 판단하므로, 할당 시각(processed_at)도 애플리케이션 시계가 아닌
+ * 같은 DB 시계로 기록합니다. 인스턴스 간 시계 차이가 있어도 한 행의 할당 시각과 만료 판단이 섞이지 않습니다.
+ *
+ * @param <E> Outbox 엔티티 타입
+ */
+public final class OutboxClaimQuery<E> {
+
+    /**
+     * SELECT ... FOR UPDATE SKIP LOCKED로 잠근 행과, 같은 문장에서 읽은 DB 시각입니다.
+     */
+    public record LockedRow<E>(E entity, LocalDateTime claimedAt) {
+    }
+
+    private final String table;
+    private final Function<Row, E> rowMapper;
+
+    public OutboxClaimQuery(String table, Function<Row, E> rowMapper) {
+        this.table = table;
+        this.rowMapper = rowMapper;
+    }
+
+    /**
+     * 처리 대상 행을 UPDATE 한 번으로 할당합니다. 할당된 행은 claimId로 다시 조회합니다.
+     *
+     * @return 할당된 행 수
+     */
+    public Mono<Long> claim(DatabaseClient databaseClient, String instanceId, String claimId, Instant now,
+            int limit, Set<Integer> partitions) {
+        String updateQuery = """
+                UPDATE %1$s
+                SET instance_id = ?, claim_id = ?, status = ?, processed_at = UTC_TIMESTAMP(3)
+                WHERE instance_id IS NULL
+                  AND outbox_id IN (
+                    SELECT outbox_id FROM (
+                      SELECT outbox_id FROM %1$s
+                      WHERE status IN ('PENDING', 'FAILED')
+                        AND (next_retry_at IS NULL OR next_retry_at <= ?)
+                        AND instance_id IS NULL%2$s
+                      ORDER BY created_at ASC
+                      LIMIT %3$d
+                    ) AS subquery
+                )
+                """.formatted(table, partitionFilter(partitions), limit);
+
+        return databaseClient.sql(updateQuery)
+                .bind(0, instanceId)
+                .bind(1, claimId)
+                .bind(2, OutboxStatus.IN_PROGRESS.name())
+                .bind(3, InstantDateTimeBridge.toLocalDateTime(now)) // 조회 기준 시각 (할당 시각은 DB 시계)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * claimId로 할당된 행을 조회합니다.
+     */
+    public Flux<E> selectClaimed(DatabaseClient databaseClient, String claimId, int limit) {
+        String query = """
+                SELECT * FROM %s
+                WHERE claim_id = ?
+                ORDER BY created_at ASC
+                LIMIT %d
+                """.formatted(table, limit);
+
+        return databaseClient.sql(query)
+                .bind(0, claimId)
+                .map((row, metadata) -> rowMapper.apply(row))
+                .all();
+    }
+
+    /**
+     * 처리 대상 행을 SELECT ... FOR UPDATE SKIP LOCKED로 잠급니다. 트랜잭션 안에서 호출해야 합니다.
+     * 할당 시각으로 사용할 DB 시각을 같은 문장에서 함께 읽습니다.
+     */
+    public Flux<LockedRow<E>> lockForClaim(DatabaseClient databaseClient, Instant now, int limit,
+            Set<Integer> partitions) {
+        String query = """
+                SELECT *, UTC_TIMESTAMP(3) AS claimed_at FROM %s
+                WHERE status IN ('PENDING', 'FAILED')
+                  AND (next_retry_at IS NULL OR next_retry_at <= ?)
+                  AND instance_id IS NULL%s
+                ORDER BY created_at ASC
+                LIMIT %d
+                FOR UPDATE SKIP LOCKED
+                """.formatted(table, partitionFilter(partitions), limit);
+
+        return databaseClient.sql(query)
+                .bind(0, InstantDateTimeBridge.toLocalDateTime(now))
+                .map((row, metadata) -> new LockedRow<>(rowMapper.apply(row),
+                        row.get("claimed_at", LocalDateTime.class)))
+                .all();
+    }
+
+    /**
+     * lockForClaim으로 잠근 행을 IN_PROGRESS로 할당합니다.
+     *
+     * @return 할당된 행 수
+     */
+    public Mono<Long> markClaimed(DatabaseClient databaseClient, String instanceId, String claimId,
+            List<String> outboxIds, LocalDateTime claimedAt) {
+        String updateQuery = """
+                UPDATE %s
+                SET instance_id = :instanceId, claim_id = :claimId, status = :status, processed_at = :processedAt
+                WHERE outbox_id IN (:outboxIds)
+                """.formatted(table);
+
+        return databaseClient.sql(updateQuery)
+                .bind("instanceId", instanceId)
+                .bind("claimId", claimId)
+                .bind("status", OutboxStatus.IN_PROGRESS.name())
+                .bind("processedAt", claimedAt)
+                .bind("outboxIds", outboxIds)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * 이 인스턴스가 할당한 행 중 주어진 행만 PENDING으로 되돌립니다.
+     *
+     * @return 해제된 행 수
+     */
+    public Mono<Long> release(DatabaseClient databaseClient, String instanceId, Collection<String> outboxIds) {
+        String updateQuery = """
+                UPDATE %s
+                SET status = :status, instance_id = NULL, claim_id = NULL
+                WHERE outbox_id IN (:outboxIds)
+                  AND instance_id = :instanceId
+                  AND status = 'IN_PROGRESS'
+                """.formatted(table);
+
+        return databaseClient.sql(updateQuery)
+                .bind("status", OutboxStatus.PENDING.name())
+                .bind("outboxIds", List.copyOf(outboxIds))
+                .bind("instanceId", instanceId)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * 이 인스턴스가 할당한 모든 행을 PENDING으로 되돌립니다.
+     *
+     * @return 해제된 행 수
+     */
+    public Mono<Long> releaseAll(DatabaseClient databaseClient, String instanceId) {
+        String updateQuery = """
+                UPDATE %s
+                SET status = ?, instance_id = NULL, claim_id = NULL
+                WHERE instance_id = ?
+                  AND status = 'IN_PROGRESS'
+                """.formatted(table);
+
+        return databaseClient.sql(updateQuery)
+                .bind(0, OutboxStatus.PENDING.name())
+                .bind(1, instanceId)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * 임대가 만료된 행을 PENDING으로 되돌립니다.
+     * 할당 후 leaseTimeout이 지났고, 할당한 인스턴스의 하트비트가 leaseTimeout 안에 없는 행이 대상입니다.
+     * 살아 있는 인스턴스의 할당은 처리가 오래 걸려도 유지합니다.
+     * maxClaimAge를 지정하면(0보다 크면) 할당 후 maxClaimAge가 지난 행은 인스턴스가 살아 있어도 해제합니다.
+     * 모든 시각은 DB 시계(UTC) 기준으로 비교합니다.
+     *
+     * @return 해제된 행 수
+     */
+    public Mono<Long> releaseExpired(DatabaseClient databaseClient, Duration leaseTimeout, Duration maxClaimAge) {
+        boolean claimAgeEnabled = maxClaimAge != null && maxClaimAge.isPositive();
+        String updateQuery = """
+                UPDATE %s o
+                SET o.status = ?, o.instance_id = NULL, o.claim_id = NULL
+                WHERE o.status = 'IN_PROGRESS'
+                  AND o.instance_id IS NOT NULL
+                  AND o.processed_at < UTC_TIMESTAMP(3) - INTERVAL ? MICROSECOND
+                  AND (
+                    NOT EXISTS (
+                      SELECT 1 FROM outbox_node n
+                      WHERE n.instance_id = o.instance_id
+                        AND n.heartbeat_at >= UTC_TIMESTAMP(3) - INTERVAL ? MICROSECOND
+                    )%s
+                  )
+                """.formatted(table, claimAgeEnabled
+                ? " OR o.processed_at < UTC_TIMESTAMP(3) - INTERVAL ? MICROSECOND"
+                : "");
+
+        long leaseMicros = leaseTimeout.toNanos() / 1_000;
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(updateQuery)
+                .bind(0, OutboxStatus.PENDING.name())
+                .bind(1, leaseMicros)
+                .bind(2, leaseMicros);
+        if (claimAgeEnabled) {
+            spec = spec.bind(3, maxClaimAge.toNanos() / 1_000);
+        }
+
+        return spec.fetch().rowsUpdated();
+    }
+
+    /**
+     * 담당 파티션이 지정되면 해당 파티션만 조회하는 조건을 반환합니다. 비어 있으면 모든 파티션을 조회합니다.
+     */
+    private static String partitionFilter(Set<Integer> partitions) {
+        if (partitions == null || partitions.isEmpty()) {
+            return "";
+        }
+
+        return partitions.stream()
+                .sorted()
+                .map(String::valueOf)
+                .collect(Collectors.joining(", ", " AND partition_key IN (", ")"));
+    }
+
+}
@@ -0,0 +1,8 @@
+-- 멱등성 키 PK를 (idempotency_key, operation_type)으로 변경
+-- 키만 PK이면 다른 작업 유형이 같은 키를 쓸 때 그 예약과 충돌하여, 대기 시간이 지난 뒤 409를 반환했음
+-- 이제 같은 키라도 작업 유형이 다르면 서로 독립된 예약으로 취급함
+-- (idx_idempotency_created_at은 PK 컬럼을 포함하므로 (created_at, idempotency_key, operation_type) 순서로 정렬됨)
+
+ALTER TABLE idempotency_key
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (idempotency_key, operation_type);
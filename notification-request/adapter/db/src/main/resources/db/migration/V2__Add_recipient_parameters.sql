@@ -0,0 +1,3 @@
+-- 수신자별 템플릿 파라미터 (JSON)
+ALTER TABLE notification_request_recipient
+    ADD COLUMN parameters TEXT NULL;
@@ -0,0 +1,17 @@
+-- 템플릿 정의 테이블 (템플릿ID + 채널 + 언어 단위)
+-- channel = '*' 인 정의는 모든 채널에 공통 적용
+CREATE TABLE IF NOT EXISTS notification_template (
+    template_id VARCHAR(255) NOT NULL,
+    channel VARCHAR(50) NOT NULL DEFAULT '*',
+    language VARCHAR(20) NOT NULL,
+    title_template TEXT,
+    body_template TEXT,
+    active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+
+    PRIMARY KEY (template_id, channel, language),
+
+    -- 변경 감지 (updated_at 기준 폴링)
+    INDEX idx_updated_at (updated_at)
+);
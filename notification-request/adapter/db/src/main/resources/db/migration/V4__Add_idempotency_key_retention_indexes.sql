@@ -0,0 +1,5 @@
+-- 멱등성 키 보관 기간 정리용 인덱스
+-- 작업 유형별 정리: (operation_type, created_at) 범위 스캔
+-- 나머지 작업 유형 정리: created_at 범위 스캔 (키셋 커서로 이전 배치 이후부터 스캔)
+CREATE INDEX idx_idempotency_operation_created_at ON idempotency_key (operation_type, created_at);
+CREATE INDEX idx_idempotency_created_at ON idempotency_key (created_at, idempotency_key);
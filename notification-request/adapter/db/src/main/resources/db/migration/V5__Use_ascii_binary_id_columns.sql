@@ -0,0 +1,40 @@
+-- 식별자 컬럼을 ASCII / 바이너리 정렬로 변경
+-- ID는 UUIDv7 (시간 순 정렬, 36자 ASCII) 문자열이므로 utf8mb4 문자 집합이 필요 없음
+-- 키는 여전히 36바이트 문자열이며 (BINARY(16)으로 바꾸지 않음), ascii로 문자당 최대 4바이트 할당을 없애고
+-- 바이너리 정렬로 콜레이션 비교 비용을 없애는 변경임
+-- Outbox ID / aggregate ID도 36자이므로 VARCHAR(255)에서 VARCHAR(36)으로 축소
+
+SET FOREIGN_KEY_CHECKS = 0;
+
+ALTER TABLE notification_request
+    MODIFY request_id VARCHAR(36) CHARACTER SET ascii COLLATE ascii_bin NOT NULL;
+
+ALTER TABLE notification_request_content
+    MODIFY content_id VARCHAR(50) CHARACTER SET ascii COLLATE ascii_bin NOT NULL,
+    MODIFY request_id VARCHAR(36) CHARACTER SET ascii COLLATE ascii_bin NOT NULL;
+
+ALTER TABLE notification_request_template_info
+    MODIFY template_info_id VARCHAR(50) CHARACTER SET ascii COLLATE ascii_bin NOT NULL,
+    MODIFY request_id VARCHAR(36) CHARACTER SET ascii COLLATE ascii_bin NOT NULL;
+
+ALTER TABLE notification_request_recipient
+    MODIFY recipient_id VARCHAR(36) CHARACTER SET ascii COLLATE ascii_bin NOT NULL,
+    MODIFY request_id VARCHAR(36) CHARACTER SET ascii COLLATE ascii_bin NOT NULL;
+
+ALTER TABLE notification_request_sender
+    MODIFY sender_id VARCHAR(36) CHARACTER SET ascii COLLATE ascii_bin NOT NULL,
+    MODIFY request_id VARCHAR(36) CHARACTER SET ascii COLLATE ascii_bin NOT NULL;
+
+ALTER TABLE notification_message
+    MODIFY message_id VARCHAR(36) CHARACTER SET ascii COLLATE ascii_bin NOT NULL,
+    MODIFY request_id VARCHAR(36) CHARACTER SET ascii COLLATE ascii_bin NOT NULL;
+
+ALTER TABLE message_outbox
+    MODIFY outbox_id VARCHAR(36) CHARACTER SET ascii COLLATE ascii_bin NOT NULL,
+    MODIFY aggregate_id VARCHAR(36) CHARACTER SET ascii COLLATE ascii_bin NOT NULL;
+
+ALTER TABLE request_outbox
+    MODIFY outbox_id VARCHAR(36) CHARACTER SET ascii COLLATE ascii_bin NOT NULL,
+    MODIFY aggregate_id VARCHAR(36) CHARACTER SET ascii COLLATE ascii_bin NOT NULL;
+
+SET FOREIGN_KEY_CHECKS = 1;
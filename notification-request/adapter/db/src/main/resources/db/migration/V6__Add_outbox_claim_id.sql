@@ -0,0 +1,15 @@
+-- Outbox 할당(Claim) 식별자 분리
+-- instance_id: 할당한 인스턴스(프로세스)의 고정 ID, 종료 시 자기 인스턴스가 할당한 Outbox를 일괄 해제
+-- claim_id: 한 번의 할당 요청 ID, UPDATE로 할당한 뒤 방금 할당한 행만 다시 조회
+
+ALTER TABLE message_outbox
+    MODIFY instance_id VARCHAR(36) CHARACTER SET ascii COLLATE ascii_bin NULL,
+    ADD COLUMN claim_id VARCHAR(36) CHARACTER SET ascii COLLATE ascii_bin NULL AFTER instance_id,
+    ADD INDEX idx_instance_id_status (instance_id, status),
+    ADD INDEX idx_claim_id (claim_id);
+
+ALTER TABLE request_outbox
+    MODIFY instance_id VARCHAR(36) CHARACTER SET ascii COLLATE ascii_bin NULL,
+    ADD COLUMN claim_id VARCHAR(36) CHARACTER SET ascii COLLATE ascii_bin NULL AFTER instance_id,
+    ADD INDEX idx_instance_id_status (instance_id, status),
+    ADD INDEX idx_claim_id (claim_id);
@@ -0,0 +1,11 @@
+-- Outbox를 할당하는 인스턴스의 생존 신호(Heartbeat) 테이블
+-- 인스턴스는 주기적으로 heartbeat_at을 갱신하며, 갱신이 lease 시간 이상 끊긴 인스턴스가
+-- 할당한 IN_PROGRESS Outbox는 다른 인스턴스가 해제하여 다시 처리
+-- (처리 시간이 긴 인스턴스라도 살아 있으면 할당이 유지됨)
+CREATE TABLE outbox_node (
+    instance_id VARCHAR(36) CHARACTER SET ascii COLLATE ascii_bin NOT NULL PRIMARY KEY,
+    started_at TIMESTAMP(3) NOT NULL,
+    heartbeat_at TIMESTAMP(3) NOT NULL,
+
+    INDEX idx_outbox_node_heartbeat_at (heartbeat_at)
+);
@@ -0,0 +1,15 @@
+-- Outbox 파티션 키 추가
+-- partition_key = CRC32(aggregate_id) % app.outbox.partition.count (기본 16)
+-- 파티션 할당을 사용하면 인스턴스는 자신이 담당하는 파티션의 Outbox만 조회하여
+-- 인스턴스 간 할당 경합을 줄임 (파티션 수를 바꾸면 같은 식으로 기존 행을 다시 계산)
+
+ALTER TABLE message_outbox
+    ADD COLUMN partition_key INT NOT NULL DEFAULT 0 AFTER claim_id,
+    ADD INDEX idx_partition_status_next_retry_at (partition_key, status, next_retry_at);
+
+ALTER TABLE request_outbox
+    ADD COLUMN partition_key INT NOT NULL DEFAULT 0 AFTER claim_id,
+    ADD INDEX idx_partition_status_next_retry_at (partition_key, status, next_retry_at);
+
+UPDATE message_outbox SET partition_key = CRC32(aggregate_id) % 16;
+UPDATE request_outbox SET partition_key = CRC32(aggregate_id) % 16;
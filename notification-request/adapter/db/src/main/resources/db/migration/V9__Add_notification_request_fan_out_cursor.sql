@@ -0,0 +1,11 @@
+-- 알림 요청 Fan-out 커서 추가
+-- Fan-out은 chunk마다 메시지 / MessageOutbox / 커서를 함께 커밋하므로,
+-- 중간에 실패하면 다음 처리에서 커서 이후의 수신자부터 이어서 저장함
+-- 전체 사용자 / 세그먼트 수신자는 재시도마다 사용자 원본에서 다시 조회되므로, 메시지 수가 아닌 keyset 위치로 기록함
+-- (그 사이 사용자가 추가 / 삭제되거나 세그먼트가 바뀌어도 같은 사용자 다음부터 재개)
+-- fan_out_recipient_id = 마지막으로 커밋된 수신자 참조 ID (수신자 참조는 ID 순서로 처리)
+-- fan_out_user_id = 해당 수신자 참조에서 마지막으로 커밋된 사용자 ID (재개 시 user_id > fan_out_user_id 부터 조회)
+
+ALTER TABLE notification_request
+    ADD COLUMN fan_out_recipient_id VARCHAR(36) CHARACTER SET ascii COLLATE ascii_bin NULL DEFAULT NULL AFTER processed_at,
+    ADD COLUMN fan_out_user_id VARCHAR(36) NULL DEFAULT NULL AFTER fan_out_recipient_id;
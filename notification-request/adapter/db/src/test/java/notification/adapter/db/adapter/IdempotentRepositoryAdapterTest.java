@@ -3,6 +3,8 @@ package notification.adapter.db.adapter;
 import static org.assertj.core.api.Assertions.*;
 
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,6 +19,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import notification.adapter.db.MariadbTestContainerConfig;
 import notification.adapter.db.repository.R2dbcIdempotencyRepository;
 import notification.application.idempotency.Idempotency;
+import notification.application.idempotency.IdempotencyPurgeBatch;
 import notification.definition.exceptions.DuplicateRequestException;
 import notification.definition.vo.JsonPayload;
 import reactor.test.StepVerifier;
@@ -201,4 +204,120 @@ class IdempotentRepositoryAdapterTest extends MariadbTestContainerConfig {
                 .verifyComplete();
     }
 
+    @Test
+    @DisplayName("같은 키는 한 번만 예약되고, 예약 시각이 일치할 때만 결과를 기록한다")
+    void reserve_shouldReserveOnceAndCompleteWithMatchingReservation() {
+        Instant reservedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        Idempotency reservation = new Idempotency("reserve-key", "CREATE_NOTIFICATION", null, reservedAt);
+
+        StepVerifier.create(adapter.reserve(reservation))
+                .expectNext(true)
+                .verifyComplete();
+        StepVerifier.create(adapter.reserve(reservation))
+                .expectNext(false)
+                .verifyComplete();
+
+        StepVerifier.create(adapter.findById("reserve-key", "CREATE_NOTIFICATION"))
+                .assertNext(found -> assertThat(found.isPending()).isTrue())
+                .verifyComplete();
+
+        // 예약 시각이 다르면 (다른 요청이 넘겨받은 경우) 기록하지 않음
+        StepVerifier.create(adapter.complete(new Idempotency("reserve-key", "CREATE_NOTIFICATION",
+                new JsonPayload("{\"title\":\"Other\"}"), reservedAt.minusSeconds(60))))
+                .expectNext(false)
+                .verifyComplete();
+
+        StepVerifier.create(adapter.complete(new Idempotency("reserve-key", "CREATE_NOTIFICATION",
+                new JsonPayload("{\"title\":\"Done\"}"), reservedAt)))
+                .expectNext(true)
+                .verifyComplete();
+
+        StepVerifier.create(adapter.findById("reserve-key", "CREATE_NOTIFICATION"))
+                .assertNext(found -> assertThat(found.data().value()).isEqualTo("{\"title\":\"Done\"}"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("컬럼 길이를 넘는 키는 잘린 채로 예약되지 않고 오류가 발생한다")
+    void reserve_shouldFailForKeyLongerThanColumn() {
+        String longKey = "k".repeat(37);
+        Instant reservedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+        StepVerifier.create(adapter.reserve(new Idempotency(longKey, "CREATE_NOTIFICATION", null, reservedAt)))
+                .expectError()
+                .verify();
+
+        StepVerifier.create(adapter.findById(longKey.substring(0, 36), "CREATE_NOTIFICATION"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("같은 키라도 작업 유형이 다르면 따로 예약된다")
+    void reserve_shouldReserveSameKeyPerOperationType() {
+        Instant reservedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+        StepVerifier.create(adapter.reserve(new Idempotency("shared-key", "CREATE_NOTIFICATION", null, reservedAt)))
+                .expectNext(true)
+                .verifyComplete();
+        StepVerifier.create(adapter.reserve(new Idempotency("shared-key", "CANCEL_NOTIFICATION", null, reservedAt)))
+                .expectNext(true)
+                .verifyComplete();
+
+        StepVerifier.create(adapter.findById("shared-key", "CANCEL_NOTIFICATION"))
+                .assertNext(found -> assertThat(found.isPending()).isTrue())
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("오래된 예약만 넘겨받을 수 있고, 해제된 예약은 다시 예약할 수 있다")
+    void takeOver_shouldOnlyTakeOverStaleReservation() {
+        Instant reservedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS).minusSeconds(120);
+        Idempotency reservation = new Idempotency("stale-key", "CREATE_NOTIFICATION", null, reservedAt);
+        adapter.reserve(reservation).block();
+
+        Idempotency next = new Idempotency("stale-key", "CREATE_NOTIFICATION", null,
+                Instant.now().truncatedTo(ChronoUnit.SECONDS));
+        StepVerifier.create(adapter.takeOver(next, reservedAt.minusSeconds(60)))
+                .expectNext(false)
+                .verifyComplete();
+        StepVerifier.create(adapter.takeOver(next, Instant.now().minusSeconds(60)))
+                .expectNext(true)
+                .verifyComplete();
+
+        StepVerifier.create(adapter.release(next))
+                .verifyComplete();
+        StepVerifier.create(adapter.reserve(next))
+                .expectNext(true)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 키를 키셋 페이지 단위로 삭제하고, 제외한 작업 유형은 남긴다")
+    void deleteExpiredBatch_shouldDeleteExpiredKeysPageByPage() {
+        Instant old = Instant.now().truncatedTo(ChronoUnit.SECONDS).minus(2, ChronoUnit.DAYS);
+        for (int i = 0; i < 3; i++) {
+            adapter.save(new Idempotency("expired-" + i, "OTHER", new JsonPayload("{}"), old.plusSeconds(i)))
+                    .block();
+        }
+        adapter.save(new Idempotency("kept-long", "LONG_RETENTION", new JsonPayload("{}"), old)).block();
+        adapter.save(new Idempotency("kept-recent", "OTHER", new JsonPayload("{}"), Instant.now())).block();
+
+        Instant before = Instant.now().minus(1, ChronoUnit.DAYS);
+        IdempotencyPurgeBatch first = adapter.deleteExpiredBatch(null, List.of("LONG_RETENTION"), before, null, 2)
+                .block();
+        assertThat(first.deleted()).isEqualTo(2);
+        assertThat(first.lastKey()).isEqualTo("expired-1");
+
+        IdempotencyPurgeBatch second = adapter.deleteExpiredBatch(null, List.of("LONG_RETENTION"), before, first, 2)
+                .block();
+        assertThat(second.deleted()).isEqualTo(1);
+
+        StepVerifier.create(adapter.findById("kept-long", "LONG_RETENTION"))
+                .expectNextCount(1)
+                .verifyComplete();
+        StepVerifier.create(adapter.findById("kept-recent", "OTHER"))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
 }
@@ -4,6 +4,9 @@ import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +17,8 @@ import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
 import org.springframework.context.annotation.Import;
 
 import notification.adapter.db.MariadbTestContainerConfig;
+import notification.adapter.db.config.OutboxInstanceId;
+import notification.adapter.db.config.OutboxPartitioner;
 import notification.adapter.db.repository.R2dbcMessageOutboxRepository;
 import notification.definition.enums.OutboxStatus;
 import notification.definition.vo.JsonPayload;
@@ -23,12 +28,15 @@ import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
 
 @DataR2dbcTest
-@Import({ MessageOutboxRepositoryAdapter.class })
+@Import({ MessageOutboxRepositoryAdapter.class, OutboxInstanceId.class, OutboxPartitioner.class })
 public class MessageOutboxRepositoryAdapterTest extends MariadbTestContainerConfig {
 
     @Autowired
     private MessageOutboxRepositoryAdapter messageOutboxRepositoryAdapter;
 
+    @Autowired
+    private OutboxPartitioner outboxPartitioner;
+
     @Autowired
     private R2dbcMessageOutboxRepository r2dbcMessageOutboxRepository;
 
@@ -82,6 +90,51 @@ public class MessageOutboxRepositoryAdapterTest extends MariadbTestContainerConf
                 .verifyComplete();
     }
 
+    @Test
+    @DisplayName("여러 MessageOutbox를 하나의 다중 행 INSERT로 저장할 수 있다")
+    void insertAll_shouldSaveAllMessageOutboxes() {
+        // when & then
+        StepVerifier.create(messageOutboxRepositoryAdapter.insertAll(List.of(outbox1, outbox2)))
+                .assertNext(saved -> {
+                    assertEquals(outboxId1, saved.getOutboxId());
+                    assertThat(saved.getCreatedAt()).isNotNull();
+                })
+                .assertNext(saved -> {
+                    assertEquals(outboxId2, saved.getOutboxId());
+                    assertEquals(OutboxStatus.FAILED, saved.getStatus());
+                })
+                .verifyComplete();
+
+        // then - 저장된 행이 조회되는지 확인
+        StepVerifier.create(messageOutboxRepositoryAdapter.findById(outboxId2))
+                .assertNext(found -> {
+                    assertEquals(aggregateId2, found.getAggregateId());
+                    assertEquals(payload2.value(), found.getPayload().value());
+                    assertEquals(1, found.getRetryAttempts());
+                    assertThat(found.getProcessedAt()).isNull();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("파라미터 수 제한을 넘는 행 수도 여러 INSERT 문으로 나누어 모두 저장한다")
+    void insertAll_shouldSplitStatements_whenPlaceholderLimitExceeded() {
+        // given - 65,535 / 9 컬럼 = 7,281행을 넘는 수
+        List<MessageOutbox> outboxes = IntStream.range(0, 8_000)
+                .mapToObj(i -> new MessageOutbox(
+                        OutboxId.generate(), "aggregate-" + i, payload1,
+                        0, testTime, OutboxStatus.PENDING, null, null))
+                .toList();
+
+        // when & then
+        StepVerifier.create(messageOutboxRepositoryAdapter.insertAll(outboxes).count())
+                .expectNext(8_000L)
+                .verifyComplete();
+        StepVerifier.create(r2dbcMessageOutboxRepository.count())
+                .expectNext(8_000L)
+                .verifyComplete();
+    }
+
     @Test
     @DisplayName("ID로 MessageOutbox를 찾을 수 있다")
     void findById_shouldReturnMessageOutbox_whenExists() {
@@ -275,4 +328,98 @@ public class MessageOutboxRepositoryAdapterTest extends MariadbTestContainerConf
                 .expectNextCount(3)
                 .verifyComplete();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("할당된 Outbox를 해제하면 PENDING으로 돌아가 다시 조회된다")
+    void releaseClaimed_shouldMakeClaimedOutboxesFetchableAgain() {
+        // given - 미리 할당된 예약 메시지
+        messageOutboxRepositoryAdapter.save(outbox1).block();
+        List<MessageOutbox> claimed = messageOutboxRepositoryAdapter
+                .fetchOutboxToProcess(testTime.plusSeconds(400), 10)
+                .collectList()
+                .block();
+        assertThat(claimed).hasSize(1);
+
+        // when
+        StepVerifier.create(messageOutboxRepositoryAdapter.releaseClaimed(List.of(outboxId1)))
+                .expectNext(1L)
+                .verifyComplete();
+
+        // then
+        StepVerifier.create(messageOutboxRepositoryAdapter.findById(outboxId1))
+                .assertNext(outbox -> assertEquals(OutboxStatus.PENDING, outbox.getStatus()))
+                .verifyComplete();
+        StepVerifier.create(messageOutboxRepositoryAdapter.fetchOutboxToProcess(testTime.plusSeconds(400), 10))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("해제할 ID가 없으면 0을 반환한다")
+    void releaseClaimed_shouldReturnZero_whenIdsAreEmpty() {
+        StepVerifier.create(messageOutboxRepositoryAdapter.releaseClaimed(List.of()))
+                .expectNext(0L)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("이 인스턴스가 할당한 Outbox를 모두 해제하면 다시 조회할 수 있다")
+    void releaseAllClaimed_shouldReleaseClaimsOfThisInstance() {
+        // given - 할당된 Outbox 2건
+        messageOutboxRepositoryAdapter.save(outbox1).block();
+        messageOutboxRepositoryAdapter.save(outbox2).block();
+        StepVerifier.create(messageOutboxRepositoryAdapter.fetchOutboxToProcess(testTime.plusSeconds(900), 10))
+                .expectNextCount(2)
+                .verifyComplete();
+
+        // when
+        StepVerifier.create(messageOutboxRepositoryAdapter.releaseAllClaimed())
+                .expectNext(2L)
+                .verifyComplete();
+
+        // then
+        StepVerifier.create(messageOutboxRepositoryAdapter.findById(outboxId1))
+                .assertNext(outbox -> assertEquals(OutboxStatus.PENDING, outbox.getStatus()))
+                .verifyComplete();
+        StepVerifier.create(messageOutboxRepositoryAdapter.fetchOutboxToProcess(testTime.plusSeconds(900), 10))
+                .expectNextCount(2)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("할당 요청마다 방금 할당한 Outbox만 반환한다")
+    void fetchOutboxToProcess_shouldReturnOnlyRowsOfCurrentClaim() {
+        // given - 첫 번째 할당 이후 새 Outbox 추가
+        messageOutboxRepositoryAdapter.save(outbox1).block();
+        StepVerifier.create(messageOutboxRepositoryAdapter.fetchOutboxToProcess(testTime.plusSeconds(900), 10))
+                .expectNextCount(1)
+                .verifyComplete();
+        messageOutboxRepositoryAdapter.save(outbox2).block();
+
+        // when & then - 같은 인스턴스의 이전 할당은 다시 반환하지 않음
+        StepVerifier.create(messageOutboxRepositoryAdapter.fetchOutboxToProcess(testTime.plusSeconds(900), 10))
+                .assertNext(outbox -> assertEquals(outboxId2, outbox.getOutboxId()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("파티션을 지정하면 해당 파티션의 Outbox만 할당한다")
+    void fetchOutboxToProcess_shouldFetchOnlyGivenPartitions() {
+        // given - 서로 다른 파티션의 Outbox 2건
+        messageOutboxRepositoryAdapter.insertAll(List.of(outbox1, outbox2)).blockLast();
+        int partition1 = outboxPartitioner.partitionOf(aggregateId1);
+        int partition2 = outboxPartitioner.partitionOf(aggregateId2);
+        assertNotEquals(partition1, partition2);
+        Instant horizon = testTime.plusSeconds(900);
+
+        // when & then
+        StepVerifier.create(messageOutboxRepositoryAdapter.fetchOutboxToProcess(horizon, 10, Set.of(partition1)))
+                .assertNext(outbox -> assertEquals(outboxId1, outbox.getOutboxId()))
+                .verifyComplete();
+        StepVerifier.create(messageOutboxRepositoryAdapter.fetchOutboxToProcess(horizon, 10, Set.of(partition1)))
+                .verifyComplete();
+        StepVerifier.create(messageOutboxRepositoryAdapter.fetchOutboxToProcess(horizon, 10, Set.of(partition2)))
+                .assertNext(outbox -> assertEquals(outboxId2, outbox.getOutboxId()))
+                .verifyComplete();
+    }
+}
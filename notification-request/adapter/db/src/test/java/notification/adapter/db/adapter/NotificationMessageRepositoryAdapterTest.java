@@ -6,12 +6,19 @@ import static org.mockito.BDDMockito.*;
 import static org.mockito.Mockito.*;
 
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.r2dbc.core.DatabaseClient;
 
 import notification.adapter.db.MariadbTestContainerConfig;
 import notification.adapter.db.NotificationMessageEntity;
@@ -38,11 +45,27 @@ class NotificationMessageRepositoryAdapterTest extends MariadbTestContainerConfi
     @Mock
     private R2dbcNotificationMessageRepository messageRepository;
 
+    @Mock
+    private DatabaseClient databaseClient;
+
     private NotificationMessageRepositoryAdapter adapter;
 
+    // 상태 변경 쿼리는 실제 DB로 검증
+    @Autowired
+    private NotificationMessageRepositoryAdapter persistedAdapter;
+
+    @Autowired
+    private DatabaseClient persistedDatabaseClient;
+
     @BeforeEach
     void setUp() {
-        adapter = new NotificationMessageRepositoryAdapter(mapper, messageRepository);
+        adapter = new NotificationMessageRepositoryAdapter(mapper, messageRepository, databaseClient);
+    }
+
+    @AfterEach
+    void tearDown() {
+        persistedDatabaseClient.sql("DELETE FROM notification_request WHERE request_id = 'status-request'")
+                .fetch().rowsUpdated().block(); // 알림 메시지는 ON DELETE CASCADE로 함께 삭제
     }
 
     @Test
@@ -167,6 +190,26 @@ class NotificationMessageRepositoryAdapterTest extends MariadbTestContainerConfi
         then(messageRepository).should(never()).save(any());
     }
 
+    @Test
+    void insertAll_shouldReturnEmptyWhenNoDomains() {
+        // When & Then
+        StepVerifier.create(adapter.insertAll(List.of()))
+                .verifyComplete();
+
+        then(mapper).should(never()).toEntity(any());
+        then(databaseClient).should(never()).sql(anyString());
+    }
+
+    @Test
+    void updateStatusAll_shouldReturnZeroWhenNoIds() {
+        // When & Then
+        StepVerifier.create(adapter.updateStatusAll(Map.of(), DeliveryStatus.PENDING, DeliveryStatus.DISPATCHED))
+                .expectNext(0L)
+                .verifyComplete();
+
+        then(databaseClient).should(never()).sql(anyString());
+    }
+
     @Test
     void findById_shouldReturnNotificationMessage() {
         // Given
@@ -273,6 +316,101 @@ class NotificationMessageRepositoryAdapterTest extends MariadbTestContainerConfi
         then(messageRepository).should().deleteById(messageId.value());
     }
 
+    @Test
+    @DisplayName("updateStatus는 현재 상태가 기대 상태일 때만 상태를 변경한다")
+    void updateStatus_shouldUpdateOnlyWhenCurrentStatusMatches() {
+        // Given
+        insertStatusRequest();
+        NotificationMessage message = createPendingMessage("status-msg-1");
+        persistedAdapter.insertAll(List.of(message)).blockLast();
+        Instant dispatchedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+        // When & Then
+        StepVerifier.create(persistedAdapter.updateStatus(message.getMessageId(), DeliveryStatus.PENDING,
+                DeliveryStatus.DISPATCHED, dispatchedAt, null))
+                .expectNext(true)
+                .verifyComplete();
+
+        // 이미 DISPATCHED이므로 PENDING 조건의 변경은 반영되지 않는다
+        StepVerifier.create(persistedAdapter.updateStatus(message.getMessageId(), DeliveryStatus.PENDING,
+                DeliveryStatus.FAILED, null, "late failure"))
+                .expectNext(false)
+                .verifyComplete();
+
+        StepVerifier.create(persistedAdapter.findById(message.getMessageId()))
+                .assertNext(found -> {
+                    assertThat(found.getDeliveryStatus()).isEqualTo(DeliveryStatus.DISPATCHED);
+                    assertThat(found.getDispatchedAt()).isEqualTo(dispatchedAt);
+                    assertThat(found.getFailureReason()).isNull();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("updateStatusAll은 목록 중 기대 상태인 메시지만 각자의 발행 시각으로 한 번에 변경한다")
+    void updateStatusAll_shouldUpdateOnlyListedMessagesWithExpectedStatus() {
+        // Given - 3건은 목록에 포함, 그중 1건은 이미 DISPATCHED / 1건은 목록 밖
+        insertStatusRequest();
+        List<NotificationMessage> messages = List.of(
+                createPendingMessage("status-msg-1"), createPendingMessage("status-msg-2"),
+                createPendingMessage("status-msg-3"), createPendingMessage("status-msg-4"));
+        persistedAdapter.insertAll(messages).blockLast();
+        Instant dispatchedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        persistedAdapter.updateStatus(messages.get(2).getMessageId(), DeliveryStatus.PENDING,
+                DeliveryStatus.DISPATCHED, dispatchedAt.minusSeconds(60), null).block();
+
+        // When & Then
+        StepVerifier.create(persistedAdapter.updateStatusAll(
+                Map.of(messages.get(0).getMessageId(), dispatchedAt.minusSeconds(1),
+                        messages.get(1).getMessageId(), dispatchedAt,
+                        messages.get(2).getMessageId(), dispatchedAt),
+                DeliveryStatus.PENDING, DeliveryStatus.DISPATCHED))
+                .expectNext(2L)
+                .verifyComplete();
+
+        StepVerifier.create(persistedAdapter.findById(messages.get(0).getMessageId()))
+                .assertNext(found -> {
+                    assertThat(found.getDeliveryStatus()).isEqualTo(DeliveryStatus.DISPATCHED);
+                    assertThat(found.getDispatchedAt()).isEqualTo(dispatchedAt.minusSeconds(1));
+                })
+                .verifyComplete();
+        StepVerifier.create(persistedAdapter.findById(messages.get(1).getMessageId()))
+                .assertNext(found -> {
+                    assertThat(found.getDeliveryStatus()).isEqualTo(DeliveryStatus.DISPATCHED);
+                    assertThat(found.getDispatchedAt()).isEqualTo(dispatchedAt);
+                })
+                .verifyComplete();
+        StepVerifier.create(persistedAdapter.findById(messages.get(2).getMessageId()))
+                .assertNext(found -> assertThat(found.getDispatchedAt()).isEqualTo(dispatchedAt.minusSeconds(60)))
+                .verifyComplete();
+        StepVerifier.create(persistedAdapter.findById(messages.get(3).getMessageId()))
+                .assertNext(found -> assertThat(found.getDeliveryStatus()).isEqualTo(DeliveryStatus.PENDING))
+                .verifyComplete();
+    }
+
+    private void insertStatusRequest() {
+        persistedDatabaseClient.sql("""
+                INSERT INTO notification_request (request_id, requester_type, requester_id, notification_types)
+                VALUES ('status-request', 'SERVICE', 'test-requester', 'EMAIL')
+                """)
+                .fetch().rowsUpdated().block();
+    }
+
+    private NotificationMessage createPendingMessage(String messageId) {
+        return new NotificationMessage(
+                new NotificationMessageId(messageId),
+                new NotificationRequestId("status-request"),
+                NotificationType.EMAIL,
+                new Recipient("user-123", "test@example.com", null, null, "ko"),
+                new NotificationContent("Test Title", "Test Body", null, null),
+                new EmailSender("sender-123", "sender@example.com", "Test Sender"),
+                DeliveryStatus.PENDING,
+                null,
+                null,
+                null,
+                null);
+    }
+
     private NotificationMessage createSampleNotificationMessage() {
         return new NotificationMessage(
                 new NotificationMessageId("msg-123"),
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.r2dbc.core.DatabaseClient;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -21,6 +22,7 @@ import notification.adapter.db.repository.R2dbcNotificationRequestRecipientRepos
 import notification.adapter.db.repository.R2dbcNotificationRequestRepository;
 import notification.adapter.db.repository.R2dbcNotificationRequestSenderRepository;
 import notification.adapter.db.repository.R2dbcNotificationRequestTemplateInfoRepository;
+import notification.application.notifiation.dto.FanOutCursor;
 import notification.domain.NotificationRequest;
 import notification.domain.enums.NotificationType;
 import notification.domain.enums.RequestStatus;
@@ -56,6 +58,9 @@ class NotificationRequestRepositoryAdapterTest extends MariadbTestContainerConfi
     @Autowired
     R2dbcNotificationRequestTemplateInfoRepository templateInfoRepository;
 
+    @Autowired
+    DatabaseClient databaseClient;
+
     private NotificationRequestEntityMapper mapper;
     private NotificationRequestRepositoryAdapter adapter;
 
@@ -63,7 +68,7 @@ class NotificationRequestRepositoryAdapterTest extends MariadbTestContainerConfi
     void setUp() {
         mapper = new NotificationRequestEntityMapper(objectMapper);
         adapter = new NotificationRequestRepositoryAdapter(mapper, requestRepository, recipientRepository,
-                senderRepository, contentRepository, templateInfoRepository);
+                senderRepository, contentRepository, templateInfoRepository, databaseClient);
     }
 
     @Test
@@ -209,6 +214,29 @@ class NotificationRequestRepositoryAdapterTest extends MariadbTestContainerConfi
                 .verifyComplete();
     }
 
+    @Test
+    void findAllByIds_shouldAssembleAggregatesFromBulkQueries() {
+        NotificationRequest first = createSampleNotificationRequest("test-request-bulk-1");
+        NotificationRequest second = createSampleNotificationRequest("test-request-bulk-2");
+        adapter.save(first).block();
+        adapter.save(second).block();
+
+        //
+        StepVerifier.create(adapter.findAllByIds(List.of(first.getRequestId(), second.getRequestId(),
+                new NotificationRequestId("non-existent-id"))).collectList())
+                .assertNext(found -> {
+                    assertThat(found).extracting(request -> request.getRequestId().value())
+                            .containsExactlyInAnyOrder("test-request-bulk-1", "test-request-bulk-2");
+                    assertThat(found).allSatisfy(request -> {
+                        assertThat(request.getRecipients()).hasSize(1);
+                        assertThat(request.getSenderInfos()).hasSize(1);
+                        assertThat(request.getContent()).isNotNull();
+                        assertThat(request.getTemplate()).isNotNull();
+                    });
+                })
+                .verifyComplete();
+    }
+
     @Test
     void update_shouldUpdateNotificationRequest() {
         NotificationRequest request = createSampleNotificationRequest("test-request-5");
@@ -232,6 +260,117 @@ class NotificationRequestRepositoryAdapterTest extends MariadbTestContainerConfi
                 .verifyComplete();
     }
 
+    @Test
+    void save_shouldInsertAllRecipientsAndKeepThemOnStatusTransition() {
+        NotificationRequest request = new NotificationRequest(
+                new NotificationRequestId("test-request-bulk-recipients"),
+                new Requester(RequesterType.SERVICE, "test-requester"),
+                List.of(new UserRecipient(new UserId("user-1"), Map.of("coupon", "A")),
+                        new UserRecipient(new UserId("user-2")),
+                        new UserRecipient(new UserId("user-3"))),
+                List.of(NotificationType.EMAIL),
+                Map.of(NotificationType.EMAIL,
+                        new EmailSender("test@example.com", "Test Sender")),
+                null, // content
+                new TemplateInfo("template-123", Map.of("key1", "value1")),
+                "Test memo",
+                null, // scheduledAt
+                RequestStatus.PENDING,
+                null, // failureReason
+                null, // processedAt
+                null // createdAt
+        );
+
+        NotificationRequest saved = adapter.save(request).block();
+        assertThat(saved.getRecipients()).hasSize(3).allSatisfy(recipient -> assertThat(recipient.getId()).isNotNull());
+
+        // 상태 전이 저장 시 수신자는 다시 저장되지 않고 그대로 유지되어야 한다
+        saved.markAsProcessing();
+        StepVerifier.create(adapter.save(saved))
+                .assertNext(updated -> {
+                    assertThat(updated.getStatus()).isEqualTo(RequestStatus.PROCESSING);
+                    assertThat(updated.getRecipients()).hasSize(3);
+                })
+                .verifyComplete();
+
+        StepVerifier.create(adapter.findById(saved.getRequestId()))
+                .assertNext(found -> {
+                    assertThat(found.getStatus()).isEqualTo(RequestStatus.PROCESSING);
+                    assertThat(found.getRecipients()).hasSize(3);
+                    assertThat(found.getRecipients())
+                            .filteredOn(recipient -> recipient instanceof UserRecipient userRecipient
+                                    && userRecipient.userId().value().equals("user-1"))
+                            .singleElement()
+                            .satisfies(recipient -> assertThat(((UserRecipient) recipient).parameters())
+                                    .containsEntry("coupon", "A"));
+                    assertThat(found.getSenderInfos()).hasSize(1);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void updateStatus_shouldUpdateOnlyWhenCurrentStatusMatches() {
+        NotificationRequest request = createSampleNotificationRequest("test-request-status");
+        adapter.save(request).block();
+        Instant processedAt = Instant.now();
+
+        // PENDING -> PROCESSING
+        StepVerifier.create(adapter.updateStatus(request.getRequestId(), RequestStatus.PENDING,
+                RequestStatus.PROCESSING, processedAt, null))
+                .expectNext(true)
+                .verifyComplete();
+
+        // 이미 PROCESSING이므로 PENDING 조건의 변경은 반영되지 않는다
+        StepVerifier.create(adapter.updateStatus(request.getRequestId(), RequestStatus.PENDING,
+                RequestStatus.CANCELED, processedAt, null))
+                .expectNext(false)
+                .verifyComplete();
+
+        StepVerifier.create(adapter.findById(request.getRequestId()))
+                .assertNext(found -> {
+                    assertThat(found.getStatus()).isEqualTo(RequestStatus.PROCESSING);
+                    assertThat(found.getProcessedAt()).isNotNull();
+                    assertThat(found.getRecipients()).hasSize(1);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void advanceFanOutCursor_shouldMoveOnlyFromExpectedCursorWhileProcessing() {
+        NotificationRequest request = createSampleNotificationRequest("test-request-fan-out");
+        adapter.save(request).block();
+        FanOutCursor first = new FanOutCursor("recipient-1", "user-0500");
+        FanOutCursor second = new FanOutCursor("recipient-1", "user-1000");
+
+        // PENDING 상태에서는 커서를 옮기지 않는다
+        StepVerifier.create(adapter.advanceFanOutCursor(request.getRequestId(), FanOutCursor.start(), first))
+                .expectNext(false)
+                .verifyComplete();
+
+        adapter.updateStatus(request.getRequestId(), RequestStatus.PENDING, RequestStatus.PROCESSING,
+                Instant.now(), null).block();
+
+        StepVerifier.create(adapter.advanceFanOutCursor(request.getRequestId(), FanOutCursor.start(), first))
+                .expectNext(true)
+                .verifyComplete();
+
+        // 이미 first로 옮겨졌으므로 시작 커서를 조건으로 하는 갱신은 반영되지 않는다
+        StepVerifier.create(adapter.advanceFanOutCursor(request.getRequestId(), FanOutCursor.start(), first))
+                .expectNext(false)
+                .verifyComplete();
+
+        StepVerifier.create(adapter.advanceFanOutCursor(request.getRequestId(), first, second))
+                .expectNext(true)
+                .verifyComplete();
+
+        StepVerifier.create(adapter.findFanOutCursor(request.getRequestId()))
+                .expectNext(second)
+                .verifyComplete();
+        StepVerifier.create(adapter.findFanOutCursor(new NotificationRequestId("unknown-request")))
+                .expectNext(FanOutCursor.start())
+                .verifyComplete();
+    }
+
     private NotificationRequest createSampleNotificationRequest(String requestId) {
         return new NotificationRequest(
                 new NotificationRequestId(requestId),
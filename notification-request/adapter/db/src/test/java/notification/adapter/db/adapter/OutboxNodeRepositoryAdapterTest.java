@@ -0,0 +1,185 @@
+package notification.adapter.db.adapter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import notification.adapter.db.MariadbTestContainerConfig;
+import notification.adapter.db.config.OutboxInstanceId;
+import notification.adapter.db.config.OutboxPartitioner;
+import notification.adapter.db.repository.R2dbcMessageOutboxRepository;
+import notification.definition.enums.OutboxStatus;
+import notification.definition.vo.JsonPayload;
+import notification.definition.vo.outbox.MessageOutbox;
+import notification.definition.vo.outbox.OutboxId;
+import reactor.test.StepVerifier;
+
+@DataR2dbcTest
+@Import({ OutboxNodeRepositoryAdapter.class, MessageOutboxRepositoryAdapter.class, OutboxInstanceId.class,
+        OutboxPartitioner.class })
+public class OutboxNodeRepositoryAdapterTest extends MariadbTestContainerConfig {
+
+    @Autowired
+    private OutboxNodeRepositoryAdapter outboxNodeRepositoryAdapter;
+
+    @Autowired
+    private MessageOutboxRepositoryAdapter messageOutboxRepositoryAdapter;
+
+    @Autowired
+    private R2dbcMessageOutboxRepository r2dbcMessageOutboxRepository;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    private static final Duration LEASE = Duration.ofSeconds(10);
+    private static final Duration NO_MAX_CLAIM_AGE = Duration.ZERO;
+    private static final Duration MAX_CLAIM_AGE = Duration.ofHours(6);
+
+    private OutboxId outboxId;
+    private Instant testTime;
+
+    @BeforeEach
+    void setUp() {
+        testTime = Instant.now();
+        outboxId = OutboxId.generate();
+
+        // 할당된 Outbox 1건 (발송 시각이 지난 PENDING 메시지를 이 인스턴스가 할당)
+        messageOutboxRepositoryAdapter.save(new MessageOutbox(
+                outboxId, "aggregate-1", JsonPayload.of("{\"message\": \"test\"}"),
+                0, testTime.minusSeconds(30), OutboxStatus.PENDING, null, null)).block();
+        messageOutboxRepositoryAdapter.fetchOutboxToProcess(testTime, 10).blockLast();
+    }
+
+    @AfterEach
+    void tearDown() {
+        r2dbcMessageOutboxRepository.deleteAll().block();
+        databaseClient.sql("DELETE FROM outbox_node").fetch().rowsUpdated().block();
+    }
+
+    @Test
+    @DisplayName("Heartbeat가 유지되는 인스턴스의 할당은 해제하지 않는다")
+    void releaseClaimsOfExpiredInstances_shouldKeepClaimsOfLiveInstance() {
+        // given - 오래전에 할당했지만 Heartbeat는 계속 갱신
+        ageClaim(Duration.ofDays(1).toSeconds());
+        outboxNodeRepositoryAdapter.heartbeat().block();
+
+        // when & then - 할당 시각과 무관하게 살아 있는 인스턴스의 할당은 유지
+        StepVerifier.create(messageOutboxRepositoryAdapter.releaseClaimsOfExpiredInstances(LEASE, NO_MAX_CLAIM_AGE))
+                .expectNext(0L)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Heartbeat가 끊긴 인스턴스의 할당은 해제한다")
+    void releaseClaimsOfExpiredInstances_shouldReleaseClaimsOfExpiredInstance() {
+        // given - 마지막 Heartbeat가 lease 기준보다 오래됨
+        ageClaim(60);
+        outboxNodeRepositoryAdapter.heartbeat().block();
+        ageHeartbeat(60);
+
+        // when & then
+        StepVerifier.create(messageOutboxRepositoryAdapter.releaseClaimsOfExpiredInstances(LEASE, NO_MAX_CLAIM_AGE))
+                .expectNext(1L)
+                .verifyComplete();
+        StepVerifier.create(messageOutboxRepositoryAdapter.findById(outboxId))
+                .assertNext(outbox -> assertEquals(OutboxStatus.PENDING, outbox.getStatus()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("lease 기준 이후에 할당된 Outbox는 Heartbeat 기록이 없어도 해제하지 않는다")
+    void releaseClaimsOfExpiredInstances_shouldKeepRecentClaims() {
+        // when & then - 첫 Heartbeat 전이지만 방금 할당됨
+        StepVerifier.create(messageOutboxRepositoryAdapter.releaseClaimsOfExpiredInstances(LEASE, NO_MAX_CLAIM_AGE))
+                .expectNext(0L)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("최대 유지 시간을 지정하면 그보다 오래된 할당은 인스턴스가 살아 있어도 해제한다")
+    void releaseClaimsOfExpiredInstances_shouldReleaseAbandonedClaimsOfLiveInstance() {
+        // given
+        ageClaim(MAX_CLAIM_AGE.toSeconds() + 60);
+        outboxNodeRepositoryAdapter.heartbeat().block();
+
+        // when & then
+        StepVerifier.create(messageOutboxRepositoryAdapter.releaseClaimsOfExpiredInstances(LEASE, MAX_CLAIM_AGE))
+                .expectNext(1L)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Heartbeat가 끊긴 인스턴스 기록을 삭제하고, deregister는 자기 기록을 삭제한다")
+    void deleteExpiredAndDeregister_shouldRemoveNodeRecords() {
+        // given
+        outboxNodeRepositoryAdapter.heartbeat().block();
+        ageHeartbeat(60);
+
+        // when & then
+        StepVerifier.create(outboxNodeRepositoryAdapter.deleteExpired(LEASE))
+                .expectNext(1L)
+                .verifyComplete();
+
+        outboxNodeRepositoryAdapter.heartbeat().block();
+        outboxNodeRepositoryAdapter.heartbeat().block(); // 갱신 (중복 등록 없음)
+        StepVerifier.create(outboxNodeRepositoryAdapter.deleteExpired(LEASE))
+                .expectNext(0L)
+                .verifyComplete();
+
+        outboxNodeRepositoryAdapter.deregister().block();
+        StepVerifier.create(databaseClient.sql("SELECT COUNT(*) AS cnt FROM outbox_node")
+                .map(row -> row.get("cnt", Long.class))
+                .one())
+                .expectNext(0L)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("DB 시계 기준으로 lease 안에 Heartbeat를 갱신한 인스턴스만 살아 있는 것으로 조회한다")
+    void findLiveInstanceIds_shouldUseDatabaseClock() {
+        // given
+        outboxNodeRepositoryAdapter.heartbeat().block();
+
+        // when & then
+        StepVerifier.create(outboxNodeRepositoryAdapter.findLiveInstanceIds(LEASE))
+                .expectNext(outboxNodeRepositoryAdapter.instanceId())
+                .verifyComplete();
+
+        ageHeartbeat(60);
+        StepVerifier.create(outboxNodeRepositoryAdapter.findLiveInstanceIds(LEASE))
+                .verifyComplete();
+    }
+
+    // Heartbeat 시각을 DB 시계 기준으로 과거로 옮깁니다.
+    private void ageHeartbeat(long seconds) {
+        databaseClient.sql("UPDATE outbox_node SET heartbeat_at = UTC_TIMESTAMP(3) - INTERVAL ? SECOND")
+                .bind(0, seconds)
+                .fetch()
+                .rowsUpdated()
+                .block();
+    }
+
+    // 할당 시각을 DB 시계 기준으로 과거로 옮깁니다.
+    private void ageClaim(long seconds) {
+        databaseClient.sql("""
+                UPDATE message_outbox SET processed_at = UTC_TIMESTAMP() - INTERVAL ? SECOND
+                WHERE outbox_id = ?
+                """)
+                .bind(0, seconds)
+                .bind(1, outboxId.value())
+                .fetch()
+                .rowsUpdated()
+                .block();
+    }
+
+}
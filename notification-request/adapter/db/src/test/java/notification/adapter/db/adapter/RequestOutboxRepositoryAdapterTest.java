@@ -4,6 +4,9 @@ import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,10 +15,14 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.r2dbc.core.DatabaseClient;
 
 import notification.adapter.db.MariadbTestContainerConfig;
+import notification.adapter.db.config.OutboxInstanceId;
+import notification.adapter.db.config.OutboxPartitioner;
 import notification.adapter.db.repository.R2dbcRequestOutboxRepository;
 import notification.definition.enums.OutboxStatus;
+import notification.definition.utils.InstantDateTimeBridge;
 import notification.definition.vo.JsonPayload;
 import notification.definition.vo.outbox.OutboxId;
 import notification.definition.vo.outbox.RequestOutbox;
@@ -23,15 +30,21 @@ import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
 
 @DataR2dbcTest
-@Import({ RequestOutboxRepositoryAdapter.class })
+@Import({ RequestOutboxRepositoryAdapter.class, OutboxInstanceId.class, OutboxPartitioner.class })
 public class RequestOutboxRepositoryAdapterTest extends MariadbTestContainerConfig {
 
     @Autowired
     private RequestOutboxRepositoryAdapter requestOutboxRepositoryAdapter;
 
+    @Autowired
+    private OutboxPartitioner outboxPartitioner;
+
     @Autowired
     private R2dbcRequestOutboxRepository r2dbcRequestOutboxRepository;
 
+    @Autowired
+    private DatabaseClient databaseClient;
+
     // Test data fields
     private OutboxId outboxId1, outboxId2;
     private String aggregateId1, aggregateId2;
@@ -359,4 +372,117 @@ public class RequestOutboxRepositoryAdapterTest extends MariadbTestContainerConf
                 })
                 .verifyComplete();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("이 인스턴스가 할당한 Outbox를 모두 해제하면 다시 조회할 수 있다")
+    void releaseAllClaimed_shouldReleaseClaimsOfThisInstance() {
+        // given - 할당된 Outbox 2건
+        requestOutboxRepositoryAdapter.save(outbox1).block();
+        requestOutboxRepositoryAdapter.save(outbox2).block();
+        StepVerifier.create(requestOutboxRepositoryAdapter.fetchOutboxToProcess(testTime.plusSeconds(900), 10))
+                .expectNextCount(2)
+                .verifyComplete();
+
+        // when
+        StepVerifier.create(requestOutboxRepositoryAdapter.releaseAllClaimed())
+                .expectNext(2L)
+                .verifyComplete();
+
+        // then
+        StepVerifier.create(requestOutboxRepositoryAdapter.findById(outboxId1))
+                .assertNext(outbox -> assertEquals(OutboxStatus.PENDING, outbox.getStatus()))
+                .verifyComplete();
+        StepVerifier.create(requestOutboxRepositoryAdapter.fetchOutboxToProcess(testTime.plusSeconds(900), 10))
+                .expectNextCount(2)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("할당된 Outbox를 해제하면 PENDING으로 돌아가 다시 조회된다")
+    void releaseClaimed_shouldMakeClaimedOutboxesFetchableAgain() {
+        // given
+        requestOutboxRepositoryAdapter.save(outbox1).block();
+        StepVerifier.create(requestOutboxRepositoryAdapter.fetchOutboxToProcess(testTime.plusSeconds(900), 10))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // when
+        StepVerifier.create(requestOutboxRepositoryAdapter.releaseClaimed(List.of(outboxId1)))
+                .expectNext(1L)
+                .verifyComplete();
+
+        // then
+        StepVerifier.create(requestOutboxRepositoryAdapter.findById(outboxId1))
+                .assertNext(outbox -> assertEquals(OutboxStatus.PENDING, outbox.getStatus()))
+                .verifyComplete();
+        StepVerifier.create(requestOutboxRepositoryAdapter.fetchOutboxToProcess(testTime.plusSeconds(900), 10))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("할당 요청마다 방금 할당한 Outbox만 반환한다")
+    void fetchOutboxToProcess_shouldReturnOnlyRowsOfCurrentClaim() {
+        // given - 첫 번째 할당 이후 새 Outbox 추가
+        requestOutboxRepositoryAdapter.save(outbox1).block();
+        StepVerifier.create(requestOutboxRepositoryAdapter.fetchOutboxToProcess(testTime.plusSeconds(900), 10))
+                .expectNextCount(1)
+                .verifyComplete();
+        requestOutboxRepositoryAdapter.save(outbox2).block();
+
+        // when & then - 같은 인스턴스의 이전 할당은 다시 반환하지 않음
+        StepVerifier.create(requestOutboxRepositoryAdapter.fetchOutboxToProcess(testTime.plusSeconds(900), 10))
+                .assertNext(outbox -> assertEquals(outboxId2, outbox.getOutboxId()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("파티션을 지정하면 해당 파티션의 Outbox만 할당한다")
+    void fetchOutboxToProcess_shouldFetchOnlyGivenPartitions() {
+        // given - 서로 다른 파티션의 Outbox 2건
+        requestOutboxRepositoryAdapter.save(outbox1).block();
+        requestOutboxRepositoryAdapter.save(outbox2).block();
+        int partition1 = outboxPartitioner.partitionOf(aggregateId1);
+        int partition2 = outboxPartitioner.partitionOf(aggregateId2);
+        assertNotEquals(partition1, partition2);
+        Instant horizon = testTime.plusSeconds(900);
+
+        // when & then
+        StepVerifier.create(requestOutboxRepositoryAdapter.fetchOutboxToProcess(horizon, 10, Set.of(partition1)))
+                .assertNext(outbox -> assertEquals(outboxId1, outbox.getOutboxId()))
+                .verifyComplete();
+        StepVerifier.create(requestOutboxRepositoryAdapter.fetchOutboxToProcess(horizon, 10, Set.of(partition1)))
+                .verifyComplete();
+        StepVerifier.create(requestOutboxRepositoryAdapter.fetchOutboxToProcess(horizon, 10, Set.of(partition2)))
+                .assertNext(outbox -> assertEquals(outboxId2, outbox.getOutboxId()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("할당 시각(processed_at)은 임대 만료 판단과 같은 DB 시계로 기록된다")
+    void fetchOutboxToProcess_shouldStampProcessedAtWithDatabaseClock() {
+        // given
+        requestOutboxRepositoryAdapter.save(outbox1).block();
+        LocalDateTime before = currentDatabaseTime();
+
+        // when
+        StepVerifier.create(requestOutboxRepositoryAdapter.fetchOutboxToProcess(testTime.plusSeconds(900), 10))
+                .expectNextCount(1)
+                .verifyComplete();
+        LocalDateTime after = currentDatabaseTime();
+
+        // then
+        StepVerifier.create(requestOutboxRepositoryAdapter.findById(outboxId1))
+                .assertNext(outbox -> assertThat(InstantDateTimeBridge.toLocalDateTime(outbox.getProcessedAt()))
+                        .isBetween(before, after))
+                .verifyComplete();
+    }
+
+    //
+    private LocalDateTime currentDatabaseTime() {
+        return databaseClient.sql("SELECT UTC_TIMESTAMP(3) AS now")
+                .map((row, metadata) -> row.get("now", LocalDateTime.class))
+                .one()
+                .block();
+    }
+}
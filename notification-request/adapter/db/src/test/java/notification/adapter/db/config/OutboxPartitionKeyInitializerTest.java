@@ -0,0 +1,83 @@
+package notification.adapter.db.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import notification.adapter.db.MariadbTestContainerConfig;
+import notification.adapter.db.adapter.MessageOutboxRepositoryAdapter;
+import notification.adapter.db.repository.R2dbcMessageOutboxRepository;
+import notification.definition.enums.OutboxStatus;
+import notification.definition.vo.JsonPayload;
+import notification.definition.vo.outbox.MessageOutbox;
+import notification.definition.vo.outbox.OutboxId;
+import reactor.test.StepVerifier;
+
+@DataR2dbcTest
+@Import({ OutboxPartitionKeyInitializer.class, MessageOutboxRepositoryAdapter.class, OutboxInstanceId.class,
+        OutboxPartitioner.class })
+public class OutboxPartitionKeyInitializerTest extends MariadbTestContainerConfig {
+
+    @Autowired
+    private OutboxPartitionKeyInitializer initializer;
+
+    @Autowired
+    private MessageOutboxRepositoryAdapter messageOutboxRepositoryAdapter;
+
+    @Autowired
+    private R2dbcMessageOutboxRepository r2dbcMessageOutboxRepository;
+
+    @Autowired
+    private OutboxPartitioner outboxPartitioner;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @AfterEach
+    void tearDown() {
+        r2dbcMessageOutboxRepository.deleteAll().block();
+    }
+
+    @Test
+    @DisplayName("파티션 수 범위를 벗어난 partition_key만 현재 파티션 수 기준으로 다시 계산한다")
+    void repairOutOfRangeKeys_shouldRecomputeOnlyOutOfRangeKeys() {
+        // given - 이전 파티션 수(예: 64)로 계산된 행
+        OutboxId outboxId = OutboxId.generate();
+        messageOutboxRepositoryAdapter.save(new MessageOutbox(
+                outboxId, "aggregate-1", JsonPayload.of("{\"message\": \"test\"}"),
+                0, Instant.now(), OutboxStatus.PENDING, null, null)).block();
+        databaseClient.sql("UPDATE message_outbox SET partition_key = 40 WHERE outbox_id = ?")
+                .bind(0, outboxId.value())
+                .fetch()
+                .rowsUpdated()
+                .block();
+
+        // when & then
+        StepVerifier.create(initializer.repairOutOfRangeKeys())
+                .expectNext(1L)
+                .verifyComplete();
+        assertEquals(outboxPartitioner.partitionOf("aggregate-1"), partitionKeyOf(outboxId));
+
+        StepVerifier.create(initializer.repairOutOfRangeKeys())
+                .expectNext(0L)
+                .verifyComplete();
+    }
+
+    //
+    private Integer partitionKeyOf(OutboxId outboxId) {
+        return databaseClient.sql("SELECT partition_key FROM message_outbox WHERE outbox_id = ?")
+                .bind(0, outboxId.value())
+                .map(row -> row.get("partition_key", Integer.class))
+                .one()
+                .block();
+    }
+
+}
@@ -0,0 +1,115 @@
+package notification.adapter.mq.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.testcontainers.kafka.KafkaContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import notification.adapter.mq.config.KafkaProducerProperties.Tuning;
+import reactor.core.publisher.Flux;
+import reactor.kafka.sender.KafkaSender;
+import reactor.kafka.sender.SenderOptions;
+import reactor.kafka.sender.SenderRecord;
+
+/**
+ * 기본 Producer 설정과 튜닝된 Producer 설정의 발행 처리량(msgs/sec)을 비교합니다.
+ *
+ * - baseline : 튜닝 이전 KafkaProducerConfig와 동일한 설정
+ * - tuned    : KafkaProducerConfig.createSenderOptions의 기본 튜닝 설정
+ *
+ * 호출마다 BATCH개의 레코드를 발행하고 모든 ack를 기다리므로, 결과는 초당 ack된 메시지 수입니다.
+ * -Dkafka.bootstrap-servers를 지정하면 해당 브로커를, 지정하지 않으면 Testcontainers Kafka 브로커를 사용합니다.
+ *
+ * 실행: ./gradlew :adapter:mq:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class KafkaProducerThroughputBenchmark {
+
+    private static final int BATCH = 5_000;
+    private static final String TOPIC = "benchmark-notification-topic";
+    private static final String PAYLOAD = "{\"messageId\":\"%s\",\"body\":\"" + "x".repeat(300) + "\"}";
+
+    @Param({ "baseline", "tuned" })
+    private String config;
+
+    private KafkaContainer kafka;
+    private KafkaSenderSchedulers schedulers;
+    private KafkaSender<String, String> sender;
+
+    @Setup
+    @SuppressWarnings("resource")
+    public void setUp() {
+        String bootstrapServers = System.getProperty("kafka.bootstrap-servers");
+        if (bootstrapServers == null) {
+            kafka = new KafkaContainer(DockerImageName.parse("apache/kafka-native:3.8.0"))
+                    .withEnv("KAFKA_AUTO_CREATE_TOPICS_ENABLE", "true");
+            kafka.start();
+            bootstrapServers = kafka.getBootstrapServers();
+        }
+
+        schedulers = new KafkaSenderSchedulers();
+        SenderOptions<String, String> options = "tuned".equals(config)
+                ? KafkaProducerConfig.createSenderOptions(bootstrapServers, "all", 3, Tuning.defaults(),
+                        "benchmark", schedulers)
+                : baselineOptions(bootstrapServers);
+        sender = KafkaSender.create(options);
+
+        send(1_000); // 토픽 생성 및 메타데이터 로딩
+    }
+
+    @TearDown
+    public void tearDown() {
+        sender.close();
+        schedulers.dispose();
+        if (kafka != null) {
+            kafka.stop();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long send() {
+        return send(BATCH);
+    }
+
+    //
+    private long send(int count) {
+        return sender.send(Flux.range(0, count)
+                .map(i -> SenderRecord.create(new ProducerRecord<>(TOPIC, "key-" + i, PAYLOAD.formatted(i)), i)))
+                .filter(result -> result.exception() == null)
+                .count()
+                .block(Duration.ofMinutes(5));
+    }
+
+    /**
+     * 튜닝 이전 KafkaProducerConfig와 동일한 설정입니다.
+     */
+    private SenderOptions<String, String> baselineOptions(String bootstrapServers) {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        props.put(ProducerConfig.RETRIES_CONFIG, 3);
+        return SenderOptions.create(props);
+    }
+
+}
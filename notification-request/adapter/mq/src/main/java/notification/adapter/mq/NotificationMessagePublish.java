@@ -6,8 +6,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import notification.adapter.mq.mapper.NotificationMessagePayloadMapper;
 import notification.adapter.mq.support.KafkaMessagePublishRouter;
+import notification.adapter.mq.support.KafkaMessageStreamPublisher;
+import notification.application.notifiation.dto.NotificationMessagePublishResult;
 import notification.application.notifiation.port.outbound.message.NotificationMessagePublishPort;
 import notification.domain.NotificationMessage;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Slf4j
@@ -17,6 +20,7 @@ public class NotificationMessagePublish implements NotificationMessagePublishPor
 
     private final NotificationMessagePayloadMapper payloadMapper;
     private final KafkaMessagePublishRouter publishRouter;
+    private final KafkaMessageStreamPublisher streamPublisher;
 
     @Override
     public Mono<Void> publish(NotificationMessage message) {
@@ -27,4 +31,9 @@ public class NotificationMessagePublish implements NotificationMessagePublishPor
         });
     }
 
-}
\ No newline at end of file
+    @Override
+    public Flux<NotificationMessagePublishResult> publishAll(Flux<NotificationMessage> messages) {
+        return streamPublisher.publishAll(messages);
+    }
+
+}
@@ -0,0 +1,42 @@
+package notification.adapter.mq.config;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
+import notification.domain.enums.NotificationType;
+import reactor.kafka.sender.KafkaSender;
+
+/**
+ * 채널별 KafkaSender를 제공합니다.
+ * 채널별 튜닝 설정이 없는 채널은 기본 KafkaSender를 공유합니다.
+ */
+public class KafkaChannelSenders {
+
+    private final KafkaSender<String, String> defaultSender;
+    private final Map<NotificationType, KafkaSender<String, String>> channelSenders;
+
+    public KafkaChannelSenders(KafkaSender<String, String> defaultSender,
+            Map<NotificationType, KafkaSender<String, String>> channelSenders) {
+        this.defaultSender = defaultSender;
+        this.channelSenders = channelSenders.isEmpty()
+                ? new EnumMap<>(NotificationType.class)
+                : new EnumMap<>(channelSenders);
+    }
+
+    public KafkaSender<String, String> get(NotificationType type) {
+        return channelSenders.getOrDefault(type, defaultSender);
+    }
+
+    public Collection<KafkaSender<String, String>> channelSenders() {
+        return channelSenders.values();
+    }
+
+    /**
+     * 채널 전용 KafkaSender를 닫습니다. 기본 KafkaSender는 별도 빈으로 관리됩니다.
+     */
+    public void close() {
+        channelSenders.values().forEach(KafkaSender::close);
+    }
+
+}
@@ -1,18 +1,25 @@
 package notification.adapter.mq.config;
 
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import lombok.extern.slf4j.Slf4j;
+import notification.adapter.mq.config.KafkaProducerProperties.Tuning;
+import notification.domain.enums.NotificationType;
 import reactor.kafka.sender.KafkaSender;
 import reactor.kafka.sender.SenderOptions;
 
+@Slf4j
 @Configuration
+@EnableConfigurationProperties(KafkaProducerProperties.class)
 public class KafkaProducerConfig {
 
     @Value("${spring.kafka.bootstrap-servers}")
@@ -24,20 +31,24 @@ public class KafkaProducerConfig {
     @Value("${spring.kafka.producer.retries:3}")
     private int retries;
 
+    /**
+     * KafkaSender 전용 발행 스케줄러를 관리하는 빈을 생성합니다.
+     * 이 빈을 사용하는 KafkaSender가 먼저 닫힌 뒤 스케줄러가 정리됩니다.
+     */
+    @Bean(destroyMethod = "dispose")
+    public KafkaSenderSchedulers kafkaSenderSchedulers() {
+        return new KafkaSenderSchedulers();
+    }
+
     /**
      * Kafka SenderOptions 빈을 생성합니다.
      * 이 옵션은 Kafka Producer의 설정을 정의합니다.
      */
     @Bean
-    public SenderOptions<String, String> kafkaSenderOptions() {
-        Map<String, Object> props = new HashMap<>();
-        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        props.put(ProducerConfig.ACKS_CONFIG, acks);
-        props.put(ProducerConfig.RETRIES_CONFIG, retries);
-
-        return SenderOptions.create(props);
+    public SenderOptions<String, String> kafkaSenderOptions(KafkaProducerProperties producerProperties,
+            KafkaSenderSchedulers kafkaSenderSchedulers) {
+        return createSenderOptions(bootstrapServers, acks, retries, producerProperties.getTuning(), "default",
+                kafkaSenderSchedulers);
     }
 
     /**
@@ -50,4 +61,69 @@ public class KafkaProducerConfig {
         return KafkaSender.create(kafkaSenderOptions);
     }
 
+    /**
+     * 채널별 KafkaSender를 생성합니다.
+     * 채널별 튜닝 설정이 있는 채널만 전용 KafkaSender를 만들고, 나머지는 기본 KafkaSender를 사용합니다.
+     */
+    @Bean(destroyMethod = "close")
+    public KafkaChannelSenders kafkaChannelSenders(KafkaSender<String, String> kafkaNotificationSender,
+            KafkaProducerProperties producerProperties, KafkaSenderSchedulers kafkaSenderSchedulers) {
+        Map<NotificationType, KafkaSender<String, String>> channelSenders = new EnumMap<>(NotificationType.class);
+        for (NotificationType type : producerProperties.getChannels().keySet()) {
+            Tuning tuning = producerProperties.resolve(type);
+            String clientName = type.name().toLowerCase();
+
+            log.info("Creating dedicated Kafka producer for channel: {}", type);
+            channelSenders.put(type, KafkaSender.create(
+                    createSenderOptions(bootstrapServers, acks, retries, tuning, clientName, kafkaSenderSchedulers)));
+        }
+
+        return new KafkaChannelSenders(kafkaNotificationSender, channelSenders);
+    }
+
+    /**
+     * 튜닝 설정을 반영한 SenderOptions를 생성합니다.
+     *
+     * @param bootstrapServers Kafka 브로커 주소
+     * @param acks             acks 설정
+     * @param retries          재시도 횟수
+     * @param tuning           Producer 튜닝 설정
+     * @param clientName       client.id 및 스케줄러 이름에 사용할 이름
+     * @param schedulers       전용 발행 스케줄러를 생성하고 정리할 객체
+     * @return SenderOptions
+     */
+    static SenderOptions<String, String> createSenderOptions(String bootstrapServers, String acks, int retries,
+            Tuning tuning, String clientName, KafkaSenderSchedulers schedulers) {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.ACKS_CONFIG, acks);
+        props.put(ProducerConfig.RETRIES_CONFIG, retries);
+        props.put(ProducerConfig.CLIENT_ID_CONFIG, "notification-producer-" + clientName);
+
+        // 배치 및 압축
+        props.put(ProducerConfig.LINGER_MS_CONFIG, tuning.getLingerMs());
+        props.put(ProducerConfig.BATCH_SIZE_CONFIG, tuning.getBatchSize());
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, tuning.getCompressionType());
+        props.put(ProducerConfig.BUFFER_MEMORY_CONFIG, tuning.getBufferMemory());
+
+        // 멱등성 (acks=all, max.in.flight.requests.per.connection <= 5 필요)
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, tuning.getEnableIdempotence());
+        props.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, tuning.getMaxInFlightRequestsPerConnection());
+
+        // 전송 결과 확정 시간 (이 시간 안에 성공 또는 실패가 SenderResult로 전달됨)
+        props.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, tuning.getDeliveryTimeoutMs());
+
+        SenderOptions<String, String> senderOptions = SenderOptions.<String, String>create(props)
+                .maxInFlight(tuning.getMaxInFlight())
+                .stopOnError(false); // 개별 레코드 실패가 장기 실행 발행 스트림을 종료시키지 않도록 함
+
+        if (tuning.getSchedulerThreads() != null && tuning.getSchedulerThreads() > 0) {
+            senderOptions = senderOptions.scheduler(schedulers.newParallel(clientName, tuning.getSchedulerThreads()));
+        }
+
+        return senderOptions;
+    }
+
 }
@@ -0,0 +1,85 @@
+package notification.adapter.mq.config;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+import notification.domain.enums.NotificationType;
+
+/**
+ * Kafka Producer 튜닝 설정입니다. (app.kafka.producer)
+ *
+ * tuning 값이 모든 채널에 적용되며, channels에 지정한 채널은 지정한 항목만 덮어쓴 별도의 Producer를 사용합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.kafka.producer")
+public class KafkaProducerProperties {
+
+    private Tuning tuning = Tuning.defaults();
+
+    private Map<NotificationType, Tuning> channels = new EnumMap<>(NotificationType.class);
+
+    /**
+     * 채널별 최종 튜닝 값을 반환합니다. 채널 설정이 없으면 null을 반환합니다.
+     */
+    public Tuning resolve(NotificationType type) {
+        Tuning override = channels.get(type);
+        return override == null ? null : tuning.merge(override);
+    }
+
+    @Getter
+    @Setter
+    public static class Tuning {
+
+        private Integer lingerMs; // linger.ms - 배치를 채우기 위해 대기하는 시간
+        private Integer batchSize; // batch.size - 파티션별 배치 최대 크기 (bytes)
+        private String compressionType; // compression.type - none, gzip, snappy, lz4, zstd
+        private Boolean enableIdempotence; // enable.idempotence
+        private Long bufferMemory; // buffer.memory - 전송 대기 레코드 버퍼 크기 (bytes)
+        private Integer maxInFlightRequestsPerConnection; // max.in.flight.requests.per.connection (멱등성 사용 시 5 이하)
+        private Integer deliveryTimeoutMs; // delivery.timeout.ms - 레코드 전송 결과(성공/실패)가 확정되기까지의 최대 시간 (linger.ms + request.timeout.ms 이상)
+        private Integer maxInFlight; // reactor-kafka SenderOptions.maxInFlight - 응답 대기 중인 최대 레코드 수
+        private Integer schedulerThreads; // reactor-kafka 결과 발행 스케줄러 스레드 수 (0이면 기본 스케줄러)
+
+        public static Tuning defaults() {
+            Tuning tuning = new Tuning();
+            tuning.setLingerMs(5);
+            tuning.setBatchSize(64 * 1024);
+            tuning.setCompressionType("lz4");
+            tuning.setEnableIdempotence(true);
+            tuning.setBufferMemory(64L * 1024 * 1024);
+            tuning.setMaxInFlightRequestsPerConnection(5);
+            tuning.setDeliveryTimeoutMs(120000);
+            tuning.setMaxInFlight(1024);
+            tuning.setSchedulerThreads(0);
+            return tuning;
+        }
+
+        /**
+         * override에 지정된 항목만 덮어쓴 새 Tuning을 반환합니다.
+         */
+        public Tuning merge(Tuning override) {
+            Tuning merged = new Tuning();
+            merged.setLingerMs(pick(override.getLingerMs(), lingerMs));
+            merged.setBatchSize(pick(override.getBatchSize(), batchSize));
+            merged.setCompressionType(pick(override.getCompressionType(), compressionType));
+            merged.setEnableIdempotence(pick(override.getEnableIdempotence(), enableIdempotence));
+            merged.setBufferMemory(pick(override.getBufferMemory(), bufferMemory));
+            merged.setMaxInFlightRequestsPerConnection(
+                    pick(override.getMaxInFlightRequestsPerConnection(), maxInFlightRequestsPerConnection));
+            merged.setDeliveryTimeoutMs(pick(override.getDeliveryTimeoutMs(), deliveryTimeoutMs));
+            merged.setMaxInFlight(pick(override.getMaxInFlight(), maxInFlight));
+            merged.setSchedulerThreads(pick(override.getSchedulerThreads(), schedulerThreads));
+            return merged;
+        }
+
+        private static <T> T pick(T override, T base) {
+            return override != null ? override : base;
+        }
+    }
+
+}
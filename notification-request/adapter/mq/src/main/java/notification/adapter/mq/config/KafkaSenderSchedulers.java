@@ -0,0 +1,40 @@
+package notification.adapter.mq.config;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * KafkaSender 전용 발행 스케줄러를 생성하고, 종료 시 함께 정리합니다.
+ *
+ * KafkaSender.close()는 SenderOptions에 지정한 스케줄러를 정리하지 않으므로,
+ * 직접 만든 스케줄러는 이 객체가 보관했다가 dispose()에서 정리합니다.
+ */
+public class KafkaSenderSchedulers {
+
+    private final List<Scheduler> schedulers = new CopyOnWriteArrayList<>();
+
+    /**
+     * 발행 스케줄러를 생성합니다.
+     *
+     * @param clientName 스케줄러 이름에 사용할 이름
+     * @param threads    스레드 수
+     * @return Scheduler
+     */
+    public Scheduler newParallel(String clientName, int threads) {
+        Scheduler scheduler = Schedulers.newParallel("kafka-sender-" + clientName, threads);
+        schedulers.add(scheduler);
+        return scheduler;
+    }
+
+    /**
+     * 생성한 스케줄러를 모두 정리합니다. KafkaSender를 닫은 뒤 호출합니다.
+     */
+    public void dispose() {
+        schedulers.forEach(Scheduler::dispose);
+        schedulers.clear();
+    }
+
+}
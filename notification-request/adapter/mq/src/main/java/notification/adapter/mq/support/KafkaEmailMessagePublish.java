@@ -9,12 +9,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import notification.adapter.mq.config.KafkaChannelSenders;
 import notification.adapter.mq.payload.EmailMessagePayload;
 import notification.definition.exceptions.ObjectConversionException;
 import notification.domain.enums.NotificationType;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.kafka.sender.KafkaSender;
 import reactor.kafka.sender.SenderRecord;
 
 @Slf4j
@@ -22,7 +22,7 @@ import reactor.kafka.sender.SenderRecord;
 @RequiredArgsConstructor
 public final class KafkaEmailMessagePublish implements KafkaMessagePublishSupport<EmailMessagePayload> {
 
-    private final KafkaSender<String, String> kafkaSender;
+    private final KafkaChannelSenders kafkaChannelSenders;
     private final ObjectMapper objectMapper;
 
     @Value("${app.kafka.topic.notification}")
@@ -41,7 +41,7 @@ public final class KafkaEmailMessagePublish implements KafkaMessagePublishSuppor
         return serializeMessage(payload)
                 .map(messageJson -> new ProducerRecord<>(topic, messageId, messageJson))
                 .map(producerRecord -> SenderRecord.create(producerRecord, messageId))
-                .flatMapMany(senderRecord -> kafkaSender.send(Flux.just(senderRecord)))
+                .flatMapMany(senderRecord -> kafkaChannelSenders.get(getType()).send(Flux.just(senderRecord)))
                 .flatMap(result -> {
                     if (result.exception() != null) {
                         return Mono.error(result.exception());
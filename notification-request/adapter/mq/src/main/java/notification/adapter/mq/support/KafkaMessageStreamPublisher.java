@@ -0,0 +1,258 @@
+package notification.adapter.mq.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import notification.adapter.mq.config.KafkaChannelSenders;
+import notification.adapter.mq.mapper.NotificationMessagePayloadMapper;
+import notification.application.notifiation.dto.NotificationMessagePublishResult;
+import notification.definition.exceptions.ObjectConversionException;
+import notification.domain.NotificationMessage;
+import notification.domain.enums.NotificationType;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.publisher.Sinks;
+import reactor.kafka.sender.KafkaSender;
+import reactor.kafka.sender.SenderRecord;
+
+/**
+ * 모든 채널의 알림 메시지를 장기 실행 KafkaSender 스트림으로 발행합니다.
+ * 채널별 Producer 튜닝 설정이 없으면 모든 채널이 하나의 스트림을 공유합니다.
+ *
+ * 메시지마다 send 파이프라인을 만들지 않고, 애플리케이션 시작 시 열어 둔 스트림에 레코드를 흘려보냅니다.
+ * 각 레코드의 correlation metadata에 발행 요청자를 담아 두고, SenderResult가 도착하면 해당 요청자에게
+ * 결과를 돌려줍니다.
+ *
+ * reactor-kafka는 전송 오류 시 스트림을 종료하므로, 스트림이 종료되면 아직 결과를 받지 못한 레코드를 실패 처리하고
+ * 다음 발행 시 새 스트림을 엽니다.
+ *
+ * 레코드별 응답 대기 timeout은 두지 않습니다. timeout 후에도 Producer 버퍼의 레코드가 전송될 수 있어 재시도 시 중복 발송되므로,
+ * Producer의 delivery.timeout.ms가 확정한 결과(성공 또는 실패)만 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KafkaMessageStreamPublisher {
+
+    private static final Duration EMIT_TIMEOUT = Duration.ofSeconds(1); // 다른 스레드의 전달을 기다리는 최대 시간
+
+    private final KafkaChannelSenders kafkaChannelSenders;
+    private final NotificationMessagePayloadMapper payloadMapper;
+    private final ObjectMapper objectMapper;
+
+    private final Map<NotificationType, RecordStream> channelStreams = new EnumMap<>(NotificationType.class);
+    private final List<RecordStream> recordStreams = new ArrayList<>();
+
+    @Value("${app.kafka.topic.notification}")
+    private String notificationTopic;
+
+    @Value("${app.kafka.producer.max-pending-records:1024}")
+    private int maxPendingRecords = 1024;
+
+    /**
+     * 장기 실행 KafkaSender 스트림을 시작합니다.
+     * KafkaSender 하나당 스트림 하나를 열며, 같은 KafkaSender를 사용하는 채널은 스트림을 공유합니다.
+     */
+    @PostConstruct
+    public void start() {
+        Map<KafkaSender<String, String>, RecordStream> streamBySender = new IdentityHashMap<>();
+        for (NotificationType type : NotificationType.values()) {
+            KafkaSender<String, String> sender = kafkaChannelSenders.get(type);
+            channelStreams.put(type, streamBySender.computeIfAbsent(sender, this::openStream));
+        }
+    }
+
+    /**
+     * 스트림을 닫습니다. 이미 전달된 레코드는 KafkaSender가 전송을 마무리합니다.
+     */
+    @PreDestroy
+    public void stop() {
+        recordStreams.forEach(RecordStream::stop);
+    }
+
+    //
+    private RecordStream openStream(KafkaSender<String, String> sender) {
+        RecordStream recordStream = new RecordStream(sender);
+        recordStream.open();
+        recordStreams.add(recordStream);
+        return recordStream;
+    }
+
+    /**
+     * 알림 메시지들을 일괄 발행하고, 메시지별 발행 결과를 반환합니다.
+     *
+     * @param messages 알림 메시지 Flux
+     * @return 메시지별 발행 결과 Flux
+     */
+    public Flux<NotificationMessagePublishResult> publishAll(Flux<NotificationMessage> messages) {
+        return messages.flatMap(message -> send(message)
+                .thenReturn(NotificationMessagePublishResult.success(message))
+                .onErrorResume(e -> {
+                    log.error("Failed to publish message '{}' to Kafka: {}",
+                            message.getMessageId().value(), e.getMessage(), e);
+                    return Mono.just(NotificationMessagePublishResult.failure(message, e));
+                }), maxPendingRecords);
+    }
+
+    //
+    private Mono<Void> send(NotificationMessage message) {
+        return toProducerRecord(message)
+                .flatMap(producerRecord -> Mono.<Void>create(sink -> channelStreams.get(message.getNotificationType())
+                        .emit(producerRecord, new PendingRecord(sink))));
+    }
+
+    //
+    private Mono<ProducerRecord<String, String>> toProducerRecord(NotificationMessage message) {
+        String topic = notificationTopic + "." + message.getNotificationType().name().toLowerCase();
+        String messageId = message.getMessageId().value();
+
+        return payloadMapper.toPayload(message)
+                .map(payload -> {
+                    try {
+                        return objectMapper.writeValueAsString(payload);
+                    } catch (JsonProcessingException e) {
+                        throw new ObjectConversionException(e.getMessage());
+                    }
+                })
+                .map(messageJson -> new ProducerRecord<>(topic, messageId, messageJson));
+    }
+
+    /**
+     * 하나의 KafkaSender로 레코드를 흘려보내는 스트림입니다.
+     * 스트림이 종료되면 결과를 받지 못한 레코드를 실패 처리하고, 다음 발행 시 새 스트림을 엽니다.
+     */
+    static final class RecordStream {
+
+        private final KafkaSender<String, String> sender;
+
+        private volatile Generation current;
+        private volatile boolean stopped;
+
+        RecordStream(KafkaSender<String, String> sender) {
+            this.sender = sender;
+        }
+
+        synchronized void open() {
+            if (stopped || (current != null && !current.terminated)) {
+                return;
+            }
+
+            Generation generation = new Generation(Sinks.many().unicast().onBackpressureBuffer());
+            current = generation;
+            generation.subscription = sender.send(generation.sink.asFlux())
+                    .subscribe(result -> generation.complete(result.correlationMetadata(), result.exception()),
+                            e -> {
+                                log.error("Kafka sender stream terminated: {}", e.getMessage(), e);
+                                generation.terminate(e);
+                            },
+                            () -> generation.terminate(null));
+        }
+
+        void emit(ProducerRecord<String, String> producerRecord, PendingRecord pendingRecord) {
+            Generation generation = current;
+            if (generation.terminated) {
+                open();
+                generation = current;
+            }
+            generation.emit(SenderRecord.create(producerRecord, pendingRecord));
+        }
+
+        synchronized void stop() {
+            stopped = true;
+            Generation generation = current;
+            if (generation != null) {
+                generation.sink.tryEmitComplete();
+                generation.subscription.dispose();
+            }
+        }
+    }
+
+    /**
+     * 하나의 send 구독과, 그 구독에 전달되어 결과를 기다리는 레코드들입니다.
+     */
+    static final class Generation {
+
+        private final Sinks.Many<SenderRecord<String, String, PendingRecord>> sink;
+        private final Set<PendingRecord> outstanding = ConcurrentHashMap.newKeySet();
+
+        private volatile Disposable subscription;
+        private volatile boolean terminated;
+
+        Generation(Sinks.Many<SenderRecord<String, String, PendingRecord>> sink) {
+            this.sink = sink;
+        }
+
+        void emit(SenderRecord<String, String, PendingRecord> senderRecord) {
+            PendingRecord pendingRecord = senderRecord.correlationMetadata();
+            outstanding.add(pendingRecord);
+
+            // 여러 스레드가 동시에 전달하면 FAIL_NON_SERIALIZED 가 반환되므로 EMIT_TIMEOUT 동안만 재시도합니다.
+            long deadline = System.nanoTime() + EMIT_TIMEOUT.toNanos();
+            Sinks.EmitResult result = sink.tryEmitNext(senderRecord);
+            while (result == Sinks.EmitResult.FAIL_NON_SERIALIZED && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+                result = sink.tryEmitNext(senderRecord);
+            }
+
+            if (result.isFailure()) {
+                fail(pendingRecord, new IllegalStateException("Kafka sender stream rejected record: " + result));
+            } else if (terminated) {
+                // 종료 처리와 경합한 레코드는 스트림에 전달되지 않았을 수 있으므로 직접 실패 처리합니다.
+                fail(pendingRecord, new IllegalStateException("Kafka sender stream terminated"));
+            }
+        }
+
+        void complete(PendingRecord pendingRecord, Exception exception) {
+            outstanding.remove(pendingRecord);
+            pendingRecord.complete(exception);
+        }
+
+        void terminate(Throwable cause) {
+            terminated = true;
+            sink.tryEmitComplete();
+
+            IllegalStateException exception = new IllegalStateException("Kafka sender stream terminated", cause);
+            outstanding.forEach(pendingRecord -> fail(pendingRecord, exception));
+        }
+
+        private void fail(PendingRecord pendingRecord, Exception exception) {
+            if (outstanding.remove(pendingRecord)) {
+                pendingRecord.complete(exception);
+            }
+        }
+    }
+
+    /**
+     * SenderResult를 발행 요청자에게 돌려주기 위한 correlation metadata 입니다.
+     */
+    record PendingRecord(MonoSink<Void> sink) {
+
+        void complete(Exception exception) {
+            if (exception != null) {
+                sink.error(exception);
+            } else {
+                sink.success();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,75 @@
+package notification.adapter.mq.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import notification.adapter.mq.config.KafkaProducerProperties.Tuning;
+import notification.domain.enums.NotificationType;
+import reactor.kafka.sender.SenderOptions;
+
+@DisplayName("KafkaProducerProperties 테스트")
+class KafkaProducerPropertiesTest {
+
+    @Test
+    @DisplayName("채널 설정은 지정한 항목만 기본 튜닝 값을 덮어쓴다")
+    void resolve_shouldOverrideOnlySpecifiedFields() {
+        // given
+        KafkaProducerProperties properties = new KafkaProducerProperties();
+        Tuning smsOverride = new Tuning();
+        smsOverride.setLingerMs(0);
+        smsOverride.setCompressionType("zstd");
+        properties.getChannels().put(NotificationType.SMS, smsOverride);
+
+        // when
+        Tuning resolved = properties.resolve(NotificationType.SMS);
+
+        // then
+        assertEquals(0, resolved.getLingerMs());
+        assertEquals("zstd", resolved.getCompressionType());
+        assertEquals(properties.getTuning().getBatchSize(), resolved.getBatchSize());
+        assertEquals(properties.getTuning().getEnableIdempotence(), resolved.getEnableIdempotence());
+        assertNull(properties.resolve(NotificationType.EMAIL));
+    }
+
+    @Test
+    @DisplayName("튜닝 값이 Producer 설정과 SenderOptions에 반영된다")
+    void createSenderOptions_shouldApplyTuning() {
+        // given
+        Tuning tuning = Tuning.defaults();
+        tuning.setMaxInFlight(2048);
+
+        // when
+        SenderOptions<String, String> options = KafkaProducerConfig.createSenderOptions(
+                "localhost:9092", "all", 3, tuning, "test", new KafkaSenderSchedulers());
+
+        // then
+        assertEquals(5, options.producerProperty(ProducerConfig.LINGER_MS_CONFIG));
+        assertEquals(64 * 1024, options.producerProperty(ProducerConfig.BATCH_SIZE_CONFIG));
+        assertEquals("lz4", options.producerProperty(ProducerConfig.COMPRESSION_TYPE_CONFIG));
+        assertEquals(true, options.producerProperty(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG));
+        assertEquals(120000, options.producerProperty(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG));
+        assertEquals(2048, options.maxInFlight());
+        assertFalse(options.stopOnError());
+    }
+
+    @Test
+    @DisplayName("전용 발행 스케줄러는 dispose 시 함께 정리된다")
+    void createSenderOptions_shouldDisposeDedicatedScheduler() {
+        // given
+        Tuning tuning = Tuning.defaults();
+        tuning.setSchedulerThreads(2);
+        KafkaSenderSchedulers schedulers = new KafkaSenderSchedulers();
+
+        // when
+        SenderOptions<String, String> options = KafkaProducerConfig.createSenderOptions(
+                "localhost:9092", "all", 3, tuning, "test", schedulers);
+        schedulers.dispose();
+
+        // then
+        assertTrue(options.scheduler().isDisposed());
+    }
+
+}
@@ -0,0 +1,193 @@
+package notification.adapter.mq.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import notification.adapter.mq.config.KafkaChannelSenders;
+import notification.adapter.mq.mapper.NotificationMessagePayloadMapper;
+import notification.application.notifiation.dto.NotificationMessagePublishResult;
+import notification.domain.NotificationMessage;
+import notification.domain.enums.DeliveryStatus;
+import notification.domain.enums.NotificationType;
+import notification.domain.vo.NotificationContent;
+import notification.domain.vo.NotificationMessageId;
+import notification.domain.vo.NotificationRequestId;
+import notification.domain.vo.recipient.Recipient;
+import notification.domain.vo.sender.SmsSender;
+import reactor.core.publisher.Flux;
+import reactor.kafka.sender.KafkaSender;
+import reactor.kafka.sender.SenderRecord;
+import reactor.kafka.sender.SenderResult;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("KafkaMessageStreamPublisher 테스트")
+class KafkaMessageStreamPublisherTest {
+
+    @Mock
+    private KafkaSender<String, String> kafkaSender;
+
+    @Mock
+    private ObjectMapper objectMapper;
+
+    private KafkaMessageStreamPublisher streamPublisher;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        streamPublisher = new KafkaMessageStreamPublisher(new KafkaChannelSenders(kafkaSender, Map.of()),
+                new NotificationMessagePayloadMapper(), objectMapper);
+
+        var field = KafkaMessageStreamPublisher.class.getDeclaredField("notificationTopic");
+        field.setAccessible(true);
+        field.set(streamPublisher, "test-notification-topic");
+
+        when(objectMapper.writeValueAsString(any())).thenReturn("{}");
+    }
+
+    @AfterEach
+    void tearDown() {
+        streamPublisher.stop();
+    }
+
+    @DisplayName("모든 메시지를 하나의 send 스트림으로 발행하고, 메시지별 결과를 반환한다")
+    @Test
+    void publishAll_shouldUseSingleSenderStream() {
+        // given
+        when(kafkaSender.send(any())).thenAnswer(invocation -> {
+            Flux<SenderRecord<String, String, KafkaMessageStreamPublisher.PendingRecord>> records = invocation
+                    .getArgument(0);
+            return records.map(record -> senderResult(record.correlationMetadata(), null));
+        });
+        streamPublisher.start();
+
+        List<NotificationMessage> messages = List.of(createMessage(), createMessage(), createMessage());
+
+        // when & then
+        StepVerifier.create(streamPublisher.publishAll(Flux.fromIterable(messages)).collectList())
+                .assertNext(results -> {
+                    assertThat(results).hasSize(3);
+                    assertThat(results).allMatch(NotificationMessagePublishResult::isSuccess);
+                    assertThat(results).extracting(NotificationMessagePublishResult::message)
+                            .containsExactlyInAnyOrderElementsOf(messages);
+                })
+                .verifyComplete();
+
+        verify(kafkaSender, times(1)).send(any());
+    }
+
+    @DisplayName("전송에 실패한 메시지는 실패 결과로 반환되고, 나머지 메시지는 계속 발행된다")
+    @Test
+    void publishAll_shouldReturnFailureResultPerMessage() {
+        // given
+        NotificationMessage failedMessage = createMessage();
+        NotificationMessage successMessage = createMessage();
+
+        when(kafkaSender.send(any())).thenAnswer(invocation -> {
+            Flux<SenderRecord<String, String, KafkaMessageStreamPublisher.PendingRecord>> records = invocation
+                    .getArgument(0);
+            return records.map(record -> senderResult(record.correlationMetadata(),
+                    record.key().equals(failedMessage.getMessageId().value())
+                            ? new RuntimeException("Kafka 전송 실패")
+                            : null));
+        });
+        streamPublisher.start();
+
+        // when & then
+        StepVerifier.create(streamPublisher.publishAll(Flux.just(failedMessage, successMessage)).collectList())
+                .assertNext(results -> {
+                    assertThat(results).hasSize(2);
+                    assertThat(results).filteredOn(r -> !r.isSuccess())
+                            .extracting(NotificationMessagePublishResult::message)
+                            .containsExactly(failedMessage);
+                    assertThat(results).filteredOn(NotificationMessagePublishResult::isSuccess)
+                            .extracting(NotificationMessagePublishResult::message)
+                            .containsExactly(successMessage);
+                })
+                .verifyComplete();
+    }
+
+    @DisplayName("send 스트림이 오류로 종료되면 결과를 기다리던 메시지는 실패하고, 다음 발행은 새 스트림으로 전송된다")
+    @Test
+    void publishAll_shouldReopenStreamAfterSenderError() {
+        // given
+        NotificationMessage failedMessage = createMessage();
+        NotificationMessage nextMessage = createMessage();
+
+        when(kafkaSender.send(any()))
+                .thenAnswer(invocation -> {
+                    Flux<SenderRecord<String, String, KafkaMessageStreamPublisher.PendingRecord>> records = invocation
+                            .getArgument(0);
+                    return records.flatMap(record -> Flux.<SenderResult<KafkaMessageStreamPublisher.PendingRecord>>error(
+                            new RuntimeException("Kafka 전송 실패")));
+                })
+                .thenAnswer(invocation -> {
+                    Flux<SenderRecord<String, String, KafkaMessageStreamPublisher.PendingRecord>> records = invocation
+                            .getArgument(0);
+                    return records.map(record -> senderResult(record.correlationMetadata(), null));
+                });
+        streamPublisher.start();
+
+        // when & then
+        StepVerifier.create(streamPublisher.publishAll(Flux.just(failedMessage)))
+                .assertNext(result -> {
+                    assertThat(result.isSuccess()).isFalse();
+                    assertThat(result.message()).isEqualTo(failedMessage);
+                })
+                .verifyComplete();
+
+        StepVerifier.create(streamPublisher.publishAll(Flux.just(nextMessage)))
+                .assertNext(result -> {
+                    assertThat(result.isSuccess()).isTrue();
+                    assertThat(result.message()).isEqualTo(nextMessage);
+                })
+                .verifyComplete();
+
+        verify(kafkaSender, times(2)).send(any());
+    }
+
+    private NotificationMessage createMessage() {
+        Recipient recipient = new Recipient("user123", "test@example.com", "01012345678", "device-token-123", "ko");
+        NotificationContent content = new NotificationContent("테스트 제목", "테스트 내용", null, null);
+
+        return new NotificationMessage(
+                NotificationMessageId.create(), NotificationRequestId.create(), NotificationType.SMS, recipient,
+                content, new SmsSender("01000000000", "SMS 발신자"), DeliveryStatus.PENDING, null, null, null,
+                Instant.now());
+    }
+
+    private <T> SenderResult<T> senderResult(T correlationMetadata, Exception exception) {
+        return new SenderResult<>() {
+            @Override
+            public RecordMetadata recordMetadata() {
+                return null;
+            }
+
+            @Override
+            public Exception exception() {
+                return exception;
+            }
+
+            @Override
+            public T correlationMetadata() {
+                return correlationMetadata;
+            }
+        };
+    }
+
+}
@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.time.Instant;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,6 +17,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import notification.adapter.mq.config.KafkaChannelSenders;
 import notification.adapter.mq.payload.SmsMessagePayload;
 import notification.definition.exceptions.ObjectConversionException;
 import notification.domain.enums.NotificationType;
@@ -40,7 +42,7 @@ class KafkaSmsMessagePublishTest {
 
     @BeforeEach
     void setUp() {
-        kafkaSmsMessagePublish = new KafkaSmsMessagePublish(kafkaSender, objectMapper);
+        kafkaSmsMessagePublish = new KafkaSmsMessagePublish(new KafkaChannelSenders(kafkaSender, Map.of()), objectMapper);
         // Set the notificationTopic field via reflection since it's injected by @Value
         setNotificationTopic("test-notification-topic");
     }
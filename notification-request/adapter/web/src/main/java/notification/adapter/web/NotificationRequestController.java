@@ -10,6 +10,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import notification.adapter.web.constants.MyHttpHeaders;
@@ -31,7 +32,7 @@ public class NotificationRequestController {
     @PostMapping("/notifications")
     @ResponseStatus(HttpStatus.CREATED)
     public Mono<NotificationRequestResponse> handleNotificationRequest(
-            @NotEmpty @RequestHeader(name = MyHttpHeaders.IDEMPOTENCY_KEY) String idempotencyKey,
+            @NotEmpty @Size(max = 36) @RequestHeader(name = MyHttpHeaders.IDEMPOTENCY_KEY) String idempotencyKey, // idempotency_key 컬럼 길이
             @Valid @RequestBody NotificationCreateRequest request) {
         log.info("Received notification request: [{}] {}", idempotencyKey, request);
 
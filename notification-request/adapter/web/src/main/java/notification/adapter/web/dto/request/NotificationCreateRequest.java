@@ -87,6 +87,7 @@ public class NotificationCreateRequest {
         private List<DirectRecipientRequest> directRecipients; // 비회원 직접 수신자
         private String segment; // 세그먼트 (예: "LOYAL_CUSTOMERS_PURCHASE_OVER_1M")
         private Boolean allUsers; // 전체 사용자 대상 여부 (Boolean 객체로 null 허용)
+        private Map<String, Map<String, String>> userParameters; // 회원 사용자 ID별 템플릿 파라미터 (선택 사항)
 
         // 적어도 하나의 수신자 정보가 있어야 한다는 커스텀 유효성 검증
         @AssertTrue(message = "At least one recipient type (userIds, directRecipients, segment, or allUsers) must be specified")
@@ -112,6 +113,7 @@ public class NotificationCreateRequest {
         private String phoneNumber;
         private String email;
         private String deviceToken;
+        private Map<String, String> parameters; // 수신자별 템플릿 파라미터 (선택 사항)
 
         // 적어도 하나의 연락처 정보가 있어야 한다는 커스텀 유효성 검증
         @AssertTrue(message = "At least one contact method (phoneNumber, email, or deviceToken) must be provided for direct recipient")
@@ -79,7 +79,8 @@ public class NotificationCreateRequestMapper {
                 request.getUserIds(),
                 directRecipientsCommand,
                 request.getSegment(),
-                request.getAllUsers());
+                request.getAllUsers(),
+                request.getUserParameters());
     }
 
     private DirectRecipientCommand toDirectRecipientCommand(DirectRecipientRequest request) {
@@ -87,7 +88,8 @@ public class NotificationCreateRequestMapper {
             return null;
         }
 
-        return new DirectRecipientCommand(request.getPhoneNumber(), request.getEmail(), request.getDeviceToken());
+        return new DirectRecipientCommand(request.getPhoneNumber(), request.getEmail(), request.getDeviceToken(),
+                request.getParameters());
     }
 
     private SenderInfoCommand toSenderInfoCommand(SenderInfoRequest request) {
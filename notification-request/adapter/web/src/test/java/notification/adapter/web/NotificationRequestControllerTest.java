@@ -96,6 +96,20 @@ class NotificationRequestControllerTest {
                 .expectStatus().isBadRequest();
     }
 
+    @Test
+    void handleNotificationRequest_tooLongIdempotencyKey() {
+        // when & then
+        webTestClient.post()
+                .uri("/api/v1/notifications")
+                .header(MyHttpHeaders.IDEMPOTENCY_KEY, "k".repeat(37))
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(createTestRequest())
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verifyNoInteractions(notificationRequestReceviedService);
+    }
+
     @Test
     void handleNotificationRequest_invalidRequestBody() {
         // when & then
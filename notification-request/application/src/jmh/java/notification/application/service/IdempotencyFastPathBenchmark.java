@@ -0,0 +1,172 @@
+package notification.application.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import notification.application.common.port.outbound.JsonPayloadConverterPort;
+import notification.application.common.port.outbound.UnitOfWorkExecutorPort;
+import notification.application.idempotency.Idempotency;
+import notification.application.idempotency.IdempotencyFastPath;
+import notification.application.idempotency.IdempotencyPurgeBatch;
+import notification.application.idempotency.port.outbound.IdempotentRepositoryPort;
+import notification.definition.enums.Propagation;
+import notification.definition.vo.JsonPayload;
+import reactor.core.publisher.Mono;
+
+/**
+ * 멱등성 처리의 요청당 지연 시간 분포(p99 포함)를 측정합니다.
+ *
+ * DB 왕복은 고정 지연(dbLatencyMicros)으로 흉내 내며, 실제 POST /api/v1/notifications의
+ * 개선 폭은 MariaDB 왕복 시간에 비례합니다.
+ *
+ * - newKey : 처음 보는 키 (예약 + 결과 기록)
+ * - retry  : 완료된 키의 재시도 (fast path: DB를 거치지 않고 캐시에서 응답)
+ *
+ * 실행: ./gradlew :application:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IdempotencyFastPathBenchmark {
+
+    @Param({ "true", "false" })
+    private boolean fastPathEnabled;
+
+    @Param({ "300" })
+    private long dbLatencyMicros;
+
+    private IdempotentOperationService service;
+    private String completedKey;
+
+    @Setup
+    public void setUp() {
+        Duration latency = Duration.ofNanos(dbLatencyMicros * 1_000);
+        Map<String, Idempotency> table = new ConcurrentHashMap<>();
+
+        IdempotentRepositoryPort repository = new IdempotentRepositoryPort() {
+            @Override
+            public Mono<Idempotency> save(Idempotency idempotency) {
+                return Mono.delay(latency).then(Mono.fromCallable(() -> {
+                    table.put(idempotency.idempotencyKey(), idempotency);
+                    return idempotency;
+                }));
+            }
+
+            @Override
+            public Mono<Idempotency> findById(String idempotencyKey, String operationType) {
+                return Mono.delay(latency).then(Mono.fromCallable(() -> table.get(idempotencyKey)));
+            }
+
+            @Override
+            public Mono<Boolean> reserve(Idempotency reservation) {
+                return Mono.delay(latency).then(Mono.fromCallable(
+                        () -> table.putIfAbsent(reservation.idempotencyKey(), reservation) == null));
+            }
+
+            @Override
+            public Mono<Boolean> takeOver(Idempotency reservation, Instant staleBefore) {
+                return Mono.delay(latency).thenReturn(false);
+            }
+
+            @Override
+            public Mono<Boolean> complete(Idempotency completed) {
+                return Mono.delay(latency).then(Mono.fromCallable(() -> {
+                    table.put(completed.idempotencyKey(), completed);
+                    return true;
+                }));
+            }
+
+            @Override
+            public Mono<Void> release(Idempotency reservation) {
+                return Mono.delay(latency).then(Mono.fromRunnable(() -> table.remove(reservation.idempotencyKey())));
+            }
+
+            @Override
+            public Mono<IdempotencyPurgeBatch> deleteExpiredBatch(String operationType,
+                    Collection<String> excludedOperationTypes, Instant before, IdempotencyPurgeBatch after,
+                    int batchSize) {
+                return Mono.just(IdempotencyPurgeBatch.empty());
+            }
+        };
+
+        service = new IdempotentOperationService(repository, new PlainJsonConverter(), new PassThroughUnitOfWork(),
+                new IdempotencyFastPath(fastPathEnabled, 100_000, 0.01, 10_000, 600_000));
+
+        completedKey = UUID.randomUUID().toString();
+        service.performOperation(completedKey, "BENCHMARK", Mono.just("done"), String.class).block();
+    }
+
+    @Benchmark
+    public String newKey() {
+        return service.performOperation(UUID.randomUUID().toString(), "BENCHMARK", Mono.just("done"), String.class)
+                .block();
+    }
+
+    @Benchmark
+    public String retry() {
+        return service.performOperation(completedKey, "BENCHMARK", Mono.just("done"), String.class).block();
+    }
+
+    private static final class PlainJsonConverter implements JsonPayloadConverterPort {
+
+        @Override
+        public JsonPayload toJsonPayload(Object object) {
+            return new JsonPayload(toJson(object));
+        }
+
+        @Override
+        public String toJson(Object object) {
+            return String.valueOf(object);
+        }
+
+        @Override
+        public <T> T fromJsonPayload(JsonPayload payload, Class<T> clazz) {
+            return fromJson(payload.value(), clazz);
+        }
+
+        @Override
+        public <T> T fromJson(String json, Class<T> clazz) {
+            return clazz.cast(json);
+        }
+    }
+
+    private static final class PassThroughUnitOfWork implements UnitOfWorkExecutorPort {
+
+        @Override
+        public <T> Mono<T> execute(Mono<T> transactionalFlow) {
+            return transactionalFlow;
+        }
+
+        @Override
+        public <T> Mono<T> execute(Mono<T> transactionalFlow, Propagation propagation) {
+            return transactionalFlow;
+        }
+
+        @Override
+        public <T> Mono<T> execute(Mono<T> transactionalFlow, Function<T, Mono<Void>> afterCommitAction) {
+            return transactionalFlow;
+        }
+
+        @Override
+        public <T> Mono<T> execute(Mono<T> transactionalFlow, Propagation propagation,
+                Function<T, Mono<Void>> afterCommitAction) {
+            return transactionalFlow;
+        }
+    }
+
+}
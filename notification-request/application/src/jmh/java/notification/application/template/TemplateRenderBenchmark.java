@@ -0,0 +1,85 @@
+package notification.application.template;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 수신자 1명당 템플릿 렌더링 비용을 측정합니다.
+ *
+ * - legacy   : 정규식으로 ${{var}} 바인딩 후, {{key}}를 다시 스캔하며 String.replace 반복
+ * - compiled : 한 번 컴파일된 CompiledTemplate으로 단일 패스 렌더링
+ *
+ * 실행: ./gradlew :application:jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TemplateRenderBenchmark {
+
+    private static final Pattern REQUEST_PLACEHOLDER = Pattern.compile("\\$\\{\\{(\\w+)\\}\\}");
+    private static final Pattern RECIPIENT_PLACEHOLDER = Pattern.compile("\\{\\{([^}]+)\\}\\}");
+
+    private static final String TEMPLATE = "{{userName}}님, 주문하신 ${{productName}} 상품이 ${{shippingCompany}}를 통해 "
+            + "발송되었습니다. 운송장 번호는 ${{trackingNumber}}입니다. {{userName}}님의 등급은 {{grade}}이며, "
+            + "다음 주문 시 {{couponCode}} 쿠폰을 사용할 수 있습니다.";
+
+    private Map<String, String> parameters;
+    private CompiledTemplate compiled;
+    private CompiledTemplate.VariableResolver resolver;
+
+    @Setup
+    public void setUp() {
+        parameters = Map.of(
+                "productName", "노트북",
+                "shippingCompany", "CJ대한통운",
+                "trackingNumber", "1234-5678-9012",
+                "grade", "VIP",
+                "couponCode", "WELCOME10");
+        compiled = CompiledTemplate.compile(TEMPLATE);
+        resolver = name -> "userName".equals(name) ? "홍길동" : parameters.get(name);
+    }
+
+    @Benchmark
+    public String legacy() {
+        // TemplateRenderingService.bindParameters (호출마다 Pattern 컴파일)
+        Matcher matcher = Pattern.compile(REQUEST_PLACEHOLDER.pattern()).matcher(TEMPLATE);
+        StringBuffer sb = new StringBuffer();
+        while (matcher.find()) {
+            matcher.appendReplacement(sb, Matcher.quoteReplacement(parameters.getOrDefault(matcher.group(1), "")));
+        }
+        matcher.appendTail(sb);
+
+        // NotificationContentBuilder.applyUserConfigParameters / applyTemplateParameters
+        String result = sb.toString().replace("{{userName}}", "홍길동");
+        Matcher keys = RECIPIENT_PLACEHOLDER.matcher(result);
+        String replaced = result;
+        while (keys.find()) {
+            String value = parameters.get(keys.group(1));
+            if (value != null) {
+                replaced = replaced.replace(keys.group(0), value);
+            }
+        }
+        return replaced;
+    }
+
+    @Benchmark
+    public String compiled() {
+        return compiled.render(resolver);
+    }
+
+    @Benchmark
+    public CompiledTemplate compileOnly() {
+        return CompiledTemplate.compile(TEMPLATE);
+    }
+
+}
@@ -12,4 +12,11 @@ public record Idempotency(
         JsonPayload data,
         Instant createdAt) {
 
+    /**
+     * 예약만 되고 아직 결과가 기록되지 않았는지 확인합니다.
+     */
+    public boolean isPending() {
+        return data == null || data.value() == null;
+    }
+
 }
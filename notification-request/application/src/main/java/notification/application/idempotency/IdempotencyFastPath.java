@@ -0,0 +1,89 @@
+package notification.application.idempotency;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import notification.definition.vo.JsonPayload;
+
+/**
+ * 멱등성 처리 시 DB 조회를 줄이기 위한 인스턴스 로컬 빠른 경로
+ * 
+ * - 최근 키 필터: 확실히 처음 보는 키는 완료 여부 조회 없이 바로 예약을 시도합니다.
+ * - 완료 결과 캐시: 클라이언트 재시도는 DB를 거치지 않고 저장된 결과로 응답합니다.
+ * 
+ * 인스턴스 로컬 정보이므로 DB가 최종 기준이며, 다른 인스턴스에서 처리된 키는
+ * 예약 실패로 감지되어 DB에 저장된 결과로 응답합니다.
+ */
+@Component
+public class IdempotencyFastPath {
+
+    private final boolean enabled;
+    private final RecentKeyFilter seenKeys;
+    private final Cache<String, JsonPayload> completedResults;
+
+    public IdempotencyFastPath(
+            @Value("${app.idempotency.fast-path.enabled:true}") boolean enabled,
+            @Value("${app.idempotency.fast-path.expected-keys:100000}") long expectedKeys,
+            @Value("${app.idempotency.fast-path.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${app.idempotency.fast-path.result-cache.maximum-size:10000}") long maximumSize,
+            @Value("${app.idempotency.fast-path.result-cache.ttl-ms:600000}") long ttlMs) {
+        this.enabled = enabled;
+        this.seenKeys = new RecentKeyFilter(expectedKeys, falsePositiveRate);
+        this.completedResults = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .build();
+    }
+
+    /**
+     * 키를 본 것으로 기록하고, 기록 전에 확실히 처음 보는 키였는지 반환합니다.
+     *
+     * @return true면 최근에 본 적이 없는 키 (DB 조회 생략 가능)
+     */
+    public boolean markSeen(String idempotencyKey, String operationType) {
+        if (!enabled) {
+            return false;
+        }
+
+        String key = cacheKey(idempotencyKey, operationType);
+        boolean definitelyNew = !seenKeys.mightContain(key);
+        seenKeys.put(key);
+        return definitelyNew;
+    }
+
+    /**
+     * 완료된 결과를 조회합니다.
+     *
+     * @return 저장된 결과, 없으면 null
+     */
+    public JsonPayload getCompletedResult(String idempotencyKey, String operationType) {
+        if (!enabled) {
+            return null;
+        }
+
+        return completedResults.getIfPresent(cacheKey(idempotencyKey, operationType));
+    }
+
+    /**
+     * 커밋된 결과를 기록합니다.
+     */
+    public void recordCompleted(Idempotency idempotency) {
+        if (!enabled || idempotency.data() == null) {
+            return;
+        }
+
+        String key = cacheKey(idempotency.idempotencyKey(), idempotency.operationType());
+        seenKeys.put(key);
+        completedResults.put(key, idempotency.data());
+    }
+
+    private static String cacheKey(String idempotencyKey, String operationType) {
+        return operationType + ":" + idempotencyKey;
+    }
+
+}
@@ -0,0 +1,26 @@
+package notification.application.idempotency;
+
+import java.time.Instant;
+
+import notification.definition.annotations.ValueObject;
+
+/**
+ * 멱등성 키 삭제 배치 결과이자 다음 배치의 키셋 커서
+ *
+ * @param deleted           삭제한 행 수
+ * @param lastCreatedAt     이번 배치에서 조회한 마지막 행의 created_at
+ * @param lastKey           이번 배치에서 조회한 마지막 행의 idempotency_key
+ * @param lastOperationType 이번 배치에서 조회한 마지막 행의 operation_type
+ */
+@ValueObject
+public record IdempotencyPurgeBatch(
+        long deleted,
+        Instant lastCreatedAt,
+        String lastKey,
+        String lastOperationType) {
+
+    public static IdempotencyPurgeBatch empty() {
+        return new IdempotencyPurgeBatch(0, null, null, null);
+    }
+
+}
@@ -0,0 +1,37 @@
+package notification.application.idempotency;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 멱등성 키 보관 설정입니다. (app.idempotency.retention)
+ *
+ * operations에 지정한 작업 유형은 지정한 기간만큼, 그 외 작업 유형은 defaultRetention만큼 보관합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.idempotency.retention")
+public class IdempotencyRetentionProperties {
+
+    private Duration defaultRetention = Duration.ofDays(1);
+
+    private Map<String, Duration> operations = new HashMap<>();
+
+    private int batchSize = 500; // 한 번에 삭제할 최대 행 수
+
+    private Duration batchDelay = Duration.ofMillis(50); // 배치 사이 대기 시간 (다른 트랜잭션에 락 양보)
+
+    /**
+     * 작업 유형별 보관 기간을 반환합니다.
+     */
+    public Duration retentionFor(String operationType) {
+        return operations.getOrDefault(operationType, defaultRetention);
+    }
+
+}
@@ -0,0 +1,138 @@
+package notification.application.idempotency;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 최근에 본 키를 기억하는 블룸 필터
+ * 
+ * mightContain이 false면 "확실히 처음 보는 키"이고, true면 "본 적이 있을 수도 있는 키"입니다.
+ * 무한히 쌓이면 오탐률이 높아지므로 두 세대(current / previous)를 두고,
+ * current가 expectedKeys만큼 차면 previous를 버리고 새 세대를 시작합니다.
+ * 따라서 최근 expectedKeys ~ 2 x expectedKeys개의 키를 기억합니다.
+ */
+public class RecentKeyFilter {
+
+    private final long expectedKeys;
+    private final int bitCount;
+    private final int hashCount;
+
+    private volatile Generation current;
+    private volatile Generation previous;
+
+    public RecentKeyFilter(long expectedKeys, double falsePositiveRate) {
+        if (expectedKeys <= 0) {
+            throw new IllegalArgumentException("expectedKeys must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+        }
+
+        // m = -n ln(p) / (ln 2)^2, k = m / n ln 2
+        long bits = (long) Math.ceil(-expectedKeys * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.expectedKeys = expectedKeys;
+        this.bitCount = (int) Math.min(Math.max(bits, Long.SIZE), Integer.MAX_VALUE - Long.SIZE);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedKeys * Math.log(2)));
+        this.current = new Generation(bitCount);
+        this.previous = new Generation(bitCount);
+    }
+
+    /**
+     * 키를 본 적이 있을 수도 있는지 확인합니다.
+     *
+     * @return false면 최근에 본 적이 없는 키
+     */
+    public boolean mightContain(String key) {
+        long hash = hash(key);
+        return current.mightContain(hash, bitCount, hashCount) || previous.mightContain(hash, bitCount, hashCount);
+    }
+
+    /**
+     * 키를 기록합니다.
+     */
+    public void put(String key) {
+        Generation generation = current;
+        generation.put(hash(key), bitCount, hashCount);
+        if (generation.size() >= expectedKeys) {
+            rotate(generation);
+        }
+    }
+
+    private synchronized void rotate(Generation full) {
+        if (current != full) {
+            return; // 다른 스레드가 이미 교체함
+        }
+
+        previous = full;
+        current = new Generation(bitCount);
+    }
+
+    /**
+     * 문자열의 64비트 해시 (FNV-1a + MurmurHash3 fmix64)
+     */
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    /**
+     * 한 세대의 비트 배열
+     * 두 해시(h1, h2)를 조합하여 k개의 비트 위치를 구합니다. (Kirsch-Mitzenmacher)
+     */
+    private static final class Generation {
+
+        private final AtomicLongArray words;
+        private final LongAdder size = new LongAdder();
+
+        Generation(int bitCount) {
+            this.words = new AtomicLongArray((bitCount + Long.SIZE - 1) / Long.SIZE);
+        }
+
+        boolean mightContain(long hash, int bitCount, int hashCount) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                int bit = index(h1 + i * h2, bitCount);
+                if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void put(long hash, int bitCount, int hashCount) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                int bit = index(h1 + i * h2, bitCount);
+                long mask = 1L << bit;
+                int word = bit >>> 6;
+                long old = words.get(word);
+                while ((old & mask) == 0 && !words.compareAndSet(word, old, old | mask)) {
+                    old = words.get(word);
+                }
+            }
+            size.increment();
+        }
+
+        long size() {
+            return size.sum();
+        }
+
+        private static int index(int combined, int bitCount) {
+            return (combined & Integer.MAX_VALUE) % bitCount;
+        }
+    }
+
+}
@@ -0,0 +1,14 @@
+package notification.application.idempotency.port.inbound;
+
+import reactor.core.publisher.Mono;
+
+public interface IdempotencyPurgeUseCase {
+
+    /**
+     * 보관 기간이 지난 멱등성 키를 작업 유형별로 삭제합니다.
+     *
+     * @return 삭제한 행 수
+     */
+    Mono<Long> purgeExpired();
+
+}
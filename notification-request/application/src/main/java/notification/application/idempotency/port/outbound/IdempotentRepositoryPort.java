@@ -1,6 +1,10 @@
 package notification.application.idempotency.port.outbound;
 
+import java.time.Instant;
+import java.util.Collection;
+
 import notification.application.idempotency.Idempotency;
+import notification.application.idempotency.IdempotencyPurgeBatch;
 import reactor.core.publisher.Mono;
 
 public interface IdempotentRepositoryPort {
@@ -22,4 +26,53 @@ public interface IdempotentRepositoryPort {
      */
     Mono<Idempotency> findById(String idempotencyKey, String operationType);
 
+    /**
+     * 결과가 비어 있는(PENDING) 멱등성 키를 한 번의 쿼리로 예약합니다.
+     * 같은 작업 유형에 이미 키가 존재하면 아무것도 변경하지 않습니다. (키는 작업 유형마다 독립)
+     *
+     * @param reservation 결과가 없는 멱등성 객체 (createdAt = 예약 시각)
+     * @return 이 호출로 예약했으면 true, 이미 존재하면 false
+     */
+    Mono<Boolean> reserve(Idempotency reservation);
+
+    /**
+     * staleBefore 이전에 예약된 채로 완료되지 않은 키를 새 예약 시각으로 넘겨받습니다.
+     *
+     * @param reservation 새 예약 (createdAt = 새 예약 시각)
+     * @param staleBefore 이 시각 이전의 예약만 넘겨받음
+     * @return 넘겨받았으면 true
+     */
+    Mono<Boolean> takeOver(Idempotency reservation, Instant staleBefore);
+
+    /**
+     * 예약한 키에 결과를 기록합니다.
+     * 예약 시각(createdAt)이 일치하고 아직 완료되지 않은 경우에만 기록합니다.
+     *
+     * @param completed 결과가 담긴 멱등성 객체
+     * @return 기록했으면 true, 예약을 다른 요청이 넘겨받았으면 false
+     */
+    Mono<Boolean> complete(Idempotency completed);
+
+    /**
+     * 완료되지 않은 예약을 해제합니다. (비즈니스 로직 실패 시, 재시도가 다시 실행할 수 있도록)
+     *
+     * @param reservation 해제할 예약
+     * @return Mono<Void>
+     */
+    Mono<Void> release(Idempotency reservation);
+
+    /**
+     * created_at이 before 이전인 멱등성 키를 (created_at, idempotency_key, operation_type) 순서의 키셋 페이지 하나만큼 삭제합니다.
+     * operationType을 지정하면 해당 작업 유형만, null이면 excludedOperationTypes를 제외한 작업 유형을 대상으로 합니다.
+     *
+     * @param operationType          대상 작업 유형 (null이면 제외 목록 기준)
+     * @param excludedOperationTypes operationType이 null일 때 제외할 작업 유형
+     * @param before                 이 시각 이전에 생성된 키만 삭제
+     * @param after                  이전 배치 결과 (첫 배치는 null)
+     * @param batchSize              한 번에 삭제할 최대 행 수
+     * @return 삭제 결과와 다음 배치의 커서
+     */
+    Mono<IdempotencyPurgeBatch> deleteExpiredBatch(String operationType, Collection<String> excludedOperationTypes,
+            Instant before, IdempotencyPurgeBatch after, int batchSize);
+
 }
@@ -0,0 +1,28 @@
+package notification.application.notifiation.dto;
+
+/**
+ * 알림 요청 Fan-out 커서입니다. 마지막으로 커밋된 수신자 위치를 가리킵니다.
+ *
+ * - recipientId: 마지막으로 커밋된 수신자 참조의 ID. 수신자 참조는 ID 순서로 처리되므로 이보다 앞선 참조는 모두 커밋된 것입니다.
+ * - userId: 전체 사용자 / 세그먼트 수신자의 경우 마지막으로 커밋된 사용자 ID. 재개 시 이 사용자 이후부터 keyset으로 다시 조회합니다.
+ *
+ * @param recipientId 마지막으로 커밋된 수신자 참조 ID, 아직 커밋된 수신자가 없으면 null
+ * @param userId      마지막으로 커밋된 사용자 ID, 없으면 null
+ */
+public record FanOutCursor(
+        String recipientId,
+        String userId) {
+
+    private static final FanOutCursor START = new FanOutCursor(null, null);
+
+    /**
+     * 아직 커밋된 수신자가 없는 커서를 반환합니다.
+     */
+    public static FanOutCursor start() {
+        return START;
+    }
+
+    public boolean isStart() {
+        return recipientId == null;
+    }
+}
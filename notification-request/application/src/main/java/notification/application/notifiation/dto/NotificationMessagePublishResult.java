@@ -0,0 +1,23 @@
+package notification.application.notifiation.dto;
+
+import notification.domain.NotificationMessage;
+
+/**
+ * 알림 메시지 일괄 발행 결과입니다. 발행한 메시지와 실패 원인을 함께 전달합니다.
+ */
+public record NotificationMessagePublishResult(
+        NotificationMessage message,
+        Throwable error) {
+
+    public static NotificationMessagePublishResult success(NotificationMessage message) {
+        return new NotificationMessagePublishResult(message, null);
+    }
+
+    public static NotificationMessagePublishResult failure(NotificationMessage message, Throwable error) {
+        return new NotificationMessagePublishResult(message, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
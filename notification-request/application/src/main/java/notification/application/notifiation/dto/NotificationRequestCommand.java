@@ -60,8 +60,14 @@ public record NotificationRequestCommand(
             List<String> userIds, // 회원 사용자 ID 리스트
             List<DirectRecipientCommand> directRecipients, // 비회원 직접 수신자
             String segment, // 세그먼트 (예: "LOYAL_CUSTOMERS_PURCHASE_OVER_1M")
-            Boolean allUsers // 전체 사용자 대상 여부
+            Boolean allUsers, // 전체 사용자 대상 여부
+            Map<String, Map<String, String>> userParameters // 회원 사용자 ID별 템플릿 파라미터
     ) {
+        public RecipientsCommand(List<String> userIds, List<DirectRecipientCommand> directRecipients,
+                String segment, Boolean allUsers) {
+            this(userIds, directRecipients, segment, allUsers, null);
+        }
+
         public RecipientsCommand {
             // 적어도 하나의 수신자 정보가 있어야 함
             boolean hasUserIds = userIds != null && !userIds.isEmpty();
@@ -81,7 +87,13 @@ public record NotificationRequestCommand(
     public record DirectRecipientCommand(
             String phoneNumber,
             String email,
-            String deviceToken) {
+            String deviceToken,
+            Map<String, String> parameters) { // 수신자별 템플릿 파라미터
+
+        public DirectRecipientCommand(String phoneNumber, String email, String deviceToken) {
+            this(phoneNumber, email, deviceToken, null);
+        }
+
         public DirectRecipientCommand {
             // 적어도 하나의 연락처 정보가 있어야 함
             if ((phoneNumber == null || phoneNumber.isBlank()) &&
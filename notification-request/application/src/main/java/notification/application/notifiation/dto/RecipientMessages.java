@@ -0,0 +1,17 @@
+package notification.application.notifiation.dto;
+
+import java.util.List;
+
+import notification.domain.NotificationMessage;
+
+/**
+ * 한 수신자에게 보낼 알림 메시지들과, 이 메시지들을 커밋한 뒤의 Fan-out 커서입니다.
+ * 한 수신자의 메시지는 항상 같은 chunk에서 함께 커밋됩니다.
+ *
+ * @param cursor   이 수신자까지 커밋되었음을 나타내는 커서
+ * @param messages 수신자의 알림 타입별 메시지
+ */
+public record RecipientMessages(
+        FanOutCursor cursor,
+        List<NotificationMessage> messages) {
+}
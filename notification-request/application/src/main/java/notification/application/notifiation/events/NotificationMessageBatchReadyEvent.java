@@ -0,0 +1,20 @@
+package notification.application.notifiation.events;
+
+import java.util.List;
+
+import org.springframework.context.ApplicationEvent;
+
+import lombok.Getter;
+import notification.definition.vo.outbox.MessageOutbox;
+
+@Getter
+public class NotificationMessageBatchReadyEvent extends ApplicationEvent {
+
+    private final List<MessageOutbox> messageOutboxes;
+
+    public NotificationMessageBatchReadyEvent(Object source, List<MessageOutbox> messageOutboxes) {
+        super(source);
+        this.messageOutboxes = messageOutboxes;
+    }
+
+}
@@ -0,0 +1,20 @@
+package notification.application.notifiation.events;
+
+import java.util.List;
+
+import org.springframework.context.ApplicationEvent;
+
+import lombok.Getter;
+import notification.definition.vo.outbox.RequestOutbox;
+
+@Getter
+public class NotificationRequestBatchReadyEvent extends ApplicationEvent {
+
+    private final List<RequestOutbox> requestOutboxes;
+
+    public NotificationRequestBatchReadyEvent(Object source, List<RequestOutbox> requestOutboxes) {
+        super(source);
+        this.requestOutboxes = requestOutboxes;
+    }
+
+}
@@ -75,8 +75,12 @@ public class NotificationRequestCommandMapper {
 
         List<RecipientReference> recipients = new ArrayList<>();
         if (recipientsCommand.userIds() != null && !recipientsCommand.userIds().isEmpty()) {
+            Map<String, Map<String, String>> userParameters = recipientsCommand.userParameters() != null
+                    ? recipientsCommand.userParameters()
+                    : Map.of();
+
             recipients.addAll(recipientsCommand.userIds().stream()
-                    .map(userId -> new UserRecipient(new UserId(userId)))
+                    .map(userId -> new UserRecipient(new UserId(userId), userParameters.get(userId)))
                     .toList());
         }
 
@@ -168,7 +172,8 @@ public class NotificationRequestCommandMapper {
         if (command == null) {
             return null; // 또는 기본값을 반환할 수 있음
         }
-        return new DirectRecipient(command.email(), command.phoneNumber(), command.deviceToken());
+        return new DirectRecipient(null, command.email(), command.phoneNumber(), command.deviceToken(),
+                command.parameters());
     }
 
 }
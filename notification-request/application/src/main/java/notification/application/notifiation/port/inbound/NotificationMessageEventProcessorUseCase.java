@@ -1,5 +1,7 @@
 package notification.application.notifiation.port.inbound;
 
+import java.util.List;
+
 import notification.definition.vo.outbox.MessageOutbox;
 import reactor.core.publisher.Mono;
 
@@ -13,4 +15,13 @@ public interface NotificationMessageEventProcessorUseCase {
      */
     Mono<Void> process(MessageOutbox outbox);
 
+    /**
+     * 여러 Outbox 메시지를 한 번에 처리합니다.
+     * 알림 메시지들을 일괄 발행하고, 발행 결과별로 상태를 업데이트합니다.
+     *
+     * @param outboxes MessageOutbox 목록
+     * @return 처리 결과
+     */
+    Mono<Void> processAll(List<MessageOutbox> outboxes);
+
 }
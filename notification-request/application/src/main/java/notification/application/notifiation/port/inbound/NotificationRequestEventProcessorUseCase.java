@@ -1,5 +1,7 @@
 package notification.application.notifiation.port.inbound;
 
+import java.util.List;
+
 import notification.definition.vo.outbox.RequestOutbox;
 import reactor.core.publisher.Mono;
 
@@ -13,4 +15,13 @@ public interface NotificationRequestEventProcessorUseCase {
      */
     Mono<Void> process(RequestOutbox outbox);
 
+    /**
+     * 여러 알림 요청 이벤트를 한 번에 처리합니다.
+     * 알림 요청들을 일괄 로드한 뒤, 요청별로 처리합니다.
+     *
+     * @param outboxes RequestOutbox 목록
+     * @return Mono<Void> 성공 시 빈 Mono 반환
+     */
+    Mono<Void> processAll(List<RequestOutbox> outboxes);
+
 }
@@ -1,6 +1,8 @@
 package notification.application.notifiation.port.outbound.message;
 
+import notification.application.notifiation.dto.NotificationMessagePublishResult;
 import notification.domain.NotificationMessage;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface NotificationMessagePublishPort {
@@ -13,4 +15,14 @@ public interface NotificationMessagePublishPort {
      */
     Mono<Void> publish(NotificationMessage message);
 
+    /**
+     * 알림 메시지들을 일괄 발행합니다.
+     * 메시지마다 발행 결과를 하나씩 반환하며, 개별 메시지의 실패는 에러 신호가 아닌 실패 결과로 전달됩니다.
+     * 결과의 순서는 입력 순서와 다를 수 있습니다.
+     *
+     * @param messages 알림 메시지 Flux
+     * @return 메시지별 발행 결과 Flux
+     */
+    Flux<NotificationMessagePublishResult> publishAll(Flux<NotificationMessage> messages);
+
 }
@@ -1,7 +1,13 @@
 package notification.application.notifiation.port.outbound.persistence;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
 import notification.domain.NotificationMessage;
+import notification.domain.enums.DeliveryStatus;
 import notification.domain.vo.NotificationMessageId;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface NotificationMessageRepositoryPort {
@@ -14,6 +20,15 @@ public interface NotificationMessageRepositoryPort {
      */
     Mono<NotificationMessage> save(NotificationMessage domain);
 
+    /**
+     * Inserts new notification messages with a single multi-row INSERT.
+     * All given notification messages must be new (not yet persisted).
+     *
+     * @param domains the new notification messages to insert
+     * @return Flux of the inserted notification messages
+     */
+    Flux<NotificationMessage> insertAll(List<NotificationMessage> domains);
+
     /**
      * Finds a notification message by its ID.
      *
@@ -29,4 +44,32 @@ public interface NotificationMessageRepositoryPort {
      */
     Mono<Void> deleteById(NotificationMessageId id);
 
+    /**
+     * Changes only the status columns of a notification message with a single conditional UPDATE.
+     * The row is updated only if its current status is still {@code expectedStatus}.
+     *
+     * @param id             the ID of the notification message
+     * @param expectedStatus status the row must currently have
+     * @param newStatus      status to set
+     * @param dispatchedAt   dispatched time to set
+     * @param failureReason  failure reason to set (nullable)
+     * @return true if the row was updated, false if the current status did not match
+     */
+    Mono<Boolean> updateStatus(NotificationMessageId id, DeliveryStatus expectedStatus, DeliveryStatus newStatus,
+            Instant dispatchedAt, String failureReason);
+
+    /**
+     * Changes the status of many notification messages with a single conditional UPDATE,
+     * e.g. after a batch of messages has been acknowledged by the broker.
+     * Each row gets its own dispatched time.
+     * Rows whose current status is not {@code expectedStatus} are left untouched.
+     *
+     * @param dispatchedAtById dispatched time to set, keyed by notification message ID
+     * @param expectedStatus   status the rows must currently have
+     * @param newStatus        status to set
+     * @return the number of updated rows
+     */
+    Mono<Long> updateStatusAll(Map<NotificationMessageId, Instant> dispatchedAtById, DeliveryStatus expectedStatus,
+            DeliveryStatus newStatus);
+
 }
@@ -1,7 +1,13 @@
 package notification.application.notifiation.port.outbound.persistence;
 
+import java.time.Instant;
+import java.util.Collection;
+
+import notification.application.notifiation.dto.FanOutCursor;
 import notification.domain.NotificationRequest;
+import notification.domain.enums.RequestStatus;
 import notification.domain.vo.NotificationRequestId;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface NotificationRequestRepositoryPort {
@@ -23,4 +29,51 @@ public interface NotificationRequestRepositoryPort {
      */
     Mono<NotificationRequest> findById(NotificationRequestId id);
 
+    /**
+     * Loads several aggregates at once. Each child table is read with a single
+     * IN query and the aggregates are assembled in memory.
+     * Ids that do not exist, or whose aggregate is incomplete, are not emitted.
+     *
+     * @param ids request ids
+     * @return NotificationRequest Flux (order not guaranteed)
+     */
+    Flux<NotificationRequest> findAllByIds(Collection<NotificationRequestId> ids);
+
+    /**
+     * Changes only the status columns of a request with a single conditional UPDATE.
+     * The row is updated only if its current status is still {@code expectedStatus}.
+     *
+     * @param id             request id
+     * @param expectedStatus status the row must currently have
+     * @param newStatus      status to set
+     * @param processedAt    processed time to set
+     * @param failureReason  failure reason to set (nullable)
+     * @return true if the row was updated, false if the current status did not match
+     */
+    Mono<Boolean> updateStatus(NotificationRequestId id, RequestStatus expectedStatus, RequestStatus newStatus,
+            Instant processedAt, String failureReason);
+
+    /**
+     * Returns the fan-out cursor of a request, i.e. the position of the last recipient
+     * already committed for it. Returns {@link FanOutCursor#start()} when nothing has been
+     * committed or the request does not exist.
+     *
+     * @param id request id
+     * @return the position of the last committed recipient
+     */
+    Mono<FanOutCursor> findFanOutCursor(NotificationRequestId id);
+
+    /**
+     * Moves the fan-out cursor of a PROCESSING request with a single conditional UPDATE.
+     * The row is updated only if its cursor is still {@code expectedCursor}, so that a
+     * concurrent or canceled fan-out cannot commit the same chunk twice.
+     *
+     * @param id             request id
+     * @param expectedCursor cursor the row must currently have
+     * @param newCursor      cursor to set
+     * @return true if the row was updated, false otherwise
+     */
+    Mono<Boolean> advanceFanOutCursor(NotificationRequestId id, FanOutCursor expectedCursor,
+            FanOutCursor newCursor);
+
 }
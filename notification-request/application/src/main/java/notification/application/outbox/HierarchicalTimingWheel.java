@@ -0,0 +1,161 @@
+package notification.application.outbox;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 지연 실행 항목을 보관하는 계층형 타이밍 휠입니다.
+ *
+ * - 가장 아래 단계는 tick 단위 슬롯 wheelSize개로 tick x wheelSize 범위를 담당합니다.
+ * - 범위를 넘는 항목은 tick이 아래 단계 전체 범위인 상위 단계(overflow)에 보관되며,
+ * 해당 슬롯의 시각이 되면 아래 단계로 내려옵니다.
+ * - 등록과 만료 처리는 항목 수와 무관하게 O(1)이며, 만료 시각 정밀도는 tick 입니다.
+ * - 스스로 시간을 진행하지 않으며, 호출자가 advance로 현재 시각을 알려줍니다.
+ *
+ * 여러 스레드에서 등록과 진행이 동시에 일어나므로 모든 메서드는 동기화되어 있습니다.
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private final Level<T> root;
+    private int size;
+
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, long startMs) {
+        if (tickMs <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tickMs and wheelSize must be positive");
+        }
+        this.root = new Level<>(tickMs, wheelSize, startMs);
+    }
+
+    /**
+     * 항목을 등록합니다. 만료 시각이 현재 tick 안에 있으면 등록하지 않습니다.
+     *
+     * @param item       등록할 항목
+     * @param deadlineMs 만료 시각 (epoch millis)
+     * @return 등록되었으면 true, 이미 만료되어 바로 실행해야 하면 false
+     */
+    public synchronized boolean add(T item, long deadlineMs) {
+        if (!root.add(new Entry<>(item, deadlineMs))) {
+            return false;
+        }
+
+        size++;
+        return true;
+    }
+
+    /**
+     * 휠을 주어진 시각까지 진행하고, 그 사이 만료된 항목을 반환합니다.
+     * 상위 단계에서 내려온 항목은 남은 시간에 맞는 슬롯에 다시 등록됩니다.
+     *
+     * @param nowMs 현재 시각 (epoch millis)
+     * @return 만료된 항목 목록 (만료 시각 순서는 보장하지 않음)
+     */
+    public synchronized List<T> advance(long nowMs) {
+        List<Entry<T>> flushed = new ArrayList<>();
+        root.advance(nowMs, flushed);
+
+        List<T> expired = new ArrayList<>();
+        for (Entry<T> entry : flushed) {
+            if (!root.add(entry)) {
+                expired.add(entry.item());
+            }
+        }
+
+        size -= expired.size();
+        return expired;
+    }
+
+    /**
+     * 만료 여부와 관계없이 보관 중인 모든 항목을 꺼내고 휠을 비웁니다.
+     *
+     * @return 보관 중이던 항목 목록
+     */
+    public synchronized List<T> drain() {
+        List<T> drained = new ArrayList<>(size);
+        root.drain(drained);
+        size = 0;
+        return drained;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private record Entry<T>(T item, long deadlineMs) {
+    }
+
+    /**
+     * 휠의 한 단계입니다. 슬롯 하나는 한 바퀴 안의 항목만 보관합니다.
+     */
+    private static final class Level<T> {
+
+        private final long tickMs;
+        private final int wheelSize;
+        private final long intervalMs;
+        private final List<ArrayDeque<Entry<T>>> buckets;
+
+        private long currentTime;
+        private Level<T> overflow;
+
+        private Level(long tickMs, int wheelSize, long startMs) {
+            this.tickMs = tickMs;
+            this.wheelSize = wheelSize;
+            this.intervalMs = tickMs * wheelSize;
+            this.currentTime = startMs - (startMs % tickMs);
+            this.buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new ArrayDeque<>());
+            }
+        }
+
+        private boolean add(Entry<T> entry) {
+            if (entry.deadlineMs() < currentTime + tickMs) {
+                return false;
+            }
+
+            if (entry.deadlineMs() < currentTime + intervalMs) {
+                bucketAt(entry.deadlineMs()).add(entry);
+                return true;
+            }
+
+            if (overflow == null) {
+                overflow = new Level<>(intervalMs, wheelSize, currentTime);
+            }
+            return overflow.add(entry);
+        }
+
+        /**
+         * 한 tick씩 진행하며 도달한 슬롯의 항목을 꺼냅니다.
+         * 상위 단계는 이 단계의 시각을 기준으로 함께 진행합니다.
+         */
+        private void advance(long timeMs, List<Entry<T>> flushed) {
+            while (currentTime + tickMs <= timeMs) {
+                currentTime += tickMs;
+
+                ArrayDeque<Entry<T>> bucket = bucketAt(currentTime);
+                flushed.addAll(bucket);
+                bucket.clear();
+
+                if (overflow != null) {
+                    overflow.advance(currentTime, flushed);
+                }
+            }
+        }
+
+        private void drain(List<T> drained) {
+            for (ArrayDeque<Entry<T>> bucket : buckets) {
+                bucket.forEach(entry -> drained.add(entry.item()));
+                bucket.clear();
+            }
+
+            if (overflow != null) {
+                overflow.drain(drained);
+            }
+        }
+
+        private ArrayDeque<Entry<T>> bucketAt(long timeMs) {
+            return buckets.get((int) ((timeMs / tickMs) % wheelSize));
+        }
+    }
+
+}
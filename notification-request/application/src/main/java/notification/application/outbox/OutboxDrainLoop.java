@@ -0,0 +1,106 @@
+package notification.application.outbox;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Outbox를 연속적으로 비우는 Drain Loop 입니다.
+ *
+ * - 조회한 배치가 가득 차 있으면 대기 없이 즉시 다시 조회합니다.
+ * - 일부만 채워져 있으면 최소 대기 시간 후 다시 조회합니다.
+ * - 비어 있으면 대기 시간을 최대 대기 시간까지 두 배씩 늘려가며 조회합니다.
+ * - 후속 처리 단계의 여유 용량만큼만 조회합니다.
+ * - 인스턴스당 하나의 Loop만 실행되며, 이미 실행 중이면 새 실행 요청은 무시됩니다.
+ */
+@Slf4j
+public class OutboxDrainLoop {
+
+    private final String name;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    private volatile Duration nextDelay = Duration.ZERO;
+
+    public OutboxDrainLoop(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Drain Loop를 실행합니다. 구독이 취소되기 전까지 완료되지 않습니다.
+     *
+     * @param batchSize         한 번에 조회할 최대 Outbox 수
+     * @param minDelay          배치가 가득 차지 않았을 때의 대기 시간
+     * @param maxDelay          빈 배치가 이어질 때의 최대 대기 시간
+     * @param availableCapacity 후속 처리 단계가 추가로 받을 수 있는 작업 수
+     * @param batchPoller       조회 개수(limit)를 받아 처리한 Outbox 수를 반환하는 함수
+     * @return Mono<Void>
+     */
+    public Mono<Void> run(int batchSize, Duration minDelay, Duration maxDelay,
+            IntSupplier availableCapacity, IntFunction<Mono<Long>> batchPoller) {
+        return Mono.defer(() -> {
+            if (!running.compareAndSet(false, true)) {
+                log.debug("{} drain loop is already running, skipping.", name);
+                return Mono.empty();
+            }
+
+            nextDelay = Duration.ZERO;
+            log.info("{} drain loop started. batchSize={}, minDelay={}, maxDelay={}",
+                    name, batchSize, minDelay, maxDelay);
+
+            return Mono.defer(() -> pollOnce(batchSize, minDelay, maxDelay, availableCapacity, batchPoller))
+                    .doOnNext(delay -> nextDelay = delay)
+                    .repeatWhen(companion -> companion.concatMap(signal -> Mono.delay(nextDelay)))
+                    .then()
+                    .doFinally(signal -> {
+                        running.set(false);
+                        log.info("{} drain loop stopped. signal={}", name, signal);
+                    });
+        });
+    }
+
+    /**
+     * 한 배치를 조회하고 다음 조회까지의 대기 시간을 반환합니다.
+     * 후속 처리 단계에 여유가 없으면 조회하지 않고 최소 대기 시간 후 다시 확인합니다.
+     */
+    private Mono<Duration> pollOnce(int batchSize, Duration minDelay, Duration maxDelay,
+            IntSupplier availableCapacity, IntFunction<Mono<Long>> batchPoller) {
+        int limit = Math.min(batchSize, availableCapacity.getAsInt());
+        if (limit <= 0) {
+            log.debug("{} dispatch stage is saturated, skipping poll.", name);
+            return Mono.just(minDelay);
+        }
+
+        return batchPoller.apply(limit)
+                .defaultIfEmpty(0L)
+                .onErrorResume(e -> {
+                    log.error("Error during {} drain loop batch: {}", name, e.getMessage(), e);
+                    return Mono.just(0L);
+                })
+                .map(fetched -> nextDelay(fetched, limit, nextDelay, minDelay, maxDelay));
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * 직전 배치의 조회 결과로 다음 조회까지의 대기 시간을 계산합니다.
+     */
+    static Duration nextDelay(long fetched, int limit, Duration current, Duration minDelay, Duration maxDelay) {
+        if (fetched >= limit) {
+            return Duration.ZERO;
+        }
+
+        if (fetched > 0 || current.isZero()) {
+            return minDelay;
+        }
+
+        Duration doubled = current.multipliedBy(2);
+        return doubled.compareTo(maxDelay) > 0 ? maxDelay : doubled;
+    }
+
+}
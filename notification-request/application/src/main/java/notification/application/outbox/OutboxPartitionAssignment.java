@@ -0,0 +1,127 @@
+package notification.application.outbox;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이 인스턴스가 조회를 담당하는 Outbox 파티션 목록입니다.
+ *
+ * - Outbox는 partition_key(CRC32(aggregate_id) % 파티션 수)로 나뉘며,
+ * 살아 있는 인스턴스(Heartbeat가 lease 시간 안에 갱신된 인스턴스)끼리 파티션을 나누어 조회합니다.
+ * - 분배는 Rendezvous Hashing으로 하므로, 모든 인스턴스가 같은 목록을 보면 서로 겹치지 않고 모든 파티션을 담당하며,
+ * 인스턴스가 추가되거나 빠질 때 해당 인스턴스의 몫만 옮겨갑니다.
+ * - 인스턴스마다 목록을 보는 시점이 달라 잠시 겹치거나 빌 수 있지만,
+ * 할당은 여전히 instance_id IS NULL 조건으로 이루어지므로 중복 처리는 없으며 다음 재분배에서 해소됩니다.
+ *
+ * 비활성화되어 있으면 모든 파티션을 조회합니다.
+ */
+@Slf4j
+@Component
+public class OutboxPartitionAssignment {
+
+    private final boolean enabled;
+    private final int partitionCount;
+
+    private volatile Set<Integer> owned = Set.of();
+
+    public OutboxPartitionAssignment(
+            @Value("${app.outbox.partition.enabled:false}") boolean enabled,
+            @Value("${app.outbox.partition.count:16}") int partitionCount) {
+        if (partitionCount <= 0) {
+            throw new IllegalArgumentException("app.outbox.partition.count must be positive");
+        }
+        this.enabled = enabled;
+        this.partitionCount = partitionCount;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 조회할 파티션 목록을 반환합니다. 비활성화되어 있으면 모든 파티션을 뜻하는 빈 목록을 반환합니다.
+     */
+    public Set<Integer> ownedPartitions() {
+        return enabled ? owned : Set.of();
+    }
+
+    /**
+     * 활성화되어 있지만 담당 파티션이 없으면 true를 반환합니다.
+     * 첫 재분배 전이거나 파티션 수보다 인스턴스가 많은 경우이며, 이때는 조회하지 않습니다.
+     */
+    public boolean ownsNothing() {
+        return enabled && owned.isEmpty();
+    }
+
+    /**
+     * 살아 있는 인스턴스 목록으로 담당 파티션을 다시 계산합니다.
+     *
+     * @param liveInstanceIds 살아 있는 인스턴스 ID 목록
+     * @param selfInstanceId  이 인스턴스 ID (목록에 없으면 함께 계산)
+     * @return 담당 파티션이 바뀌었으면 true
+     */
+    public boolean rebalance(Collection<String> liveInstanceIds, String selfInstanceId) {
+        if (!enabled) {
+            return false;
+        }
+
+        List<String> members = new ArrayList<>(liveInstanceIds);
+        if (!members.contains(selfInstanceId)) {
+            members.add(selfInstanceId);
+        }
+
+        Set<Integer> assigned = assign(members, selfInstanceId, partitionCount);
+        if (assigned.equals(owned)) {
+            return false;
+        }
+
+        log.info("Outbox partitions rebalanced. members={}, owned={} -> {}", members.size(), owned, assigned);
+        owned = assigned;
+        return true;
+    }
+
+    /**
+     * Rendezvous Hashing으로 각 파티션을 가중치가 가장 큰 인스턴스에 배정하고,
+     * 그중 self에 배정된 파티션을 반환합니다.
+     */
+    static Set<Integer> assign(Collection<String> instanceIds, String self, int partitionCount) {
+        Set<Integer> assigned = new TreeSet<>();
+        for (int partition = 0; partition < partitionCount; partition++) {
+            String winner = null;
+            long winnerWeight = 0;
+            for (String instanceId : instanceIds) {
+                long weight = weight(instanceId, partition);
+                // 가중치가 같으면 ID 순서로 정하여 모든 인스턴스가 같은 결과를 얻도록 합니다.
+                if (winner == null || weight > winnerWeight
+                        || (weight == winnerWeight && instanceId.compareTo(winner) < 0)) {
+                    winner = instanceId;
+                    winnerWeight = weight;
+                }
+            }
+
+            if (self.equals(winner)) {
+                assigned.add(partition);
+            }
+        }
+        return Collections.unmodifiableSet(assigned);
+    }
+
+    // String.hashCode는 JVM 간에 같은 값이 보장되므로 인스턴스마다 같은 가중치를 얻습니다.
+    private static long weight(String instanceId, int partition) {
+        long z = ((long) instanceId.hashCode() << 32) ^ (partition & 0xffffffffL);
+        z += 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+}
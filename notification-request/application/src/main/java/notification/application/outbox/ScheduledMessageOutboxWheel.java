@@ -0,0 +1,139 @@
+package notification.application.outbox;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import notification.definition.vo.outbox.MessageOutbox;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 곧 발송될 예약 메시지를 인스턴스 메모리에 보관했다가 발송 시각에 실행하는 타이밍 휠입니다.
+ *
+ * - Poller는 lookahead 범위 안에 발송 시각이 있는 Outbox까지 미리 할당(Claim)하고,
+ * 아직 시각이 되지 않은 Outbox를 이 휠에 등록합니다.
+ * - 휠은 tick마다 진행하며 발송 시각이 된 Outbox를 전달합니다.
+ * 폴링 주기와 무관하게 tick 정밀도로 발송됩니다.
+ * - 휠에 있는 Outbox는 DB에서 이 인스턴스에 할당된 IN_PROGRESS 상태이므로,
+ * 종료 시에는 drain으로 꺼내 할당을 해제해야 합니다.
+ *
+ * 휠에 있는 Outbox는 이 인스턴스의 Heartbeat가 유지되는 동안 다른 인스턴스가 해제하지 않으며,
+ * 인스턴스가 비정상 종료되면 lease 만료 후 다른 인스턴스가 다시 할당합니다.
+ */
+@Slf4j
+@Component
+public class ScheduledMessageOutboxWheel {
+
+    private static final int WHEEL_SIZE = 512;
+
+    private final Duration lookahead;
+    private final Duration tick;
+    private final int capacity;
+    private final HierarchicalTimingWheel<MessageOutbox> wheel;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public ScheduledMessageOutboxWheel(
+            @Value("${app.outbox.schedule.lookahead-ms:30000}") long lookaheadMs,
+            @Value("${app.outbox.schedule.tick-ms:100}") long tickMs,
+            @Value("${app.outbox.schedule.capacity:10000}") int capacity) {
+        this.lookahead = Duration.ofMillis(lookaheadMs);
+        this.tick = Duration.ofMillis(tickMs);
+        this.capacity = capacity;
+        this.wheel = new HierarchicalTimingWheel<>(tickMs, WHEEL_SIZE, System.currentTimeMillis());
+    }
+
+    /**
+     * 미리 할당할 Outbox의 발송 시각 상한을 반환합니다.
+     *
+     * @param now 현재 시각
+     * @return now + lookahead
+     */
+    public Instant horizon(Instant now) {
+        return now.plus(lookahead);
+    }
+
+    /**
+     * Outbox를 발송 시각에 실행되도록 등록합니다.
+     *
+     * @param outbox 할당된 Outbox
+     * @return 등록되었으면 true, 발송 시각이 이미 되어 바로 발행해야 하면 false
+     */
+    public boolean schedule(MessageOutbox outbox) {
+        Instant scheduledAt = outbox.getNextRetryAt();
+        if (scheduledAt == null) {
+            return false;
+        }
+
+        return wheel.add(outbox, scheduledAt.toEpochMilli());
+    }
+
+    /**
+     * 추가로 보관할 수 있는 Outbox 수를 반환합니다.
+     */
+    public int remainingCapacity() {
+        return Math.max(0, capacity - wheel.size());
+    }
+
+    public int size() {
+        return wheel.size();
+    }
+
+    /**
+     * tick마다 휠을 진행하고 발송 시각이 된 Outbox를 전달합니다.
+     * 구독이 취소되기 전까지 완료되지 않으며, 이미 실행 중이면 즉시 완료됩니다.
+     *
+     * @param onDue 발송 시각이 된 Outbox 목록을 발행하는 함수
+     * @return Mono<Void>
+     */
+    public Mono<Void> run(Function<List<MessageOutbox>, Mono<Void>> onDue) {
+        return Mono.defer(() -> {
+            if (!running.compareAndSet(false, true)) {
+                log.debug("Scheduled MessageOutbox wheel is already running, skipping.");
+                return Mono.empty();
+            }
+
+            log.info("Scheduled MessageOutbox wheel started. lookahead={}, tick={}, capacity={}",
+                    lookahead, tick, capacity);
+
+            return Flux.interval(tick)
+                    .onBackpressureDrop()
+                    .concatMap(ignored -> fireDue(onDue))
+                    .then()
+                    .doFinally(signal -> {
+                        running.set(false);
+                        log.info("Scheduled MessageOutbox wheel stopped. signal={}, remaining={}",
+                                signal, wheel.size());
+                    });
+        });
+    }
+
+    /**
+     * 보관 중인 모든 Outbox를 꺼냅니다. 종료 시 할당 해제 대상을 얻기 위해 사용합니다.
+     */
+    public List<MessageOutbox> drain() {
+        return wheel.drain();
+    }
+
+    //
+    private Mono<Void> fireDue(Function<List<MessageOutbox>, Mono<Void>> onDue) {
+        List<MessageOutbox> due = wheel.advance(System.currentTimeMillis());
+        if (due.isEmpty()) {
+            return Mono.empty();
+        }
+
+        // 발행에 실패한 Outbox의 할당 해제는 onDue가 담당하며, 실패해도 휠은 계속 진행합니다.
+        return onDue.apply(due)
+                .onErrorResume(e -> {
+                    log.error("Error publishing {} scheduled MessageOutbox: {}", due.size(), e.getMessage(), e);
+                    return Mono.empty();
+                });
+    }
+
+}
@@ -6,4 +6,11 @@ public interface MessageOutboxPollingUseCase {
 
     Mono<Void> poll();
 
+    /**
+     * 타이밍 휠에 보관 중인 예약 메시지의 할당을 해제합니다. 종료 시 호출합니다.
+     *
+     * @return 할당이 해제된 Outbox 수
+     */
+    Mono<Long> releaseScheduled();
+
 }
@@ -1,19 +1,48 @@
 package notification.application.outbox.port.inbound;
 
-import java.time.Instant;
+import java.util.Collection;
 
+import notification.definition.vo.outbox.OutboxId;
 import reactor.core.publisher.Mono;
 
 public interface OutboxCleanUpUseCase {
 
     /**
-     * Cleans up in-progress outbox messages that were created before the specified
-     * time.
-     * This is used to remove messages that are stuck in processing.
+     * Releases in-progress request and message outboxes claimed by instances
+     * whose heartbeat has expired, then removes those instances' heartbeat
+     * records. Claims of live instances are kept however long they take.
      *
-     * @param before the time before which in-progress messages should be cleaned up
-     * @return Mono<Long> indicating the number of messages cleaned up
+     * @return Mono<Long> indicating the number of outboxes released
      */
-    Mono<Void> cleanUpInProgressOutboxs(Instant before);
+    Mono<Long> recoverExpiredClaims();
+
+    /**
+     * Releases every in-progress request and message outbox claimed by this
+     * instance so that other instances can pick them up without waiting for the
+     * in-progress clean-up timeout.
+     *
+     * @return Mono<Long> indicating the number of outboxes released
+     */
+    Mono<Long> releaseClaimedByThisInstance();
+
+    /**
+     * Releases the given request outboxes claimed by this instance so that they
+     * are picked up by the next poll. Called when their processing task could
+     * not be accepted.
+     *
+     * @param outboxIds the IDs of the request outboxes to release
+     * @return Mono<Long> indicating the number of outboxes released
+     */
+    Mono<Long> releaseRequestOutboxes(Collection<OutboxId> outboxIds);
+
+    /**
+     * Releases the given message outboxes claimed by this instance so that they
+     * are picked up by the next poll. Called when their processing task could
+     * not be accepted.
+     *
+     * @param outboxIds the IDs of the message outboxes to release
+     * @return Mono<Long> indicating the number of outboxes released
+     */
+    Mono<Long> releaseMessageOutboxes(Collection<OutboxId> outboxIds);
 
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package notification.application.outbox.port.inbound;
+
+import reactor.core.publisher.Mono;
+
+public interface OutboxNodeHeartbeatUseCase {
+
+    /**
+     * 이 인스턴스가 살아 있음을 기록합니다. 기록이 lease 시간 안에 갱신되는 동안
+     * 이 인스턴스가 할당한 Outbox는 다른 인스턴스가 해제하지 않습니다.
+     * 파티션 할당을 사용하면 살아 있는 인스턴스 목록으로 담당 파티션도 다시 계산합니다.
+     */
+    Mono<Void> heartbeat();
+
+    /**
+     * 이 인스턴스의 Heartbeat 기록을 삭제합니다. 종료 시 할당을 해제한 뒤 호출합니다.
+     */
+    Mono<Void> deregister();
+
+}
@@ -1,6 +1,9 @@
 package notification.application.outbox.port.outbound;
 
+import java.util.List;
+
 import notification.definition.vo.outbox.MessageOutbox;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface MessageOutboxEventPublisherPort {
@@ -13,4 +16,27 @@ public interface MessageOutboxEventPublisherPort {
      */
     Mono<Void> publish(MessageOutbox MessageOutbox);
 
+    /**
+     * 여러 Outbox 메시지를 한 번에 발행합니다.
+     * 구현체가 일괄 처리를 지원하지 않으면 메시지별로 발행합니다.
+     *
+     * @param outboxes 발행할 Outbox 메시지 목록
+     * @return Mono<Void>
+     */
+    default Mono<Void> publishAll(List<MessageOutbox> outboxes) {
+        return Flux.fromIterable(outboxes)
+                .concatMap(this::publish)
+                .then();
+    }
+
+    /**
+     * 추가로 발행(처리)을 받을 수 있는 Outbox 수를 반환합니다.
+     * Poller는 이 값만큼만 Outbox를 조회합니다.
+     *
+     * @return 여유 용량, 제한이 없으면 Integer.MAX_VALUE
+     */
+    default int availableCapacity() {
+        return Integer.MAX_VALUE;
+    }
+
 }
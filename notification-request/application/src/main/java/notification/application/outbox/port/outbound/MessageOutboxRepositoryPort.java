@@ -1,6 +1,10 @@
 package notification.application.outbox.port.outbound;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 
 import notification.definition.vo.outbox.MessageOutbox;
 import notification.definition.vo.outbox.OutboxId;
@@ -16,6 +20,15 @@ public interface MessageOutboxRepositoryPort {
      */
     Mono<MessageOutbox> save(MessageOutbox domain);
 
+    /**
+     * Inserts new outbox messages with a single multi-row INSERT.
+     * All given outbox messages must be new (not yet persisted).
+     *
+     * @param domains the new outbox messages to insert
+     * @return Flux of the inserted outbox messages
+     */
+    Flux<MessageOutbox> insertAll(List<MessageOutbox> domains);
+
     /**
      * Finds an outbox message by its ID.
      *
@@ -47,25 +60,76 @@ public interface MessageOutboxRepositoryPort {
      */
     Mono<Void> deleteById(OutboxId id);
 
+    /**
+     * Deletes several outbox messages with a single statement.
+     *
+     * @param ids the IDs of the outbox messages to delete
+     * @return Mono<Void> indicating completion
+     */
+    Mono<Void> deleteAllByIds(Collection<OutboxId> ids);
+
     /**
      * Fetches outbox messages that are ready to be processed.
      * This method updates the status of the messages to IN_PROGRESS
      * and returns a limited number of messages for processing.
      *
-     * @param now   the current time to check against next retry times
+     * @param now   the time up to which next retry times are considered due
+     *              (the current time, or a lookahead horizon for scheduled messages)
      * @param limit the maximum number of messages to fetch
      * @return a Flux of outbox messages ready for processing
      */
-    Flux<MessageOutbox> fetchOutboxToProcess(Instant now, int limit);
+    default Flux<MessageOutbox> fetchOutboxToProcess(Instant now, int limit) {
+        return fetchOutboxToProcess(now, limit, Set.of());
+    }
+
+    /**
+     * Fetches outbox messages that are ready to be processed, restricted to the
+     * given partitions so that each instance only scans the partitions it owns.
+     *
+     * @param now        the time up to which next retry times are considered due
+     * @param limit      the maximum number of messages to fetch
+     * @param partitions the partition keys to fetch from, or empty for all
+     *                   partitions
+     * @return a Flux of outbox messages ready for processing
+     */
+    Flux<MessageOutbox> fetchOutboxToProcess(Instant now, int limit, Set<Integer> partitions);
+
+    /**
+     * Releases outbox messages claimed by this instance but not yet published,
+     * resetting them to PENDING and clearing the instance ID so they can be
+     * claimed again.
+     *
+     * @param ids the IDs of the claimed outbox messages to release
+     * @return Mono<Long> indicating the number of messages released
+     */
+    Mono<Long> releaseClaimed(Collection<OutboxId> ids);
+
+    /**
+     * Releases every in-progress outbox message claimed by this instance,
+     * resetting them to PENDING and clearing the instance ID so that other
+     * instances can claim them. Called on shutdown for claims that were not
+     * processed in time.
+     *
+     * @return Mono<Long> indicating the number of messages released
+     */
+    Mono<Long> releaseAllClaimed();
 
     /**
-     * Cleans up in-progress outbox messages that were created before the specified
-     * time.
-     * This is used to remove messages that are stuck in processing.
+     * Releases in-progress outbox messages whose claiming instance has stopped
+     * sending heartbeats, resetting them to PENDING so that live instances can
+     * claim them. Claims made within {@code leaseTimeout} are never released,
+     * so a freshly started instance keeps its work before its first heartbeat.
+     * Claims of live instances are kept however long they take. Only when
+     * {@code maxClaimAge} is positive (opt-in), claims older than it are
+     * released even if the instance is alive. Both ages are measured on the
+     * database clock.
      *
-     * @param before the time before which in-progress messages should be cleaned up
-     * @return Mono<Long> indicating the number of messages cleaned up
+     * @param leaseTimeout instances that have not sent a heartbeat for this
+     *                     long are considered dead
+     * @param maxClaimAge  claims older than this are considered abandoned;
+     *                     zero disables this check
+     * @return Mono<Long> indicating the number of messages released
      */
-    Mono<Long> cleanUpInProgressOutboxs(Instant before);
+    Mono<Long> releaseClaimsOfExpiredInstances(Duration leaseTimeout, Duration maxClaimAge);
 
 }
@@ -0,0 +1,56 @@
+package notification.application.outbox.port.outbound;
+
+import java.time.Duration;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface OutboxNodeRepositoryPort {
+
+    /**
+     * Records a heartbeat for this instance, registering it on the first call.
+     * Outbox claims of an instance are kept as long as its heartbeat is fresh.
+     * The heartbeat time is taken from the database clock so that instances
+     * with skewed clocks are compared on the same time base.
+     *
+     * @return Mono<Void> indicating completion
+     */
+    Mono<Void> heartbeat();
+
+    /**
+     * Removes this instance's heartbeat record. Called on shutdown after its
+     * claims have been released.
+     *
+     * @return Mono<Void> indicating completion
+     */
+    Mono<Void> deregister();
+
+    /**
+     * Deletes the heartbeat records of instances whose last heartbeat is older
+     * than the lease timeout, measured on the database clock.
+     *
+     * @param leaseTimeout instances that have not sent a heartbeat for this
+     *                     long are deleted
+     * @return Mono<Long> indicating the number of records deleted
+     */
+    Mono<Long> deleteExpired(Duration leaseTimeout);
+
+    /**
+     * Finds the instances that have sent a heartbeat within the lease timeout,
+     * measured on the database clock. Used to split outbox partitions among
+     * live instances.
+     *
+     * @param leaseTimeout instances that have sent a heartbeat within this
+     *                     long are returned
+     * @return a Flux of live instance ids
+     */
+    Flux<String> findLiveInstanceIds(Duration leaseTimeout);
+
+    /**
+     * Returns the id this instance records its heartbeats and claims under.
+     *
+     * @return this instance's id
+     */
+    String instanceId();
+
+}
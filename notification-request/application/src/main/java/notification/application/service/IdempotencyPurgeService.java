@@ -0,0 +1,71 @@
+package notification.application.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import notification.application.idempotency.IdempotencyPurgeBatch;
+import notification.application.idempotency.IdempotencyRetentionProperties;
+import notification.application.idempotency.port.inbound.IdempotencyPurgeUseCase;
+import notification.application.idempotency.port.outbound.IdempotentRepositoryPort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdempotencyPurgeService implements IdempotencyPurgeUseCase {
+
+    private final IdempotentRepositoryPort idempotencyRepository;
+    private final IdempotencyRetentionProperties retentionProperties;
+
+    /**
+     * 보관 기간이 지난 멱등성 키를 삭제합니다.
+     * 보관 기간을 따로 지정한 작업 유형을 먼저 처리하고, 나머지 작업 유형은 기본 보관 기간으로 처리합니다.
+     * 작은 배치로 나누어 삭제하므로 한 번에 오래 락을 잡지 않습니다.
+     *
+     * @return 삭제한 행 수
+     */
+    @Override
+    public Mono<Long> purgeExpired() {
+        Instant now = Instant.now();
+        Set<String> configuredOperations = Set.copyOf(retentionProperties.getOperations().keySet());
+
+        Flux<Long> configured = Flux.fromIterable(configuredOperations)
+                .concatMap(operationType -> purge(operationType, Set.of(),
+                        now.minus(retentionProperties.retentionFor(operationType))));
+        Flux<Long> others = Flux.defer(() -> purge(null, configuredOperations,
+                now.minus(retentionProperties.getDefaultRetention())).flux());
+
+        return configured.concatWith(others)
+                .reduce(0L, Long::sum)
+                .doOnSuccess(deleted -> log.info("Purged {} expired idempotency keys", deleted));
+    }
+
+    /**
+     * 한 작업 유형(또는 나머지 작업 유형)에 대해, 빈 배치가 나올 때까지 키셋 페이지 단위로 삭제합니다.
+     */
+    private Mono<Long> purge(String operationType, Set<String> excludedOperationTypes, Instant before) {
+        int batchSize = retentionProperties.getBatchSize();
+        Duration batchDelay = retentionProperties.getBatchDelay();
+
+        return idempotencyRepository.deleteExpiredBatch(operationType, excludedOperationTypes, before, null, batchSize)
+                .expand(batch -> batch.deleted() < batchSize
+                        ? Mono.empty()
+                        : Mono.delay(batchDelay).then(idempotencyRepository.deleteExpiredBatch(
+                                operationType, excludedOperationTypes, before, batch, batchSize)))
+                .map(IdempotencyPurgeBatch::deleted)
+                .reduce(0L, Long::sum)
+                .doOnNext(deleted -> {
+                    if (deleted > 0) {
+                        log.debug("Purged {} idempotency keys of {} created before {}", deleted,
+                                operationType != null ? operationType : "other operations", before);
+                    }
+                });
+    }
+
+}
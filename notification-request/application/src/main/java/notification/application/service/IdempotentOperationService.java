@@ -1,22 +1,26 @@
 package notification.application.service;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.yaml.snakeyaml.constructor.DuplicateKeyException;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import notification.application.common.port.outbound.JsonPayloadConverterPort;
+import notification.application.common.port.outbound.UnitOfWorkExecutorPort;
 import notification.application.idempotency.Idempotency;
 import notification.application.idempotency.IdempotencyDuplicateKeyException;
+import notification.application.idempotency.IdempotencyFastPath;
 import notification.application.idempotency.port.inbound.IdempotentOperationUseCase;
 import notification.application.idempotency.port.outbound.IdempotentRepositoryPort;
-import notification.definition.annotations.UnitOfWork;
 import notification.definition.enums.Propagation;
 import notification.definition.exceptions.DuplicateRequestException;
 import notification.definition.vo.JsonPayload;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
 @Slf4j
 @Service
@@ -25,112 +29,169 @@ public class IdempotentOperationService implements IdempotentOperationUseCase {
 
     private final IdempotentRepositoryPort idempotencyRepository;
     private final JsonPayloadConverterPort jsonPayloadConverter;
+    private final UnitOfWorkExecutorPort unitOfWorkExecutor;
+    private final IdempotencyFastPath fastPath;
+
+    @Value("${app.idempotency.reservation.wait-timeout-ms:5000}")
+    private long waitTimeoutMs = 5000;
+
+    @Value("${app.idempotency.reservation.poll-interval-ms:100}")
+    private long pollIntervalMs = 100;
+
+    @Value("${app.idempotency.reservation.lease-ms:30000}")
+    private long leaseMs = 30000;
 
     /**
      * Idempotent operation을 수행합니다.
      * 
-     * @param idempotencyKeyIdempotencyKey
+     * 1. 완료 결과 캐시에 있으면 DB를 거치지 않고 반환합니다.
+     * 2. 키를 먼저 예약(INSERT IGNORE, 한 번의 왕복)하고, 예약한 요청만 비즈니스 로직을 실행한 뒤 결과를 기록합니다.
+     * 3. 예약하지 못한 동시 중복 요청은 비즈니스 로직을 다시 실행하지 않고,
+     * 예약된 행에 결과가 기록될 때까지 제한 시간 동안 폴링합니다.
+     * 
+     * @param idempotencyKey
      * @param operationType
-     * @param data
-     * @return Idempotency 객체
+     * @param businessLogic
+     * @param resultType
+     * @return Mono<T>
      */
-    @UnitOfWork(propagation = Propagation.REQUIRES_NEW)
     @Override
     public <T> Mono<T> performOperation(String idempotencyKey, String operationType,
             Mono<T> businessLogic, Class<T> resultType) {
         log.debug("Performing idempotent operation: {} / {}", idempotencyKey, operationType);
 
+        return Mono.defer(() -> {
+            // 1. 완료된 결과가 캐시에 있으면 바로 반환 (클라이언트 재시도)
+            JsonPayload cached = fastPath.getCompletedResult(idempotencyKey, operationType);
+            if (cached != null) {
+                log.debug("Idempotent operation answered from result cache: {} / {}", idempotencyKey, operationType);
+                return getDataAsObject(cached, resultType);
+            }
+
+            Mono<T> attempt = reserveOrInspect(idempotencyKey, operationType, businessLogic, resultType);
+
+            // 2. 최근에 본 키(재시도일 가능성이 높음)는 예약 전에 완료 여부를 먼저 확인
+            Mono<T> firstAttempt = fastPath.markSeen(idempotencyKey, operationType)
+                    ? attempt
+                    : findCompletedResult(idempotencyKey, operationType, resultType).switchIfEmpty(attempt);
+
+            // 3. 다른 요청이 예약 중이면 제한 시간 동안 폴링
+            long maxPolls = Math.max(1, waitTimeoutMs / Math.max(1, pollIntervalMs));
+            return firstAttempt.retryWhen(Retry.fixedDelay(maxPolls, Duration.ofMillis(pollIntervalMs))
+                    .filter(ReservationPendingException.class::isInstance)
+                    .onRetryExhaustedThrow((spec, signal) -> new DuplicateRequestException(
+                            "Idempotent operation is still in progress: " + idempotencyKey)));
+        })
+                .doOnSuccess(result -> log.debug("Idempotent operation completed successfully: {} / {}",
+                        idempotencyKey, operationType))
+                .doOnError(e -> log.error("Failed to perform idempotent operation: {}", e.getMessage(), e));
+    }
+
+    /**
+     * 키를 예약하고, 예약에 성공하면 비즈니스 로직을 실행합니다.
+     * 예약에 실패하면 기존 행을 확인하여, 완료된 결과를 반환하거나 오래된 예약을 넘겨받거나 대기합니다.
+     */
+    private <T> Mono<T> reserveOrInspect(String idempotencyKey, String operationType, Mono<T> businessLogic,
+            Class<T> resultType) {
+        return Mono.defer(() -> {
+            Idempotency reservation = newReservation(idempotencyKey, operationType);
+            return idempotencyRepository.reserve(reservation)
+                    .flatMap(reserved -> {
+                        if (reserved) {
+                            return executeReserved(reservation, businessLogic, resultType);
+                        }
+
+                        return inspectExisting(idempotencyKey, operationType, businessLogic, resultType);
+                    });
+        });
+    }
+
+    /**
+     * 예약하지 못한 경우 기존 행을 확인합니다.
+     */
+    private <T> Mono<T> inspectExisting(String idempotencyKey, String operationType, Mono<T> businessLogic,
+            Class<T> resultType) {
         return idempotencyRepository.findById(idempotencyKey, operationType)
-                .switchIfEmpty(createIdempotency(idempotencyKey, operationType))
-                .flatMap(idempotency -> {
-                    if (idempotency.data() != null) {
+                // 선점한 요청이 실패하여 예약이 해제된 경우: 다음 폴링에서 다시 예약
+                .switchIfEmpty(Mono.error(new ReservationPendingException()))
+                .flatMap(existing -> {
+                    if (!existing.isPending()) {
                         // 이미 처리된 경우: 저장된 데이터 반환
-                        return getDataAsObject(idempotency.data(), resultType);
+                        fastPath.recordCompleted(existing);
+                        return getDataAsObject(existing.data(), resultType);
                     }
 
-                    // 새로운 요청: 비즈니스 로직 실행 및 결과 저장
-                    return executeAndSave(idempotency, businessLogic, resultType);
-                })
-                .doOnSuccess(result -> log.debug("Idempotent operation completed successfully: {} / {}",
-                        idempotencyKey, operationType))
-                .onErrorResume(e -> {
-                    log.error("Failed to perform idempotent operation: {}", e.getMessage(), e);
-
-                    // IdempotencyDuplicateKeyException 처리
-                    if (e instanceof IdempotencyDuplicateKeyException) {
-                        return retryDuplicateKeyException(idempotencyKey, operationType, resultType);
+                    Instant staleBefore = Instant.now().minusMillis(leaseMs);
+                    if (existing.createdAt() != null && existing.createdAt().isBefore(staleBefore)) {
+                        // 예약한 인스턴스가 결과를 기록하지 못하고 중단된 경우: 예약을 넘겨받아 실행
+                        Idempotency reservation = newReservation(idempotencyKey, operationType);
+                        return idempotencyRepository.takeOver(reservation, staleBefore)
+                                .flatMap(takenOver -> takenOver
+                                        ? executeReserved(reservation, businessLogic, resultType)
+                                        : Mono.error(new ReservationPendingException()));
                     }
 
-                    // 다른 예외 처리 (businessLogic 실행 중 발생한 예외 등)
-                    return Mono.error(e);
+                    return Mono.error(new ReservationPendingException());
                 });
     }
 
     /**
-     * Idempotent operation을 수행합니다.
-     * 
-     * @param idempotencyKey
-     * @param operationType
-     * @param businessLogic
-     * @return Mono<T>
+     * 예약한 키에 대해 비즈니스 로직을 실행하고 결과를 기록합니다.
+     * 비즈니스 로직과 결과 기록은 하나의 신규 트랜잭션에서 수행되며,
+     * 실패하거나 결과가 없으면 예약을 해제하여 재시도가 다시 실행할 수 있도록 합니다.
      */
-    private <T> Mono<T> executeAndSave(Idempotency idempotency, Mono<T> businessLogic, Class<T> resultType) {
-        // 1. 비즈니스 로직 실행
-        return businessLogic.flatMap(result -> {
-
-            // 2. 결과를 JsonPayload로 변환
-            return getDataAsString(result).flatMap(data -> {
-
-                // 3. 멱등성 객체 생성
-                Idempotency updatedIdempotency = new Idempotency(
-                        idempotency.idempotencyKey(), idempotency.operationType(),
-                        data, Instant.now());
-
-                // 4. 생성된 객체 저장 후 결과 반환
-                return idempotencyRepository.save(updatedIdempotency)
-                        .thenReturn(result)
-                        .onErrorResume(e -> {
-                            // 4-1. 중복 키 예외 발생 시 재시도
-                            if (e instanceof DuplicateKeyException) {
-                                return Mono.error(new IdempotencyDuplicateKeyException(
-                                        "Idempotency Duplicate key error occurred.", e));
-                            }
-
-                            return Mono.error(e);
-                        });
-            });
-        });
+    private <T> Mono<T> executeReserved(Idempotency reservation, Mono<T> businessLogic, Class<T> resultType) {
+        Mono<Completed<T>> transactionalFlow = businessLogic.flatMap(result -> getDataAsString(result)
+                .flatMap(data -> {
+                    Idempotency completed = new Idempotency(
+                            reservation.idempotencyKey(), reservation.operationType(),
+                            data, reservation.createdAt());
+
+                    return idempotencyRepository.complete(completed)
+                            .flatMap(recorded -> recorded
+                                    ? Mono.just(new Completed<>(result, completed))
+                                    : Mono.error(new IdempotencyDuplicateKeyException(
+                                            "Idempotency reservation was taken over by another request.")));
+                }));
+
+        return unitOfWorkExecutor.execute(transactionalFlow, Propagation.REQUIRES_NEW)
+                // 커밋된 결과만 캐시에 기록
+                .doOnNext(completed -> fastPath.recordCompleted(completed.idempotency()))
+                .map(Completed::result)
+                .switchIfEmpty(Mono.defer(() -> release(reservation).then(Mono.empty())))
+                .onErrorResume(e -> {
+                    if (e instanceof IdempotencyDuplicateKeyException) {
+                        // 예약을 넘겨받은 요청의 결과를 기다림 (이 요청의 변경은 롤백됨)
+                        return Mono.error(new ReservationPendingException());
+                    }
+
+                    return release(reservation).then(Mono.error(e));
+                });
     }
 
     /**
-     * 중복 키 예외 발생 시 재시도 로직
-     * 
-     * @param idempotencyKey
-     * @param operationType
-     * @param resultType
-     * @return Mono<T>
+     * 완료된 결과만 조회합니다. (없거나 예약 중이면 empty)
      */
-    private <T> Mono<T> retryDuplicateKeyException(String idempotencyKey, String operationType, Class<T> resultType) {
+    private <T> Mono<T> findCompletedResult(String idempotencyKey, String operationType, Class<T> resultType) {
         return idempotencyRepository.findById(idempotencyKey, operationType)
-                .flatMap(idempotency -> {
-                    if (idempotency.data() != null) {
-                        // 기존 데이터를 객체로 변환하여 반환
-                        return getDataAsObject(idempotency.data(), resultType);
-                    }
+                .filter(existing -> !existing.isPending())
+                .doOnNext(fastPath::recordCompleted)
+                .flatMap(existing -> getDataAsObject(existing.data(), resultType));
+    }
 
-                    // 데이터가 없거나 변환 불가능하면 예외 발생 (비정상 케이스)
-                    return Mono.error(
-                            new DuplicateRequestException("Idempotent operation concurrent conflict with no result."));
-                })
+    private Mono<Void> release(Idempotency reservation) {
+        return idempotencyRepository.release(reservation)
                 .onErrorResume(e -> {
-                    log.error("Retrying idempotent operation due to duplicate key: {}", e.getMessage(), e);
-                    return Mono.error(new RuntimeException("Idempotent operation failed after retry.", e));
+                    // 해제하지 못한 예약은 lease 만료 후 다른 요청이 넘겨받음
+                    log.warn("Failed to release idempotency reservation: {} / {}, error: {}",
+                            reservation.idempotencyKey(), reservation.operationType(), e.getMessage());
+                    return Mono.empty();
                 });
     }
 
-    //
-    private Mono<Idempotency> createIdempotency(String idempotencyKey, String operationType) {
-        return Mono.just(new Idempotency(idempotencyKey, operationType, null, Instant.now()));
+    // 예약 시각은 예약 토큰으로도 사용되므로, 컬럼 정밀도(초)에 맞춰 절삭
+    private Idempotency newReservation(String idempotencyKey, String operationType) {
+        return new Idempotency(idempotencyKey, operationType, null, Instant.now().truncatedTo(ChronoUnit.SECONDS));
     }
 
     //
@@ -143,4 +204,22 @@ public class IdempotentOperationService implements IdempotentOperationUseCase {
         return Mono.fromCallable(() -> jsonPayloadConverter.fromJsonPayload(JsonPayload, type));
     }
 
+    /**
+     * 트랜잭션에서 반환된 결과와, 커밋 후 캐시에 기록할 멱등성 객체
+     */
+    private record Completed<T>(T result, Idempotency idempotency) {
+    }
+
+    /**
+     * 다른 요청이 같은 키를 예약 중임을 나타내는 내부 신호 (폴링 재시도 대상)
+     */
+    private static final class ReservationPendingException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        ReservationPendingException() {
+            super("Idempotency key is reserved by another request", null, false, false);
+        }
+    }
+
 }
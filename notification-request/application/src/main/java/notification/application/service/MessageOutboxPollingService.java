@@ -1,14 +1,23 @@
 package notification.application.service;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import notification.application.outbox.OutboxDrainLoop;
+import notification.application.outbox.OutboxPartitionAssignment;
+import notification.application.outbox.ScheduledMessageOutboxWheel;
 import notification.application.outbox.port.inbound.MessageOutboxPollingUseCase;
 import notification.application.outbox.port.outbound.MessageOutboxEventPublisherPort;
 import notification.application.outbox.port.outbound.MessageOutboxRepositoryPort;
+import notification.definition.vo.outbox.MessageOutbox;
+import notification.definition.vo.outbox.OutboxId;
 import reactor.core.publisher.Mono;
 
 @Slf4j
@@ -18,19 +27,110 @@ public class MessageOutboxPollingService implements MessageOutboxPollingUseCase
 
     private final MessageOutboxRepositoryPort messageOutboxRepository;
     private final MessageOutboxEventPublisherPort MessageOutboxEventPublisher;
+    private final ScheduledMessageOutboxWheel scheduledWheel;
+    private final OutboxPartitionAssignment partitionAssignment;
+
+    private final OutboxDrainLoop drainLoop = new OutboxDrainLoop("MessageOutbox");
+
+    @Value("${app.outbox.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.outbox.min-delay-ms:100}")
+    private long minDelayMs;
+
+    @Value("${app.outbox.max-delay-ms:5000}")
+    private long maxDelayMs;
 
     /**
-     * Outbox 메시지를 발행합니다. Pending 및 Failed 상태의 메시지를 조회하여
-     * MessageOutbox Event를 발행합니다.
+     * Outbox Drain Loop를 실행합니다. Pending 및 Failed 상태의 메시지를 조회하여
+     * MessageOutbox Event를 발행하며, 배치가 가득 차 있는 동안은 즉시 재조회하고
+     * 비어 있으면 지수적으로 대기 시간을 늘립니다. 후속 처리 단계의 여유 용량만큼만 조회합니다.
+     * lookahead 범위 안의 예약 메시지는 미리 할당하여 타이밍 휠에 등록하고,
+     * 휠은 발송 시각이 된 메시지를 발행합니다.
+     * 이미 Loop가 실행 중이면 즉시 완료됩니다.
      *
      * @return Mono<Void>
      */
     @Override
     public Mono<Void> poll() {
-        return messageOutboxRepository.fetchOutboxToProcess(Instant.now(), 1000)
-                .flatMap(outbox -> MessageOutboxEventPublisher.publish(outbox))
-                .doOnError(e -> log.error("Error processing MessageOutbox message", e))
-                .then();
+        Mono<Void> drain = drainLoop.run(batchSize, Duration.ofMillis(minDelayMs), Duration.ofMillis(maxDelayMs),
+                this::availableCapacity, this::pollBatch);
+
+        return Mono.when(drain, scheduledWheel.run(this::publishOrRelease));
+    }
+
+    /**
+     * 타이밍 휠에 남아 있는 예약 메시지의 할당을 해제합니다.
+     * 해제된 메시지는 다른 인스턴스(또는 재시작한 인스턴스)가 다시 조회합니다.
+     *
+     * @return 할당이 해제된 Outbox 수
+     */
+    @Override
+    public Mono<Long> releaseScheduled() {
+        return Mono.defer(() -> {
+            List<OutboxId> outboxIds = scheduledWheel.drain().stream()
+                    .map(MessageOutbox::getOutboxId)
+                    .toList();
+            if (outboxIds.isEmpty()) {
+                return Mono.just(0L);
+            }
+
+            log.info("Releasing {} scheduled MessageOutbox.", outboxIds.size());
+            return messageOutboxRepository.releaseClaimed(outboxIds);
+        });
+    }
+
+    /**
+     * 후속 처리 단계와 타이밍 휠 중 여유가 적은 쪽만큼만 조회합니다.
+     */
+    private int availableCapacity() {
+        return Math.min(MessageOutboxEventPublisher.availableCapacity(), scheduledWheel.remainingCapacity());
+    }
+
+    /**
+     * 담당 파티션에서 한 배치의 Outbox를 조회하여 발송 시각이 된 것은 묶음으로 발행하고 나머지는 타이밍 휠에 등록한 뒤,
+     * 조회된 Outbox 수를 반환합니다.
+     */
+    private Mono<Long> pollBatch(int limit) {
+        if (partitionAssignment.ownsNothing()) {
+            return Mono.just(0L);
+        }
+
+        Instant now = Instant.now();
+
+        return messageOutboxRepository.fetchOutboxToProcess(scheduledWheel.horizon(now), limit,
+                partitionAssignment.ownedPartitions())
+                .collectList()
+                .flatMap(outboxes -> {
+                    List<MessageOutbox> due = new ArrayList<>(outboxes.size());
+                    for (MessageOutbox outbox : outboxes) {
+                        if (!scheduledWheel.schedule(outbox)) {
+                            due.add(outbox);
+                        }
+                    }
+
+                    return publishOrRelease(due)
+                            .thenReturn((long) outboxes.size());
+                })
+                .doOnError(e -> log.error("Error processing MessageOutbox message", e));
+    }
+
+    /**
+     * Outbox를 발행하고, 발행에 실패하면 바로 할당을 해제하여 다음 조회에서 다시 처리되도록 합니다.
+     * 해제하지 않으면 이 인스턴스가 살아 있는 동안 IN_PROGRESS로 남아 발송되지 않습니다.
+     * 작업 큐가 거부한 Outbox는 이벤트 리스너가 해제하므로, 발행 실패는 이벤트가 전달되지 않은 경우입니다.
+     */
+    private Mono<Void> publishOrRelease(List<MessageOutbox> outboxes) {
+        return MessageOutboxEventPublisher.publishAll(outboxes)
+                .onErrorResume(e -> {
+                    List<OutboxId> outboxIds = outboxes.stream().map(MessageOutbox::getOutboxId).toList();
+                    log.warn("Releasing {} MessageOutbox after publish failure.", outboxIds.size());
+                    return messageOutboxRepository.releaseClaimed(outboxIds)
+                            .doOnError(releaseError -> log.error("Error releasing MessageOutbox: {}",
+                                    releaseError.getMessage(), releaseError))
+                            .onErrorResume(releaseError -> Mono.empty())
+                            .then(Mono.error(e));
+                });
     }
 
 }
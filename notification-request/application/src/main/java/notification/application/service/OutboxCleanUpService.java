@@ -1,14 +1,18 @@
 package notification.application.service;
 
-import java.time.Instant;
+import java.time.Duration;
+import java.util.Collection;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import notification.application.outbox.port.inbound.OutboxCleanUpUseCase;
 import notification.application.outbox.port.outbound.MessageOutboxRepositoryPort;
+import notification.application.outbox.port.outbound.OutboxNodeRepositoryPort;
 import notification.application.outbox.port.outbound.RequestOutboxRepositoryPort;
+import notification.definition.vo.outbox.OutboxId;
 import reactor.core.publisher.Mono;
 
 @Slf4j
@@ -18,20 +22,68 @@ public class OutboxCleanUpService implements OutboxCleanUpUseCase {
 
     private final RequestOutboxRepositoryPort requestOutboxRepository;
     private final MessageOutboxRepositoryPort messageOutboxRepository;
+    private final OutboxNodeRepositoryPort outboxNodeRepository;
+
+    @Value("${app.outbox.lease.timeout-ms:10000}")
+    private long leaseTimeoutMs = 10000;
+
+    @Value("${app.outbox.lease.max-claim-age-ms:0}") // 0: 사용 안 함
+    private long maxClaimAgeMs = 0;
+
+    /**
+     * Heartbeat가 lease 시간 이상 끊긴 인스턴스가 할당한 In-Progress Outbox를 해제하고,
+     * 해당 인스턴스의 Heartbeat 기록을 삭제합니다.
+     * 살아 있는 인스턴스의 할당은 처리 시간이 길어도 유지합니다.
+     * max-claim-age를 지정한 경우에만 그보다 오래된 할당을 인스턴스가 살아 있어도 해제합니다.
+     * (예상하지 못한 유실에 대한 선택적 안전장치이며, 작업 큐 대기 시간보다 충분히 길어야 중복 발송이 없음)
+     * 인스턴스 간 시계 차이에 영향을 받지 않도록 모든 기준을 DB 시계로 비교합니다.
+     *
+     * @return 해제된 Outbox 수
+     */
+    @Override
+    public Mono<Long> recoverExpiredClaims() {
+        Duration leaseTimeout = Duration.ofMillis(leaseTimeoutMs);
+        Duration maxClaimAge = Duration.ofMillis(maxClaimAgeMs);
+
+        return Mono.zip(
+                requestOutboxRepository.releaseClaimsOfExpiredInstances(leaseTimeout, maxClaimAge),
+                messageOutboxRepository.releaseClaimsOfExpiredInstances(leaseTimeout, maxClaimAge),
+                Long::sum)
+                .flatMap(released -> outboxNodeRepository.deleteExpired(leaseTimeout).thenReturn(released));
+    }
+
+    /**
+     * 이 인스턴스가 할당했지만 처리하지 못한 요청 / 메시지 Outbox를 모두 해제합니다.
+     * 종료 시 호출되어, 다른 인스턴스가 정리 기준 시간을 기다리지 않고 바로 처리할 수 있게 합니다.
+     *
+     * @return 해제된 Outbox 수
+     */
+    @Override
+    public Mono<Long> releaseClaimedByThisInstance() {
+        return Mono.zip(requestOutboxRepository.releaseAllClaimed(), messageOutboxRepository.releaseAllClaimed(),
+                Long::sum);
+    }
 
     /**
-     * 지정된 시간 이전에 생성된 In-Progress 상태의 Outbox 메시지를 정리합니다.
-     * 이 메서드는 In-Progress 상태의 메시지를 정리하여 시스템의 안정성을 유지합니다.
+     * 작업 큐가 받지 못한 요청 Outbox의 할당을 바로 해제하여 다음 조회에서 다시 처리되도록 합니다.
      *
-     * @param before 정리할 메시지의 기준 시간
-     * @return Mono<Void> 완료를 나타내는 Mono
+     * @param outboxIds 해제할 요청 Outbox ID 목록
+     * @return 해제된 Outbox 수
      */
     @Override
-    public Mono<Void> cleanUpInProgressOutboxs(Instant before) {
-        requestOutboxRepository.cleanUpInProgressOutboxs(before).subscribe();
-        messageOutboxRepository.cleanUpInProgressOutboxs(before).subscribe();
+    public Mono<Long> releaseRequestOutboxes(Collection<OutboxId> outboxIds) {
+        return requestOutboxRepository.releaseClaimed(outboxIds);
+    }
 
-        return Mono.empty();
+    /**
+     * 작업 큐가 받지 못한 메시지 Outbox의 할당을 바로 해제하여 다음 조회에서 다시 처리되도록 합니다.
+     *
+     * @param outboxIds 해제할 메시지 Outbox ID 목록
+     * @return 해제된 Outbox 수
+     */
+    @Override
+    public Mono<Long> releaseMessageOutboxes(Collection<OutboxId> outboxIds) {
+        return messageOutboxRepository.releaseClaimed(outboxIds);
     }
 
 }
@@ -0,0 +1,59 @@
+package notification.application.service;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import notification.application.outbox.OutboxPartitionAssignment;
+import notification.application.outbox.port.inbound.OutboxNodeHeartbeatUseCase;
+import notification.application.outbox.port.outbound.OutboxNodeRepositoryPort;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+public class OutboxNodeHeartbeatService implements OutboxNodeHeartbeatUseCase {
+
+    private final OutboxNodeRepositoryPort outboxNodeRepository;
+    private final OutboxPartitionAssignment partitionAssignment;
+
+    @Value("${app.outbox.lease.timeout-ms:10000}")
+    private long leaseTimeoutMs;
+
+    /**
+     * DB 시각으로 이 인스턴스의 Heartbeat를 갱신합니다. 처음 호출되면 인스턴스를 등록합니다.
+     * 파티션 할당을 사용하면 갱신 후 살아 있는 인스턴스 목록으로 담당 파티션을 다시 계산합니다.
+     * 인스턴스 간 시계 차이에 영향을 받지 않도록 Heartbeat 기록과 만료 판단은 모두 DB 시계를 기준으로 합니다.
+     *
+     * @return Mono<Void>
+     */
+    @Override
+    public Mono<Void> heartbeat() {
+        return outboxNodeRepository.heartbeat()
+                .then(Mono.defer(this::rebalancePartitions));
+    }
+
+    /**
+     * 이 인스턴스의 Heartbeat 기록을 삭제합니다.
+     *
+     * @return Mono<Void>
+     */
+    @Override
+    public Mono<Void> deregister() {
+        return outboxNodeRepository.deregister();
+    }
+
+    //
+    private Mono<Void> rebalancePartitions() {
+        if (!partitionAssignment.isEnabled()) {
+            return Mono.empty();
+        }
+
+        return outboxNodeRepository.findLiveInstanceIds(Duration.ofMillis(leaseTimeoutMs))
+                .collectList()
+                .doOnNext(liveIds -> partitionAssignment.rebalance(liveIds, outboxNodeRepository.instanceId()))
+                .then();
+    }
+
+}
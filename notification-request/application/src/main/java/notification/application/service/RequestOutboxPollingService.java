@@ -1,11 +1,15 @@
 package notification.application.service;
 
+import java.time.Duration;
 import java.time.Instant;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import notification.application.outbox.OutboxDrainLoop;
+import notification.application.outbox.OutboxPartitionAssignment;
 import notification.application.outbox.port.inbound.RequestOutboxPollingUseCase;
 import notification.application.outbox.port.outbound.RequestOutboxEventPublisherPort;
 import notification.application.outbox.port.outbound.RequestOutboxRepositoryPort;
@@ -18,19 +22,47 @@ public class RequestOutboxPollingService implements RequestOutboxPollingUseCase
 
     private final RequestOutboxRepositoryPort requestOutboxRepository;
     private final RequestOutboxEventPublisherPort requestOutboxEventPublisher;
+    private final OutboxPartitionAssignment partitionAssignment;
+
+    private final OutboxDrainLoop drainLoop = new OutboxDrainLoop("RequestOutbox");
+
+    @Value("${app.outbox.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.outbox.min-delay-ms:100}")
+    private long minDelayMs;
+
+    @Value("${app.outbox.max-delay-ms:5000}")
+    private long maxDelayMs;
 
     /**
-     * Outbox 메시지를 발행합니다. Pending 및 Failed 상태의 메시지를 조회하여
-     * RequestOutbox Event를 발행합니다.
-     * 
+     * Outbox Drain Loop를 실행합니다. Pending 및 Failed 상태의 메시지를 조회하여
+     * RequestOutbox Event를 발행하며, 배치가 가득 차 있는 동안은 즉시 재조회하고
+     * 비어 있으면 지수적으로 대기 시간을 늘립니다. 후속 처리 단계의 여유 용량만큼만 조회합니다.
+     * 이미 Loop가 실행 중이면 즉시 완료됩니다.
+     *
      * @return Mono<Void>
      */
     @Override
     public Mono<Void> poll() {
-        return requestOutboxRepository.fetchOutboxToProcess(Instant.now(), 1000)
-                .flatMap(outbox -> requestOutboxEventPublisher.publish(outbox))
-                .doOnError(e -> log.error("Error processing RequestOutbox message", e))
-                .then();
+        return drainLoop.run(batchSize, Duration.ofMillis(minDelayMs), Duration.ofMillis(maxDelayMs),
+                requestOutboxEventPublisher::availableCapacity, this::pollBatch);
+    }
+
+    /**
+     * 담당 파티션에서 한 배치의 Outbox를 조회하여 묶음으로 발행하고, 조회된 Outbox 수를 반환합니다.
+     */
+    private Mono<Long> pollBatch(int limit) {
+        if (partitionAssignment.ownsNothing()) {
+            return Mono.just(0L);
+        }
+
+        return requestOutboxRepository.fetchOutboxToProcess(Instant.now(), limit,
+                partitionAssignment.ownedPartitions())
+                .collectList()
+                .flatMap(outboxes -> requestOutboxEventPublisher.publishAll(outboxes)
+                        .thenReturn((long) outboxes.size()))
+                .doOnError(e -> log.error("Error processing RequestOutbox message", e));
     }
 
 }
@@ -1,32 +1,84 @@
 package notification.application.service.infrastructure;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 import lombok.extern.slf4j.Slf4j;
+import notification.application.template.CompiledTemplateDefinition;
+import notification.application.template.LanguageChain;
+import notification.application.template.port.inbound.TemplateCacheUseCase;
 import notification.application.template.port.inbound.TemplateRenderingUseCase;
 import notification.application.template.port.outbound.TemplateDefinitionProviderPort;
 import notification.definition.vo.RenderedContent;
+import notification.definition.vo.TemplateDefinition;
+import notification.definition.vo.TemplateRenderKey;
 import notification.domain.enums.NotificationType;
 import notification.domain.vo.TemplateInfo;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
-public class TemplateRenderingService implements TemplateRenderingUseCase {
+public class TemplateRenderingService implements TemplateRenderingUseCase, TemplateCacheUseCase {
+
+    private static final String DEFAULT_LANGUAGE = "ko";
 
     private final TemplateDefinitionProviderPort templateDefinitionProvider;
-    private final ConcurrentMap<String, Mono<RenderedContent>> templateCache = new ConcurrentHashMap<>();
+
+    // 요청 언어의 템플릿이 없을 때 차례로 시도할 언어 목록
+    private final List<String> fallbackLanguages;
+
+    // 워밍업 시 템플릿 정의가 없더라도 대체 언어로 미리 해석해 둘 언어 목록
+    private final List<String> supportedLanguages;
+
+    // (템플릿ID, 타입, 요청 언어) -> 언어 대체까지 적용된 컴파일 결과 (실패한 조회는 캐싱되지 않음)
+    private final AsyncCache<TemplateRenderKey, CompiledTemplateDefinition> definitionCache;
+
+    // 대체 언어까지 찾아도 정의가 없는 (템플릿ID, 타입, 요청 언어) (없는 템플릿 ID로 반복 조회하지 않도록)
+    private final Cache<TemplateRenderKey, Boolean> missingTemplates;
+
+    public TemplateRenderingService(TemplateDefinitionProviderPort templateDefinitionProvider,
+            @Value("${app.template.cache.maximum-size:10000}") long maximumSize,
+            @Value("${app.template.cache.ttl-ms:0}") long ttlMs,
+            @Value("${app.template.cache.missing-ttl-ms:60000}") long missingTtlMs,
+            @Value("${app.template.fallback-languages:ko}") List<String> fallbackLanguages,
+            @Value("${app.notification.supported-languages:ko,en}") List<String> supportedLanguages) {
+        this.templateDefinitionProvider = templateDefinitionProvider;
+        this.fallbackLanguages = List.copyOf(fallbackLanguages);
+        this.supportedLanguages = List.copyOf(supportedLanguages);
+
+        // 변경 알림으로 무효화하므로 만료는 기본적으로 사용하지 않음 (0 이하면 만료 없음)
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().maximumSize(maximumSize);
+        if (ttlMs > 0) {
+            builder.expireAfterWrite(Duration.ofMillis(ttlMs));
+        }
+        this.definitionCache = builder.buildAsync();
+
+        // 정의가 추가되면 변경 알림으로 무효화되지만, 알림을 놓쳐도 다시 조회하도록 항상 만료시킴 (0 이하면 부정 캐싱 안 함)
+        this.missingTemplates = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(Math.max(missingTtlMs, 0)))
+                .build();
+    }
 
     /**
-     * 템플릿을 렌더링합니다. (캐싱 지원)
+     * 템플릿을 렌더링합니다.
+     * 템플릿 정의는 컴파일된 형태로 캐싱되고, 파라미터 바인딩은 호출마다 수행됩니다.
+     * 요청 언어의 정의가 없으면 대체 언어 순서대로 찾습니다.
      * 
      * @param templateInfo 템플릿 정보
      * @param type         알림 타입
@@ -38,32 +90,14 @@ public class TemplateRenderingService implements TemplateRenderingUseCase {
         log.debug("Rendering template: {}, type : {}, language: {}",
                 templateInfo.getTemplateId(), type.name(), language);
 
-        // 캐시 키 생성 (템플릿ID + 타입 + 언어 + 매개변수 해시)
-        String cacheKey = String.format("%s_%s_%s",
-                templateInfo.getTemplateId(),
-                type.name(),
-                language != null ? language : "ko");
-
-        return templateCache.computeIfAbsent(cacheKey,
-                key -> renderTemplateInternal(templateInfo, type, language)
-                        .cache() // Mono 레벨에서도 캐싱
-        );
-    }
-
-    /**
-     * 실제 템플릿 렌더링 로직
-     */
-    private Mono<RenderedContent> renderTemplateInternal(
-            TemplateInfo templateInfo, NotificationType type, String language) {
         String templateId = templateInfo.getTemplateId();
-        return templateDefinitionProvider.getTemplateDefinition(templateId, type.name(), language)
-                .flatMap(definition -> {
-                    return Mono.just(new RenderedContent(
-                            bindParameters(definition.titleTemplate(), templateInfo.getParameters()),
-                            bindParameters(definition.bodyTemplate(), templateInfo.getParameters()),
-                            definition.language(),
-                            templateId));
-                }).onErrorResume(e -> {
+        return getCompiledDefinition(templateId, type, language)
+                .map(definition -> new RenderedContent(
+                        definition.title().render(templateInfo.getParameters()),
+                        definition.body().render(templateInfo.getParameters()),
+                        definition.language(),
+                        templateId))
+                .onErrorResume(e -> {
                     log.error("Failed to render template: {}, language: {}, error: {}", templateId, language,
                             e.getMessage());
                     return Mono.error(new RuntimeException("Template rendering failed", e));
@@ -71,41 +105,165 @@ public class TemplateRenderingService implements TemplateRenderingUseCase {
     }
 
     /**
-     * 캐시를 정리합니다. (요청 처리 완료 후 호출)
+     * 언어 대체까지 적용된 컴파일된 템플릿 정의를 반환합니다.
+     * 파라미터를 바인딩하지 않으므로, 호출 측에서 요청 / 수신자 변수를 한 번에 렌더링할 수 있습니다.
+     *
+     * @param templateId 템플릿 ID
+     * @param type       알림 타입
+     * @param language   언어 코드
+     * @return 컴파일된 템플릿 정의 (대체 언어까지 없으면 empty)
+     */
+    @Override
+    public Mono<CompiledTemplateDefinition> compileTemplate(String templateId, NotificationType type,
+            String language) {
+        return getCompiledDefinition(templateId, type, language);
+    }
+
+    /**
+     * 활성화된 모든 템플릿을 조회하여, 타입 x 언어 조합별로 언어 대체까지 해석한 결과를 캐시에 적재합니다.
+     * 워밍업 이후의 렌더링은 템플릿 저장소를 조회하지 않습니다.
+     */
+    @Override
+    public Mono<Integer> preloadTemplates() {
+        return templateDefinitionProvider.getActiveTemplateDefinitions()
+                .collectList()
+                .map(this::preload)
+                .doOnSuccess(count -> log.info("Preloaded {} template cache entries", count));
+    }
+
+    /**
+     * 템플릿 변경 알림을 받을 때마다 해당 템플릿의 캐시 항목을 다시 적재합니다.
+     * 다시 적재하지 못하면 캐시 항목만 제거하여, 다음 렌더링 시 저장소에서 조회하도록 합니다.
+     */
+    @Override
+    public Flux<String> watchTemplateChanges() {
+        return templateDefinitionProvider.templateChanges()
+                .concatMap(templateId -> refreshTemplate(templateId)
+                        .doOnNext(count -> log.info("Reloaded template: {}, cache entries: {}", templateId, count))
+                        .thenReturn(templateId)
+                        .onErrorResume(e -> {
+                            log.warn("Failed to reload template: {}, invalidating cache. error: {}", templateId,
+                                    e.getMessage());
+                            invalidate(templateId);
+                            return Mono.just(templateId);
+                        }));
+    }
+
+    /**
+     * 캐시를 정리합니다. (템플릿 정의가 변경된 경우 호출)
      */
     public void clearCache() {
-        templateCache.clear();
-        log.debug("Template rendering cache cleared");
+        definitionCache.synchronous().invalidateAll();
+        missingTemplates.invalidateAll();
+        log.debug("Template definition cache cleared");
     }
 
     /**
-     * 주어진 템플릿 문자열의 플레이스홀더를 파라미터 맵의 값으로 바인딩합니다.
-     * 예: "안녕하세요. ${{name}}님." + {"name": "홍길동"} -> "안녕하세요. 홍길동님."
-     * 
-     * @param templateString 템플릿 문자열
-     * @param parameters     플레이스홀더와 대응되는 값의 맵
-     * @return 바인딩된 문자열
+     * 컴파일된 템플릿 정의를 캐시에서 조회합니다.
+     * 같은 키에 대한 동시 조회는 하나로 합쳐지며, 조회에 실패하면 캐싱하지 않습니다.
+     * 정의가 없으면 app.template.cache.missing-ttl-ms 동안 없는 것으로 기억하여 저장소를 다시 조회하지 않습니다.
      */
-    private String bindParameters(String templateString, Map<String, String> parameters) {
-        if (templateString == null || parameters == null || parameters.isEmpty()) {
-            return templateString;
+    private Mono<CompiledTemplateDefinition> getCompiledDefinition(String templateId, NotificationType type,
+            String language) {
+        TemplateRenderKey cacheKey = new TemplateRenderKey(templateId, type.name(),
+                language != null ? language : DEFAULT_LANGUAGE);
+        if (missingTemplates.getIfPresent(cacheKey) != null) {
+            return Mono.empty();
         }
 
-        // {{var}} 형태의 플레이스홀더를 찾는 정규 표현식
-        Pattern pattern = Pattern.compile("\\$\\{\\{(\\w+)\\}\\}"); // ${{var}} 형태로 변경
-        Matcher matcher = pattern.matcher(templateString);
-        StringBuffer sb = new StringBuffer();
+        return Mono.fromFuture(() -> definitionCache.get(cacheKey,
+                (key, executor) -> loadWithFallback(templateId, type.name(), language).toFuture()),
+                true)
+                .switchIfEmpty(Mono.fromRunnable(() -> {
+                    log.debug("Template definition not found, caching as missing: {}", cacheKey);
+                    missingTemplates.put(cacheKey, Boolean.TRUE);
+                }));
+    }
+
+    /**
+     * 대체 언어 순서대로 저장소를 조회하여 처음 찾은 정의를 컴파일합니다.
+     */
+    private Mono<CompiledTemplateDefinition> loadWithFallback(String templateId, String type, String language) {
+        return Flux.fromIterable(languageChain(language))
+                .concatMap(candidate -> templateDefinitionProvider.getTemplateDefinition(templateId, type, candidate))
+                .next()
+                .map(CompiledTemplateDefinition::compile);
+    }
+
+    /**
+     * 변경된 템플릿의 정의를 다시 조회한 뒤, 기존 캐시 항목을 교체합니다.
+     */
+    private Mono<Integer> refreshTemplate(String templateId) {
+        return templateDefinitionProvider.getTemplateDefinitions(templateId)
+                .collectList()
+                .map(definitions -> {
+                    invalidate(templateId);
+                    return preload(definitions);
+                });
+    }
+
+    private void invalidate(String templateId) {
+        definitionCache.synchronous().asMap().keySet().removeIf(key -> key.templateId().equals(templateId));
+        missingTemplates.asMap().keySet().removeIf(key -> key.templateId().equals(templateId));
+    }
+
+    /**
+     * 주어진 정의 목록으로 (템플릿ID, 타입, 언어) 조합별 캐시 항목을 만듭니다.
+     * 같은 정의는 한 번만 컴파일하여 여러 캐시 항목이 공유합니다.
+     *
+     * @return 적재된 캐시 항목 수
+     */
+    private int preload(List<TemplateDefinition> definitions) {
+        Map<String, List<TemplateDefinition>> byTemplate = definitions.stream()
+                .collect(Collectors.groupingBy(TemplateDefinition::templateId));
+
+        int count = 0;
+        for (Map.Entry<String, List<TemplateDefinition>> entry : byTemplate.entrySet()) {
+            List<TemplateDefinition> templateDefinitions = entry.getValue();
+            Map<TemplateDefinition, CompiledTemplateDefinition> compiled = new HashMap<>();
+
+            Set<String> languages = new LinkedHashSet<>(supportedLanguages);
+            templateDefinitions.forEach(definition -> languages.add(definition.language()));
 
-        while (matcher.find()) {
-            String varName = matcher.group(1); // {{name}} 에서 "name" 추출
-            String replacement = parameters.getOrDefault(varName, ""); // 파라미터 맵에서 값 가져오기, 없으면 빈 문자열
+            for (NotificationType type : NotificationType.values()) {
+                for (String language : languages) {
+                    Optional<TemplateDefinition> resolved = resolve(templateDefinitions, type.name(), language);
+                    if (resolved.isEmpty()) {
+                        continue;
+                    }
 
-            // replaceAll()은 문자열이 아닌 정규식 패턴을 받기 때문에
-            // Literal Replacement를 위해 Matcher.appendReplacement/appendTail 사용
-            matcher.appendReplacement(sb, Matcher.quoteReplacement(replacement));
+                    CompiledTemplateDefinition definition = compiled.computeIfAbsent(resolved.get(),
+                            CompiledTemplateDefinition::compile);
+                    TemplateRenderKey key = new TemplateRenderKey(entry.getKey(), type.name(), language);
+                    definitionCache.put(key, CompletableFuture.completedFuture(definition));
+                    missingTemplates.invalidate(key);
+                    count++;
+                }
+            }
         }
-        matcher.appendTail(sb);
-        return sb.toString();
+        return count;
+    }
+
+    /**
+     * 메모리에 적재된 정의 목록에서 대체 언어 순서대로 정의를 찾습니다.
+     * 같은 언어라면 채널 전용 정의가 채널 공통 정의보다 우선합니다.
+     */
+    private Optional<TemplateDefinition> resolve(List<TemplateDefinition> definitions, String type,
+            String language) {
+        for (String candidate : languageChain(language)) {
+            Optional<TemplateDefinition> found = definitions.stream()
+                    .filter(definition -> candidate.equals(definition.language()))
+                    .filter(definition -> definition.appliesTo(type))
+                    .min((a, b) -> Boolean.compare(a.channel() == null, b.channel() == null));
+            if (found.isPresent()) {
+                return found;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private List<String> languageChain(String language) {
+        return LanguageChain.of(language, fallbackLanguages);
     }
 
 }
@@ -1,5 +1,7 @@
 package notification.application.service.infrastructure.loader;
 
+import java.util.List;
+
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
@@ -10,7 +12,10 @@ import notification.definition.vo.outbox.RequestOutbox;
 import notification.domain.NotificationRequest;
 import notification.domain.enums.RequestStatus;
 import notification.domain.vo.NotificationRequestId;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
 @Slf4j
 @Component
@@ -33,18 +38,50 @@ public class NotificationRequestOutboxLoader {
         NotificationRequestId requestId = NotificationRequestId.of(message.getAggregateId());
         return notificationRequestRepository.findById(requestId)
                 .switchIfEmpty(Mono.defer(() -> clearRequestMessageOutbox(message)))
-                .flatMap(domain -> {
-                    // 상태가 CANCELED인 경우 Outbox 메시지를 삭제합니다.
-                    if (domain.getStatus() == RequestStatus.CANCELED) {
-                        return clearRequestMessageOutbox(message);
-                    }
-
-                    return Mono.just(domain);
-                })
+                .flatMap(domain -> skipIfCanceled(domain, message))
                 .doOnError(err -> log.error("Failed to load NotificationRequest for outbox {}: {}",
                         message.getOutboxId(), err.getMessage(), err));
     }
 
+    /**
+     * 여러 RequestOutbox의 알림 요청을 한 번에 로드합니다.
+     * 애그리거트를 일괄 조회한 뒤, 일괄 조회에서 빠진 요청만 건별로 다시 로드하여
+     * 요청이 없으면 Outbox를 삭제하고, 로드에 실패하면 다음 폴링에서 재처리되도록 건너뜁니다.
+     *
+     * @param messages RequestOutbox 목록
+     * @return (NotificationRequest, RequestOutbox) Flux
+     */
+    public Flux<Tuple2<NotificationRequest, RequestOutbox>> loadAll(List<RequestOutbox> messages) {
+        log.info("Loading {} NotificationRequests for outboxes", messages.size());
+
+        List<NotificationRequestId> requestIds = messages.stream()
+                .map(message -> NotificationRequestId.of(message.getAggregateId()))
+                .toList();
+
+        return notificationRequestRepository.findAllByIds(requestIds)
+                .collectMap(domain -> domain.getRequestId().value())
+                .flatMapMany(loaded -> Flux.fromIterable(messages).concatMap(message -> {
+                    NotificationRequest domain = loaded.get(message.getAggregateId());
+                    Mono<NotificationRequest> request = domain != null
+                            ? skipIfCanceled(domain, message)
+                            : load(message);
+
+                    return request.map(found -> Tuples.of(found, message))
+                            .onErrorResume(e -> Mono.empty()); // 로드 실패 시 다음 폴링에서 재처리
+                }));
+    }
+
+    /**
+     * 상태가 CANCELED인 경우 Outbox 메시지를 삭제하고 빈 Mono를 반환합니다.
+     */
+    private Mono<NotificationRequest> skipIfCanceled(NotificationRequest domain, RequestOutbox message) {
+        if (domain.getStatus() == RequestStatus.CANCELED) {
+            return clearRequestMessageOutbox(message);
+        }
+
+        return Mono.just(domain);
+    }
+
     /**
      * RequestMessageOutbox를 삭제합니다.
      *
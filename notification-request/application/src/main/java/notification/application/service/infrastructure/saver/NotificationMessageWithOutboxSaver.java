@@ -1,15 +1,28 @@
 package notification.application.service.infrastructure.saver;
 
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import notification.application.common.port.outbound.JsonPayloadConverterPort;
+import notification.application.common.port.outbound.UnitOfWorkExecutorPort;
+import notification.application.notifiation.dto.FanOutCursor;
+import notification.application.notifiation.dto.RecipientMessages;
 import notification.application.notifiation.port.outbound.persistence.NotificationMessageRepositoryPort;
+import notification.application.notifiation.port.outbound.persistence.NotificationRequestRepositoryPort;
 import notification.application.outbox.port.outbound.MessageOutboxRepositoryPort;
 import notification.definition.annotations.UnitOfWork;
+import notification.definition.enums.Propagation;
+import notification.definition.exceptions.BusinessRuleViolationException;
 import notification.definition.vo.outbox.MessageOutbox;
 import notification.domain.NotificationMessage;
+import notification.domain.vo.NotificationRequestId;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Slf4j
@@ -19,7 +32,12 @@ public class NotificationMessageWithOutboxSaver {
 
     private final NotificationMessageRepositoryPort notificationMessageRepository;
     private final MessageOutboxRepositoryPort MessageOutboxRepository;
+    private final NotificationRequestRepositoryPort notificationRequestRepository;
     private final JsonPayloadConverterPort jsonPayloadConverter;
+    private final UnitOfWorkExecutorPort unitOfWorkExecutor;
+
+    @Value("${app.notification.fan-out.chunk-size:500}")
+    private int chunkSize = 500;
 
     /**
      * NotificationMessage를 저장하고, MessageOutbox를 생성하여 저장합니다.
@@ -41,4 +59,78 @@ public class NotificationMessageWithOutboxSaver {
         });
     }
 
+    /**
+     * 수신자별 NotificationMessage들을 약 chunk-size 개 단위로 묶어, 알림 메시지와 MessageOutbox를
+     * 각각 다중 행 INSERT로 저장합니다.
+     *
+     * - chunk마다 새 트랜잭션으로 알림 메시지 / MessageOutbox / Fan-out 커서를 함께 커밋하므로,
+     * 대량 Fan-out이 하나의 긴 트랜잭션으로 묶이지 않습니다.
+     * - 한 수신자의 메시지는 같은 chunk에 담기므로, 커서는 마지막으로 커밋된 수신자 위치를 가리킵니다.
+     * - 중간에 실패하면 이미 커밋된 chunk는 유지되며, 다음 처리에서 커서 이후의 수신자부터 이어서 저장합니다.
+     * - 커서는 현재 값을 조건으로 갱신하므로, 다른 처리가 먼저 커서를 옮겼거나 요청이 취소되었으면
+     * 해당 chunk를 롤백하고 예외를 발생시킵니다.
+     *
+     * @param requestId  알림 요청 ID
+     * @param recipients 커서 이후 수신자들의 RecipientMessages Flux
+     * @param cursor     마지막으로 커밋된 수신자 위치
+     * @return 이번 호출에서 저장된 MessageOutbox 수
+     */
+    public Mono<Long> saveAll(NotificationRequestId requestId, Flux<RecipientMessages> recipients,
+            FanOutCursor cursor) {
+        AtomicReference<FanOutCursor> position = new AtomicReference<>(cursor);
+
+        return chunk(recipients)
+                .concatMap(chunk -> Mono.defer(() -> {
+                    FanOutCursor from = position.get();
+                    FanOutCursor to = chunk.get(chunk.size() - 1).cursor();
+                    List<NotificationMessage> messages = chunk.stream()
+                            .flatMap(recipient -> recipient.messages().stream())
+                            .toList();
+
+                    return unitOfWorkExecutor.execute(saveChunk(requestId, messages, from, to),
+                            Propagation.REQUIRES_NEW)
+                            .doOnSuccess(saved -> position.set(to));
+                }))
+                .reduce(0L, Long::sum);
+    }
+
+    /**
+     * 수신자들을 메시지 수가 chunk-size 이상이 될 때까지 묶습니다. 한 수신자의 메시지는 나누지 않습니다.
+     */
+    private Flux<List<RecipientMessages>> chunk(Flux<RecipientMessages> recipients) {
+        return Flux.defer(() -> {
+            AtomicInteger buffered = new AtomicInteger();
+            return recipients.bufferUntil(recipient -> {
+                if (buffered.addAndGet(recipient.messages().size()) < chunkSize) {
+                    return false;
+                }
+                buffered.set(0);
+                return true;
+            });
+        });
+    }
+
+    /**
+     * 하나의 chunk를 저장하고 Fan-out 커서를 from에서 to로 옮깁니다.
+     */
+    private Mono<Long> saveChunk(NotificationRequestId requestId, List<NotificationMessage> chunk,
+            FanOutCursor from, FanOutCursor to) {
+        log.debug("Saving {} NotificationMessages in bulk (cursor {} -> {})", chunk.size(), from, to);
+
+        return notificationMessageRepository.insertAll(chunk)
+                .map(saved -> MessageOutbox.create(
+                        saved.getMessageId().value(),
+                        jsonPayloadConverter.toJsonPayload(saved),
+                        saved.getScheduledAt()))
+                .collectList()
+                .flatMapMany(MessageOutboxRepository::insertAll)
+                .count()
+                .flatMap(saved -> notificationRequestRepository.advanceFanOutCursor(requestId, from, to)
+                        .flatMap(advanced -> advanced
+                                ? Mono.just(saved)
+                                : Mono.error(new BusinessRuleViolationException(String.format(
+                                        "Fan-out cursor of NotificationRequest %s is no longer %s",
+                                        requestId.value(), from)))));
+    }
+
 }
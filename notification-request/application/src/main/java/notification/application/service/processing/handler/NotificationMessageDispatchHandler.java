@@ -1,25 +1,43 @@
 package notification.application.service.processing.handler;
 
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import notification.application.common.port.outbound.UnitOfWorkExecutorPort;
 import notification.application.notifiation.port.outbound.message.NotificationMessagePublishPort;
 import notification.application.notifiation.port.outbound.persistence.NotificationMessageRepositoryPort;
 import notification.application.outbox.port.outbound.MessageOutboxRepositoryPort;
 import notification.definition.annotations.UnitOfWork;
 import notification.definition.vo.outbox.MessageOutbox;
+import notification.definition.vo.outbox.OutboxId;
 import notification.domain.NotificationMessage;
+import notification.domain.enums.DeliveryStatus;
+import notification.domain.vo.NotificationMessageId;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class NotificationMessageDispatchHandler {
 
+    private static final int COMPLETE_BATCH_SIZE = 500; // 발행 완료 후 한 번에 상태를 변경할 최대 메시지 수
+
     private final NotificationMessageRepositoryPort notificationMessageRepository;
     private final MessageOutboxRepositoryPort messageOutboxRepository;
     private final NotificationMessagePublishPort notificationMessagePublish;
+    private final NotificationMessageExceptionHandler exceptionHandler;
+    private final UnitOfWorkExecutorPort unitOfWorkExecutor;
 
     /**
      * 알림 메시지를 발행하고, 아웃박스 메시지를 삭제한 후 알림 메시지 상태를 업데이트합니다.
@@ -41,6 +59,45 @@ public class NotificationMessageDispatchHandler {
                 }));
     }
 
+    /**
+     * 여러 알림 메시지를 일괄 발행하고, 발행 결과별로 상태를 업데이트합니다.
+     * 발행에 성공한 메시지는 DISPATCHED로 변경하고 아웃박스 메시지를 삭제하며,
+     * 실패한 메시지는 예외 처리 핸들러에 위임합니다.
+     * 완료 처리에 실패한 묶음이 있어도 나머지 묶음은 계속 처리하고, 모두 끝난 뒤 오류를 전달합니다.
+     *
+     * @param messages 알림 메시지와 아웃박스 메시지 쌍
+     * @return Mono<Void>
+     */
+    public Mono<Void> handleAll(Flux<Tuple2<NotificationMessage, MessageOutbox>> messages) {
+        Map<String, MessageOutbox> outboxByMessageId = new ConcurrentHashMap<>();
+
+        Flux<NotificationMessage> messageFlux = messages
+                .doOnNext(tuple -> outboxByMessageId.put(tuple.getT1().getMessageId().value(), tuple.getT2()))
+                .map(Tuple2::getT1);
+
+        return notificationMessagePublish.publishAll(messageFlux)
+                .flatMap(result -> {
+                    NotificationMessage message = result.message();
+                    MessageOutbox outbox = outboxByMessageId.remove(message.getMessageId().value());
+                    if (outbox == null) {
+                        log.warn("No outbox correlated with published message: {}", message.getMessageId().value());
+                        return Mono.<Tuple2<NotificationMessage, MessageOutbox>>empty();
+                    }
+
+                    if (!result.isSuccess()) {
+                        return exceptionHandler.handle(message, outbox, result.error())
+                                .then(Mono.<Tuple2<NotificationMessage, MessageOutbox>>empty());
+                    }
+
+                    // 메시지 발행이 성공하면 알림 메시지를 DISPATCHED 상태로 변경합니다.
+                    message.markAsDispatched();
+                    return Mono.just(Tuples.of(message, outbox));
+                })
+                .buffer(COMPLETE_BATCH_SIZE) // 발행 완료된 메시지는 묶어서 한 번에 상태 변경
+                .concatMapDelayError(this::handleCompletedMessages)
+                .then();
+    }
+
     /**
      * 알림 메시지 상태를 업데이트하고 아웃박스 메시지를 삭제합니다.
      *
@@ -49,9 +106,43 @@ public class NotificationMessageDispatchHandler {
      * @return Mono<Void>
      */
     private Mono<Void> handleCompletedMessage(NotificationMessage message, MessageOutbox outbox) {
-        return Mono.zip(
-                notificationMessageRepository.save(message),
-                messageOutboxRepository.deleteById(outbox.getOutboxId()))
+        return notificationMessageRepository.updateStatus(message.getMessageId(), DeliveryStatus.PENDING,
+                message.getDeliveryStatus(), message.getDispatchedAt(), message.getFailureReason())
+                .doOnNext(updated -> {
+                    if (!updated) {
+                        log.warn("NotificationMessage {} was no longer PENDING, status not updated",
+                                message.getMessageId().value());
+                    }
+                })
+                .then(messageOutboxRepository.deleteById(outbox.getOutboxId()));
+    }
+
+    /**
+     * 발행 완료된 알림 메시지들의 상태를 UPDATE 한 번으로 DISPATCHED로 변경하고,
+     * 아웃박스 메시지들을 DELETE 한 번으로 삭제합니다.
+     * 두 쿼리는 하나의 트랜잭션으로 실행되며, 발행 시각은 메시지마다 markAsDispatched()로 기록된 시각을 사용합니다.
+     *
+     * @param completed 발행 완료된 알림 메시지와 아웃박스 메시지 쌍
+     * @return Mono<Void>
+     */
+    private Mono<Void> handleCompletedMessages(List<Tuple2<NotificationMessage, MessageOutbox>> completed) {
+        Instant now = Instant.now();
+        Map<NotificationMessageId, Instant> dispatchedAtById = new LinkedHashMap<>();
+        completed.forEach(tuple -> dispatchedAtById.put(tuple.getT1().getMessageId(),
+                Objects.requireNonNullElse(tuple.getT1().getDispatchedAt(), now)));
+        List<OutboxId> outboxIds = completed.stream().map(tuple -> tuple.getT2().getOutboxId()).toList();
+
+        return unitOfWorkExecutor.execute(notificationMessageRepository.updateStatusAll(dispatchedAtById,
+                DeliveryStatus.PENDING, DeliveryStatus.DISPATCHED)
+                .flatMap(updated -> messageOutboxRepository.deleteAllByIds(outboxIds).thenReturn(updated)))
+                .doOnNext(updated -> {
+                    if (updated < dispatchedAtById.size()) {
+                        log.warn("{} of {} dispatched NotificationMessages were no longer PENDING",
+                                dispatchedAtById.size() - updated, dispatchedAtById.size());
+                    }
+                })
+                .doOnError(e -> log.error("Failed to complete {} dispatched messages: {}", completed.size(),
+                        e.getMessage(), e))
                 .then();
     }
 
@@ -4,11 +4,14 @@ import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import notification.application.common.port.outbound.UnitOfWorkExecutorPort;
 import notification.application.notifiation.port.outbound.persistence.NotificationRequestRepositoryPort;
 import notification.application.service.infrastructure.saver.NotificationMessageWithOutboxSaver;
 import notification.application.service.processing.parser.NotificationRequestParser;
-import notification.definition.annotations.UnitOfWork;
+import notification.definition.enums.Propagation;
+import notification.definition.exceptions.BusinessRuleViolationException;
 import notification.domain.NotificationRequest;
+import notification.domain.enums.RequestStatus;
 import reactor.core.publisher.Mono;
 
 @Slf4j
@@ -19,28 +22,67 @@ public class NotificationRequestProcessingHandler {
     private final NotificationRequestRepositoryPort notificationRequestRepository;
     private final NotificationMessageWithOutboxSaver notificationMessageWithOutboxSaver;
     private final NotificationRequestParser notificationMessageParser;
+    private final UnitOfWorkExecutorPort unitOfWorkExecutor;
 
     /**
      * NotificationRequest를 처리하고, 해당 요청에 대한 NotificationMessage를 생성하여 저장합니다.
+     * 상태 전이(PENDING → PROCESSING → DISPATCHED)는 애그리거트 전체를 다시 저장하지 않고
+     * 현재 상태를 조건으로 하는 상태 컬럼 UPDATE로 처리합니다.
+     *
+     * - PROCESSING 전이는 먼저 별도 트랜잭션으로 커밋하고, 메시지는 chunk마다 커밋합니다.
+     * - 이전 처리가 Fan-out 도중 실패하여 PROCESSING 상태로 남은 요청은 Fan-out 커서 이후의 수신자부터 이어서 저장합니다.
+     * - DISPATCHED 전이는 모든 chunk가 커밋된 뒤 별도의 짧은 트랜잭션으로 저장합니다.
+     * - 각 단계가 자신의 트랜잭션만 사용하므로, 호출한 쪽에서 트랜잭션으로 묶지 않아야 합니다.
+     * 외부 트랜잭션이 커넥션을 점유한 채로 chunk 트랜잭션이 커넥션을 하나 더 요구하면 커넥션 풀이 고갈될 수 있습니다.
      *
      * @param domain NotificationRequest
      * @return Mono<Void>
      */
-    @UnitOfWork
     public Mono<NotificationRequest> handle(NotificationRequest domain) {
         log.info("Handling NotificationRequest: {}", domain.getRequestId().value());
 
-        return Mono.just(domain)
-                .doOnNext(NotificationRequest::markAsProcessing) // PROCESSING 상태로 변경
-                .flatMap(notificationRequestRepository::save) // 변경사항 저장
-                .flatMap(savedNotificationRequest -> {
-                    return notificationMessageParser.parse(savedNotificationRequest) // 메시지 파싱
-                            .flatMap(notificationMessageWithOutboxSaver::save) // 파싱된 메시지 Outbox 저장
-                            .collectList() // 모든 Outbox 저장이 완료되기를 기다림
-                            .thenReturn(savedNotificationRequest); // 원래 NotificationRequest 객체를 다음 flatMap으로 전달
-                })
+        return start(domain)
+                .flatMap(request -> notificationRequestRepository.findFanOutCursor(request.getRequestId())
+                        .flatMap(cursor -> notificationMessageWithOutboxSaver.saveAll(request.getRequestId(),
+                                notificationMessageParser.parse(request, cursor), cursor)) // 커서 이후 수신자의 메시지 Outbox를 chunk 단위로 저장
+                        .thenReturn(request)) // 모든 chunk 저장 완료 후 원래 NotificationRequest 객체를 다음 단계로 전달
                 .doOnNext(NotificationRequest::markAsDispatched) // DISPATCHED 상태로 변경
-                .flatMap(notificationRequestRepository::save); // DISPATCHED 상태 저장
+                .flatMap(request -> unitOfWorkExecutor.execute(
+                        updateStatus(request, RequestStatus.PROCESSING))); // DISPATCHED 상태 저장
+    }
+
+    /**
+     * PENDING 상태의 요청을 PROCESSING으로 바꾸어 별도 트랜잭션으로 커밋합니다.
+     * 이미 PROCESSING 상태이면 이전 Fan-out을 이어서 처리하므로 그대로 반환합니다.
+     */
+    private Mono<NotificationRequest> start(NotificationRequest domain) {
+        if (domain.getStatus() == RequestStatus.PROCESSING) {
+            log.info("Resuming fan-out of NotificationRequest: {}", domain.getRequestId().value());
+            return Mono.just(domain);
+        }
+
+        return unitOfWorkExecutor.execute(Mono.just(domain)
+                .doOnNext(NotificationRequest::markAsProcessing) // PROCESSING 상태로 변경
+                .flatMap(request -> updateStatus(request, RequestStatus.PENDING)), // 상태 변경 저장
+                Propagation.REQUIRES_NEW);
+    }
+
+    /**
+     * 도메인의 현재 상태를 저장합니다. 저장된 상태가 expectedStatus가 아니면
+     * 다른 처리가 먼저 상태를 바꾼 것이므로 예외를 발생시킵니다.
+     *
+     * @param domain         상태가 변경된 NotificationRequest
+     * @param expectedStatus 변경 전 상태
+     * @return Mono<NotificationRequest>
+     */
+    private Mono<NotificationRequest> updateStatus(NotificationRequest domain, RequestStatus expectedStatus) {
+        return notificationRequestRepository.updateStatus(domain.getRequestId(), expectedStatus,
+                domain.getStatus(), domain.getProcessedAt(), domain.getFailureReason())
+                .flatMap(updated -> updated
+                        ? Mono.just(domain)
+                        : Mono.error(new BusinessRuleViolationException(String.format(
+                                "NotificationRequest %s is no longer %s", domain.getRequestId().value(),
+                                expectedStatus))));
     }
 
-}
\ No newline at end of file
+}
@@ -1,13 +1,18 @@
 package notification.application.service.processing.parser;
 
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import notification.application.notifiation.dto.FanOutCursor;
+import notification.application.notifiation.dto.RecipientMessages;
 import notification.application.service.support.NotificationContentBuilder;
 import notification.application.service.support.NotificationRequestDataCollector;
+import notification.application.template.CompiledTemplateDefinition;
 import notification.definition.vo.CollectedData;
 import notification.definition.vo.UserConfig;
 import notification.domain.NotificationMessage;
@@ -23,7 +28,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
- * 알림 요청을 파싱하여 NotificationMessage 스트림으로 변환하는 서비스
+ * 알림 요청을 파싱하여 수신자별 NotificationMessage 스트림으로 변환하는 서비스
  * 
  * NotificationDataCollector를 사용하여 필요한 데이터를 수집하고,
  * 수집된 데이터로 메시지를 빌드합니다.
@@ -33,24 +38,100 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class NotificationRequestParser {
 
+    private static final Comparator<String> RECIPIENT_ID_ORDER = Comparator.nullsFirst(Comparator.naturalOrder());
+
     private final NotificationRequestDataCollector dataCollector;
     private final NotificationContentBuilder contentBuilder;
 
     /**
-     * 알림 요청을 파싱하여 NotificationMessage 스트림으로 변환합니다.
+     * 알림 요청을 파싱하여 수신자별 NotificationMessage 스트림으로 변환합니다.
+     * 수신자 참조는 ID 순서로, 전체 사용자 / 세그먼트 수신자는 userId 순서로 처리하므로,
+     * Fan-out을 재개할 때 커서 이후의 수신자부터 keyset으로 이어서 생성할 수 있습니다.
+     * 그 사이 사용자가 추가 / 삭제되어도 이미 커밋된 사용자는 다시 생성되지 않습니다.
      * 
      * @param request 알림 요청
-     * @return NotificationMessage 스트림
+     * @param cursor  마지막으로 커밋된 수신자 위치
+     * @return 커서 이후 수신자들의 RecipientMessages 스트림
      */
-    public Flux<NotificationMessage> parse(NotificationRequest request) {
-        log.info("Starting notification parsing for request: {}, recipients: {}",
-                request.getRequestId(), request.getRecipients().size());
+    public Flux<RecipientMessages> parse(NotificationRequest request, FanOutCursor cursor) {
+        log.info("Starting notification parsing for request: {}, recipients: {}, cursor: {}",
+                request.getRequestId(), request.getRecipients().size(), cursor);
+
+        List<RecipientReference> recipients = request.getRecipients().stream()
+                .sorted(Comparator.comparing(RecipientReference::getId, RECIPIENT_ID_ORDER))
+                .filter(ref -> isPending(ref, cursor))
+                .toList();
 
         return dataCollector.collectData(request)
-                .flatMapMany(data -> Flux.fromIterable(request.getRecipients())
-                        .flatMap(recipientRef -> resolveRecipient(recipientRef, data.userConfigs()))
-                        .flatMap(recipient -> Flux.fromIterable(request.getNotificationTypes())
-                                .flatMap(type -> buildMessage(request, recipient, type, data))));
+                .flatMapMany(data -> Flux.fromIterable(recipients)
+                        .concatMap(ref -> resolveRecipients(ref, data, resumeAfterUserId(ref, cursor))
+                                .concatMap(resolved -> Flux.fromIterable(request.getNotificationTypes())
+                                        .concatMap(type -> buildMessage(request, resolved, type))
+                                        .collectList()
+                                        .filter(messages -> !messages.isEmpty())
+                                        .map(messages -> new RecipientMessages(
+                                                new FanOutCursor(ref.getId(), resolved.recipient().userId()),
+                                                messages)))));
+    }
+
+    /**
+     * 수신자 참조가 아직 커밋되지 않았는지 확인합니다.
+     * 커서가 가리키는 참조가 전체 사용자 / 세그먼트 수신자이면 커서의 사용자 이후부터 이어서 처리합니다.
+     */
+    private boolean isPending(RecipientReference ref, FanOutCursor cursor) {
+        if (cursor.isStart()) {
+            return true;
+        }
+
+        int compared = RECIPIENT_ID_ORDER.compare(ref.getId(), cursor.recipientId());
+        return compared > 0 || (compared == 0 && isBroadcast(ref));
+    }
+
+    /**
+     * 커서가 가리키는 전체 사용자 / 세그먼트 수신자이면 마지막으로 커밋된 사용자 ID를 반환합니다.
+     */
+    private String resumeAfterUserId(RecipientReference ref, FanOutCursor cursor) {
+        return !cursor.isStart() && cursor.recipientId().equals(ref.getId()) ? cursor.userId() : null;
+    }
+
+    //
+    private boolean isBroadcast(RecipientReference ref) {
+        return ref instanceof AllUserRecipient || ref instanceof SegmentRecipient;
+    }
+
+    /**
+     * RecipientReference를 수신자 스트림으로 변환합니다.
+     * 전체 사용자 / 세그먼트 수신자는 afterUserId 이후부터 페이지 단위로 스트리밍되며, 하위 단계의 요청량에 맞춰
+     * 다음 페이지를 조회하므로 수신자 수와 무관하게 메모리 사용량이 일정합니다.
+     */
+    private Flux<ResolvedRecipient> resolveRecipients(RecipientReference ref, CollectedData<UserConfig, CompiledTemplateDefinition> data,
+            String afterUserId) {
+        if (isBroadcast(ref)) {
+            return dataCollector.streamUserConfigs(ref, afterUserId)
+                    .map(config -> new ResolvedRecipient(
+                            new Recipient(
+                                    config.userId(),
+                                    config.email(), config.phoneNumber(),
+                                    config.pushToken(), config.language()),
+                            new CollectedData<>(Map.of(config.userId(), config), data.templates()),
+                            Map.of()));
+        }
+
+        return resolveRecipient(ref, data.userConfigs())
+                .map(recipient -> new ResolvedRecipient(recipient, data, recipientParameters(ref)))
+                .flux();
+    }
+
+    /**
+     * 요청에 포함된 수신자별 템플릿 파라미터를 반환합니다.
+     */
+    private Map<String, String> recipientParameters(RecipientReference ref) {
+        if (ref instanceof UserRecipient user) {
+            return user.parameters();
+        } else if (ref instanceof DirectRecipient direct) {
+            return direct.parameters();
+        }
+        return Map.of();
     }
 
     /**
@@ -74,14 +155,6 @@ public class NotificationRequestParser {
                     null,
                     direct.emailAddress(), direct.phoneNumber(),
                     direct.deviceToken(), "ko"));
-
-        } else if (ref instanceof AllUserRecipient) {
-            log.warn("AllUserRecipient not yet supported");
-            return Mono.empty();
-
-        } else if (ref instanceof SegmentRecipient segment) {
-            log.warn("SegmentRecipient not yet supported for segment: {}", segment.segmentName());
-            return Mono.empty();
         }
 
         return Mono.error(new IllegalArgumentException("Unsupported recipient type: " + ref.getClass()));
@@ -90,17 +163,25 @@ public class NotificationRequestParser {
     /**
      * 단일 메시지를 빌드합니다.
      */
-    private Mono<NotificationMessage> buildMessage(NotificationRequest request, Recipient recipient,
-            NotificationType type, CollectedData<UserConfig> data) {
+    private Mono<NotificationMessage> buildMessage(NotificationRequest request, ResolvedRecipient resolved,
+            NotificationType type) {
 
-        return Mono.fromCallable(() -> contentBuilder.createContent(request, recipient, type, data))
+        return Mono.fromCallable(() -> contentBuilder.createContent(
+                request, resolved.recipient(), type, resolved.data(), resolved.parameters()))
                 .map(content -> NotificationMessage.create(
                         request.getRequestId(),
                         type,
-                        recipient,
+                        resolved.recipient(),
                         content,
                         request.getSenderInfos().get(type),
                         request.getScheduledAt()));
     }
 
+    /**
+     * 변환된 수신자와, 해당 수신자의 메시지를 빌드할 때 사용할 수집 데이터 및 수신자별 템플릿 파라미터
+     */
+    private record ResolvedRecipient(Recipient recipient, CollectedData<UserConfig, CompiledTemplateDefinition> data,
+            Map<String, String> parameters) {
+    }
+
 }
\ No newline at end of file
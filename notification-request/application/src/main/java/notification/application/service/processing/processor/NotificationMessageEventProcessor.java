@@ -1,25 +1,35 @@
 package notification.application.service.processing.processor;
 
+import java.util.List;
+
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import notification.application.notifiation.port.inbound.NotificationMessageEventProcessorUseCase;
+import notification.application.outbox.port.outbound.MessageOutboxRepositoryPort;
 import notification.application.service.infrastructure.loader.NotificationMessageOutboxLoader;
 import notification.application.service.processing.handler.NotificationMessageDispatchHandler;
 import notification.application.service.processing.handler.NotificationMessageExceptionHandler;
 import notification.definition.annotations.UnitOfWork;
 import notification.definition.vo.outbox.MessageOutbox;
+import notification.domain.NotificationMessage;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class NotificationMessageEventProcessor implements NotificationMessageEventProcessorUseCase {
 
+    private static final int LOAD_CONCURRENCY = 16; // 일괄 처리 시 메시지 로드 동시 실행 수
+
     private final NotificationMessageOutboxLoader notificationMessageOutboxLoader;
     private final NotificationMessageDispatchHandler notificationMessageDispatchHandler;
     private final NotificationMessageExceptionHandler exceptionHandler;
+    private final MessageOutboxRepositoryPort messageOutboxRepository;
 
     /**
      * 알림 메시지를 처리합니다. Outbox 메시지를 로드하고, 알림 메시지를 발행한 후
@@ -41,4 +51,39 @@ public class NotificationMessageEventProcessor implements NotificationMessageEve
         });
     }
 
+    /**
+     * 여러 알림 메시지를 일괄 처리합니다. Outbox 메시지들로 알림 메시지를 로드한 뒤
+     * 한 번에 발행하고, 발행 결과별로 상태를 업데이트합니다.
+     *
+     * @param outboxes MessageOutbox 목록
+     * @return 처리 결과
+     */
+    @Override
+    public Mono<Void> processAll(List<MessageOutbox> outboxes) {
+        log.info("Processing {} NotificationMessages in batch", outboxes.size());
+
+        Flux<Tuple2<NotificationMessage, MessageOutbox>> messages = Flux.fromIterable(outboxes)
+                .flatMap(outbox -> notificationMessageOutboxLoader.load(outbox)
+                        .map(message -> Tuples.of(message, outbox))
+                        .onErrorResume(e -> releaseUnloaded(outbox, e)), LOAD_CONCURRENCY);
+
+        return notificationMessageDispatchHandler.handleAll(messages)
+                .doOnSuccess(v -> log.info("Successfully processed {} NotificationMessages in batch", outboxes.size()));
+    }
+
+    /**
+     * 알림 메시지를 로드하지 못한 Outbox의 할당을 바로 해제하여 다음 조회에서 다시 처리되도록 합니다.
+     * 해제하지 않으면 이 인스턴스가 살아 있는 동안 IN_PROGRESS로 남아 처리되지 않습니다.
+     */
+    private Mono<Tuple2<NotificationMessage, MessageOutbox>> releaseUnloaded(MessageOutbox outbox, Throwable e) {
+        log.error("Failed to load NotificationMessage for outbox {}, releasing claim: {}",
+                outbox.getOutboxId().value(), e.getMessage(), e);
+
+        return messageOutboxRepository.releaseClaimed(List.of(outbox.getOutboxId()))
+                .doOnError(releaseError -> log.error("Error releasing MessageOutbox {}: {}",
+                        outbox.getOutboxId().value(), releaseError.getMessage(), releaseError))
+                .onErrorResume(releaseError -> Mono.empty())
+                .then(Mono.empty());
+    }
+
 }
@@ -1,5 +1,8 @@
 package notification.application.service.processing.processor;
 
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
@@ -26,6 +29,9 @@ public class NotificationRequestEventProcessor implements NotificationRequestEve
 
     private final UnitOfWorkExecutorPort unitOfWorkExecutor;
 
+    @Value("${app.outbox.dispatch.request.process-concurrency:8}") // 일괄 처리 시 요청 처리 동시 실행 수
+    private int processConcurrency = 8;
+
     /**
      * 알림 요청 이벤트를 처리합니다. Outbox 메시지를 로드하고, 알림 요청을 처리한 후
      * 아웃박스 메시지를 삭제하고 알림 요청 상태를 업데이트합니다.
@@ -37,18 +43,62 @@ public class NotificationRequestEventProcessor implements NotificationRequestEve
     public Mono<Void> process(RequestOutbox outbox) {
         log.info("Processing NotificationRequest with outbox: {}", outbox.getAggregateId());
 
-        Mono<NotificationRequest> logic = notificationRequestOutboxLoader.load(outbox).flatMap(domain -> {
-            return notificationRequestProcessingHandler.handle(domain)
-                    .thenReturn(domain)
-                    .doOnSuccess(v -> log.info("Successfully processed NotificationRequest request: {}",
-                            outbox.getAggregateId()))
-                    .onErrorResume(e -> executionHandler.handle(domain, outbox, e).thenReturn(domain));
-        });
-
-        return unitOfWorkExecutor.execute(
-                logic, // 트랜잭션 내에서 실행되는 로직
-                notificationRequestOutboxHandler::handle // After Commit: Outbox 메시지 처리
-        ).then();
+        return execute(notificationRequestOutboxLoader.load(outbox)
+                .flatMap(domain -> handle(domain, outbox)));
+    }
+
+    /**
+     * 여러 알림 요청 이벤트를 처리합니다. 알림 요청 애그리거트를 한 번에 로드한 뒤,
+     * 요청마다 독립적으로 처리합니다. 한 요청의 실패는 다른 요청에 영향을 주지 않습니다.
+     *
+     * @param outboxes RequestOutbox 목록
+     * @return Mono<Void>
+     */
+    @Override
+    public Mono<Void> processAll(List<RequestOutbox> outboxes) {
+        log.info("Processing {} NotificationRequests in batch", outboxes.size());
+
+        return notificationRequestOutboxLoader.loadAll(outboxes)
+                .flatMap(tuple -> execute(handle(tuple.getT1(), tuple.getT2()))
+                        .onErrorResume(e -> {
+                            log.error("Failed to process NotificationRequest {} in batch: {}",
+                                    tuple.getT2().getAggregateId(), e.getMessage(), e);
+                            return Mono.empty(); // 다음 폴링에서 재처리
+                        }), processConcurrency)
+                .then()
+                .doOnSuccess(v -> log.info("Successfully processed {} NotificationRequests in batch",
+                        outboxes.size()));
+    }
+
+    /**
+     * 알림 요청을 처리하고, 실패하면 실행 실패 처리 핸들러에 위임합니다.
+     * 요청 처리는 상태 전이와 Fan-out chunk를 각각 짧은 트랜잭션으로 커밋하므로 외부 트랜잭션으로 묶지 않으며,
+     * 실패 처리만 별도 트랜잭션으로 실행합니다.
+     */
+    private Mono<NotificationRequest> handle(NotificationRequest domain, RequestOutbox outbox) {
+        return notificationRequestProcessingHandler.handle(domain)
+                .thenReturn(domain)
+                .doOnSuccess(v -> log.info("Successfully processed NotificationRequest request: {}",
+                        outbox.getAggregateId()))
+                .onErrorResume(e -> unitOfWorkExecutor.execute(executionHandler.handle(domain, outbox, e))
+                        .thenReturn(domain));
+    }
+
+    /**
+     * 로직을 실행한 뒤 Outbox 메시지를 처리합니다.
+     *
+     * 요청 전체를 하나의 트랜잭션으로 묶으면, 외부 트랜잭션이 커넥션 하나를 점유한 채로
+     * chunk마다 REQUIRES_NEW 트랜잭션이 커넥션을 하나 더 요구합니다. 동시에 처리하는 요청 수가
+     * 커넥션 풀 크기에 이르면 모든 외부 트랜잭션이 두 번째 커넥션을 기다리며 멈추므로,
+     * 각 단계가 자신의 짧은 트랜잭션만 사용하도록 외부 트랜잭션을 두지 않습니다.
+     */
+    private Mono<Void> execute(Mono<NotificationRequest> logic) {
+        return logic
+                .flatMap(domain -> notificationRequestOutboxHandler.handle(domain)
+                        .doOnError(e -> log.error("Failed to handle NotificationRequest Outbox for {}: {}",
+                                domain.getRequestId().value(), e.getMessage(), e))
+                        .onErrorResume(e -> Mono.empty())) // 다음 폴링에서 재처리
+                .then();
     }
 
-}
\ No newline at end of file
+}
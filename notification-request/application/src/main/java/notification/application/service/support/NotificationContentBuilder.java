@@ -1,14 +1,18 @@
 package notification.application.service.support;
 
+import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import lombok.extern.slf4j.Slf4j;
+import notification.application.template.CompiledTemplate;
+import notification.application.template.CompiledTemplateDefinition;
+import notification.application.template.LanguageChain;
+import notification.application.template.CompiledTemplate.VariableResolver;
+import notification.definition.exceptions.DataNotFoundException;
 import notification.definition.vo.CollectedData;
-import notification.definition.vo.RenderedContent;
 import notification.definition.vo.TemplateRenderKey;
 import notification.definition.vo.UserConfig;
 import notification.domain.NotificationRequest;
@@ -19,15 +23,20 @@ import notification.domain.vo.recipient.Recipient;
 /**
  * 템플릿과 파라미터를 조합하여 최종 알림 콘텐츠를 생성하는 서비스
  * 
- * 렌더링된 템플릿에 사용자별 파라미터를 적용하여
+ * 컴파일된 템플릿에 요청 파라미터와 사용자별 파라미터를 한 번에 적용하여
  * 실제 사용자에게 전송될 최종 콘텐츠를 생성합니다.
  */
 @Slf4j
 @Component
 public class NotificationContentBuilder {
 
-    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("\\{\\{([^}]+)\\}\\}");
-    private static final String DEFAULT_LANGUAGE = "ko";
+    // 수신자 언어의 템플릿이 없을 때 차례로 시도할 언어 목록
+    private final List<String> fallbackLanguages;
+
+    public NotificationContentBuilder(
+            @Value("${app.template.fallback-languages:ko}") List<String> fallbackLanguages) {
+        this.fallbackLanguages = List.copyOf(fallbackLanguages);
+    }
 
     /**
      * 알림 콘텐츠를 생성합니다.
@@ -40,90 +49,121 @@ public class NotificationContentBuilder {
      * @return
      */
     public NotificationContent createContent(NotificationRequest request, Recipient recipient,
-            NotificationType type, CollectedData<UserConfig> data) {
+            NotificationType type, CollectedData<UserConfig, CompiledTemplateDefinition> data) {
+        return createContent(request, recipient, type, data, Map.of());
+    }
+
+    /**
+     * 수신자별 템플릿 파라미터를 함께 적용하여 알림 콘텐츠를 생성합니다.
+     *
+     * @param request             알림 요청
+     * @param recipient           수신자
+     * @param type                알림 타입
+     * @param data                수집된 데이터
+     * @param recipientParameters 요청에 포함된 수신자별 템플릿 파라미터
+     * @return 알림 콘텐츠
+     */
+    public NotificationContent createContent(NotificationRequest request, Recipient recipient,
+            NotificationType type, CollectedData<UserConfig, CompiledTemplateDefinition> data,
+            Map<String, String> recipientParameters) {
         if (request.getTemplate() == null) {
             return request.getContent();
         }
 
-        String templateKey = new TemplateRenderKey(
-                request.getTemplate().getTemplateId(),
-                type.name(),
-                recipient.language() != null ? recipient.language() : DEFAULT_LANGUAGE)
-                .toString();
+        CompiledTemplateDefinition template = findTemplate(request, recipient, type, data);
+        if (template == null) {
+            if (request.getContent() == null) {
+                throw new DataNotFoundException(String.format(
+                        "Template not found: %s, type: %s, language: %s",
+                        request.getTemplate().getTemplateId(), type.name(), recipient.language()));
+            }
 
-        RenderedContent rendered = data.renderedTemplates().get(templateKey);
-        if (rendered == null) {
-            log.warn("Rendered template not found for key: {}, using fallback content", templateKey);
+            log.warn("Template not found for template: {}, type: {}, language: {}, using fallback content",
+                    request.getTemplate().getTemplateId(), type.name(), recipient.language());
             return request.getContent();
         }
 
-        // 파라미터 적용
+        // ${{var}}와 {{key}}를 한 번에 적용 (단일 패스)
         Map<String, String> parameters = request.getTemplate().getParameters();
-        String finalTitle = applyParameters(rendered.title(), parameters, recipient, data);
-        String finalBody = applyParameters(rendered.body(), parameters, recipient, data);
+        VariableResolver requestResolver = requestResolver(parameters);
+        VariableResolver recipientResolver = recipientResolver(parameters, recipientParameters, recipient, data);
+        String finalTitle = applyParameters(template.title(), requestResolver, recipientResolver);
+        String finalBody = applyParameters(template.body(), requestResolver, recipientResolver);
 
         return new NotificationContent(finalTitle, finalBody, null, null);
     }
 
     /**
-     * 렌더링된 콘텐츠에 파라미터를 적용합니다.
+     * 수신자 언어의 템플릿을 찾고, 없으면 app.template.fallback-languages 순서대로 찾습니다.
+     * (전체 사용자 / 세그먼트 수신자는 지원 언어만 미리 조회되므로, 그 외 언어는 대체 언어로 대체)
      */
-    private String applyParameters(String content, Map<String, String> parameters, Recipient recipient,
-            CollectedData<UserConfig> data) {
-        if (content == null || parameters == null) {
-            return content;
+    private CompiledTemplateDefinition findTemplate(NotificationRequest request, Recipient recipient,
+            NotificationType type, CollectedData<UserConfig, CompiledTemplateDefinition> data) {
+        String templateId = request.getTemplate().getTemplateId();
+        for (String language : LanguageChain.of(recipient.language(), fallbackLanguages)) {
+            CompiledTemplateDefinition template = data.templates()
+                    .get(new TemplateRenderKey(templateId, type.name(), language).toString());
+            if (template != null) {
+                return template;
+            }
         }
-
-        String result = content;
-        result = applyUserConfigParameters(result, recipient, data);
-        result = applyTemplateParameters(result, parameters);
-
-        return result;
+        return null;
     }
 
     /**
-     * 수신자 정보와 UserConfig 정보를 템플릿에 적용합니다.
+     * 컴파일된 템플릿에 요청 파라미터(${{var}})와 수신자 변수({{key}})를 한 번에 적용합니다.
+     * 컴파일 결과는 요청 내 모든 수신자가 공유하므로, 수신자마다 다시 파싱하지 않습니다.
      */
-    private String applyUserConfigParameters(String content, Recipient recipient, CollectedData<UserConfig> data) {
-        String result = content;
-
-        // UserConfig 정보 적용 (userId가 있는 경우에만)
-        if (recipient.userId() != null) {
-            UserConfig userConfig = data.userConfigs().get(recipient.userId());
-            if (userConfig != null) {
-                // UserConfig의 추가 정보들을 플레이스홀더로 적용
-                if (userConfig.userName() != null) {
-                    result = result.replace("{{userName}}", userConfig.userName());
-                }
-            }
+    private static String applyParameters(CompiledTemplate template, VariableResolver requestResolver,
+            VariableResolver recipientResolver) {
+        if (template == null) {
+            return null;
         }
 
-        return result;
+        return template.render(requestResolver, recipientResolver);
     }
 
     /**
-     * 템플릿 파라미터를 적용합니다.
+     * 요청 단위 변수(${{var}}) 조회 함수를 생성합니다.
      */
-    private String applyTemplateParameters(String content, Map<String, String> parameters) {
-        if (parameters == null || parameters.isEmpty()) {
-            return content;
-        }
-
-        String result = content;
-
-        Matcher matcher = PLACEHOLDER_PATTERN.matcher(content);
-        while (matcher.find()) {
-            String placeholder = matcher.group(0); // {{key}}
-            String key = matcher.group(1); // key
+    private static VariableResolver requestResolver(Map<String, String> parameters) {
+        return parameters != null ? parameters::get : name -> null;
+    }
 
-            String value = parameters.get(key);
-            if (value != null) {
-                result = result.replace(placeholder, value);
-            } else {
-                log.debug("Parameter not found for placeholder: {}", placeholder);
+    /**
+     * 수신자 단위 변수 조회 함수를 생성합니다.
+     * 수신자별 파라미터 > UserConfig 필드 > 요청 공통 템플릿 파라미터 순으로 조회합니다.
+     */
+    private VariableResolver recipientResolver(Map<String, String> parameters,
+            Map<String, String> recipientParameters, Recipient recipient,
+            CollectedData<UserConfig, CompiledTemplateDefinition> data) {
+        UserConfig userConfig = recipient.userId() != null ? data.userConfigs().get(recipient.userId()) : null;
+
+        return name -> {
+            String value = recipientParameters != null ? recipientParameters.get(name) : null;
+            if (value == null && userConfig != null) {
+                value = userConfigValue(userConfig, name);
             }
-        }
+            if (value == null && parameters != null) {
+                value = parameters.get(name);
+            }
+            return value;
+        };
+    }
 
-        return result;
+    /**
+     * 템플릿에서 참조할 수 있는 UserConfig 필드 값을 반환합니다.
+     * 예: {{userName}}, {{email}}, {{phoneNumber}}, {{language}}, {{timeZone}}
+     */
+    private static String userConfigValue(UserConfig userConfig, String name) {
+        return switch (name) {
+            case "userId" -> userConfig.userId();
+            case "userName" -> userConfig.userName();
+            case "email" -> userConfig.email();
+            case "phoneNumber" -> userConfig.phoneNumber();
+            case "language" -> userConfig.language();
+            case "timeZone" -> userConfig.timeZone();
+            default -> null;
+        };
     }
 }
@@ -1,23 +1,27 @@
 package notification.application.service.support;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import notification.application.service.infrastructure.TemplateRenderingService;
+import notification.application.template.CompiledTemplateDefinition;
 import notification.application.user.port.outbound.UserConfigProviderPort;
 import notification.definition.vo.CollectedData;
-import notification.definition.vo.RenderedContent;
 import notification.definition.vo.TemplateRenderKey;
 import notification.definition.vo.UserConfig;
 import notification.domain.NotificationRequest;
 import notification.domain.enums.NotificationType;
+import notification.domain.vo.recipient.AllUserRecipient;
 import notification.domain.vo.recipient.RecipientReference;
+import notification.domain.vo.recipient.SegmentRecipient;
 import notification.domain.vo.recipient.UserRecipient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -25,7 +29,7 @@ import reactor.core.publisher.Mono;
 /**
  * 알림 처리에 필요한 데이터를 배치로 수집하는 서비스
  * 
- * UserConfig와 템플릿 렌더링 결과를 미리 수집하여
+ * UserConfig와 컴파일된 템플릿을 미리 수집하여
  * 중복 요청을 방지하고 성능을 최적화합니다.
  */
 @Slf4j
@@ -38,18 +42,48 @@ public class NotificationRequestDataCollector {
 
     private static final String DEFAULT_LANGUAGE = "ko";
 
+    @Value("${app.user.batch.size:100}")
+    private int userBatchSize = 100;
+
+    @Value("${app.user.batch.concurrency:4}")
+    private int userBatchConcurrency = 4;
+
+    @Value("${app.notification.fan-out.page-size:1000}")
+    private int pageSize = 1000;
+
+    @Value("${app.notification.supported-languages:ko,en}")
+    private List<String> supportedLanguages = List.of("ko", "en");
+
     /**
      * 알림 요청에 필요한 모든 데이터를 수집합니다.
      * 
      * @param request 알림 요청
      * @return CollectedData 객체
      */
-    public Mono<CollectedData<UserConfig>> collectData(NotificationRequest request) {
+    public Mono<CollectedData<UserConfig, CompiledTemplateDefinition>> collectData(NotificationRequest request) {
         return collectUserConfigs(request)
                 .flatMap(userConfigs -> collectTemplates(request, userConfigs)
                         .map(templates -> new CollectedData<>(userConfigs, templates)));
     }
 
+    /**
+     * 전체 사용자 / 세그먼트 수신자의 UserConfig를 페이지 단위로 스트리밍합니다.
+     * 수백만 명을 대상으로 하므로 미리 수집하지 않고, 소비 속도에 맞춰 다음 페이지를 조회합니다.
+     *
+     * @param ref         AllUserRecipient 또는 SegmentRecipient
+     * @param afterUserId 이 사용자 ID 이후부터 조회 (null이면 처음부터)
+     * @return UserConfig 스트림 (userId 오름차순)
+     */
+    public Flux<UserConfig> streamUserConfigs(RecipientReference ref, String afterUserId) {
+        if (ref instanceof AllUserRecipient) {
+            return userConfigProviderPort.streamUserConfigs(null, afterUserId, pageSize);
+        } else if (ref instanceof SegmentRecipient segment) {
+            return userConfigProviderPort.streamUserConfigs(segment.segmentName(), afterUserId, pageSize);
+        }
+
+        return Flux.error(new IllegalArgumentException("Not a broadcast recipient type: " + ref.getClass()));
+    }
+
     /**
      * 필요한 모든 UserConfig를 배치로 수집합니다.
      */
@@ -64,30 +98,44 @@ public class NotificationRequestDataCollector {
                 .map(user -> user.userId().value())
                 .collect(Collectors.toSet());
 
+        // batch-size 단위로 묶어 한 번에 조회하고, 동시 조회 수는 concurrency로 제한
         return Flux.fromIterable(userIds)
-                .flatMap(userId -> userConfigProviderPort.getUserConfigById(userId)
-                        .map(config -> Map.entry(userId, config))
+                .buffer(userBatchSize)
+                .flatMap(chunk -> userConfigProviderPort.getUserConfigsByIds(chunk)
                         .onErrorResume(error -> {
-                            log.warn("Failed to get user config for userId: {}, error: {}", userId, error.getMessage());
-                            return Mono.empty();
-                        }))
-                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+                            log.warn("Failed to get user configs for {} users, error: {}", chunk.size(),
+                                    error.getMessage());
+                            return Flux.empty();
+                        }), userBatchConcurrency)
+                .collectMap(UserConfig::userId);
     }
 
     /**
-     * 필요한 모든 템플릿을 미리 렌더링합니다.
+     * 필요한 모든 템플릿의 컴파일 결과를 미리 조회합니다.
+     * 파라미터 바인딩은 수신자별 콘텐츠를 만들 때 요청 / 수신자 변수를 함께 한 번에 수행합니다.
      */
-    private Mono<Map<String, RenderedContent>> collectTemplates(
+    private Mono<Map<String, CompiledTemplateDefinition>> collectTemplates(
             NotificationRequest request, Map<String, UserConfig> userConfigs) {
         // 템플릿이 없는 경우 빈 맵 반환
         if (request.getTemplate() == null) {
             return Mono.just(Map.of());
         }
 
-        // 템플릿 키 생성 및 렌더링
+        // 템플릿 키 생성 및 조회
         Set<TemplateRenderKey> templateKeys = new HashSet<>();
         for (RecipientReference recipientRef : request.getRecipients()) {
 
+            // 전체 사용자 / 세그먼트 수신자는 언어를 미리 알 수 없으므로 지원 언어 전체를 조회
+            if (recipientRef instanceof AllUserRecipient || recipientRef instanceof SegmentRecipient) {
+                for (String supportedLanguage : supportedLanguages) {
+                    for (NotificationType type : request.getNotificationTypes()) {
+                        templateKeys.add(new TemplateRenderKey(
+                                request.getTemplate().getTemplateId(), type.name(), supportedLanguage));
+                    }
+                }
+                continue;
+            }
+
             String language = DEFAULT_LANGUAGE; // 기본 언어 설정
             if (recipientRef instanceof UserRecipient userRecipient) {
                 UserConfig config = userConfigs.get(userRecipient.userId().value());
@@ -102,10 +150,11 @@ public class NotificationRequestDataCollector {
 
         return Flux.fromIterable(templateKeys)
                 .flatMap(key -> templateRenderingService
-                        .renderTemplate(request.getTemplate(), NotificationType.valueOf(key.type()), key.language())
-                        .map(rendered -> Map.entry(key.toString(), rendered))
+                        .compileTemplate(request.getTemplate().getTemplateId(), NotificationType.valueOf(key.type()),
+                                key.language())
+                        .map(compiled -> Map.entry(key.toString(), compiled))
                         .onErrorResume(error -> {
-                            log.warn("Failed to render template for key: {}, error: {}", key, error.getMessage());
+                            log.warn("Failed to load template for key: {}, error: {}", key, error.getMessage());
                             return Mono.empty();
                         }))
                 .collectMap(Map.Entry::getKey, Map.Entry::getValue);
@@ -0,0 +1,228 @@
+package notification.application.template;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 템플릿 문자열을 한 번만 파싱해 둔 결과 (단일 패스 플레이스홀더 엔진)
+ *
+ * 두 가지 플레이스홀더 문법을 지원합니다.
+ * - ${{var}} : 요청 단위 템플릿 파라미터. 값이 없으면 빈 문자열로 치환됩니다.
+ * - {{key}}  : 수신자 단위 변수. 값이 없으면 플레이스홀더를 그대로 남깁니다.
+ *
+ * 템플릿을 리터럴/변수 구간으로 미리 나누어 두므로, 렌더링할 때는 정규식이나
+ * 반복적인 String.replace 없이 구간을 순서대로 한 번만 이어 붙입니다.
+ * 예: "안녕하세요. {{userName}}님, ${{product}}" -> ["안녕하세요. ", userName, "님, ", product, ""]
+ */
+public final class CompiledTemplate {
+
+    /**
+     * 변수 이름으로 값을 조회합니다. 값이 없으면 null을 반환합니다.
+     */
+    @FunctionalInterface
+    public interface VariableResolver {
+        String resolve(String name);
+    }
+
+    private static final int MAX_RETAINED_BUFFER = 16 * 1024;
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    private final String source;
+    private final String[] literals; // literals.length == variables.length + 1
+    private final String[] variables;
+    private final String[] placeholders; // 원본 플레이스홀더 문자열
+    private final boolean[] requestScoped; // ${{var}} 문법 여부
+    private final int literalLength;
+
+    private CompiledTemplate(String source, List<String> literals, List<Variable> variables) {
+        this.source = source;
+        this.literals = literals.toArray(String[]::new);
+        this.variables = new String[variables.size()];
+        this.placeholders = new String[variables.size()];
+        this.requestScoped = new boolean[variables.size()];
+        for (int i = 0; i < variables.size(); i++) {
+            this.variables[i] = variables.get(i).name();
+            this.placeholders[i] = variables.get(i).placeholder();
+            this.requestScoped[i] = variables.get(i).requestScoped();
+        }
+        this.literalLength = literals.stream().mapToInt(String::length).sum();
+    }
+
+    /**
+     * 템플릿 문자열을 리터럴/변수 구간으로 컴파일합니다.
+     *
+     * @param source 템플릿 문자열 (null 허용)
+     * @return 컴파일된 템플릿
+     */
+    public static CompiledTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<Variable> variables = new ArrayList<>();
+
+        if (source == null) {
+            literals.add("");
+            return new CompiledTemplate(null, literals, variables);
+        }
+
+        int literalStart = 0;
+        int cursor = 0;
+        while ((cursor = source.indexOf("{{", cursor)) >= 0) {
+            Variable variable = null;
+            int start = cursor;
+
+            // ${{var}} : 이름은 영문자, 숫자, '_'
+            if (cursor > literalStart && source.charAt(cursor - 1) == '$') {
+                variable = parseRequestVariable(source, cursor);
+                start = cursor - 1;
+            }
+
+            // {{key}} : 이름은 '}'를 제외한 모든 문자
+            if (variable == null) {
+                variable = parseRecipientVariable(source, cursor);
+                start = cursor;
+            }
+
+            if (variable == null) {
+                cursor++; // 올바른 플레이스홀더가 아니면 리터럴로 취급
+                continue;
+            }
+
+            literals.add(source.substring(literalStart, start));
+            variables.add(variable);
+            cursor = start + variable.placeholder().length();
+            literalStart = cursor;
+        }
+        literals.add(source.substring(literalStart));
+
+        return new CompiledTemplate(source, literals, variables);
+    }
+
+    /**
+     * 요청 단위 템플릿 파라미터(${{var}})만 바인딩합니다. {{key}}는 수신자 단계에서 처리되도록 남겨둡니다.
+     * 파라미터가 없으면 원본 문자열을, 값이 없는 변수는 빈 문자열로 치환합니다.
+     *
+     * @param parameters 플레이스홀더와 대응되는 값의 맵
+     * @return 렌더링된 문자열
+     */
+    public String render(Map<String, String> parameters) {
+        if (source == null || variables.length == 0 || parameters == null || parameters.isEmpty()) {
+            return source;
+        }
+
+        return renderWith(parameters::get, null);
+    }
+
+    /**
+     * 모든 플레이스홀더를 resolver로 바인딩하여 한 번에 렌더링합니다.
+     *
+     * @param resolver 변수 값 조회 함수
+     * @return 렌더링된 문자열
+     */
+    public String render(VariableResolver resolver) {
+        if (source == null || variables.length == 0) {
+            return source;
+        }
+
+        return renderWith(resolver, resolver);
+    }
+
+    /**
+     * ${{var}}는 requestResolver로, {{key}}는 recipientResolver로 바인딩하여 한 번에 렌더링합니다.
+     * 치환된 값은 다시 해석하지 않으므로, 파라미터 값에 들어 있는 플레이스홀더 문법은 그대로 출력됩니다.
+     *
+     * @param requestResolver   요청 단위 템플릿 파라미터 조회 함수
+     * @param recipientResolver 수신자 단위 변수 조회 함수
+     * @return 렌더링된 문자열
+     */
+    public String render(VariableResolver requestResolver, VariableResolver recipientResolver) {
+        if (source == null || variables.length == 0) {
+            return source;
+        }
+
+        return renderWith(requestResolver, recipientResolver);
+    }
+
+    /**
+     * 모든 플레이스홀더를 resolver로 바인딩하여 주어진 StringBuilder에 이어 붙입니다.
+     *
+     * @param resolver 변수 값 조회 함수
+     * @param out      결과를 이어 붙일 버퍼
+     * @return out
+     */
+    public StringBuilder renderTo(VariableResolver resolver, StringBuilder out) {
+        return renderTo(resolver, resolver, out);
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public boolean hasVariables() {
+        return variables.length > 0;
+    }
+
+    // recipientResolver가 null이면 {{key}}는 플레이스홀더를 그대로 남김
+    private String renderWith(VariableResolver requestResolver, VariableResolver recipientResolver) {
+        // 스레드별 버퍼를 재사용하여 렌더링마다 버퍼를 새로 할당하지 않음
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        buffer.ensureCapacity(literalLength + variables.length * 16);
+
+        String rendered = renderTo(requestResolver, recipientResolver, buffer).toString();
+        if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+            BUFFER.remove();
+        }
+        return rendered;
+    }
+
+    //
+    private StringBuilder renderTo(VariableResolver requestResolver, VariableResolver recipientResolver,
+            StringBuilder out) {
+        for (int i = 0; i < variables.length; i++) {
+            out.append(literals[i]);
+
+            VariableResolver resolver = requestScoped[i] ? requestResolver : recipientResolver;
+            String value = resolver != null ? resolver.resolve(variables[i]) : null;
+            if (value != null) {
+                out.append(value);
+            } else if (!requestScoped[i]) {
+                out.append(placeholders[i]);
+            }
+        }
+        return out.append(literals[variables.length]);
+    }
+
+    //
+    private static Variable parseRequestVariable(String source, int open) {
+        int nameStart = open + 2;
+        int nameEnd = nameStart;
+        while (nameEnd < source.length() && isWordChar(source.charAt(nameEnd))) {
+            nameEnd++;
+        }
+
+        if (nameEnd == nameStart || !source.startsWith("}}", nameEnd)) {
+            return null;
+        }
+        return new Variable(source.substring(nameStart, nameEnd), source.substring(open - 1, nameEnd + 2), true);
+    }
+
+    //
+    private static Variable parseRecipientVariable(String source, int open) {
+        int nameStart = open + 2;
+        int nameEnd = source.indexOf('}', nameStart);
+
+        if (nameEnd <= nameStart || !source.startsWith("}}", nameEnd)) {
+            return null;
+        }
+        return new Variable(source.substring(nameStart, nameEnd), source.substring(open, nameEnd + 2), false);
+    }
+
+    //
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    private record Variable(String name, String placeholder, boolean requestScoped) {
+    }
+
+}
@@ -0,0 +1,27 @@
+package notification.application.template;
+
+import notification.definition.vo.TemplateDefinition;
+
+/**
+ * 제목/본문이 미리 컴파일된 템플릿 정의
+ *
+ * @param templateId 템플릿 ID
+ * @param language   언어 코드
+ * @param title      컴파일된 제목 템플릿
+ * @param body       컴파일된 본문 템플릿
+ */
+public record CompiledTemplateDefinition(
+        String templateId,
+        String language,
+        CompiledTemplate title,
+        CompiledTemplate body) {
+
+    public static CompiledTemplateDefinition compile(TemplateDefinition definition) {
+        return new CompiledTemplateDefinition(
+                definition.templateId(),
+                definition.language(),
+                CompiledTemplate.compile(definition.titleTemplate()),
+                CompiledTemplate.compile(definition.bodyTemplate()));
+    }
+
+}
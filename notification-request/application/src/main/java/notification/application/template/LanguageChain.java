@@ -0,0 +1,45 @@
+package notification.application.template;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 템플릿 언어 대체 순서
+ *
+ * 예: "en-US" -> [en-US, en, (대체 언어...)]
+ * 요청 언어도 대체 언어도 없으면 기본 언어(ko)를 사용합니다.
+ */
+public final class LanguageChain {
+
+    private static final String DEFAULT_LANGUAGE = "ko";
+
+    private LanguageChain() {
+    }
+
+    /**
+     * 요청 언어와 대체 언어 목록으로 언어 대체 순서를 만듭니다.
+     *
+     * @param language          요청 언어 (nullable)
+     * @param fallbackLanguages app.template.fallback-languages
+     * @return 중복 없는 언어 대체 순서
+     */
+    public static List<String> of(String language, List<String> fallbackLanguages) {
+        Set<String> chain = new LinkedHashSet<>();
+        if (language != null && !language.isBlank()) {
+            chain.add(language);
+
+            int separator = Math.max(language.indexOf('-'), language.indexOf('_'));
+            if (separator > 0) {
+                chain.add(language.substring(0, separator));
+            }
+        }
+        chain.addAll(fallbackLanguages);
+
+        if (chain.isEmpty()) {
+            chain.add(DEFAULT_LANGUAGE);
+        }
+        return List.copyOf(chain);
+    }
+
+}
@@ -0,0 +1,22 @@
+package notification.application.template.port.inbound;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface TemplateCacheUseCase {
+
+    /**
+     * 활성화된 모든 템플릿을 미리 컴파일하여 캐시에 적재합니다.
+     *
+     * @return 적재된 캐시 항목 수
+     */
+    Mono<Integer> preloadTemplates();
+
+    /**
+     * 템플릿 변경 알림을 구독하여, 변경된 템플릿의 캐시를 다시 적재합니다.
+     *
+     * @return 다시 적재된 템플릿 ID 스트림
+     */
+    Flux<String> watchTemplateChanges();
+
+}
@@ -1,5 +1,6 @@
 package notification.application.template.port.inbound;
 
+import notification.application.template.CompiledTemplateDefinition;
 import notification.definition.vo.RenderedContent;
 import notification.domain.enums.NotificationType;
 import notification.domain.vo.TemplateInfo;
@@ -9,4 +10,6 @@ public interface TemplateRenderingUseCase {
 
     Mono<RenderedContent> renderTemplate(TemplateInfo templateInfo, NotificationType type, String language);
 
+    Mono<CompiledTemplateDefinition> compileTemplate(String templateId, NotificationType type, String language);
+
 }
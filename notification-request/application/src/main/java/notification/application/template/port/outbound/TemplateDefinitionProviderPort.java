@@ -1,16 +1,50 @@
 package notification.application.template.port.outbound;
 
 import notification.definition.vo.TemplateDefinition;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface TemplateDefinitionProviderPort {
     /**
-     * Retrieves a template definition by its ID and language.
+     * Retrieves a template definition by its ID, channel and language.
+     * A channel-specific definition takes precedence over a channel-agnostic one.
+     * No language fallback is applied here; callers resolve the fallback chain.
      *
      * @param id       the ID of the template
+     * @param type     the notification channel (NotificationType name)
      * @param language the language of the template
      * @return a Mono containing the TemplateDefinition, or empty if not found
      */
     Mono<TemplateDefinition> getTemplateDefinition(String id, String type, String language);
 
+    /**
+     * Retrieves every active template definition, used to warm up caches at startup.
+     * Stores that cannot enumerate their templates return an empty Flux.
+     *
+     * @return a Flux of all active TemplateDefinitions
+     */
+    default Flux<TemplateDefinition> getActiveTemplateDefinitions() {
+        return Flux.empty();
+    }
+
+    /**
+     * Retrieves all active definitions (every channel and language) of a single template.
+     *
+     * @param id the ID of the template
+     * @return a Flux of the template's active TemplateDefinitions
+     */
+    default Flux<TemplateDefinition> getTemplateDefinitions(String id) {
+        return getActiveTemplateDefinitions().filter(definition -> definition.templateId().equals(id));
+    }
+
+    /**
+     * Emits the ID of a template whenever any of its definitions is created, changed or deactivated.
+     * Stores without change notification never emit.
+     *
+     * @return a Flux of changed template IDs
+     */
+    default Flux<String> templateChanges() {
+        return Flux.never();
+    }
+
 }
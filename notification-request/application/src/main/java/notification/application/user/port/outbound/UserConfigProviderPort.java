@@ -1,6 +1,11 @@
 package notification.application.user.port.outbound;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
 import notification.definition.vo.UserConfig;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface UserConfigProviderPort {
@@ -13,4 +18,69 @@ public interface UserConfigProviderPort {
      */
     Mono<UserConfig> getUserConfigById(String userId);
 
+    /**
+     * Retrieves the user configurations of the given user IDs in a single call.
+     * Unknown user IDs are omitted from the result.
+     *
+     * @param userIds the IDs of the users
+     * @return a Flux of the UserConfigs that were found
+     */
+    Flux<UserConfig> getUserConfigsByIds(Collection<String> userIds);
+
+    /**
+     * Retrieves one keyset page of user configurations, ordered by user ID.
+     * Only users whose ID is greater than {@code afterUserId} are returned.
+     *
+     * @param segmentName the segment to read, or null for all users
+     * @param afterUserId the last user ID of the previous page, or null for the first page
+     * @param limit       the maximum number of users in the page
+     * @return a Flux of at most {@code limit} UserConfigs
+     */
+    Flux<UserConfig> getUserConfigsAfter(String segmentName, String afterUserId, int limit);
+
+    /**
+     * Evicts any locally cached configuration of the given user, so that the next
+     * lookup reads the latest value. Providers without a cache ignore this call.
+     *
+     * @param userId the ID of the user
+     */
+    default void invalidate(String userId) {
+    }
+
+    /**
+     * Streams every user configuration of a segment (or of all users) page by page.
+     * Only one page is held in memory at a time, and the next page is requested
+     * only after the previous one has been consumed.
+     *
+     * @param segmentName the segment to read, or null for all users
+     * @param pageSize    the number of users fetched per page
+     * @return a Flux of UserConfigs ordered by user ID
+     */
+    default Flux<UserConfig> streamUserConfigs(String segmentName, int pageSize) {
+        return streamUserConfigs(segmentName, null, pageSize);
+    }
+
+    /**
+     * Streams the user configurations of a segment (or of all users) whose ID is greater
+     * than {@code afterUserId}, page by page. Used to resume a stream from a keyset position
+     * that stays stable even if users join or leave in the meantime.
+     *
+     * @param segmentName the segment to read, or null for all users
+     * @param afterUserId the last user ID already consumed, or null to start from the first user
+     * @param pageSize    the number of users fetched per page
+     * @return a Flux of UserConfigs ordered by user ID
+     */
+    default Flux<UserConfig> streamUserConfigs(String segmentName, String afterUserId, int pageSize) {
+        return fetchPage(segmentName, afterUserId, pageSize)
+                .expand(page -> page.size() < pageSize
+                        ? Mono.empty()
+                        : fetchPage(segmentName, page.get(page.size() - 1).userId(), pageSize))
+                .concatMapIterable(Function.identity());
+    }
+
+    //
+    private Mono<List<UserConfig>> fetchPage(String segmentName, String afterUserId, int pageSize) {
+        return getUserConfigsAfter(segmentName, afterUserId, pageSize).collectList();
+    }
+
 }
@@ -0,0 +1,58 @@
+package notification.application.idempotency;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RecentKeyFilterTest {
+
+    @Test
+    @DisplayName("기록한 키는 항상 본 적이 있다고 판단한다")
+    void mightContain_shouldNeverMissRecordedKeys() {
+        RecentKeyFilter filter = new RecentKeyFilter(10_000, 0.01);
+
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("key-" + i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("key-" + i));
+        }
+    }
+
+    @Test
+    @DisplayName("처음 보는 키의 오탐률은 설정값 근처로 유지된다")
+    void mightContain_shouldKeepFalsePositiveRateNearConfiguredValue() {
+        RecentKeyFilter filter = new RecentKeyFilter(10_000, 0.01);
+        for (int i = 0; i < 9_999; i++) {
+            filter.put(UUID.randomUUID().toString());
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("세대가 두 번 교체되면 오래된 키는 잊는다")
+    void put_shouldForgetKeysAfterTwoRotations() {
+        RecentKeyFilter filter = new RecentKeyFilter(100, 0.001);
+        filter.put("old-key");
+
+        for (int i = 0; i < 250; i++) {
+            filter.put("new-key-" + i);
+        }
+
+        assertTrue(filter.mightContain("new-key-249"));
+        assertFalse(filter.mightContain("old-key"));
+    }
+
+}
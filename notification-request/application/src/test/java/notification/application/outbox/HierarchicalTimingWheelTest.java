@@ -0,0 +1,91 @@
+package notification.application.outbox;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long START = 1_000_000L;
+    private static final long TICK = 100L;
+    private static final int WHEEL_SIZE = 8; // 아래 단계 범위 800ms
+
+    @Test
+    @DisplayName("만료 시각이 현재 tick 안에 있으면 등록하지 않는다")
+    void add_shouldRejectAlreadyDueItems() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, WHEEL_SIZE, START);
+
+        assertFalse(wheel.add("past", START - 1));
+        assertFalse(wheel.add("now", START + TICK - 1));
+        assertTrue(wheel.add("next-tick", START + TICK));
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    @DisplayName("만료 시각에 도달한 항목만 반환한다")
+    void advance_shouldReturnOnlyExpiredItems() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, WHEEL_SIZE, START);
+        wheel.add("a", START + 200);
+        wheel.add("b", START + 500);
+
+        assertThat(wheel.advance(START + 199)).isEmpty();
+        assertThat(wheel.advance(START + 200)).containsExactly("a");
+        assertThat(wheel.advance(START + 400)).isEmpty();
+        assertThat(wheel.advance(START + 500)).containsExactly("b");
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("아래 단계 범위를 넘는 항목은 상위 단계를 거쳐 만료 시각에 반환한다")
+    void advance_shouldCascadeOverflowItems() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, WHEEL_SIZE, START);
+        long farDeadline = START + 20_000; // 두 단계 위 (가운데 단계 범위 6400ms 초과)
+        wheel.add("far", farDeadline);
+        wheel.add("mid", START + 1_300); // 한 단계 위
+
+        List<String> fired = new ArrayList<>();
+        for (long now = START; now <= START + 21_000; now += TICK) {
+            for (String item : wheel.advance(now)) {
+                long deadline = item.equals("far") ? farDeadline : START + 1_300;
+                assertEquals(deadline, now, item + " should fire at its deadline");
+                fired.add(item);
+            }
+        }
+
+        assertThat(fired).containsExactly("mid", "far");
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("진행이 한참 늦어져도 그 사이 만료된 항목을 모두 반환한다")
+    void advance_shouldReturnAllItemsExpiredDuringLongGap() {
+        HierarchicalTimingWheel<Integer> wheel = new HierarchicalTimingWheel<>(TICK, WHEEL_SIZE, START);
+        for (int i = 1; i <= 100; i++) {
+            wheel.add(i, START + i * TICK);
+        }
+
+        List<Integer> expired = wheel.advance(START + 50 * TICK);
+
+        assertThat(expired).containsExactlyInAnyOrderElementsOf(IntStream.rangeClosed(1, 50).boxed().toList());
+        assertEquals(50, wheel.size());
+    }
+
+    @Test
+    @DisplayName("drain은 만료 여부와 관계없이 모든 항목을 꺼내고 휠을 비운다")
+    void drain_shouldRemoveAllItems() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, WHEEL_SIZE, START);
+        wheel.add("near", START + 300);
+        wheel.add("far", START + 60_000);
+
+        assertThat(wheel.drain()).containsExactlyInAnyOrder("near", "far");
+        assertEquals(0, wheel.size());
+        assertThat(wheel.advance(START + 60_000)).isEmpty();
+    }
+
+}
@@ -0,0 +1,93 @@
+package notification.application.outbox;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class OutboxDrainLoopTest {
+
+    private static final Duration MIN_DELAY = Duration.ofMillis(100);
+    private static final Duration MAX_DELAY = Duration.ofMillis(1000);
+
+    @Test
+    @DisplayName("배치가 가득 차면 대기 없이 즉시 재조회한다")
+    void nextDelay_shouldBeZeroWhenBatchIsFull() {
+        assertEquals(Duration.ZERO, OutboxDrainLoop.nextDelay(10, 10, MIN_DELAY, MIN_DELAY, MAX_DELAY));
+    }
+
+    @Test
+    @DisplayName("배치가 일부만 채워지면 최소 대기 시간 후 재조회한다")
+    void nextDelay_shouldBeMinDelayWhenBatchIsPartial() {
+        assertEquals(MIN_DELAY, OutboxDrainLoop.nextDelay(3, 10, Duration.ZERO, MIN_DELAY, MAX_DELAY));
+        assertEquals(MIN_DELAY, OutboxDrainLoop.nextDelay(3, 10, MAX_DELAY, MIN_DELAY, MAX_DELAY));
+    }
+
+    @Test
+    @DisplayName("빈 배치가 이어지면 대기 시간을 최대 대기 시간까지 두 배씩 늘린다")
+    void nextDelay_shouldBackOffExponentiallyWhenBatchIsEmpty() {
+        Duration delay = OutboxDrainLoop.nextDelay(0, 10, Duration.ZERO, MIN_DELAY, MAX_DELAY);
+        assertEquals(MIN_DELAY, delay);
+
+        delay = OutboxDrainLoop.nextDelay(0, 10, delay, MIN_DELAY, MAX_DELAY);
+        assertEquals(Duration.ofMillis(200), delay);
+
+        delay = OutboxDrainLoop.nextDelay(0, 10, Duration.ofMillis(800), MIN_DELAY, MAX_DELAY);
+        assertEquals(MAX_DELAY, delay);
+    }
+
+    @Test
+    @DisplayName("Loop가 실행 중이면 새 실행 요청은 즉시 완료된다")
+    void run_shouldNotOverlapWhenAlreadyRunning() {
+        OutboxDrainLoop drainLoop = new OutboxDrainLoop("Test");
+        AtomicInteger polled = new AtomicInteger();
+
+        var subscription = drainLoop.run(10, MIN_DELAY, MAX_DELAY, () -> Integer.MAX_VALUE,
+                limit -> Mono.fromCallable(() -> {
+                    polled.incrementAndGet();
+                    return 0L;
+                }))
+                .subscribe();
+
+        assertTrue(drainLoop.isRunning());
+        StepVerifier.create(drainLoop.run(10, MIN_DELAY, MAX_DELAY, () -> Integer.MAX_VALUE, limit -> Mono.just(0L)))
+                .verifyComplete();
+
+        subscription.dispose();
+        assertFalse(drainLoop.isRunning());
+        assertEquals(1, polled.get());
+    }
+
+    @Test
+    @DisplayName("후속 처리 단계의 여유 용량만큼만 조회하고, 여유가 없으면 조회하지 않는다")
+    void run_shouldLimitBatchToAvailableCapacity() {
+        OutboxDrainLoop drainLoop = new OutboxDrainLoop("Test");
+        AtomicInteger requestedLimit = new AtomicInteger(-1);
+
+        var subscription = drainLoop.run(10, MIN_DELAY, MAX_DELAY, () -> 3,
+                limit -> Mono.fromCallable(() -> {
+                    requestedLimit.set(limit);
+                    return 0L;
+                }))
+                .subscribe();
+        subscription.dispose();
+        assertEquals(3, requestedLimit.get());
+
+        requestedLimit.set(-1);
+        subscription = drainLoop.run(10, MIN_DELAY, MAX_DELAY, () -> 0,
+                limit -> Mono.fromCallable(() -> {
+                    requestedLimit.set(limit);
+                    return 0L;
+                }))
+                .subscribe();
+        subscription.dispose();
+        assertEquals(-1, requestedLimit.get());
+    }
+
+}
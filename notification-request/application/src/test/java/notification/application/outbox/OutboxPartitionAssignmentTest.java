@@ -0,0 +1,72 @@
+package notification.application.outbox;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OutboxPartitionAssignmentTest {
+
+    private static final int PARTITION_COUNT = 64;
+    private static final List<String> INSTANCES = List.of("node-a", "node-b", "node-c");
+
+    @Test
+    @DisplayName("모든 인스턴스가 같은 목록을 보면 파티션을 겹치지 않고 빠짐없이 나누어 갖는다")
+    void assign_shouldCoverAllPartitionsWithoutOverlap() {
+        Set<Integer> covered = new HashSet<>();
+        int total = 0;
+        for (String instance : INSTANCES) {
+            Set<Integer> owned = OutboxPartitionAssignment.assign(INSTANCES, instance, PARTITION_COUNT);
+            assertThat(owned).isNotEmpty();
+            covered.addAll(owned);
+            total += owned.size();
+        }
+
+        assertEquals(PARTITION_COUNT, total);
+        assertThat(covered).containsExactlyInAnyOrderElementsOf(
+                IntStream.range(0, PARTITION_COUNT).boxed().toList());
+    }
+
+    @Test
+    @DisplayName("인스턴스가 빠지면 그 인스턴스의 파티션만 다른 인스턴스로 옮겨간다")
+    void assign_shouldOnlyMovePartitionsOfRemovedInstance() {
+        List<String> remaining = List.of("node-a", "node-c");
+
+        for (String instance : remaining) {
+            Set<Integer> before = OutboxPartitionAssignment.assign(INSTANCES, instance, PARTITION_COUNT);
+            Set<Integer> after = OutboxPartitionAssignment.assign(remaining, instance, PARTITION_COUNT);
+            assertThat(after).containsAll(before);
+        }
+    }
+
+    @Test
+    @DisplayName("목록에 자신이 없어도 자신을 포함하여 담당 파티션을 계산한다")
+    void rebalance_shouldIncludeSelf() {
+        OutboxPartitionAssignment assignment = new OutboxPartitionAssignment(true, PARTITION_COUNT);
+        assertTrue(assignment.ownsNothing());
+
+        assertTrue(assignment.rebalance(List.of(), "node-a"));
+
+        assertFalse(assignment.ownsNothing());
+        assertEquals(PARTITION_COUNT, assignment.ownedPartitions().size());
+        assertFalse(assignment.rebalance(List.of("node-a"), "node-a"));
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 모든 파티션을 조회한다")
+    void ownedPartitions_shouldBeEmpty_whenDisabled() {
+        OutboxPartitionAssignment assignment = new OutboxPartitionAssignment(false, PARTITION_COUNT);
+
+        assertFalse(assignment.rebalance(INSTANCES, "node-a"));
+
+        assertFalse(assignment.ownsNothing());
+        assertThat(assignment.ownedPartitions()).isEmpty();
+    }
+
+}
@@ -0,0 +1,70 @@
+package notification.application.service;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import notification.application.idempotency.IdempotencyPurgeBatch;
+import notification.application.idempotency.IdempotencyRetentionProperties;
+import notification.application.idempotency.port.outbound.IdempotentRepositoryPort;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyPurgeServiceTest {
+
+    @Mock
+    private IdempotentRepositoryPort idempotencyRepository;
+
+    private IdempotencyRetentionProperties properties;
+    private IdempotencyPurgeService service;
+
+    @BeforeEach
+    void setUp() {
+        properties = new IdempotencyRetentionProperties();
+        properties.setDefaultRetention(Duration.ofDays(1));
+        properties.setOperations(Map.of("NOTIFICATION_REQUEST", Duration.ofDays(7)));
+        properties.setBatchSize(2);
+        properties.setBatchDelay(Duration.ZERO);
+        service = new IdempotencyPurgeService(idempotencyRepository, properties);
+    }
+
+    @Test
+    @DisplayName("가득 찬 배치가 이어지는 동안 커서를 넘기며 삭제하고, 작업 유형별 보관 기간을 적용한다")
+    void purgeExpired_shouldPageThroughBatchesPerOperationType() {
+        IdempotencyPurgeBatch first = new IdempotencyPurgeBatch(2, Instant.parse("2025-01-01T00:00:00Z"), "key-2", "OTHER");
+        IdempotencyPurgeBatch second = new IdempotencyPurgeBatch(1, Instant.parse("2025-01-01T00:00:01Z"), "key-3", "OTHER");
+
+        when(idempotencyRepository.deleteExpiredBatch(eq("NOTIFICATION_REQUEST"), any(), any(), isNull(), eq(2)))
+                .thenReturn(Mono.just(first));
+        when(idempotencyRepository.deleteExpiredBatch(eq("NOTIFICATION_REQUEST"), any(), any(), eq(first), eq(2)))
+                .thenReturn(Mono.just(second));
+        when(idempotencyRepository.deleteExpiredBatch(isNull(), eq(Set.of("NOTIFICATION_REQUEST")), any(), isNull(),
+                eq(2)))
+                .thenReturn(Mono.just(IdempotencyPurgeBatch.empty()));
+
+        Instant startedAt = Instant.now();
+        StepVerifier.create(service.purgeExpired())
+                .expectNext(3L)
+                .verifyComplete();
+
+        // NOTIFICATION_REQUEST는 7일, 나머지는 1일 보관
+        verify(idempotencyRepository).deleteExpiredBatch(eq("NOTIFICATION_REQUEST"), any(),
+                argThat(before -> before.isBefore(startedAt.minus(Duration.ofDays(6)))), isNull(), eq(2));
+        verify(idempotencyRepository).deleteExpiredBatch(isNull(), any(),
+                argThat(before -> before.isAfter(startedAt.minus(Duration.ofDays(2)))), isNull(), eq(2));
+        verify(idempotencyRepository, times(3)).deleteExpiredBatch(any(), any(), any(), any(), anyInt());
+    }
+
+}
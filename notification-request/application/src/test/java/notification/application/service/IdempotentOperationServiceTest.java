@@ -0,0 +1,135 @@
+package notification.application.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import notification.application.common.port.outbound.JsonPayloadConverterPort;
+import notification.application.common.port.outbound.UnitOfWorkExecutorPort;
+import notification.application.idempotency.Idempotency;
+import notification.application.idempotency.IdempotencyFastPath;
+import notification.application.idempotency.port.outbound.IdempotentRepositoryPort;
+import notification.definition.enums.Propagation;
+import notification.definition.vo.JsonPayload;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotentOperationServiceTest {
+
+    private static final String OPERATION = "NOTIFICATION_REQUEST";
+
+    @Mock
+    private IdempotentRepositoryPort idempotencyRepository;
+
+    @Mock
+    private JsonPayloadConverterPort jsonPayloadConverter;
+
+    @Mock
+    private UnitOfWorkExecutorPort unitOfWorkExecutor;
+
+    private IdempotentOperationService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new IdempotentOperationService(idempotencyRepository, jsonPayloadConverter, unitOfWorkExecutor,
+                new IdempotencyFastPath(true, 1_000, 0.01, 100, 60_000));
+
+        lenient().when(unitOfWorkExecutor.execute(any(), eq(Propagation.REQUIRES_NEW)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(jsonPayloadConverter.toJsonPayload(any()))
+                .thenAnswer(invocation -> new JsonPayload(invocation.getArgument(0)));
+        lenient().when(jsonPayloadConverter.fromJsonPayload(any(), eq(String.class)))
+                .thenAnswer(invocation -> ((JsonPayload) invocation.getArgument(0)).value());
+        lenient().when(idempotencyRepository.reserve(any())).thenReturn(Mono.just(true));
+        lenient().when(idempotencyRepository.complete(any())).thenReturn(Mono.just(true));
+        lenient().when(idempotencyRepository.release(any())).thenReturn(Mono.empty());
+    }
+
+    @Test
+    @DisplayName("처음 보는 키는 DB 조회 없이 예약 후 실행하고 결과를 기록한다")
+    void performOperation_shouldReserveThenCompleteForNewKey() {
+        StepVerifier.create(service.performOperation("key-1", OPERATION, Mono.just("created"), String.class))
+                .expectNext("created")
+                .verifyComplete();
+
+        verify(idempotencyRepository, never()).findById(any(), any());
+        verify(idempotencyRepository).reserve(argThat(reservation -> reservation.isPending()));
+        verify(idempotencyRepository).complete(argThat(completed -> "created".equals(completed.data().value())));
+    }
+
+    @Test
+    @DisplayName("완료된 키의 재시도는 DB를 거치지 않고 저장된 결과로 응답한다")
+    void performOperation_shouldAnswerRetryFromResultCache() {
+        service.performOperation("key-1", OPERATION, Mono.just("created"), String.class).block();
+
+        StepVerifier.create(service.performOperation("key-1", OPERATION, Mono.just("again"), String.class))
+                .expectNext("created")
+                .verifyComplete();
+
+        verify(idempotencyRepository, times(1)).reserve(any());
+        verify(idempotencyRepository, never()).findById(any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 처리된 키는 예약에 실패하고 DB에 저장된 결과를 반환한다")
+    void performOperation_shouldReturnStoredResultWhenAlreadyCompleted() {
+        AtomicInteger executions = new AtomicInteger();
+        when(idempotencyRepository.reserve(any())).thenReturn(Mono.just(false));
+        when(idempotencyRepository.findById("key-1", OPERATION))
+                .thenReturn(Mono.just(new Idempotency("key-1", OPERATION, new JsonPayload("first"), Instant.now())));
+
+        StepVerifier.create(service.performOperation("key-1", OPERATION,
+                Mono.fromCallable(() -> "second-" + executions.incrementAndGet()), String.class))
+                .expectNext("first")
+                .verifyComplete();
+
+        // 이후 재시도는 캐시에서 응답
+        StepVerifier.create(service.performOperation("key-1", OPERATION, Mono.just("third"), String.class))
+                .expectNext("first")
+                .verifyComplete();
+        verify(idempotencyRepository, times(1)).findById("key-1", OPERATION);
+        assertEquals(0, executions.get());
+    }
+
+    @Test
+    @DisplayName("동시 중복 요청은 비즈니스 로직을 실행하지 않고 예약된 행의 결과를 기다린다")
+    void performOperation_shouldWaitForReservedResult() {
+        AtomicInteger executions = new AtomicInteger();
+        when(idempotencyRepository.reserve(any())).thenReturn(Mono.just(false));
+        when(idempotencyRepository.findById("key-1", OPERATION))
+                .thenReturn(Mono.just(new Idempotency("key-1", OPERATION, null, Instant.now())))
+                .thenReturn(Mono.just(new Idempotency("key-1", OPERATION, new JsonPayload("first"), Instant.now())));
+
+        StepVerifier.create(service.performOperation("key-1", OPERATION,
+                Mono.fromCallable(() -> "second-" + executions.incrementAndGet()), String.class))
+                .expectNext("first")
+                .verifyComplete();
+
+        verify(idempotencyRepository, times(2)).findById("key-1", OPERATION);
+        assertEquals(0, executions.get());
+    }
+
+    @Test
+    @DisplayName("비즈니스 로직이 실패하면 예약을 해제한다")
+    void performOperation_shouldReleaseReservationOnFailure() {
+        StepVerifier.create(service.performOperation("key-1", OPERATION,
+                Mono.<String>error(new IllegalStateException("boom")), String.class))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        verify(idempotencyRepository).release(argThat(reservation -> "key-1".equals(reservation.idempotencyKey())));
+        verify(idempotencyRepository, never()).complete(any());
+    }
+
+}
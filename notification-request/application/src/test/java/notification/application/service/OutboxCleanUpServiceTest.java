@@ -0,0 +1,92 @@
+package notification.application.service;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import notification.application.outbox.port.outbound.MessageOutboxRepositoryPort;
+import notification.application.outbox.port.outbound.OutboxNodeRepositoryPort;
+import notification.application.outbox.port.outbound.RequestOutboxRepositoryPort;
+import notification.definition.vo.outbox.OutboxId;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxCleanUpServiceTest {
+
+    @Mock
+    private RequestOutboxRepositoryPort requestOutboxRepository;
+
+    @Mock
+    private MessageOutboxRepositoryPort messageOutboxRepository;
+
+    @Mock
+    private OutboxNodeRepositoryPort outboxNodeRepository;
+
+    @InjectMocks
+    private OutboxCleanUpService service;
+
+    @Test
+    @DisplayName("Heartbeat가 끊긴 인스턴스의 할당을 해제한 뒤 해당 인스턴스 기록을 삭제한다")
+    void recoverExpiredClaims_shouldReleaseClaimsThenDeleteExpiredNodes() {
+        // Given
+        when(requestOutboxRepository.releaseClaimsOfExpiredInstances(any(), any())).thenReturn(Mono.just(2L));
+        when(messageOutboxRepository.releaseClaimsOfExpiredInstances(any(), any())).thenReturn(Mono.just(3L));
+        when(outboxNodeRepository.deleteExpired(any())).thenReturn(Mono.just(1L));
+
+        // When & Then
+        StepVerifier.create(service.recoverExpiredClaims())
+                .expectNext(5L)
+                .verifyComplete();
+
+        // 기본 lease 10초, 최대 할당 유지 시간은 사용 안 함 (기준 시각은 DB 시계)
+        Duration leaseTimeout = Duration.ofSeconds(10);
+        Duration maxClaimAge = Duration.ZERO;
+        InOrder inOrder = inOrder(messageOutboxRepository, outboxNodeRepository);
+        inOrder.verify(messageOutboxRepository).releaseClaimsOfExpiredInstances(leaseTimeout, maxClaimAge);
+        inOrder.verify(outboxNodeRepository).deleteExpired(leaseTimeout);
+        verify(requestOutboxRepository).releaseClaimsOfExpiredInstances(leaseTimeout, maxClaimAge);
+    }
+
+    @Test
+    @DisplayName("이 인스턴스의 요청 / 메시지 Outbox 할당을 모두 해제한다")
+    void releaseClaimedByThisInstance_shouldReleaseBothOutboxes() {
+        // Given
+        when(requestOutboxRepository.releaseAllClaimed()).thenReturn(Mono.just(1L));
+        when(messageOutboxRepository.releaseAllClaimed()).thenReturn(Mono.just(4L));
+
+        // When & Then
+        StepVerifier.create(service.releaseClaimedByThisInstance())
+                .expectNext(5L)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("작업 큐가 받지 못한 요청 / 메시지 Outbox의 할당을 해제한다")
+    void releaseOutboxes_shouldReleaseGivenClaims() {
+        // Given
+        List<OutboxId> requestIds = List.of(OutboxId.generate());
+        List<OutboxId> messageIds = List.of(OutboxId.generate(), OutboxId.generate());
+        when(requestOutboxRepository.releaseClaimed(requestIds)).thenReturn(Mono.just(1L));
+        when(messageOutboxRepository.releaseClaimed(messageIds)).thenReturn(Mono.just(2L));
+
+        // When & Then
+        StepVerifier.create(service.releaseRequestOutboxes(requestIds))
+                .expectNext(1L)
+                .verifyComplete();
+        StepVerifier.create(service.releaseMessageOutboxes(messageIds))
+                .expectNext(2L)
+                .verifyComplete();
+    }
+
+}
@@ -0,0 +1,213 @@
+package notification.application.service.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import notification.application.template.port.outbound.TemplateDefinitionProviderPort;
+import notification.definition.vo.TemplateDefinition;
+import notification.domain.enums.NotificationType;
+import notification.domain.vo.TemplateInfo;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class TemplateRenderingServiceTest {
+
+    private final AtomicInteger providerCalls = new AtomicInteger();
+    private volatile boolean failProvider;
+
+    private TemplateRenderingService service;
+
+    @BeforeEach
+    void setUp() {
+        TemplateDefinitionProviderPort provider = (id, type, language) -> {
+            providerCalls.incrementAndGet();
+            if (failProvider) {
+                return Mono.error(new IllegalStateException("template store down"));
+            }
+            return Mono.just(new TemplateDefinition(id, language, "[${{product}}]", "${{product}} 출시"));
+        };
+        service = new TemplateRenderingService(provider, 100, 60_000, 60_000, List.of("ko"), List.of("ko", "en"));
+    }
+
+    @Test
+    @DisplayName("같은 템플릿이라도 요청마다 다른 파라미터로 렌더링한다")
+    void renderTemplate_shouldNotReuseParametersOfPreviousRequest() {
+        StepVerifier.create(service.renderTemplate(
+                new TemplateInfo("LAUNCH", Map.of("product", "A")), NotificationType.EMAIL, "ko"))
+                .assertNext(rendered -> assertEquals("A 출시", rendered.body()))
+                .verifyComplete();
+
+        StepVerifier.create(service.renderTemplate(
+                new TemplateInfo("LAUNCH", Map.of("product", "B")), NotificationType.EMAIL, "ko"))
+                .assertNext(rendered -> {
+                    assertEquals("[B]", rendered.title());
+                    assertEquals("B 출시", rendered.body());
+                })
+                .verifyComplete();
+
+        // 템플릿 정의는 한 번만 조회
+        assertEquals(1, providerCalls.get());
+    }
+
+    @Test
+    @DisplayName("템플릿 정의 조회 실패는 캐싱하지 않는다")
+    void renderTemplate_shouldNotCacheFailures() {
+        TemplateInfo templateInfo = new TemplateInfo("LAUNCH", Map.of("product", "A"));
+
+        failProvider = true;
+        StepVerifier.create(service.renderTemplate(templateInfo, NotificationType.SMS, "ko"))
+                .expectError(RuntimeException.class)
+                .verify();
+
+        failProvider = false;
+        StepVerifier.create(service.renderTemplate(templateInfo, NotificationType.SMS, "ko"))
+                .assertNext(rendered -> assertEquals("A 출시", rendered.body()))
+                .verifyComplete();
+
+        assertEquals(2, providerCalls.get());
+    }
+
+    @Test
+    @DisplayName("요청 언어의 템플릿이 없으면 대체 언어 순서대로 찾는다")
+    void renderTemplate_shouldFallBackToNextLanguage() {
+        TemplateStore store = new TemplateStore(List.of(
+                new TemplateDefinition("LAUNCH", "ko", "[${{product}}]", "${{product}} 출시"),
+                new TemplateDefinition("LAUNCH", "en", "[${{product}}]", "${{product}} launched")));
+        TemplateRenderingService fallbackService = new TemplateRenderingService(
+                store, 100, 0, 60_000, List.of("ko"), List.of("ko", "en"));
+        TemplateInfo templateInfo = new TemplateInfo("LAUNCH", Map.of("product", "A"));
+
+        // en-US -> en
+        StepVerifier.create(fallbackService.renderTemplate(templateInfo, NotificationType.EMAIL, "en-US"))
+                .assertNext(rendered -> {
+                    assertEquals("A launched", rendered.body());
+                    assertEquals("en", rendered.language());
+                })
+                .verifyComplete();
+
+        // ja -> ko
+        StepVerifier.create(fallbackService.renderTemplate(templateInfo, NotificationType.EMAIL, "ja"))
+                .assertNext(rendered -> assertEquals("ko", rendered.language()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("워밍업 이후의 렌더링은 템플릿 저장소를 조회하지 않는다")
+    void preloadTemplates_shouldServeRendersWithoutStoreLookups() {
+        TemplateStore store = new TemplateStore(List.of(
+                new TemplateDefinition("LAUNCH", "ko", "[${{product}}]", "${{product}} 출시"),
+                new TemplateDefinition("LAUNCH", "SMS", "ko", null, "${{product}} 출시 (SMS)")));
+        TemplateRenderingService warmService = new TemplateRenderingService(
+                store, 100, 0, 60_000, List.of("ko"), List.of("ko", "en"));
+
+        StepVerifier.create(warmService.preloadTemplates())
+                .assertNext(count -> assertTrue(count > 0))
+                .verifyComplete();
+
+        TemplateInfo templateInfo = new TemplateInfo("LAUNCH", Map.of("product", "A"));
+        StepVerifier.create(warmService.renderTemplate(templateInfo, NotificationType.SMS, "en"))
+                .assertNext(rendered -> assertEquals("A 출시 (SMS)", rendered.body()))
+                .verifyComplete();
+        StepVerifier.create(warmService.renderTemplate(templateInfo, NotificationType.EMAIL, "en"))
+                .assertNext(rendered -> assertEquals("A 출시", rendered.body()))
+                .verifyComplete();
+
+        assertEquals(0, store.lookups.get());
+    }
+
+    @Test
+    @DisplayName("템플릿 변경 알림을 받으면 해당 템플릿의 캐시를 다시 적재한다")
+    void watchTemplateChanges_shouldReloadChangedTemplate() {
+        TemplateStore store = new TemplateStore(List.of(
+                new TemplateDefinition("LAUNCH", "ko", "[${{product}}]", "${{product}} 출시")));
+        TemplateRenderingService watchService = new TemplateRenderingService(
+                store, 100, 0, 60_000, List.of("ko"), List.of("ko"));
+        TemplateInfo templateInfo = new TemplateInfo("LAUNCH", Map.of("product", "A"));
+        watchService.preloadTemplates().block();
+
+        store.definitions = List.of(
+                new TemplateDefinition("LAUNCH", "ko", "[${{product}}]", "${{product}} 출시 예정"));
+        StepVerifier.create(watchService.watchTemplateChanges())
+                .then(() -> store.changes.tryEmitNext("LAUNCH"))
+                .expectNext("LAUNCH")
+                .thenCancel()
+                .verify();
+
+        StepVerifier.create(watchService.renderTemplate(templateInfo, NotificationType.EMAIL, "ko"))
+                .assertNext(rendered -> assertEquals("A 출시 예정", rendered.body()))
+                .verifyComplete();
+        assertEquals(0, store.lookups.get());
+    }
+
+    @Test
+    @DisplayName("없는 템플릿은 없는 것으로 캐싱하고, 변경 알림을 받으면 다시 조회한다")
+    void renderTemplate_shouldCacheMissingTemplates() {
+        TemplateStore store = new TemplateStore(List.of());
+        TemplateRenderingService missingService = new TemplateRenderingService(
+                store, 100, 0, 60_000, List.of("ko"), List.of("ko"));
+        TemplateInfo templateInfo = new TemplateInfo("LAUNCH", Map.of("product", "A"));
+
+        StepVerifier.create(missingService.renderTemplate(templateInfo, NotificationType.EMAIL, "ko"))
+                .verifyComplete();
+        StepVerifier.create(missingService.renderTemplate(templateInfo, NotificationType.EMAIL, "ko"))
+                .verifyComplete();
+        assertEquals(1, store.lookups.get());
+
+        store.definitions = List.of(
+                new TemplateDefinition("LAUNCH", "ko", "[${{product}}]", "${{product}} 출시"));
+        StepVerifier.create(missingService.watchTemplateChanges())
+                .then(() -> store.changes.tryEmitNext("LAUNCH"))
+                .expectNext("LAUNCH")
+                .thenCancel()
+                .verify();
+
+        StepVerifier.create(missingService.renderTemplate(templateInfo, NotificationType.EMAIL, "ko"))
+                .assertNext(rendered -> assertEquals("A 출시", rendered.body()))
+                .verifyComplete();
+    }
+
+    /**
+     * 워밍업 / 변경 알림을 지원하는 테스트용 템플릿 저장소
+     */
+    private static class TemplateStore implements TemplateDefinitionProviderPort {
+
+        private final AtomicInteger lookups = new AtomicInteger();
+        private final Sinks.Many<String> changes = Sinks.many().multicast().directBestEffort();
+        private volatile List<TemplateDefinition> definitions;
+
+        TemplateStore(List<TemplateDefinition> definitions) {
+            this.definitions = definitions;
+        }
+
+        @Override
+        public Mono<TemplateDefinition> getTemplateDefinition(String id, String type, String language) {
+            lookups.incrementAndGet();
+            return getActiveTemplateDefinitions()
+                    .filter(definition -> definition.templateId().equals(id)
+                            && definition.language().equals(language)
+                            && definition.appliesTo(type))
+                    .sort((a, b) -> Boolean.compare(a.channel() == null, b.channel() == null))
+                    .next();
+        }
+
+        @Override
+        public Flux<TemplateDefinition> getActiveTemplateDefinitions() {
+            return Flux.fromIterable(definitions);
+        }
+
+        @Override
+        public Flux<String> templateChanges() {
+            return changes.asFlux();
+        }
+    }
+
+}
@@ -0,0 +1,145 @@
+package notification.application.service.support;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import notification.application.template.CompiledTemplate;
+import notification.application.template.CompiledTemplateDefinition;
+import notification.definition.exceptions.DataNotFoundException;
+import notification.definition.vo.CollectedData;
+import notification.definition.vo.UserConfig;
+import notification.domain.NotificationRequest;
+import notification.domain.enums.NotificationType;
+import notification.domain.enums.RequesterType;
+import notification.domain.vo.NotificationContent;
+import notification.domain.vo.Requester;
+import notification.domain.vo.TemplateInfo;
+import notification.domain.vo.UserId;
+import notification.domain.vo.recipient.Recipient;
+import notification.domain.vo.recipient.UserRecipient;
+import notification.domain.vo.sender.EmailSender;
+
+@DisplayName("NotificationContentBuilder 테스트")
+public class NotificationContentBuilderTest {
+
+    private NotificationContentBuilder contentBuilder;
+    private NotificationRequest request;
+    private Recipient recipient;
+
+    @BeforeEach
+    void setUp() {
+        contentBuilder = new NotificationContentBuilder(List.of("en", "ko"));
+        request = NotificationRequest.create(
+                new Requester(RequesterType.SERVICE, "test-service"),
+                List.of(new UserRecipient(UserId.of("user-001"))),
+                List.of(NotificationType.EMAIL),
+                Map.of(NotificationType.EMAIL, new EmailSender("test@example.com", "Test Sender")),
+                null,
+                new TemplateInfo("WELCOME",
+                        Map.of("coupon", "COMMON", "userName", "요청값", "product", "{{email}}")),
+                null,
+                null);
+        recipient = new Recipient("user-001", "user1@example.com", null, null, "ko");
+    }
+
+    private CollectedData<UserConfig, CompiledTemplateDefinition> collectedData(String title, String body) {
+        return new CollectedData<>(
+                Map.of("user-001", new UserConfig("user-001", "홍길동", null, "user1@example.com",
+                        "010-0000-0000", "ko", "Asia/Seoul")),
+                Map.of("WELCOME_EMAIL_ko", template(title, body, "ko")));
+    }
+
+    private CompiledTemplateDefinition template(String title, String body, String language) {
+        return new CompiledTemplateDefinition("WELCOME", language, CompiledTemplate.compile(title),
+                CompiledTemplate.compile(body));
+    }
+
+    @Test
+    @DisplayName("UserConfig 필드를 템플릿 변수로 치환한다")
+    void createContent_shouldResolveUserConfigFields() {
+        CollectedData<UserConfig, CompiledTemplateDefinition> data = collectedData(
+                "{{userName}}님", "{{email}} / {{timeZone}}");
+
+        NotificationContent content = contentBuilder.createContent(request, recipient, NotificationType.EMAIL, data);
+
+        assertEquals("홍길동님", content.getTitle());
+        assertEquals("user1@example.com / Asia/Seoul", content.getBody());
+    }
+
+    @Test
+    @DisplayName("수신자별 파라미터가 UserConfig 필드와 요청 공통 파라미터보다 우선한다")
+    void createContent_shouldPreferRecipientParameters() {
+        CollectedData<UserConfig, CompiledTemplateDefinition> data = collectedData("{{userName}}", "{{coupon}}");
+
+        NotificationContent content = contentBuilder.createContent(request, recipient, NotificationType.EMAIL, data,
+                Map.of("coupon", "VIP-001", "userName", "길동"));
+
+        assertEquals("길동", content.getTitle());
+        assertEquals("VIP-001", content.getBody());
+    }
+
+    @Test
+    @DisplayName("수신자별 파라미터와 UserConfig에 없는 변수는 요청 공통 파라미터로 치환한다")
+    void createContent_shouldFallBackToRequestParameters() {
+        CollectedData<UserConfig, CompiledTemplateDefinition> data = collectedData("{{coupon}}", "{{unknown}}");
+
+        NotificationContent content = contentBuilder.createContent(request, recipient, NotificationType.EMAIL, data,
+                Map.of());
+
+        assertEquals("COMMON", content.getTitle());
+        assertEquals("{{unknown}}", content.getBody());
+    }
+
+    @Test
+    @DisplayName("요청 파라미터(${{var}})와 수신자 변수({{key}})를 한 번에 치환하고, 치환된 값은 다시 해석하지 않는다")
+    void createContent_shouldRenderRequestAndRecipientVariablesInOnePass() {
+        CollectedData<UserConfig, CompiledTemplateDefinition> data = collectedData(
+                "${{coupon}} {{userName}}님", "${{product}} / ${{missing}}{{email}}");
+
+        NotificationContent content = contentBuilder.createContent(request, recipient, NotificationType.EMAIL, data);
+
+        assertEquals("COMMON 홍길동님", content.getTitle());
+        assertEquals("{{email}} / user1@example.com", content.getBody());
+    }
+
+    @Test
+    @DisplayName("수신자 언어의 템플릿이 없으면 대체 언어 템플릿을 사용한다")
+    void createContent_shouldFallBackToDefaultLanguage() {
+        Recipient japaneseRecipient = new Recipient("user-001", "user1@example.com", null, null, "ja");
+        CollectedData<UserConfig, CompiledTemplateDefinition> data = collectedData("{{userName}}님", "본문");
+
+        NotificationContent content = contentBuilder.createContent(request, japaneseRecipient,
+                NotificationType.EMAIL, data);
+
+        assertEquals("홍길동님", content.getTitle());
+    }
+
+    @Test
+    @DisplayName("대체 언어는 app.template.fallback-languages 순서대로 찾는다")
+    void createContent_shouldFollowFallbackLanguageOrder() {
+        Recipient japaneseRecipient = new Recipient("user-001", "user1@example.com", null, null, "ja-JP");
+        CollectedData<UserConfig, CompiledTemplateDefinition> data = new CollectedData<>(Map.of(), Map.of(
+                "WELCOME_EMAIL_ko", template("제목", "본문", "ko"),
+                "WELCOME_EMAIL_en", template("Title", "Body", "en")));
+
+        NotificationContent content = contentBuilder.createContent(request, japaneseRecipient,
+                NotificationType.EMAIL, data);
+
+        assertEquals("Title", content.getTitle());
+    }
+
+    @Test
+    @DisplayName("템플릿도 직접 콘텐츠도 없으면 예외가 발생한다")
+    void createContent_shouldThrowWhenTemplateMissingWithoutContent() {
+        CollectedData<UserConfig, CompiledTemplateDefinition> data = new CollectedData<>(Map.of(), Map.of());
+
+        assertThrows(DataNotFoundException.class,
+                () -> contentBuilder.createContent(request, recipient, NotificationType.EMAIL, data));
+    }
+}
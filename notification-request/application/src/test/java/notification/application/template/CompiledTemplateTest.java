@@ -0,0 +1,79 @@
+package notification.application.template;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CompiledTemplateTest {
+
+    @Test
+    @DisplayName("플레이스홀더를 파라미터 값으로 치환한다")
+    void render_shouldBindParameters() {
+        CompiledTemplate template = CompiledTemplate.compile("안녕하세요. ${{name}}님, ${{product}} 주문이 완료되었습니다.");
+
+        assertEquals("안녕하세요. 홍길동님, 노트북 주문이 완료되었습니다.",
+                template.render(Map.of("name", "홍길동", "product", "노트북")));
+    }
+
+    @Test
+    @DisplayName("값이 없는 변수는 빈 문자열로, 파라미터가 없으면 원본을 그대로 반환한다")
+    void render_shouldHandleMissingParameters() {
+        CompiledTemplate template = CompiledTemplate.compile("[${{a}}][${{b}}]");
+
+        assertEquals("[1][]", template.render(Map.of("a", "1")));
+        assertEquals("[${{a}}][${{b}}]", template.render(Map.of()));
+        assertNull(CompiledTemplate.compile(null).render(Map.of("a", "1")));
+    }
+
+    @Test
+    @DisplayName("형식에 맞지 않는 플레이스홀더와 특수 문자는 리터럴로 유지한다")
+    void render_shouldKeepMalformedPlaceholdersAsLiteral() {
+        CompiledTemplate template = CompiledTemplate.compile("${{}} ${{not valid}} $${{price}} ${{ok}");
+
+        assertEquals("${{}} ${{not valid}} $\\$1 ${{ok}",
+                template.render(Map.of("price", "\\$1", "ok", "x")));
+    }
+
+    @Test
+    @DisplayName("두 문법을 한 번에 렌더링하며, 값이 없는 {{key}}는 그대로 남긴다")
+    void render_shouldResolveBothSyntaxesInSinglePass() {
+        CompiledTemplate template = CompiledTemplate.compile("{{userName}}님, ${{product}} ({{grade}}) {{unknown}}");
+        Map<String, String> values = Map.of("userName", "홍길동", "product", "노트북", "grade", "VIP");
+
+        assertEquals("홍길동님, 노트북 (VIP) {{unknown}}", template.render(values::get));
+    }
+
+    @Test
+    @DisplayName("요청 파라미터 바인딩은 ${{var}}만 치환하고 {{key}}는 수신자 단계로 남긴다")
+    void render_withParameters_shouldLeaveRecipientVariables() {
+        CompiledTemplate template = CompiledTemplate.compile("{{userName}}님, ${{product}}");
+
+        assertEquals("{{userName}}님, 노트북", template.render(Map.of("product", "노트북", "userName", "무시됨")));
+    }
+
+    @Test
+    @DisplayName("요청 / 수신자 resolver를 나누어 한 번에 렌더링하며, 치환된 값은 다시 해석하지 않는다")
+    void render_withSeparateResolvers_shouldResolveEachScope() {
+        CompiledTemplate template = CompiledTemplate.compile("${{product}} {{userName}} ${{missing}}{{unknown}}");
+        Map<String, String> requestParameters = Map.of("product", "{{userName}}", "userName", "무시됨");
+        Map<String, String> recipientValues = Map.of("userName", "홍길동", "product", "무시됨");
+
+        assertEquals("{{userName}} 홍길동 {{unknown}}",
+                template.render(requestParameters::get, recipientValues::get));
+    }
+
+    @Test
+    @DisplayName("renderTo는 주어진 버퍼에 이어 붙인다")
+    void renderTo_shouldAppendToBuffer() {
+        CompiledTemplate template = CompiledTemplate.compile("{{a}}-{{b}}");
+        StringBuilder buffer = new StringBuilder("> ");
+
+        template.renderTo(name -> name.toUpperCase(), buffer);
+
+        assertEquals("> A-B", buffer.toString());
+    }
+
+}
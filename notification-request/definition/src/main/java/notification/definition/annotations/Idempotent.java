@@ -16,8 +16,17 @@ public @interface Idempotent {
      * 멱등성 키를 생성하기 위한 인자 이름입니다.
      * 이 인자는 멱등성 키를 생성하는 데 사용됩니다.
      * 예를 들어, "userId" 또는 "requestId"와 같은 값을 사용할 수 있습니다.
+     * {@link #key()}를 지정하면 무시됩니다.
      */
-    String argKey();
+    String argKey() default "";
+
+    /**
+     * 멱등성 키를 만드는 SpEL 표현식입니다. 여러 값을 조합한 복합 키가 필요할 때 사용합니다.
+     * 메서드 인자는 파라미터 이름으로 참조합니다 (예: "#command.requester().id() + ':' + #idempotencyKey").
+     * 평가 결과는 길이와 무관하게 저장할 수 있도록 같은 값이면 항상 같은 36자 UUIDv5로 변환되어 저장됩니다.
+     * 표현식은 메서드마다 한 번만 파싱되고 컴파일되어 재사용됩니다.
+     */
+    String key() default "";
 
     /**
      * 이 멱등성 작업의 타입을 지정합니다 (예: "ORDER_CREATION", "PAYMENT_PROCESSING").
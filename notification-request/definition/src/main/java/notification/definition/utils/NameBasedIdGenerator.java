@@ -0,0 +1,57 @@
+package notification.definition.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.UUID;
+
+/**
+ * 이름 기반 UUIDv5 (RFC 9562) 식별자를 생성합니다.
+ *
+ * 같은 네임스페이스와 이름은 항상 같은 UUID가 되므로, 길이가 정해지지 않은 값을
+ * 36자 식별자 컬럼에 맞는 고정 길이 키로 바꿀 때 사용합니다.
+ */
+public final class NameBasedIdGenerator {
+
+    private NameBasedIdGenerator() {
+    }
+
+    /**
+     * 네임스페이스와 이름으로 UUIDv5를 생성합니다.
+     *
+     * @param namespace 네임스페이스 UUID
+     * @param name      이름
+     * @return UUIDv5
+     */
+    public static UUID generateUuid(UUID namespace, String name) {
+        MessageDigest sha1;
+        try {
+            sha1 = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 is not supported", e);
+        }
+
+        sha1.update(ByteBuffer.allocate(16)
+                .putLong(namespace.getMostSignificantBits())
+                .putLong(namespace.getLeastSignificantBits())
+                .array());
+        ByteBuffer hash = ByteBuffer.wrap(sha1.digest(name.getBytes(StandardCharsets.UTF_8)));
+
+        long mostSigBits = (hash.getLong() & ~0xF000L) | 0x5000L; // version 5
+        long leastSigBits = (hash.getLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L; // variant 10
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * 네임스페이스와 이름으로 UUIDv5를 문자열(36자)로 생성합니다.
+     *
+     * @param namespace 네임스페이스 UUID
+     * @param name      이름
+     * @return UUIDv5 문자열
+     */
+    public static String generate(UUID namespace, String name) {
+        return generateUuid(namespace, name).toString();
+    }
+
+}
@@ -7,11 +7,11 @@ import notification.definition.annotations.ValueObject;
 /**
  * 알림 요청 처리를 위해 수집된 데이터를 담는 클래스
  * 
- * @param userConfigs       사용자 설정 정보 맵
- * @param renderedTemplates 렌더링된 템플릿 맵
+ * @param userConfigs 사용자 설정 정보 맵
+ * @param templates   컴파일된 템플릿 맵 (요청 내 모든 수신자가 공유)
  */
 @ValueObject
-public record CollectedData<T>(
+public record CollectedData<T, C>(
         Map<String, T> userConfigs,
-        Map<String, RenderedContent> renderedTemplates) {
+        Map<String, C> templates) {
 }
@@ -2,10 +2,35 @@ package notification.definition.vo;
 
 import notification.definition.annotations.ValueObject;
 
+/**
+ * 템플릿 저장소에 등록된 템플릿 정의
+ *
+ * @param templateId    템플릿 ID
+ * @param channel       알림 채널 (NotificationType 이름, null이면 모든 채널에 공통 적용)
+ * @param language      언어 코드
+ * @param titleTemplate 제목 템플릿
+ * @param bodyTemplate  본문 템플릿
+ */
 @ValueObject
 public record TemplateDefinition(
         String templateId,
+        String channel,
         String language,
         String titleTemplate,
         String bodyTemplate) {
+
+    /**
+     * 모든 채널에 공통으로 적용되는 템플릿 정의를 생성합니다.
+     */
+    public TemplateDefinition(String templateId, String language, String titleTemplate, String bodyTemplate) {
+        this(templateId, null, language, titleTemplate, bodyTemplate);
+    }
+
+    /**
+     * 주어진 채널에 적용 가능한 정의인지 확인합니다.
+     */
+    public boolean appliesTo(String type) {
+        return channel == null || channel.equals(type);
+    }
+
 }
@@ -1,8 +1,7 @@
 package notification.definition.vo.outbox;
 
-import java.util.UUID;
-
 import notification.definition.annotations.ValueObject;
+import notification.definition.utils.TimeOrderedIdGenerator;
 
 @ValueObject
 public record OutboxId(String value) {
@@ -14,7 +13,7 @@ public record OutboxId(String value) {
     }
 
     public static OutboxId generate() {
-        return new OutboxId(UUID.randomUUID().toString());
+        return new OutboxId(TimeOrderedIdGenerator.generate());
     }
 
 }
@@ -0,0 +1,35 @@
+package notification.definition.utils;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NameBasedIdGeneratorTest {
+
+    private static final UUID DNS_NAMESPACE = UUID.fromString("6ba7b810-9dad-11d1-80b4-00c04fd430c8");
+
+    @Test
+    @DisplayName("RFC 9562의 UUIDv5 값과 같은 UUID를 생성한다")
+    void generate_shouldMatchRfcUuidV5() {
+        UUID uuid = NameBasedIdGenerator.generateUuid(DNS_NAMESPACE, "www.example.com");
+
+        assertThat(uuid).isEqualTo(UUID.fromString("2ed6657d-e927-568b-95e1-2665a8aea6a2"));
+        assertThat(uuid.version()).isEqualTo(5);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("이름 길이와 무관하게 같은 이름은 같은 36자 키가 된다")
+    void generate_shouldBeDeterministicAndFixedLength() {
+        String name = "requester-" + "x".repeat(200) + ":idempotency-key";
+
+        assertThat(NameBasedIdGenerator.generate(DNS_NAMESPACE, name))
+                .hasSize(36)
+                .isEqualTo(NameBasedIdGenerator.generate(DNS_NAMESPACE, name))
+                .isNotEqualTo(NameBasedIdGenerator.generate(DNS_NAMESPACE, name + "-other"));
+    }
+
+}
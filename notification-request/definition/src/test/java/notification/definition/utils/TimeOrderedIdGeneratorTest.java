@@ -0,0 +1,48 @@
+package notification.definition.utils;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TimeOrderedIdGeneratorTest {
+
+    @Test
+    @DisplayName("UUIDv7 버전과 RFC 9562 variant를 가진다")
+    void generateUuid_shouldHaveVersion7AndRfcVariant() {
+        UUID uuid = TimeOrderedIdGenerator.generateUuid();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("상위 48비트에 현재 밀리초 타임스탬프를 담는다")
+    void generateUuid_shouldEmbedCurrentTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = TimeOrderedIdGenerator.generateUuid();
+        long after = System.currentTimeMillis();
+
+        long timestamp = uuid.getMostSignificantBits() >>> 16;
+        assertThat(timestamp).isBetween(before, after + 1);
+    }
+
+    @Test
+    @DisplayName("연속으로 생성한 ID는 항상 증가하고 중복되지 않는다")
+    void generate_shouldBeMonotonicAndUnique() {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            ids.add(TimeOrderedIdGenerator.generate());
+        }
+
+        assertThat(ids).isSorted();
+        assertThat(new HashSet<>(ids)).hasSize(ids.size());
+        assertThat(ids.get(0)).hasSize(36);
+    }
+
+}
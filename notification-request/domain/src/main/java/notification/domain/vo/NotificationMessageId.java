@@ -1,9 +1,8 @@
 package notification.domain.vo;
 
-import java.util.UUID;
-
 import notification.definition.annotations.ValueObject;
 import notification.definition.exceptions.MandatoryFieldException;
+import notification.definition.utils.TimeOrderedIdGenerator;
 
 @ValueObject
 public record NotificationMessageId(String value) {
@@ -14,7 +13,7 @@ public record NotificationMessageId(String value) {
     }
 
     public static NotificationMessageId create() {
-        return new NotificationMessageId(UUID.randomUUID().toString());
+        return new NotificationMessageId(TimeOrderedIdGenerator.generate());
     }
 
     public static NotificationMessageId of(String value) {
@@ -1,9 +1,8 @@
 package notification.domain.vo;
 
-import java.util.UUID;
-
 import notification.definition.annotations.ValueObject;
 import notification.definition.exceptions.MandatoryFieldException;
+import notification.definition.utils.TimeOrderedIdGenerator;
 
 @ValueObject
 public record NotificationRequestId(String value) {
@@ -15,7 +14,7 @@ public record NotificationRequestId(String value) {
     }
 
     public static NotificationRequestId create() {
-        return new NotificationRequestId(UUID.randomUUID().toString());
+        return new NotificationRequestId(TimeOrderedIdGenerator.generate());
     }
 
     public static NotificationRequestId of(String value) {
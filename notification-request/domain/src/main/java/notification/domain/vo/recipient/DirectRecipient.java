@@ -1,5 +1,9 @@
 package notification.domain.vo.recipient;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 import lombok.Getter;
 import lombok.experimental.Accessors;
 import notification.definition.annotations.ValueObject;
@@ -14,19 +18,23 @@ public final class DirectRecipient implements RecipientReference {
     private final String emailAddress;
     private final String phoneNumber;
     private final String deviceToken;
+    private final Map<String, String> parameters; // 수신자별 템플릿 파라미터
 
-    public DirectRecipient(String recipientId, String emailAddress, String phoneNumber, String deviceToken) {
+    public DirectRecipient(String recipientId, String emailAddress, String phoneNumber, String deviceToken,
+            Map<String, String> parameters) {
         this.recipientId = recipientId;
         this.emailAddress = emailAddress;
         this.phoneNumber = phoneNumber;
         this.deviceToken = deviceToken;
+        this.parameters = parameters != null ? Collections.unmodifiableMap(new HashMap<>(parameters)) : Map.of();
+    }
+
+    public DirectRecipient(String recipientId, String emailAddress, String phoneNumber, String deviceToken) {
+        this(recipientId, emailAddress, phoneNumber, deviceToken, null);
     }
 
     public DirectRecipient(String emailAddress, String phoneNumber, String deviceToken) {
-        this.recipientId = null;
-        this.emailAddress = emailAddress;
-        this.phoneNumber = phoneNumber;
-        this.deviceToken = deviceToken;
+        this(null, emailAddress, phoneNumber, deviceToken, null);
     }
 
     @Override
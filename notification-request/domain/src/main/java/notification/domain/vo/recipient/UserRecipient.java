@@ -1,5 +1,9 @@
 package notification.domain.vo.recipient;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 import lombok.Getter;
 import lombok.experimental.Accessors;
 import notification.definition.annotations.ValueObject;
@@ -13,15 +17,24 @@ public final class UserRecipient implements RecipientReference {
 
     private final String recipientId;
     private final UserId userId;
+    private final Map<String, String> parameters; // 수신자별 템플릿 파라미터
 
-    public UserRecipient(String recipientId, UserId userId) {
+    public UserRecipient(String recipientId, UserId userId, Map<String, String> parameters) {
         this.recipientId = recipientId;
         this.userId = userId;
+        this.parameters = parameters != null ? Collections.unmodifiableMap(new HashMap<>(parameters)) : Map.of();
+    }
+
+    public UserRecipient(String recipientId, UserId userId) {
+        this(recipientId, userId, null);
+    }
+
+    public UserRecipient(UserId userId, Map<String, String> parameters) {
+        this(null, userId, parameters);
     }
 
     public UserRecipient(UserId userId) {
-        this.recipientId = null;
-        this.userId = userId;
+        this(null, userId, null);
     }
 
     @Override
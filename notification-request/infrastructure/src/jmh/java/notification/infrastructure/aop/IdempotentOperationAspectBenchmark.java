@@ -0,0 +1,83 @@
+package notification.infrastructure.aop;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import notification.application.service.IdempotentOperationService;
+import notification.definition.annotations.Idempotent;
+import reactor.core.publisher.Mono;
+
+/**
+ * IdempotentOperationAspect의 호출당 오버헤드를 측정합니다.
+ *
+ * 멱등성 서비스는 비즈니스 로직을 그대로 돌려주도록 대체하므로, 측정값은
+ * 프록시 + 애스펙트(키 추출, 작업 타입/결과 타입 결정) 비용만 포함합니다.
+ *
+ * - direct    : 프록시 없이 대상 메서드 직접 호출 (기준값)
+ * - argKey    : 파라미터 이름으로 키 추출
+ * - spelKey   : 컴파일된 SpEL 표현식으로 복합 키 추출 후 UUIDv5로 변환
+ *
+ * 실행: ./gradlew :infrastructure:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IdempotentOperationAspectBenchmark {
+
+    private TargetService target;
+    private TargetService proxy;
+
+    @Setup
+    public void setUp() {
+        IdempotentOperationService passThrough = new IdempotentOperationService(null, null, null, null) {
+            @Override
+            public <T> Mono<T> performOperation(String idempotencyKey, String operationType,
+                    Mono<T> businessLogic, Class<T> resultType) {
+                return businessLogic;
+            }
+        };
+
+        target = new TargetService();
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new IdempotentOperationAspect(passThrough));
+        proxy = factory.getProxy();
+    }
+
+    @Benchmark
+    public String direct() {
+        return target.byArgKey("requester", "key-1").block();
+    }
+
+    @Benchmark
+    public String argKey() {
+        return proxy.byArgKey("requester", "key-1").block();
+    }
+
+    @Benchmark
+    public String spelKey() {
+        return proxy.bySpelKey("requester", "key-1").block();
+    }
+
+    public static class TargetService {
+
+        @Idempotent(argKey = "idempotencyKey", operationType = "BENCHMARK")
+        public Mono<String> byArgKey(String requesterId, String idempotencyKey) {
+            return Mono.just(idempotencyKey);
+        }
+
+        @Idempotent(key = "#requesterId + ':' + #idempotencyKey", operationType = "BENCHMARK")
+        public Mono<String> bySpelKey(String requesterId, String idempotencyKey) {
+            return Mono.just(idempotencyKey);
+        }
+    }
+
+}
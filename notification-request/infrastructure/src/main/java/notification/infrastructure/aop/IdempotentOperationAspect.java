@@ -3,6 +3,10 @@ package notification.infrastructure.aop;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -11,13 +15,19 @@ import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.expression.EvaluationContext;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.SimpleEvaluationContext;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import notification.application.service.IdempotentOperationService;
 import notification.definition.annotations.Idempotent;
+import notification.definition.utils.NameBasedIdGenerator;
 import reactor.core.publisher.Mono;
 
 @Slf4j
@@ -27,45 +37,44 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class IdempotentOperationAspect {
 
+    // MIXED 모드: 몇 번 해석 실행한 뒤 바이트코드로 컴파일하고, 컴파일할 수 없으면 해석 모드로 되돌아감
+    private static final ExpressionParser EXPRESSION_PARSER = new SpelExpressionParser(
+            new SpelParserConfiguration(SpelCompilerMode.MIXED, IdempotentOperationAspect.class.getClassLoader()));
+
+    // SpEL 복합 키를 UUIDv5로 바꿀 때 사용하는 네임스페이스
+    private static final UUID KEY_NAMESPACE = UUID.fromString("0b9a1f3c-4e52-5d7a-9c61-2f8e3b7d4a10");
+
     private final IdempotentOperationService idempotentOperationService;
 
+    // 메서드별 리플렉션/SpEL 해석 결과 캐시 (최초 호출 시 한 번만 계산)
+    private final Map<Method, IdempotentMethodDescriptor> descriptors = new ConcurrentHashMap<>();
+
     @Around("@annotation(notification.definition.annotations.Idempotent)")
     @SuppressWarnings("unchecked")
     public <T> Object applyIdempotency(ProceedingJoinPoint pjp) throws Throwable {
         MethodSignature signature = (MethodSignature) pjp.getSignature();
         Method method = signature.getMethod();
-
-        // Idempotent 어노테이션을 직접 가져옴
-        Idempotent idempotent = method.getAnnotation(Idempotent.class);
-        if (idempotent == null) {
-            log.warn("Idempotent annotation not found on method: {}", method.getName());
-            return pjp.proceed();
-        }
         Object[] args = pjp.getArgs();
 
-        EvaluationContext context = new StandardEvaluationContext();
-        String[] paramNames = signature.getParameterNames();
-        for (int i = 0; i < args.length; i++) {
-            context.setVariable(paramNames[i], args[i]);
+        IdempotentMethodDescriptor descriptor = descriptors.get(method);
+        if (descriptor == null) {
+            // Idempotent 어노테이션을 직접 가져옴
+            Idempotent idempotent = method.getAnnotation(Idempotent.class);
+            if (idempotent == null) {
+                log.warn("Idempotent annotation not found on method: {}", method.getName());
+                return pjp.proceed();
+            }
+            descriptor = descriptors.computeIfAbsent(method,
+                    m -> describe(m, idempotent, signature.getParameterNames()));
         }
 
-        // 1. 키 추출 (SpEL 또는 파라미터명 기준)
-        Object idempotencyKey = context.lookupVariable(idempotent.argKey());
+        // 1. 키 추출 (SpEL 또는 파라미터 위치 기준)
+        Object idempotencyKey = descriptor.resolveKey(args);
         if (idempotencyKey == null) {
-            throw new IllegalArgumentException("Idempotency argKey value not found: " + idempotent.argKey());
+            throw new IllegalArgumentException("Idempotency argKey value not found: " + descriptor.keySource());
         }
 
-        String operationType = idempotent.operationType().isEmpty() ? method.getName() : idempotent.operationType();
-
-        // 2. 반환 타입 확인
-        if (!Mono.class.isAssignableFrom(method.getReturnType())) {
-            throw new UnsupportedOperationException("@Idempotent only supports methods returning Mono<?>");
-        }
-
-        // 3. 반환 타입 내부의 실제 제네릭 타입 추출
-        Class<T> resultType = (Class<T>) extractMonoGenericType(method);
-
-        // 4. 비즈니스 로직 지연 실행
+        // 2. 비즈니스 로직 지연 실행
         Mono<T> businessLogic = Mono.defer(() -> {
             try {
                 return (Mono<T>) pjp.proceed();
@@ -74,12 +83,40 @@ public class IdempotentOperationAspect {
             }
         });
 
-        // 5. 멱등성 처리 적용
+        // 3. 멱등성 처리 적용
         return idempotentOperationService.performOperation(
                 idempotencyKey.toString(),
-                operationType,
+                descriptor.operationType(),
                 businessLogic,
-                resultType);
+                (Class<T>) descriptor.resultType());
+    }
+
+    /**
+     * 메서드의 멱등성 처리 정보를 한 번만 계산합니다.
+     * 키 인자 위치, 작업 타입, Mono<T>의 T 타입, SpEL 키 표현식을 미리 구해 둡니다.
+     */
+    private IdempotentMethodDescriptor describe(Method method, Idempotent idempotent, String[] paramNames) {
+        Expression keyExpression = null;
+        int argIndex = -1;
+        String keySource;
+
+        if (!idempotent.key().isEmpty()) {
+            keyExpression = EXPRESSION_PARSER.parseExpression(idempotent.key());
+            keySource = idempotent.key();
+        } else {
+            argIndex = paramNames == null ? -1 : Arrays.asList(paramNames).indexOf(idempotent.argKey());
+            keySource = idempotent.argKey();
+        }
+
+        String operationType = idempotent.operationType().isEmpty() ? method.getName() : idempotent.operationType();
+
+        // 반환 타입 확인
+        if (!Mono.class.isAssignableFrom(method.getReturnType())) {
+            throw new UnsupportedOperationException("@Idempotent only supports methods returning Mono<?>");
+        }
+
+        return new IdempotentMethodDescriptor(operationType, extractMonoGenericType(method), argIndex,
+                keyExpression, paramNames != null ? paramNames : new String[0], keySource);
     }
 
     /**
@@ -101,4 +138,34 @@ public class IdempotentOperationAspect {
                 "Unable to determine Mono generic return type for method: " + method.getName());
     }
 
+    /**
+     * 메서드별로 캐시되는 멱등성 처리 정보입니다.
+     */
+    private record IdempotentMethodDescriptor(
+            String operationType,
+            Class<?> resultType,
+            int argIndex,
+            Expression keyExpression,
+            String[] paramNames,
+            String keySource) {
+
+        Object resolveKey(Object[] args) {
+            if (keyExpression == null) {
+                return argIndex >= 0 && argIndex < args.length ? args[argIndex] : null;
+            }
+
+            // 읽기 전용 컨텍스트: 타입 참조/생성자 호출 없이 인자와 그 프로퍼티·메서드만 접근
+            EvaluationContext context = SimpleEvaluationContext.forReadOnlyDataBinding()
+                    .withInstanceMethods()
+                    .build();
+            for (int i = 0; i < args.length && i < paramNames.length; i++) {
+                context.setVariable(paramNames[i], args[i]);
+            }
+
+            // 복합 키는 idempotency_key 컬럼(36자)보다 길어질 수 있으므로 고정 길이 UUIDv5로 바꿈
+            Object key = keyExpression.getValue(context);
+            return key == null ? null : NameBasedIdGenerator.generate(KEY_NAMESPACE, key.toString());
+        }
+    }
+
 }
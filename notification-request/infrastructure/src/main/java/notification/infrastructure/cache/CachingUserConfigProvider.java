@@ -0,0 +1,141 @@
+package notification.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import lombok.extern.slf4j.Slf4j;
+import notification.application.user.port.outbound.UserConfigProviderPort;
+import notification.definition.vo.UserConfig;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * UserConfigProviderPort 앞단에서 사용자 설정을 캐싱하는 Decorator
+ *
+ * - 최대 크기를 넘으면 자주 쓰이지 않는 항목부터 제거합니다.
+ * - 조회된 사용자는 ttl, 존재하지 않는 사용자는 negativeTtl 동안 캐싱합니다.
+ * - 같은 사용자에 대한 동시 캐시 미스는 하나의 조회로 합쳐집니다.
+ * - 조회 실패는 캐싱하지 않습니다.
+ *
+ * 페이지 단위 스트리밍 조회(getUserConfigsAfter)는 전체 사용자를 훑기 때문에
+ * 자주 쓰이는 사용자를 밀어내지 않도록 캐시를 거치지 않습니다.
+ */
+@Slf4j
+public class CachingUserConfigProvider implements UserConfigProviderPort {
+
+    private final UserConfigProviderPort delegate;
+    private final AsyncCache<String, Optional<UserConfig>> cache;
+
+    public CachingUserConfigProvider(UserConfigProviderPort delegate, long maximumSize,
+            Duration ttl, Duration negativeTtl) {
+        this(delegate, maximumSize, ttl, negativeTtl, Ticker.systemTicker(), ForkJoinPool.commonPool());
+    }
+
+    CachingUserConfigProvider(UserConfigProviderPort delegate, long maximumSize,
+            Duration ttl, Duration negativeTtl, Ticker ticker, Executor executor) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new PresenceAwareExpiry(ttl, negativeTtl))
+                .ticker(ticker)
+                .executor(executor)
+                .recordStats()
+                .buildAsync();
+    }
+
+    @Override
+    public Mono<UserConfig> getUserConfigById(String userId) {
+        return Mono.fromFuture(() -> cache.get(userId, (key, executor) -> delegate.getUserConfigById(key)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .toFuture()), true) // 다른 구독자와 공유하는 조회이므로 취소를 전파하지 않음
+                .filter(Optional::isPresent)
+                .map(Optional::get);
+    }
+
+    @Override
+    public Flux<UserConfig> getUserConfigsByIds(Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return Flux.empty();
+        }
+
+        Set<String> keys = new LinkedHashSet<>(userIds);
+        return Mono.fromFuture(() -> cache.getAll(keys, (missing, executor) -> delegate
+                .getUserConfigsByIds(List.copyOf(missing))
+                .collectMap(UserConfig::userId, Optional::of)
+                .map(found -> {
+                    // 조회되지 않은 사용자도 negative 항목으로 캐싱
+                    Map<String, Optional<UserConfig>> result = new HashMap<>(found);
+                    missing.forEach(userId -> result.putIfAbsent(userId, Optional.empty()));
+                    return result;
+                })
+                .toFuture()), true)
+                .flatMapIterable(Map::values)
+                .filter(Optional::isPresent)
+                .map(Optional::get);
+    }
+
+    @Override
+    public Flux<UserConfig> getUserConfigsAfter(String segmentName, String afterUserId, int limit) {
+        return delegate.getUserConfigsAfter(segmentName, afterUserId, limit);
+    }
+
+    @Override
+    public void invalidate(String userId) {
+        // 진행 중인 조회가 있더라도 해당 결과는 캐시에 다시 저장되지 않음
+        cache.synchronous().invalidate(userId);
+        log.debug("User config cache invalidated for userId: {}", userId);
+    }
+
+    /**
+     * 캐시 전체를 비웁니다.
+     */
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    /**
+     * 메트릭 바인딩 및 테스트를 위한 캐시 접근자
+     */
+    public AsyncCache<String, Optional<UserConfig>> getCache() {
+        return cache;
+    }
+
+    /**
+     * 존재하는 사용자와 존재하지 않는 사용자에 서로 다른 TTL을 적용합니다.
+     */
+    private record PresenceAwareExpiry(Duration ttl, Duration negativeTtl)
+            implements Expiry<String, Optional<UserConfig>> {
+
+        @Override
+        public long expireAfterCreate(String key, Optional<UserConfig> value, long currentTime) {
+            return (value.isPresent() ? ttl : negativeTtl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Optional<UserConfig> value, long currentTime,
+                long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Optional<UserConfig> value, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+}
@@ -0,0 +1,55 @@
+package notification.infrastructure.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import notification.infrastructure.event.queue.BoundedWorkQueue;
+
+@Configuration
+public class DispatchQueueConfig {
+
+    /**
+     * 알림 요청 처리(메시지 Fan-out) 단계의 작업 큐를 생성합니다.
+     * 요청 하나가 여러 메시지를 생성하므로 메시지 발송 단계보다 동시 실행 수를 낮게 둡니다.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public BoundedWorkQueue requestDispatchQueue(
+            @Value("${app.outbox.dispatch.request.capacity:1000}") int capacity,
+            @Value("${app.outbox.dispatch.request.concurrency:8}") int concurrency,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        BoundedWorkQueue queue = new BoundedWorkQueue("request", capacity, concurrency);
+        meterRegistry.ifAvailable(registry -> bindMetrics(queue, registry));
+        return queue;
+    }
+
+    /**
+     * 알림 메시지 발송 단계의 작업 큐를 생성합니다.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public BoundedWorkQueue messageDispatchQueue(
+            @Value("${app.outbox.dispatch.message.capacity:2000}") int capacity,
+            @Value("${app.outbox.dispatch.message.concurrency:32}") int concurrency,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        BoundedWorkQueue queue = new BoundedWorkQueue("message", capacity, concurrency);
+        meterRegistry.ifAvailable(registry -> bindMetrics(queue, registry));
+        return queue;
+    }
+
+    //
+    private void bindMetrics(BoundedWorkQueue queue, MeterRegistry registry) {
+        Gauge.builder("outbox.dispatch.queue.depth", queue, BoundedWorkQueue::queueDepth)
+                .description("실행을 기다리는 Outbox 처리 작업 수")
+                .tag("stage", queue.getStage())
+                .register(registry);
+
+        Gauge.builder("outbox.dispatch.in.flight", queue, BoundedWorkQueue::inFlight)
+                .description("실행 중인 Outbox 처리 작업 수")
+                .tag("stage", queue.getStage())
+                .register(registry);
+    }
+
+}
@@ -0,0 +1,12 @@
+package notification.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import notification.application.idempotency.IdempotencyRetentionProperties;
+
+@Configuration
+@EnableConfigurationProperties(IdempotencyRetentionProperties.class)
+public class IdempotencyConfig {
+
+}
@@ -0,0 +1,42 @@
+package notification.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import notification.application.user.port.outbound.UserConfigProviderPort;
+import notification.infrastructure.cache.CachingUserConfigProvider;
+
+@Configuration
+@ConditionalOnProperty(name = "app.user.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class UserConfigCacheConfig {
+
+    /**
+     * 설정된 UserConfigProviderPort(mock, synthetic, http)를 캐시로 감싸 기본 구현으로 등록합니다.
+     * delegate에는 자기 자신을 제외한 실제 Provider가 주입됩니다.
+     */
+    @Bean
+    @Primary
+    public CachingUserConfigProvider cachingUserConfigProvider(
+            UserConfigProviderPort delegate,
+            @Value("${app.user.cache.maximum-size:100000}") long maximumSize,
+            @Value("${app.user.cache.ttl-ms:600000}") long ttlMs,
+            @Value("${app.user.cache.negative-ttl-ms:60000}") long negativeTtlMs,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        CachingUserConfigProvider provider = new CachingUserConfigProvider(
+                delegate, maximumSize, Duration.ofMillis(ttlMs), Duration.ofMillis(negativeTtlMs));
+
+        // cache.gets{result=hit|miss}, cache.evictions, cache.size 등을 노출
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(
+                registry, provider.getCache().synchronous(), "userConfig"));
+        return provider;
+    }
+
+}
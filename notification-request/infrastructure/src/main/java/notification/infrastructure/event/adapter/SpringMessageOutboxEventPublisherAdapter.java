@@ -1,15 +1,23 @@
 package notification.infrastructure.event.adapter;
 
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import notification.application.notifiation.events.NotificationMessageBatchReadyEvent;
 import notification.application.notifiation.events.NotificationMessageReadyEvent;
+import notification.application.outbox.port.inbound.OutboxCleanUpUseCase;
 import notification.application.outbox.port.outbound.MessageOutboxEventPublisherPort;
 import notification.definition.vo.outbox.MessageOutbox;
+import notification.infrastructure.event.queue.BoundedWorkQueue;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Slf4j
@@ -18,6 +26,11 @@ import reactor.core.publisher.Mono;
 public class SpringMessageOutboxEventPublisherAdapter implements MessageOutboxEventPublisherPort {
 
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final BoundedWorkQueue messageDispatchQueue;
+    private final OutboxCleanUpUseCase outboxCleanUp;
+
+    @Value("${app.outbox.dispatch.message.batch-size:500}")
+    private int batchSize;
 
     /**
      * 아웃박스 메시지를 이벤트로 발행합니다.
@@ -41,4 +54,54 @@ public class SpringMessageOutboxEventPublisherAdapter implements MessageOutboxEv
         });
     }
 
+    /**
+     * 여러 아웃박스 메시지를 묶음 이벤트로 발행합니다.
+     * 스케줄링된 요청은 발행하지 않고 할당을 해제하여 발송 시각에 다시 조회되도록 하며,
+     * 나머지는 batch-size 단위로 나누어 발행합니다.
+     *
+     * @param outboxes 아웃박스 메시지 목록
+     * @return Mono<Void>
+     */
+    @Override
+    public Mono<Void> publishAll(List<MessageOutbox> outboxes) {
+        Instant bufferTime = Instant.now().plusSeconds(5); // 버퍼 타임 설정 (5초)
+        Map<Boolean, List<MessageOutbox>> scheduled = outboxes.stream()
+                .collect(Collectors.partitioningBy(outbox -> outbox.getNextRetryAt() != null
+                        && outbox.getNextRetryAt().isAfter(bufferTime)));
+
+        return releaseScheduled(scheduled.get(true))
+                .thenMany(Flux.fromIterable(scheduled.get(false)))
+                .buffer(batchSize)
+                .doOnNext(batch -> applicationEventPublisher
+                        .publishEvent(new NotificationMessageBatchReadyEvent(this, batch)))
+                .then();
+    }
+
+    /**
+     * 이벤트를 처리하는 작업 큐가 바로 실행할 수 있는 Outbox 수를 반환합니다.
+     * 큐의 남은 용량이 아닌 빈 실행 슬롯 수 x batch-size 만큼만 할당하므로,
+     * 할당한 Outbox가 큐에 쌓여 메모리를 점유하거나 오래 대기하지 않습니다.
+     *
+     * @return 여유 용량 (Outbox 수)
+     */
+    @Override
+    public int availableCapacity() {
+        return (int) Math.min(Integer.MAX_VALUE, (long) messageDispatchQueue.idleWorkers() * batchSize);
+    }
+
+    /**
+     * 발행하지 않는 스케줄링된 Outbox의 할당을 해제합니다.
+     * 해제하지 않으면 할당된 채로 남아 발송 시각이 지나도 다시 조회되지 않습니다.
+     */
+    private Mono<Long> releaseScheduled(List<MessageOutbox> outboxes) {
+        if (outboxes.isEmpty()) {
+            return Mono.just(0L);
+        }
+
+        log.debug("Releasing {} scheduled MessageOutbox.", outboxes.size());
+        return outboxCleanUp.releaseMessageOutboxes(outboxes.stream().map(MessageOutbox::getOutboxId).toList())
+                .doOnError(e -> log.error("Error releasing scheduled MessageOutbox: {}", e.getMessage(), e))
+                .onErrorResume(e -> Mono.empty()); // 발송 시각이 된 Outbox는 계속 발행
+    }
+
 }
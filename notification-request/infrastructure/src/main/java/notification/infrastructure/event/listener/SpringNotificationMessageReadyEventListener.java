@@ -1,12 +1,19 @@
 package notification.infrastructure.event.listener;
 
+import java.util.List;
+
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import notification.application.notifiation.events.NotificationMessageBatchReadyEvent;
 import notification.application.notifiation.events.NotificationMessageReadyEvent;
 import notification.application.notifiation.port.inbound.NotificationMessageEventProcessorUseCase;
+import notification.application.outbox.port.inbound.OutboxCleanUpUseCase;
+import notification.definition.vo.outbox.OutboxId;
+import notification.definition.vo.outbox.MessageOutbox;
+import notification.infrastructure.event.queue.BoundedWorkQueue;
 
 @Slf4j
 @Component
@@ -14,9 +21,11 @@ import notification.application.notifiation.port.inbound.NotificationMessageEven
 public class SpringNotificationMessageReadyEventListener {
 
     private final NotificationMessageEventProcessorUseCase notificationMessageProcessor;
+    private final BoundedWorkQueue messageDispatchQueue;
+    private final OutboxCleanUpUseCase outboxCleanUp;
 
     /**
-     * 알림 메시지 준비 이벤트를 수신하고 처리합니다.
+     * 알림 메시지 준비 이벤트를 수신하여 메시지 발송 작업 큐에 추가합니다.
      *
      * @param event NotificationMessageReadyEvent
      * @return Mono<Void>
@@ -25,6 +34,39 @@ public class SpringNotificationMessageReadyEventListener {
     public void listen(NotificationMessageReadyEvent event) {
         log.info("Received NotificationMessageReadyEvent: {}", event.getMessageOutbox().getAggregateId());
 
-        notificationMessageProcessor.process(event.getMessageOutbox()).subscribe();
+        MessageOutbox outbox = event.getMessageOutbox();
+        boolean accepted = messageDispatchQueue.submit(() -> notificationMessageProcessor.process(outbox));
+        if (!accepted) {
+            log.warn("Message dispatch queue is full, releasing outbox: {}",
+                    outbox.getOutboxId().value());
+            release(List.of(outbox.getOutboxId()));
+        }
+    }
+
+    /**
+     * 알림 메시지 묶음 준비 이벤트를 수신하여 메시지 발송 작업 큐에 하나의 작업으로 추가합니다.
+     *
+     * @param event NotificationMessageBatchReadyEvent
+     */
+    @EventListener
+    public void listen(NotificationMessageBatchReadyEvent event) {
+        List<MessageOutbox> outboxes = event.getMessageOutboxes();
+        log.info("Received NotificationMessageBatchReadyEvent: {} messages", outboxes.size());
+
+        boolean accepted = messageDispatchQueue.submit(() -> notificationMessageProcessor.processAll(outboxes));
+        if (!accepted) {
+            log.warn("Message dispatch queue is full, releasing {} outboxes", outboxes.size());
+            release(outboxes.stream().map(MessageOutbox::getOutboxId).toList());
+        }
+    }
+
+    /**
+     * 큐가 받지 못한 Outbox의 할당을 해제하여 다음 조회에서 다시 처리되도록 합니다.
+     * 할당되지 않은 Outbox(요청 직후 발행 등)는 해제 대상이 아니므로 그대로 남습니다.
+     */
+    private void release(List<OutboxId> outboxIds) {
+        outboxCleanUp.releaseMessageOutboxes(outboxIds)
+                .doOnError(e -> log.error("Error releasing rejected MessageOutbox: {}", e.getMessage(), e))
+                .subscribe();
     }
 }
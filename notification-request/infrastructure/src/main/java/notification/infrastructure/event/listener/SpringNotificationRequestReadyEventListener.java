@@ -1,12 +1,19 @@
 package notification.infrastructure.event.listener;
 
+import java.util.List;
+
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import notification.application.notifiation.events.NotificationRequestBatchReadyEvent;
 import notification.application.notifiation.events.NotificationRequestReceivedEvent;
 import notification.application.notifiation.port.inbound.NotificationRequestEventProcessorUseCase;
+import notification.application.outbox.port.inbound.OutboxCleanUpUseCase;
+import notification.definition.vo.outbox.OutboxId;
+import notification.definition.vo.outbox.RequestOutbox;
+import notification.infrastructure.event.queue.BoundedWorkQueue;
 
 @Slf4j
 @Component
@@ -14,9 +21,11 @@ import notification.application.notifiation.port.inbound.NotificationRequestEven
 public class SpringNotificationRequestReadyEventListener {
 
     private final NotificationRequestEventProcessorUseCase notificationRequestEventProcessor;
+    private final BoundedWorkQueue requestDispatchQueue;
+    private final OutboxCleanUpUseCase outboxCleanUp;
 
     /**
-     * 알림 요청 수신 이벤트를 수신하고 처리합니다.
+     * 알림 요청 수신 이벤트를 수신하여 요청 처리 작업 큐에 추가합니다.
      * 이 메서드는 트랜잭션 커밋 후에 호출됩니다.
      *
      * @param event NotificationRequestReceivedEvent
@@ -26,6 +35,39 @@ public class SpringNotificationRequestReadyEventListener {
     public void listen(NotificationRequestReceivedEvent event) {
         log.info("Received NotificationRequestReceivedEvent: {}", event.getRequestOutbox().getAggregateId());
 
-        notificationRequestEventProcessor.process(event.getRequestOutbox()).subscribe();
+        RequestOutbox outbox = event.getRequestOutbox();
+        boolean accepted = requestDispatchQueue.submit(() -> notificationRequestEventProcessor.process(outbox));
+        if (!accepted) {
+            log.warn("Request dispatch queue is full, releasing outbox: {}",
+                    outbox.getOutboxId().value());
+            release(List.of(outbox.getOutboxId()));
+        }
+    }
+
+    /**
+     * 알림 요청 묶음 준비 이벤트를 수신하여 요청 처리 작업 큐에 하나의 작업으로 추가합니다.
+     *
+     * @param event NotificationRequestBatchReadyEvent
+     */
+    @EventListener
+    public void listen(NotificationRequestBatchReadyEvent event) {
+        List<RequestOutbox> outboxes = event.getRequestOutboxes();
+        log.info("Received NotificationRequestBatchReadyEvent: {} requests", outboxes.size());
+
+        boolean accepted = requestDispatchQueue.submit(() -> notificationRequestEventProcessor.processAll(outboxes));
+        if (!accepted) {
+            log.warn("Request dispatch queue is full, releasing {} outboxes", outboxes.size());
+            release(outboxes.stream().map(RequestOutbox::getOutboxId).toList());
+        }
+    }
+
+    /**
+     * 큐가 받지 못한 Outbox의 할당을 해제하여 다음 조회에서 다시 처리되도록 합니다.
+     * 할당되지 않은 Outbox(요청 직후 발행 등)는 해제 대상이 아니므로 그대로 남습니다.
+     */
+    private void release(List<OutboxId> outboxIds) {
+        outboxCleanUp.releaseRequestOutboxes(outboxIds)
+                .doOnError(e -> log.error("Error releasing rejected RequestOutbox: {}", e.getMessage(), e))
+                .subscribe();
     }
 }
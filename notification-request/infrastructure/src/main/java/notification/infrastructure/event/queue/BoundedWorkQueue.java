@@ -0,0 +1,164 @@
+package notification.infrastructure.event.queue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * 용량과 동시 실행 수가 제한된 비동기 작업 큐입니다.
+ *
+ * - 대기 중 + 실행 중인 작업 수가 capacity를 넘으면 새 작업을 거부합니다.
+ * - 최대 concurrency 개의 작업만 동시에 실행합니다.
+ * - 작업 실패는 로그만 남기고 큐 처리는 계속됩니다.
+ */
+@Slf4j
+public class BoundedWorkQueue {
+
+    private static final Duration IDLE_CHECK_INTERVAL = Duration.ofMillis(50);
+
+    @Getter
+    private final String stage;
+
+    @Getter
+    private final int capacity;
+
+    @Getter
+    private final int concurrency;
+
+    private final AtomicInteger pending = new AtomicInteger(); // 대기 중 + 실행 중
+    private final AtomicInteger inFlight = new AtomicInteger(); // 실행 중
+    private final Object emitLock = new Object(); // 여러 스레드의 추가를 직렬화 (unsafe Sink는 동시 emit을 허용하지 않음)
+    private final Sinks.Many<Mono<Void>> sink = Sinks.unsafe().many().unicast().onBackpressureBuffer();
+    private final Disposable worker;
+
+    private volatile boolean stopped;
+
+    public BoundedWorkQueue(String stage, int capacity, int concurrency) {
+        if (capacity <= 0 || concurrency <= 0) {
+            throw new IllegalArgumentException("capacity and concurrency must be positive");
+        }
+
+        this.stage = stage;
+        this.capacity = capacity;
+        this.concurrency = concurrency;
+        this.worker = sink.asFlux()
+                .flatMap(this::execute, concurrency)
+                .subscribe();
+    }
+
+    /**
+     * 작업을 큐에 추가합니다. 작업은 실행 시점에 구독됩니다.
+     *
+     * @param task 실행할 작업
+     * @return 큐에 추가되었으면 true, 용량 초과 또는 중지되어 거부되었으면 false
+     */
+    public boolean submit(Supplier<Mono<Void>> task) {
+        if (stopped) {
+            return false;
+        }
+
+        if (pending.incrementAndGet() > capacity) {
+            pending.decrementAndGet();
+            return false;
+        }
+
+        Sinks.EmitResult result;
+        synchronized (emitLock) {
+            result = sink.tryEmitNext(Mono.defer(task));
+        }
+        if (result.isFailure()) { // 중지된 경우
+            pending.decrementAndGet();
+            log.warn("Rejected {} task: {}", stage, result);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 추가로 받을 수 있는 작업 수를 반환합니다.
+     */
+    public int remainingCapacity() {
+        return Math.max(0, capacity - pending.get());
+    }
+
+    /**
+     * 바로 실행을 시작할 수 있는 빈 실행 슬롯 수를 반환합니다. (concurrency - 대기 중 + 실행 중)
+     * 대기 중인 작업이 있으면 그 작업이 먼저 슬롯을 차지하므로 0입니다.
+     */
+    public int idleWorkers() {
+        return Math.max(0, concurrency - pending.get());
+    }
+
+    /**
+     * 실행을 기다리는 작업 수를 반환합니다.
+     */
+    public int queueDepth() {
+        return Math.max(0, pending.get() - inFlight.get());
+    }
+
+    /**
+     * 실행 중인 작업 수를 반환합니다.
+     */
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * 대기 중 + 실행 중인 작업이 모두 끝날 때까지 최대 timeout 동안 기다립니다.
+     * 호출 스레드를 블로킹하므로 종료 처리에서만 사용합니다.
+     *
+     * @param timeout 최대 대기 시간
+     * @return 모든 작업이 끝났으면 true, 시간 안에 끝나지 않았으면 false
+     */
+    public boolean awaitIdle(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (pending.get() > 0) {
+            if (System.nanoTime() >= deadline || Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+            LockSupport.parkNanos(IDLE_CHECK_INTERVAL.toNanos());
+        }
+        return true;
+    }
+
+    /**
+     * 대기 중 + 실행 중인 작업 수를 반환합니다.
+     */
+    public int pending() {
+        return pending.get();
+    }
+
+    /**
+     * 큐 처리를 중지합니다. 대기 중인 작업은 실행되지 않고 실행 중인 작업은 취소되며, 이후 추가되는 작업은 거부합니다.
+     * 여러 번 호출해도 됩니다.
+     */
+    public void shutdown() {
+        stopped = true;
+        synchronized (emitLock) {
+            sink.tryEmitComplete();
+        }
+        worker.dispose();
+    }
+
+    //
+    private Mono<Void> execute(Mono<Void> task) {
+        inFlight.incrementAndGet();
+        return task
+                .onErrorResume(e -> {
+                    log.error("Error executing {} task: {}", stage, e.getMessage(), e);
+                    return Mono.empty();
+                })
+                .doFinally(signal -> {
+                    inFlight.decrementAndGet();
+                    pending.decrementAndGet();
+                });
+    }
+
+}
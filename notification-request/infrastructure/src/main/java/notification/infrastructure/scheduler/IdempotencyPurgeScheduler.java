@@ -0,0 +1,52 @@
+package notification.infrastructure.scheduler;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import notification.application.idempotency.port.inbound.IdempotencyPurgeUseCase;
+import reactor.core.Disposable;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.idempotency.retention.purge-enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyPurgeScheduler {
+
+    private final IdempotencyPurgeUseCase idempotencyPurgeService;
+
+    private volatile Disposable purgeSubscription;
+
+    /**
+     * 보관 기간이 지난 멱등성 키를 주기적으로 삭제합니다.
+     * 이전 정리 작업이 아직 실행 중이면 건너뜁니다.
+     */
+    @Scheduled(fixedDelayString = "${app.idempotency.retention.purge-interval-ms:600000}") // 기본값 10분
+    public void purge() {
+        Disposable current = purgeSubscription;
+        if (current != null && !current.isDisposed()) {
+            return;
+        }
+
+        purgeSubscription = idempotencyPurgeService.purgeExpired()
+                .subscribe(
+                        deleted -> log.debug("Idempotency key purge completed, deleted: {}", deleted),
+                        e -> log.error("Error purging expired idempotency keys: {}", e.getMessage(), e));
+    }
+
+    /**
+     * 애플리케이션 종료 시 정리 작업을 중지합니다.
+     */
+    @PreDestroy
+    public void stop() {
+        Disposable current = purgeSubscription;
+        if (current != null && !current.isDisposed()) {
+            log.info("Stopping idempotency key purge...");
+            current.dispose();
+        }
+    }
+
+}
@@ -1,7 +1,5 @@
 package notification.infrastructure.scheduler;
 
-import java.time.Instant;
-
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -17,18 +15,19 @@ public class OutboxCleanerScheduler {
     private final OutboxCleanUpUseCase outboxCleanUp;
 
     /**
-     * 스케줄러를 통해 In-Progress 상태의 Outbox 메시지를 정리합니다.
-     * In-Progress + instanceId가 할당된 Outbox 메시지를 정리하여 시스템의 안정성을 유지합니다.
-     *
+     * 스케줄러를 통해 Heartbeat가 끊긴 인스턴스의 In-Progress Outbox를 정리합니다.
+     * 할당한 인스턴스의 Heartbeat가 lease 시간 이상 끊긴 Outbox만 해제하므로,
+     * 처리 시간이 긴 인스턴스라도 살아 있으면 할당이 유지됩니다.
      */
-    @Scheduled(fixedDelayString = "${app.outbox.cleanup-interval-ms:60000}") // 기본값 1분
-    public void cleanUpInProgressOutboxs() {
-        log.info("Starting Outbox cleanup for In-Progress messages...");
-
-        Instant before = Instant.now().minusSeconds(60); // 1분 전의 시간 기준
-        outboxCleanUp.cleanUpInProgressOutboxs(before)
-                .doOnSuccess(v -> log.info("Successfully cleaned up in-progress outbox messages before: {}", before))
-                .doOnError(e -> log.error("Error cleaning up in-progress outbox messages: {}", e.getMessage(), e))
+    @Scheduled(fixedDelayString = "${app.outbox.cleanup-interval-ms:5000}") // 기본값 5초
+    public void recoverExpiredClaims() {
+        outboxCleanUp.recoverExpiredClaims()
+                .doOnSuccess(released -> {
+                    if (released != null && released > 0) {
+                        log.info("Released {} outbox claims of expired instances.", released);
+                    }
+                })
+                .doOnError(e -> log.error("Error recovering outbox claims of expired instances: {}", e.getMessage(), e))
                 .subscribe();
     }
 
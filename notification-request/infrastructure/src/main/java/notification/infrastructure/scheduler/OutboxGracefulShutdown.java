@@ -0,0 +1,143 @@
+package notification.infrastructure.scheduler;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import notification.application.outbox.port.inbound.OutboxCleanUpUseCase;
+import notification.infrastructure.event.queue.BoundedWorkQueue;
+
+/**
+ * 애플리케이션 종료 시 Outbox 처리를 정리합니다.
+ *
+ * 1. 요청 / 메시지 Drain Loop를 중지하여 새 Outbox를 할당하지 않습니다.
+ * 2. 작업 큐에 들어온 처리 작업이 끝날 때까지 drain-timeout 안에서 기다립니다.
+ * 요청 처리가 메시지를 만들어내므로 요청 큐를 먼저 비웁니다.
+ * 3. 시간 안에 끝나지 않으면 작업 큐를 중지하여 실행 중인 작업을 취소합니다.
+ * 실행 중인 작업이 남아 있는 채로 할당을 해제하면 다른 인스턴스가 같은 Outbox를 중복 발송하기 때문입니다.
+ * 4. 이 인스턴스가 할당했지만 처리하지 못한 Outbox를 instance_id 기준으로 일괄 해제합니다.
+ *
+ * 해제된 Outbox는 IN_PROGRESS 정리 기준 시간을 기다리지 않고 다른 인스턴스가 바로 처리합니다.
+ * HTTP 요청 처리(server.shutdown: graceful)가 끝난 뒤에 실행되도록 웹 서버보다 낮은 phase를 사용합니다.
+ */
+@Slf4j
+@Component
+public class OutboxGracefulShutdown implements SmartLifecycle {
+
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 2048; // 웹 서버 graceful shutdown 이후
+    private static final Duration RELEASE_TIMEOUT = Duration.ofSeconds(10);
+
+    private final RequestOutboxScheduler requestOutboxScheduler;
+    private final MessageOutboxScheduler messageOutboxScheduler;
+    private final BoundedWorkQueue requestDispatchQueue;
+    private final BoundedWorkQueue messageDispatchQueue;
+    private final OutboxCleanUpUseCase outboxCleanUp;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final Duration drainTimeout;
+
+    private volatile boolean running;
+
+    public OutboxGracefulShutdown(
+            RequestOutboxScheduler requestOutboxScheduler,
+            MessageOutboxScheduler messageOutboxScheduler,
+            BoundedWorkQueue requestDispatchQueue,
+            BoundedWorkQueue messageDispatchQueue,
+            OutboxCleanUpUseCase outboxCleanUp,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${app.outbox.shutdown.drain-timeout-ms:20000}") long drainTimeoutMs) {
+        this.requestOutboxScheduler = requestOutboxScheduler;
+        this.messageOutboxScheduler = messageOutboxScheduler;
+        this.requestDispatchQueue = requestDispatchQueue;
+        this.messageDispatchQueue = messageDispatchQueue;
+        this.outboxCleanUp = outboxCleanUp;
+        this.meterRegistry = meterRegistry;
+        this.drainTimeout = Duration.ofMillis(drainTimeoutMs);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    /**
+     * 할당 중지 → 처리 중인 작업 대기 (시간 초과 시 취소) → 남은 할당 해제 순서로 Outbox 처리를 정리합니다.
+     */
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+
+        log.info("Draining outbox work before shutdown. timeout={}", drainTimeout);
+        long start = System.nanoTime();
+
+        requestOutboxScheduler.stop();
+        messageOutboxScheduler.stop();
+
+        boolean drained = awaitIdle(requestDispatchQueue, start) && awaitIdle(messageDispatchQueue, start);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        recordDrainTime(elapsed, drained);
+
+        if (!drained) {
+            log.warn("Outbox work did not finish within {}. request pending={}, message pending={}",
+                    drainTimeout, requestDispatchQueue.pending(), messageDispatchQueue.pending());
+            // 취소하지 않으면 해제 이후에도 발송이 이어져 다른 인스턴스의 발송과 중복됩니다.
+            requestDispatchQueue.shutdown();
+            messageDispatchQueue.shutdown();
+        }
+
+        releaseClaims();
+        running = false;
+        log.info("Outbox drain completed in {} ms. drained={}", elapsed.toMillis(), drained);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    //
+    private boolean awaitIdle(BoundedWorkQueue queue, long startNanos) {
+        Duration remaining = drainTimeout.minusNanos(System.nanoTime() - startNanos);
+        return !remaining.isNegative() && queue.awaitIdle(remaining);
+    }
+
+    /**
+     * 처리하지 못한 작업은 완료되지 않은 상태이므로, 해제 후 다른 인스턴스가 다시 처리합니다.
+     */
+    private void releaseClaims() {
+        try {
+            Long released = outboxCleanUp.releaseClaimedByThisInstance().block(RELEASE_TIMEOUT);
+            log.info("Released {} outbox claims of this instance.", released);
+        } catch (Exception e) {
+            // 해제하지 못한 Outbox는 IN_PROGRESS 정리 작업이 다시 PENDING으로 되돌립니다.
+            log.error("Error releasing outbox claims of this instance: {}", e.getMessage(), e);
+        }
+    }
+
+    //
+    private void recordDrainTime(Duration elapsed, boolean drained) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            return;
+        }
+
+        Timer.builder("outbox.shutdown.drain")
+                .description("종료 시 처리 중인 Outbox 작업을 기다린 시간")
+                .tag("outcome", drained ? "drained" : "timeout")
+                .register(registry)
+                .record(elapsed);
+    }
+
+}
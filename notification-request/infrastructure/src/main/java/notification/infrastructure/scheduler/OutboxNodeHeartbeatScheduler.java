@@ -0,0 +1,48 @@
+package notification.infrastructure.scheduler;
+
+import java.time.Duration;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import notification.application.outbox.port.inbound.OutboxNodeHeartbeatUseCase;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxNodeHeartbeatScheduler {
+
+    private static final Duration DEREGISTER_TIMEOUT = Duration.ofSeconds(5);
+
+    private final OutboxNodeHeartbeatUseCase outboxNodeHeartbeat;
+
+    /**
+     * 이 인스턴스의 Heartbeat를 주기적으로 갱신합니다.
+     * 갱신이 lease 시간(app.outbox.lease.timeout-ms) 이상 끊기면 이 인스턴스의 할당은 다른 인스턴스가 해제합니다.
+     */
+    @Scheduled(fixedRateString = "${app.outbox.lease.heartbeat-interval-ms:2000}") // 기본값 2초
+    public void heartbeat() {
+        outboxNodeHeartbeat.heartbeat()
+                .doOnError(e -> log.error("Error recording outbox node heartbeat: {}", e.getMessage(), e))
+                .subscribe();
+    }
+
+    /**
+     * 애플리케이션 종료 시 Heartbeat 기록을 삭제합니다.
+     * Outbox 할당 해제(OutboxGracefulShutdown)가 끝난 뒤 호출됩니다.
+     */
+    @PreDestroy
+    public void deregister() {
+        try {
+            outboxNodeHeartbeat.deregister().block(DEREGISTER_TIMEOUT);
+            log.info("Outbox node deregistered.");
+        } catch (Exception e) {
+            // 삭제하지 못한 기록은 lease 만료 후 정리 작업이 삭제합니다.
+            log.error("Error deregistering outbox node: {}", e.getMessage(), e);
+        }
+    }
+
+}
@@ -3,9 +3,11 @@ package notification.infrastructure.scheduler;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import notification.application.outbox.port.inbound.RequestOutboxPollingUseCase;
+import reactor.core.Disposable;
 
 @Slf4j
 @Component
@@ -14,18 +16,45 @@ public class RequestOutboxScheduler {
 
     private final RequestOutboxPollingUseCase requestOutboxPollingService;
 
+    private volatile Disposable drainLoopSubscription;
+    private volatile boolean stopped;
+
     /**
-     * Outbox 메시지를 주기적으로 폴링하여 처리합니다.
-     * 
-     * @return Mono<Void>
+     * Outbox Drain Loop가 실행 중인지 주기적으로 확인하고, 실행 중이 아니면 시작합니다.
+     * 실제 폴링 간격은 Drain Loop가 조회 결과에 따라 조절하며,
+     * 이 스케줄은 Loop가 종료되었을 때 다시 시작시키는 역할만 합니다.
      */
     @Scheduled(fixedDelayString = "${app.outbox.polling-interval-ms:5000}") // 기본값 5초 (5000ms)
     public void poll() {
-        log.info("Starting RequestOutbox polling...");
-        requestOutboxPollingService.poll()
-                .doOnSuccess(unused -> log.info("RequestOutbox polling completed successfully."))
+        if (stopped) {
+            return; // 종료 중에는 새 Outbox를 할당하지 않음
+        }
+
+        Disposable current = drainLoopSubscription;
+        if (current != null && !current.isDisposed()) {
+            return;
+        }
+
+        log.info("Starting RequestOutbox drain loop...");
+        drainLoopSubscription = requestOutboxPollingService.poll()
+                .doOnSuccess(unused -> log.info("RequestOutbox drain loop completed."))
                 .doOnError(e -> log.error("Error during RequestOutbox polling: {}", e.getMessage(), e))
                 .subscribe(); // 비동기적으로 실행
     }
 
+    /**
+     * 애플리케이션 종료 시 Drain Loop를 중지합니다.
+     * 이후의 poll 호출은 무시되며, 여러 번 호출해도 안전합니다.
+     */
+    @PreDestroy
+    public void stop() {
+        stopped = true;
+
+        Disposable current = drainLoopSubscription;
+        if (current != null && !current.isDisposed()) {
+            log.info("Stopping RequestOutbox drain loop...");
+            current.dispose();
+        }
+    }
+
 }
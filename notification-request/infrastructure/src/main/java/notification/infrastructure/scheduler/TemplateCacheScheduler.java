@@ -0,0 +1,78 @@
+package notification.infrastructure.scheduler;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import notification.application.template.port.inbound.TemplateCacheUseCase;
+import reactor.core.Disposable;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TemplateCacheScheduler {
+
+    private final TemplateCacheUseCase templateCacheService;
+
+    @Value("${app.template.warm-up-timeout-ms:10000}")
+    private long warmUpTimeoutMs = 10000;
+
+    private Disposable changeSubscription;
+    private boolean stopped;
+
+    /**
+     * 애플리케이션 기동 시 활성화된 템플릿을 모두 캐시에 적재합니다.
+     * 트래픽 수신(Readiness) 전에 완료되도록 동기적으로 대기하며,
+     * 실패하거나 시간이 초과되면 렌더링 시점에 저장소에서 조회하도록 둡니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        log.info("Warming up template cache...");
+        try {
+            templateCacheService.preloadTemplates().block(Duration.ofMillis(warmUpTimeoutMs));
+        } catch (RuntimeException e) {
+            log.warn("Template cache warm-up failed, templates will be loaded on demand: {}", e.getMessage());
+        }
+
+        watchChanges();
+    }
+
+    /**
+     * 템플릿 변경 구독이 실행 중인지 주기적으로 확인하고, 종료되었으면 다시 시작합니다.
+     * 기동 이벤트 스레드와 스케줄러 스레드가 동시에 호출해도 구독이 하나만 생기도록 동기화합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.template.change-watch-interval-ms:30000}") // 기본값 30초
+    public synchronized void watchChanges() {
+        Disposable current = changeSubscription;
+        if (stopped || (current != null && !current.isDisposed())) {
+            return;
+        }
+
+        log.info("Starting template change subscription...");
+        changeSubscription = templateCacheService.watchTemplateChanges()
+                .subscribe(
+                        templateId -> log.debug("Template cache refreshed: {}", templateId),
+                        e -> log.error("Error during template change subscription: {}", e.getMessage(), e));
+    }
+
+    /**
+     * 애플리케이션 종료 시 템플릿 변경 구독을 중지합니다.
+     */
+    @PreDestroy
+    public synchronized void stop() {
+        stopped = true; // 종료 중 스케줄러가 구독을 다시 시작하지 않도록
+        Disposable current = changeSubscription;
+        if (current != null && !current.isDisposed()) {
+            log.info("Stopping template change subscription...");
+            current.dispose();
+        }
+    }
+
+}
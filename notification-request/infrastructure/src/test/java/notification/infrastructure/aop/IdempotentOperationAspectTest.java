@@ -5,6 +5,8 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.reflect.MethodSignature;
@@ -59,6 +61,11 @@ class IdempotentOperationAspectTest {
         public Mono<String> customKeyMethod(String customKey, String otherParam) {
             return Mono.just("customResult");
         }
+
+        @Idempotent(key = "#requesterId + ':' + #id", operationType = "compositeOp")
+        public Mono<String> compositeKeyMethod(String requesterId, String id) {
+            return Mono.just("compositeResult");
+        }
     }
 
     Method testMethod;
@@ -66,6 +73,7 @@ class IdempotentOperationAspectTest {
     Method monoRawTypeMethod;
     Method integerMonoMethod;
     Method customKeyMethod;
+    Method compositeKeyMethod;
 
     @BeforeEach
     void setUp() throws Exception {
@@ -74,6 +82,7 @@ class IdempotentOperationAspectTest {
         monoRawTypeMethod = TestService.class.getMethod("monoRawType", String.class);
         integerMonoMethod = TestService.class.getMethod("integerMonoMethod", String.class);
         customKeyMethod = TestService.class.getMethod("customKeyMethod", String.class, String.class);
+        compositeKeyMethod = TestService.class.getMethod("compositeKeyMethod", String.class, String.class);
 
         when(pjp.getSignature()).thenReturn(signature);
     }
@@ -327,4 +336,70 @@ class IdempotentOperationAspectTest {
         assertThat(result).isInstanceOf(Mono.class);
         assertThat(((Mono<?>) result).block()).isEqualTo(100);
     }
-}
\ No newline at end of file
+
+    @Test
+    void applyIdempotency_resolvesCompositeKeyFromSpelExpression() throws Throwable {
+        // Given
+        when(signature.getMethod()).thenReturn(compositeKeyMethod);
+        when(signature.getParameterNames()).thenReturn(new String[] { "requesterId", "id" });
+        when(pjp.getArgs()).thenReturn(new Object[] { "service-a", "abc123" });
+        when(pjp.proceed()).thenReturn(Mono.just("compositeResult"));
+
+        when(idempotentOperationService.performOperation(
+                argThat(key -> key.length() == 36 && !key.equals("service-a:abc123")),
+                eq("compositeOp"),
+                any(),
+                eq(String.class)))
+                .thenAnswer(invocation -> invocation.getArgument(2));
+
+        // When
+        Object result = aspect.applyIdempotency(pjp);
+
+        // Then
+        assertThat(((Mono<?>) result).block()).isEqualTo("compositeResult");
+    }
+
+    @Test
+    void applyIdempotency_hashesCompositeKeyToSameFixedLengthKey() throws Throwable {
+        // Given
+        String longRequesterId = "service-" + "a".repeat(100);
+        when(signature.getMethod()).thenReturn(compositeKeyMethod);
+        when(signature.getParameterNames()).thenReturn(new String[] { "requesterId", "id" });
+        when(pjp.getArgs()).thenReturn(new Object[] { longRequesterId, "abc123" });
+        when(pjp.proceed()).thenReturn(Mono.just("compositeResult"));
+
+        List<String> keys = new ArrayList<>();
+        when(idempotentOperationService.performOperation(anyString(), eq("compositeOp"), any(), eq(String.class)))
+                .thenAnswer(invocation -> {
+                    keys.add(invocation.getArgument(0));
+                    return invocation.getArgument(2);
+                });
+
+        // When
+        ((Mono<?>) aspect.applyIdempotency(pjp)).block();
+        ((Mono<?>) aspect.applyIdempotency(pjp)).block();
+
+        // Then
+        assertThat(keys).hasSize(2);
+        assertThat(keys.get(0)).hasSize(36).isEqualTo(keys.get(1));
+    }
+
+    @Test
+    void applyIdempotency_describesMethodOnlyOnce() throws Throwable {
+        // Given
+        when(signature.getMethod()).thenReturn(testMethod);
+        when(signature.getParameterNames()).thenReturn(new String[] { "id", "value" });
+        when(pjp.getArgs()).thenReturn(new Object[] { "abc123", "val" }, new Object[] { "def456", "val" });
+        when(idempotentOperationService.performOperation(anyString(), eq("testOp"), any(), eq(String.class)))
+                .thenReturn(Mono.just("result"));
+
+        // When
+        aspect.applyIdempotency(pjp);
+        aspect.applyIdempotency(pjp);
+
+        // Then
+        verify(signature, times(1)).getParameterNames();
+        verify(idempotentOperationService).performOperation(eq("abc123"), eq("testOp"), any(), eq(String.class));
+        verify(idempotentOperationService).performOperation(eq("def456"), eq("testOp"), any(), eq(String.class));
+    }
+}
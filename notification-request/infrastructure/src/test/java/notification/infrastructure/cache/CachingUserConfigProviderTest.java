@@ -0,0 +1,166 @@
+package notification.infrastructure.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import notification.application.user.port.outbound.UserConfigProviderPort;
+import notification.definition.vo.UserConfig;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class CachingUserConfigProviderTest {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final Duration NEGATIVE_TTL = Duration.ofMinutes(1);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private FakeUserConfigProvider delegate;
+    private CachingUserConfigProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new FakeUserConfigProvider(Map.of(
+                "user-001", userConfig("user-001"),
+                "user-002", userConfig("user-002")));
+        provider = new CachingUserConfigProvider(delegate, 100, TTL, NEGATIVE_TTL, nanos::get, Runnable::run);
+    }
+
+    @Test
+    @DisplayName("캐시된 사용자는 TTL 동안 다시 조회하지 않는다")
+    void getUserConfigById_shouldHitCacheWithinTtl() {
+        StepVerifier.create(provider.getUserConfigById("user-001")).expectNextCount(1).verifyComplete();
+        StepVerifier.create(provider.getUserConfigById("user-001")).expectNextCount(1).verifyComplete();
+        assertEquals(1, delegate.singleCalls.get());
+
+        nanos.addAndGet(TTL.plusSeconds(1).toNanos());
+
+        StepVerifier.create(provider.getUserConfigById("user-001")).expectNextCount(1).verifyComplete();
+        assertEquals(2, delegate.singleCalls.get());
+        assertEquals(1, provider.getCache().synchronous().stats().hitCount());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자는 negative TTL 동안 캐싱한다")
+    void getUserConfigById_shouldCacheUnknownUserForNegativeTtl() {
+        StepVerifier.create(provider.getUserConfigById("unknown")).verifyComplete();
+        StepVerifier.create(provider.getUserConfigById("unknown")).verifyComplete();
+        assertEquals(1, delegate.singleCalls.get());
+
+        nanos.addAndGet(NEGATIVE_TTL.plusSeconds(1).toNanos());
+
+        StepVerifier.create(provider.getUserConfigById("unknown")).verifyComplete();
+        assertEquals(2, delegate.singleCalls.get());
+    }
+
+    @Test
+    @DisplayName("동시 캐시 미스는 하나의 조회로 합쳐진다")
+    void getUserConfigById_shouldCoalesceConcurrentMisses() {
+        Sinks.One<UserConfig> pending = Sinks.one();
+        delegate.pending = pending.asMono();
+
+        Mono<UserConfig> first = provider.getUserConfigById("user-001");
+        Mono<UserConfig> second = provider.getUserConfigById("user-001");
+        first.subscribe();
+
+        StepVerifier.create(second)
+                .then(() -> pending.tryEmitValue(userConfig("user-001")))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertEquals(1, delegate.singleCalls.get());
+    }
+
+    @Test
+    @DisplayName("조회 실패는 캐싱하지 않는다")
+    void getUserConfigById_shouldNotCacheErrors() {
+        delegate.failure = new RuntimeException("user service down");
+        StepVerifier.create(provider.getUserConfigById("user-001")).expectError().verify();
+
+        delegate.failure = null;
+        StepVerifier.create(provider.getUserConfigById("user-001")).expectNextCount(1).verifyComplete();
+        assertEquals(2, delegate.singleCalls.get());
+    }
+
+    @Test
+    @DisplayName("일괄 조회는 캐시에 없는 사용자만 delegate로 조회한다")
+    void getUserConfigsByIds_shouldLoadOnlyMissingUsers() {
+        StepVerifier.create(provider.getUserConfigById("user-001")).expectNextCount(1).verifyComplete();
+
+        StepVerifier.create(provider.getUserConfigsByIds(List.of("user-001", "user-002", "unknown")))
+                .expectNextCount(2)
+                .verifyComplete();
+
+        assertEquals(List.of(List.of("unknown", "user-002")),
+                delegate.batchCalls.stream().map(ids -> ids.stream().sorted().toList()).toList());
+
+        // unknown은 negative 항목으로 캐싱되어 다시 조회하지 않음
+        StepVerifier.create(provider.getUserConfigById("unknown")).verifyComplete();
+        assertEquals(1, delegate.singleCalls.get());
+    }
+
+    @Test
+    @DisplayName("사용자 ID로 무효화하면 다음 조회에서 다시 가져온다")
+    void invalidate_shouldReloadUser() {
+        StepVerifier.create(provider.getUserConfigById("user-001")).expectNextCount(1).verifyComplete();
+
+        provider.invalidate("user-001");
+
+        StepVerifier.create(provider.getUserConfigById("user-001")).expectNextCount(1).verifyComplete();
+        assertEquals(2, delegate.singleCalls.get());
+    }
+
+    private static UserConfig userConfig(String userId) {
+        return new UserConfig(userId, "name", "token", userId + "@example.com", "010-0000-0000", "ko",
+                "Asia/Seoul");
+    }
+
+    private static class FakeUserConfigProvider implements UserConfigProviderPort {
+
+        private final Map<String, UserConfig> users;
+        private final AtomicInteger singleCalls = new AtomicInteger();
+        private final List<Collection<String>> batchCalls = new CopyOnWriteArrayList<>();
+        private volatile Mono<UserConfig> pending;
+        private volatile RuntimeException failure;
+
+        FakeUserConfigProvider(Map<String, UserConfig> users) {
+            this.users = users;
+        }
+
+        @Override
+        public Mono<UserConfig> getUserConfigById(String userId) {
+            singleCalls.incrementAndGet();
+            if (failure != null) {
+                return Mono.error(failure);
+            }
+            if (pending != null) {
+                return pending;
+            }
+            return Mono.justOrEmpty(users.get(userId));
+        }
+
+        @Override
+        public Flux<UserConfig> getUserConfigsByIds(Collection<String> userIds) {
+            batchCalls.add(List.copyOf(userIds));
+            return Flux.fromIterable(userIds).mapNotNull(users::get);
+        }
+
+        @Override
+        public Flux<UserConfig> getUserConfigsAfter(String segmentName, String afterUserId, int limit) {
+            return Flux.empty();
+        }
+    }
+
+}
@@ -0,0 +1,89 @@
+package notification.infrastructure.event.listener;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import notification.application.notifiation.events.NotificationMessageBatchReadyEvent;
+import notification.application.notifiation.events.NotificationMessageReadyEvent;
+import notification.application.notifiation.port.inbound.NotificationMessageEventProcessorUseCase;
+import notification.application.outbox.port.inbound.OutboxCleanUpUseCase;
+import notification.definition.vo.JsonPayload;
+import notification.definition.vo.outbox.MessageOutbox;
+import notification.infrastructure.event.queue.BoundedWorkQueue;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class SpringNotificationMessageReadyEventListenerTest {
+
+    @Mock
+    private NotificationMessageEventProcessorUseCase notificationMessageProcessor;
+
+    @Mock
+    private OutboxCleanUpUseCase outboxCleanUp;
+
+    private BoundedWorkQueue queue;
+    private SpringNotificationMessageReadyEventListener listener;
+
+    @BeforeEach
+    void setUp() {
+        queue = new BoundedWorkQueue("message", 1, 1);
+        listener = new SpringNotificationMessageReadyEventListener(notificationMessageProcessor, queue, outboxCleanUp);
+    }
+
+    @AfterEach
+    void tearDown() {
+        queue.shutdown();
+    }
+
+    @Test
+    @DisplayName("큐가 받은 Outbox는 해제하지 않는다")
+    void listen_shouldNotRelease_whenAccepted() {
+        // Given
+        MessageOutbox outbox = outbox();
+        when(notificationMessageProcessor.process(outbox)).thenReturn(Mono.never());
+
+        // When
+        listener.listen(new NotificationMessageReadyEvent(this, outbox));
+
+        // Then
+        verify(notificationMessageProcessor).process(outbox);
+        verifyNoInteractions(outboxCleanUp);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차 거부된 묶음의 Outbox 할당을 모두 해제한다")
+    void listen_shouldReleaseBatch_whenRejected() {
+        // Given - 실행 중인 작업으로 큐를 채움
+        MessageOutbox running = outbox();
+        when(notificationMessageProcessor.process(running)).thenReturn(Mono.never());
+        listener.listen(new NotificationMessageReadyEvent(this, running));
+
+        MessageOutbox outbox1 = outbox();
+        MessageOutbox outbox2 = outbox();
+        when(outboxCleanUp.releaseMessageOutboxes(anyCollection())).thenReturn(Mono.just(2L));
+
+        // When
+        listener.listen(new NotificationMessageBatchReadyEvent(this, List.of(outbox1, outbox2)));
+
+        // Then
+        verify(notificationMessageProcessor, never()).processAll(anyList());
+        verify(outboxCleanUp).releaseMessageOutboxes(List.of(outbox1.getOutboxId(), outbox2.getOutboxId()));
+    }
+
+    //
+    private MessageOutbox outbox() {
+        return MessageOutbox.create("message-" + System.nanoTime(), JsonPayload.of("{}"), Instant.now());
+    }
+
+}
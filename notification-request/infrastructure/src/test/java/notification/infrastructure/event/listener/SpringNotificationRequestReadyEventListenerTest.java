@@ -0,0 +1,89 @@
+package notification.infrastructure.event.listener;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import notification.application.notifiation.events.NotificationRequestBatchReadyEvent;
+import notification.application.notifiation.events.NotificationRequestReceivedEvent;
+import notification.application.notifiation.port.inbound.NotificationRequestEventProcessorUseCase;
+import notification.application.outbox.port.inbound.OutboxCleanUpUseCase;
+import notification.definition.vo.JsonPayload;
+import notification.definition.vo.outbox.RequestOutbox;
+import notification.infrastructure.event.queue.BoundedWorkQueue;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class SpringNotificationRequestReceivedEventListenerTest {
+
+    @Mock
+    private NotificationRequestEventProcessorUseCase notificationRequestEventProcessor;
+
+    @Mock
+    private OutboxCleanUpUseCase outboxCleanUp;
+
+    private BoundedWorkQueue queue;
+    private SpringNotificationRequestReceivedEventListener listener;
+
+    @BeforeEach
+    void setUp() {
+        queue = new BoundedWorkQueue("request", 1, 1);
+        listener = new SpringNotificationRequestReceivedEventListener(notificationRequestEventProcessor, queue, outboxCleanUp);
+    }
+
+    @AfterEach
+    void tearDown() {
+        queue.shutdown();
+    }
+
+    @Test
+    @DisplayName("큐가 받은 Outbox는 해제하지 않는다")
+    void listen_shouldNotRelease_whenAccepted() {
+        // Given
+        RequestOutbox outbox = outbox();
+        when(notificationRequestEventProcessor.process(outbox)).thenReturn(Mono.never());
+
+        // When
+        listener.listen(new NotificationRequestReceivedEvent(this, outbox));
+
+        // Then
+        verify(notificationRequestEventProcessor).process(outbox);
+        verifyNoInteractions(outboxCleanUp);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차 거부된 묶음의 Outbox 할당을 모두 해제한다")
+    void listen_shouldReleaseBatch_whenRejected() {
+        // Given - 실행 중인 작업으로 큐를 채움
+        RequestOutbox running = outbox();
+        when(notificationRequestEventProcessor.process(running)).thenReturn(Mono.never());
+        listener.listen(new NotificationRequestReceivedEvent(this, running));
+
+        RequestOutbox outbox1 = outbox();
+        RequestOutbox outbox2 = outbox();
+        when(outboxCleanUp.releaseRequestOutboxes(anyCollection())).thenReturn(Mono.just(2L));
+
+        // When
+        listener.listen(new NotificationRequestBatchReadyEvent(this, List.of(outbox1, outbox2)));
+
+        // Then
+        verify(notificationRequestEventProcessor, never()).processAll(anyList());
+        verify(outboxCleanUp).releaseRequestOutboxes(List.of(outbox1.getOutboxId(), outbox2.getOutboxId()));
+    }
+
+    //
+    private RequestOutbox outbox() {
+        return RequestOutbox.create("request-" + System.nanoTime(), JsonPayload.of("{}"), Instant.now());
+    }
+
+}
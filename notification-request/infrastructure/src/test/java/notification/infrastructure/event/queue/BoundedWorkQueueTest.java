@@ -0,0 +1,190 @@
+package notification.infrastructure.event.queue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class BoundedWorkQueueTest {
+
+    private BoundedWorkQueue queue;
+
+    @AfterEach
+    void tearDown() {
+        if (queue != null) {
+            queue.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("동시 실행 수를 넘는 작업은 큐에서 대기한다")
+    void submit_shouldLimitConcurrency() {
+        // Given
+        queue = new BoundedWorkQueue("test", 10, 2);
+        Sinks.Empty<Void> gate = Sinks.empty();
+        AtomicInteger started = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            assertTrue(queue.submit(() -> {
+                started.incrementAndGet();
+                return gate.asMono();
+            }));
+        }
+
+        // Then
+        assertEquals(2, started.get());
+        assertEquals(2, queue.inFlight());
+        assertEquals(3, queue.queueDepth());
+        assertEquals(5, queue.remainingCapacity());
+
+        gate.tryEmitEmpty();
+        assertEquals(5, started.get());
+        assertEquals(0, queue.inFlight());
+        assertEquals(10, queue.remainingCapacity());
+    }
+
+    @Test
+    @DisplayName("빈 실행 슬롯 수는 대기 중인 작업까지 포함해 계산한다")
+    void idleWorkers_shouldCountQueuedTasks() {
+        // Given
+        queue = new BoundedWorkQueue("test", 10, 2);
+        Sinks.Empty<Void> gate = Sinks.empty();
+        assertEquals(2, queue.idleWorkers());
+
+        // When & Then
+        queue.submit(gate::asMono);
+        assertEquals(1, queue.idleWorkers());
+
+        queue.submit(gate::asMono);
+        queue.submit(gate::asMono);
+        assertEquals(0, queue.idleWorkers());
+        assertEquals(7, queue.remainingCapacity());
+
+        gate.tryEmitEmpty();
+        assertEquals(2, queue.idleWorkers());
+    }
+
+    @Test
+    @DisplayName("용량을 초과하면 작업을 거부한다")
+    void submit_shouldRejectWhenCapacityExceeded() {
+        // Given
+        queue = new BoundedWorkQueue("test", 2, 1);
+
+        // When & Then
+        assertTrue(queue.submit(Mono::never));
+        assertTrue(queue.submit(Mono::never));
+        assertFalse(queue.submit(Mono::never));
+        assertEquals(0, queue.remainingCapacity());
+    }
+
+    @Test
+    @DisplayName("작업이 실패해도 다음 작업은 계속 실행된다")
+    void submit_shouldContinueAfterTaskFailure() {
+        // Given
+        queue = new BoundedWorkQueue("test", 10, 1);
+        AtomicInteger completed = new AtomicInteger();
+
+        // When
+        queue.submit(() -> Mono.error(new RuntimeException("Test exception")));
+        queue.submit(() -> Mono.delay(Duration.ofMillis(10)).then(Mono.fromRunnable(completed::incrementAndGet)));
+
+        // Then
+        Mono.delay(Duration.ofMillis(200)).block();
+        assertEquals(1, completed.get());
+        assertEquals(10, queue.remainingCapacity());
+    }
+
+    @Test
+    @DisplayName("awaitIdle은 대기 중 + 실행 중인 작업이 모두 끝나면 true를 반환한다")
+    void awaitIdle_shouldReturnTrueWhenAllTasksComplete() {
+        // Given
+        queue = new BoundedWorkQueue("test", 10, 1);
+        for (int i = 0; i < 3; i++) {
+            queue.submit(() -> Mono.delay(Duration.ofMillis(50)).then());
+        }
+
+        // When & Then
+        assertTrue(queue.awaitIdle(Duration.ofSeconds(5)));
+        assertEquals(0, queue.pending());
+    }
+
+    @Test
+    @DisplayName("awaitIdle은 시간 안에 작업이 끝나지 않으면 false를 반환한다")
+    void awaitIdle_shouldReturnFalseOnTimeout() {
+        // Given
+        queue = new BoundedWorkQueue("test", 10, 1);
+        queue.submit(Mono::never);
+
+        // When & Then
+        assertFalse(queue.awaitIdle(Duration.ofMillis(100)));
+        assertEquals(1, queue.pending());
+    }
+
+    @Test
+    @DisplayName("shutdown은 실행 중인 작업을 취소하고 이후 작업을 거부한다")
+    void shutdown_shouldCancelInFlightTasksAndRejectNewTasks() {
+        // Given
+        queue = new BoundedWorkQueue("test", 10, 1);
+        AtomicInteger cancelled = new AtomicInteger();
+        queue.submit(() -> Mono.<Void>never().doOnCancel(cancelled::incrementAndGet));
+        assertEquals(1, queue.inFlight());
+
+        // When
+        queue.shutdown();
+
+        // Then
+        assertEquals(1, cancelled.get());
+        assertEquals(0, queue.inFlight());
+        assertFalse(queue.submit(Mono::empty));
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 추가해도 거부된 작업은 용량을 점유하지 않는다")
+    void submit_shouldNotLeakCapacityUnderConcurrentSubmits() throws InterruptedException {
+        // Given
+        queue = new BoundedWorkQueue("test", 1000, 4);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger completed = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < 8; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int j = 0; j < 100; j++) {
+                    if (queue.submit(() -> Mono.fromRunnable(completed::incrementAndGet))) {
+                        accepted.incrementAndGet();
+                    }
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        // Then
+        assertTrue(queue.awaitIdle(Duration.ofSeconds(5)));
+        assertEquals(accepted.get(), completed.get());
+        assertEquals(0, queue.pending());
+        assertEquals(1000, queue.remainingCapacity());
+    }
+
+}
@@ -3,6 +3,8 @@ package notification.infrastructure.scheduler;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -111,6 +113,51 @@ class MessageOutboxSchedulerTest {
                 .verifyComplete();
     }
 
+    @Test
+    @DisplayName("Drain Loop가 실행 중이면 poll 호출 시 다시 시작하지 않는다")
+    void shouldNotRestartDrainLoopWhileRunning() {
+        // Given
+        when(messageOutboxPollingService.poll()).thenReturn(Mono.never());
+        when(messageOutboxPollingService.releaseScheduled()).thenReturn(Mono.just(0L));
+
+        // When
+        messageOutboxScheduler.poll();
+        messageOutboxScheduler.poll();
+
+        // Then
+        verify(messageOutboxPollingService, times(1)).poll();
+        messageOutboxScheduler.stop();
+    }
+
+    @Test
+    @DisplayName("stop 호출 시 Drain Loop를 중지하고 타이밍 휠의 예약 메시지 할당을 해제한다")
+    void shouldReleaseScheduledOutboxesWhenStopped() {
+        // Given
+        AtomicBoolean cancelled = new AtomicBoolean(false);
+        when(messageOutboxPollingService.poll())
+                .thenReturn(Mono.<Void>never().doOnCancel(() -> cancelled.set(true)));
+        when(messageOutboxPollingService.releaseScheduled()).thenReturn(Mono.just(3L));
+
+        // When
+        messageOutboxScheduler.poll();
+        messageOutboxScheduler.stop();
+
+        // Then
+        assertTrue(cancelled.get(), "Drain Loop 구독이 취소되어야 합니다");
+        verify(messageOutboxPollingService, times(1)).releaseScheduled();
+    }
+
+    @Test
+    @DisplayName("예약 메시지 할당 해제에 실패해도 stop은 예외를 던지지 않는다")
+    void shouldNotThrowWhenReleaseFails() {
+        // Given
+        when(messageOutboxPollingService.releaseScheduled())
+                .thenReturn(Mono.error(new RuntimeException("Test exception")));
+
+        // When & Then
+        assertDoesNotThrow(() -> messageOutboxScheduler.stop());
+    }
+
     @Test
     @DisplayName("poll 메서드에 Scheduled 어노테이션이 올바르게 설정되어 있는지 확인")
     void shouldHaveCorrectScheduledAnnotationOnPollMethod() throws NoSuchMethodException {
@@ -0,0 +1,118 @@
+package notification.infrastructure.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import notification.application.outbox.port.inbound.OutboxCleanUpUseCase;
+import notification.infrastructure.event.queue.BoundedWorkQueue;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxGracefulShutdownTest {
+
+    @Mock
+    private RequestOutboxScheduler requestOutboxScheduler;
+
+    @Mock
+    private MessageOutboxScheduler messageOutboxScheduler;
+
+    @Mock
+    private BoundedWorkQueue requestDispatchQueue;
+
+    @Mock
+    private BoundedWorkQueue messageDispatchQueue;
+
+    @Mock
+    private OutboxCleanUpUseCase outboxCleanUp;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private OutboxGracefulShutdown gracefulShutdown;
+
+    @BeforeEach
+    void setUp() {
+        when(meterRegistryProvider.getIfAvailable()).thenReturn(meterRegistry);
+        gracefulShutdown = new OutboxGracefulShutdown(requestOutboxScheduler, messageOutboxScheduler,
+                requestDispatchQueue, messageDispatchQueue, outboxCleanUp, meterRegistryProvider, 1000);
+        gracefulShutdown.start();
+    }
+
+    @Test
+    @DisplayName("할당을 중지하고 작업 큐를 비운 뒤 남은 할당을 해제한다")
+    void stop_shouldStopClaimingDrainQueuesAndReleaseClaims() {
+        // Given
+        when(requestDispatchQueue.awaitIdle(any())).thenReturn(true);
+        when(messageDispatchQueue.awaitIdle(any())).thenReturn(true);
+        when(outboxCleanUp.releaseClaimedByThisInstance()).thenReturn(Mono.just(0L));
+
+        // When
+        gracefulShutdown.stop();
+
+        // Then
+        InOrder inOrder = inOrder(requestOutboxScheduler, messageOutboxScheduler, requestDispatchQueue,
+                messageDispatchQueue, outboxCleanUp);
+        inOrder.verify(requestOutboxScheduler).stop();
+        inOrder.verify(messageOutboxScheduler).stop();
+        inOrder.verify(requestDispatchQueue).awaitIdle(any(Duration.class));
+        inOrder.verify(messageDispatchQueue).awaitIdle(any(Duration.class));
+        inOrder.verify(outboxCleanUp).releaseClaimedByThisInstance();
+        verify(requestDispatchQueue, never()).shutdown();
+        verify(messageDispatchQueue, never()).shutdown();
+
+        Timer timer = meterRegistry.find("outbox.shutdown.drain").tag("outcome", "drained").timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+        assertFalse(gracefulShutdown.isRunning());
+    }
+
+    @Test
+    @DisplayName("작업이 시간 안에 끝나지 않으면 작업 큐를 중지한 뒤 남은 할당을 해제하고 timeout으로 기록한다")
+    void stop_shouldCancelInFlightWorkBeforeReleasingClaimsWhenDrainTimesOut() {
+        // Given
+        when(requestDispatchQueue.awaitIdle(any())).thenReturn(false);
+        when(outboxCleanUp.releaseClaimedByThisInstance()).thenReturn(Mono.just(5L));
+
+        // When
+        gracefulShutdown.stop();
+
+        // Then
+        verify(messageDispatchQueue, never()).awaitIdle(any());
+        InOrder inOrder = inOrder(requestDispatchQueue, messageDispatchQueue, outboxCleanUp);
+        inOrder.verify(requestDispatchQueue).shutdown();
+        inOrder.verify(messageDispatchQueue).shutdown();
+        inOrder.verify(outboxCleanUp).releaseClaimedByThisInstance();
+        assertNotNull(meterRegistry.find("outbox.shutdown.drain").tag("outcome", "timeout").timer());
+    }
+
+    @Test
+    @DisplayName("할당 해제에 실패해도 예외를 던지지 않는다")
+    void stop_shouldNotThrowWhenReleaseFails() {
+        // Given
+        when(requestDispatchQueue.awaitIdle(any())).thenReturn(true);
+        when(messageDispatchQueue.awaitIdle(any())).thenReturn(true);
+        when(outboxCleanUp.releaseClaimedByThisInstance())
+                .thenReturn(Mono.error(new RuntimeException("Test exception")));
+
+        // When & Then
+        assertDoesNotThrow(() -> gracefulShutdown.stop());
+    }
+
+}